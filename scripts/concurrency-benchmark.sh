@@ -0,0 +1,107 @@
+#!/usr/bin/env bash
+#
+# Concurrency benchmark: the same load against platform-thread and virtual-thread request execution.
+#
+#   platform  Tomcat platform-thread pool, no database gate (the previous model)
+#   virtual   virtual threads with the fair database gate sized to the Hikari pool
+#
+# Both modes start the image in plain JIT mode, because Spring AOT fixes spring.threads.virtual.enabled
+# at build time. Each mode gets a short warm-up burst, then the measured run. Results (throughput,
+# p50/p99 latency, non-2xx responses) are appended to a CSV.
+#
+# Usage:   scripts/concurrency-benchmark.sh [requests] [concurrency]
+# Env:     IMAGE     image tag to build/run (default: moneytrak:bench)
+#          SKIP_BUILD=1 reuse an existing image
+#          RESULTS   CSV file to append to (default: target/concurrency-benchmark.csv)
+#          PATH_UNDER_TEST  endpoint to load (default: /v1/transactions?size=20)
+#
+# Requires docker, curl and the PostgreSQL service from docker-compose.yml. Load is generated with
+# the williamyeh/hey image.
+
+set -euo pipefail
+
+REQUESTS="${1:-20000}"
+CONCURRENCY="${2:-1000}"
+IMAGE="${IMAGE:-moneytrak:bench}"
+RESULTS="${RESULTS:-target/concurrency-benchmark.csv}"
+PORT="${PORT:-18080}"
+PATH_UNDER_TEST="${PATH_UNDER_TEST:-/v1/transactions?size=20}"
+URL="http://localhost:${PORT}${PATH_UNDER_TEST}"
+CREDENTIALS="app-client:app-client"
+TIMEOUT_SECONDS=120
+
+cd "$(dirname "$0")/.."
+
+docker compose up -d --wait postgres >/dev/null
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    docker build -q -t "$IMAGE" . >/dev/null
+fi
+
+mkdir -p "$(dirname "$RESULTS")"
+[[ -f "$RESULTS" ]] || echo "timestamp,commit,mode,requests,concurrency,rps,p50_ms,p99_ms,non_2xx" > "$RESULTS"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo unknown)"
+
+hey() {
+    docker run --rm --network host williamyeh/hey -a "$CREDENTIALS" "$@" "$URL"
+}
+
+start_app() {
+    local virtual="$1"
+    docker run -d --rm -p "${PORT}:8080" \
+        --add-host=host.docker.internal:host-gateway \
+        -e DB_URL=jdbc:postgresql://host.docker.internal:5432/moneytrak \
+        -e DB_USERNAME=moneytrak -e DB_PASSWORD=moneytrak \
+        --entrypoint java "$IMAGE" \
+        -Dspring.threads.virtual.enabled="$virtual" \
+        -Dmoneytrak.database-gate.enabled="$virtual" \
+        -Dmoneytrak.security.throttle.enabled=false \
+        -jar app.jar
+}
+
+wait_ready() {
+    local container="$1" deadline=$(( $(date +%s) + TIMEOUT_SECONDS ))
+    until curl -fsS -o /dev/null "http://localhost:${PORT}/actuator/health/readiness" 2>/dev/null; do
+        if (( $(date +%s) > deadline )); then
+            docker logs "$container" >&2 || true
+            docker stop "$container" >/dev/null
+            echo "Timed out waiting for readiness" >&2
+            exit 1
+        fi
+        sleep 0.2
+    done
+}
+
+# Prints "rps,p50_ms,p99_ms,non_2xx" parsed from hey's text report.
+summarize() {
+    awk '
+        /Requests\/sec:/            { rps = $2 }
+        $1 == "50%" && $2 == "in"   { p50 = $3 * 1000 }
+        $1 == "99%" && $2 == "in"   { p99 = $3 * 1000 }
+        /Status code distribution:/ { section = "status"; next }
+        /Error distribution:/       { section = "errors"; next }
+        $1 ~ /^\[[0-9]+\]$/ {
+            value = substr($1, 2, length($1) - 2)
+            if (section == "status" && value !~ /^2/) failed += $2
+            if (section == "errors") failed += value
+        }
+        END { printf "%.1f,%.1f,%.1f,%d\n", rps, p50, p99, failed }
+    '
+}
+
+for mode in platform virtual; do
+    virtual=false
+    [[ "$mode" == "virtual" ]] && virtual=true
+
+    container="$(start_app "$virtual")"
+    wait_ready "$container"
+    hey -n 2000 -c 50 >/dev/null
+    summary="$(hey -n "$REQUESTS" -c "$CONCURRENCY" | summarize)"
+    docker stop "$container" >/dev/null
+
+    echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),${COMMIT},${mode},${REQUESTS},${CONCURRENCY},${summary}" >> "$RESULTS"
+    IFS=, read -r rps p50 p99 errors <<< "$summary"
+    echo "${mode}: ${rps} req/s, p50=${p50} ms, p99=${p99} ms, non-2xx/errors=${errors}"
+done
+
+echo "Results appended to ${RESULTS}"
@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time from container start to the first successful authenticated request.
+#
+# Compares the production image (Spring AOT + JDK AOT cache) against the same image started in
+# plain JIT mode, and appends every run to a CSV so regressions show up across commits.
+#
+# Usage:   scripts/startup-benchmark.sh [runs]
+# Env:     IMAGE     image tag to build/run (default: moneytrak:bench)
+#          SKIP_BUILD=1 reuse an existing image
+#          RESULTS   CSV file to append to (default: target/startup-benchmark.csv)
+#          MAX_MS    fail if the AOT median exceeds this many milliseconds
+#
+# Requires docker, curl and the PostgreSQL service from docker-compose.yml.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+IMAGE="${IMAGE:-moneytrak:bench}"
+RESULTS="${RESULTS:-target/startup-benchmark.csv}"
+PORT="${PORT:-18080}"
+URL="http://localhost:${PORT}/v1/categories"
+CREDENTIALS="app-client:app-client"
+TIMEOUT_SECONDS=120
+
+cd "$(dirname "$0")/.."
+
+docker compose up -d --wait postgres >/dev/null
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    docker build -q -t "$IMAGE" . >/dev/null
+fi
+
+mkdir -p "$(dirname "$RESULTS")"
+[[ -f "$RESULTS" ]] || echo "timestamp,commit,mode,run,millis" > "$RESULTS"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo unknown)"
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts one container and prints the milliseconds until the first 200 response.
+measure() {
+    local mode="$1"
+    # jit: same image, but without the AOT cache and AOT-generated initializers
+    local entrypoint=() command=()
+    if [[ "$mode" == "jit" ]]; then
+        entrypoint=(--entrypoint java)
+        command=(-jar app.jar)
+    fi
+
+    local start container elapsed
+    start="$(now_ms)"
+    container="$(docker run -d --rm -p "${PORT}:8080" \
+        --add-host=host.docker.internal:host-gateway \
+        -e DB_URL=jdbc:postgresql://host.docker.internal:5432/moneytrak \
+        -e DB_USERNAME=moneytrak -e DB_PASSWORD=moneytrak \
+        "${entrypoint[@]}" "$IMAGE" "${command[@]}")"
+
+    local deadline=$(( $(now_ms) + TIMEOUT_SECONDS * 1000 ))
+    until curl -fsS -o /dev/null -u "$CREDENTIALS" "$URL" 2>/dev/null; do
+        if (( $(now_ms) > deadline )); then
+            docker logs "$container" >&2 || true
+            docker stop "$container" >/dev/null
+            echo "Timed out waiting for $URL ($mode)" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    docker stop "$container" >/dev/null
+    echo "$elapsed"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+declare -A MEDIANS
+for mode in aot jit; do
+    samples=()
+    for run in $(seq 1 "$RUNS"); do
+        millis="$(measure "$mode")"
+        samples+=("$millis")
+        echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),${COMMIT},${mode},${run},${millis}" >> "$RESULTS"
+        echo "${mode} run ${run}: ${millis} ms"
+    done
+    MEDIANS[$mode]="$(printf '%s\n' "${samples[@]}" | median)"
+done
+
+echo "Time to first successful request (median of ${RUNS}): aot=${MEDIANS[aot]} ms, jit=${MEDIANS[jit]} ms"
+echo "Results appended to ${RESULTS}"
+
+if [[ -n "${MAX_MS:-}" ]] && (( MEDIANS[aot] > MAX_MS )); then
+    echo "Startup regression: AOT median ${MEDIANS[aot]} ms exceeds MAX_MS=${MAX_MS}" >&2
+    exit 1
+fi
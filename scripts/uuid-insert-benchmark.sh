@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+#
+# Primary-key insert benchmark: random UUIDv4 keys against time-ordered UUIDv7 keys.
+#
+#   v4   gen_random_uuid(), the previous GenerationType.UUID behaviour
+#   v7   uuidv7(), the same layout the entities now generate (@UuidGenerator VERSION_7)
+#
+# Each kind inserts the same number of rows into its own table in committed batches, starting from a
+# checkpoint so full-page writes are counted. Elapsed time, WAL generated, primary-key index size and
+# leaf density/fragmentation (pgstattuple) are appended to a CSV.
+#
+# Usage:   scripts/uuid-insert-benchmark.sh [rows] [batch]
+# Env:     PG_IMAGE  PostgreSQL image with uuidv7() (default: postgres:18-alpine)
+#          RESULTS   CSV file to append to (default: target/uuid-insert-benchmark.csv)
+#
+# Requires docker. Runs a throwaway PostgreSQL container; docker-compose.yml is not touched.
+
+set -euo pipefail
+
+ROWS="${1:-2000000}"
+BATCH="${2:-1000}"
+PG_IMAGE="${PG_IMAGE:-postgres:18-alpine}"
+RESULTS="${RESULTS:-target/uuid-insert-benchmark.csv}"
+CONTAINER="moneytrak-uuid-bench-$$"
+
+cd "$(dirname "$0")/.."
+
+mkdir -p "$(dirname "$RESULTS")"
+[[ -f "$RESULTS" ]] || echo "timestamp,commit,kind,rows,batch,elapsed_ms,wal_bytes,index_bytes,avg_leaf_density,leaf_fragmentation" > "$RESULTS"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo unknown)"
+
+docker run -d --rm --name "$CONTAINER" -e POSTGRES_PASSWORD=bench "$PG_IMAGE" \
+    -c shared_buffers=128MB -c max_wal_size=4GB >/dev/null
+trap 'docker stop "$CONTAINER" >/dev/null 2>&1 || true' EXIT
+
+psql() {
+    docker exec -i "$CONTAINER" psql -U postgres -v ON_ERROR_STOP=1 -qtAX "$@"
+}
+
+until psql -c "SELECT 1" >/dev/null 2>&1; do sleep 0.2; done
+
+psql <<'SQL'
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+CREATE TABLE bench_v4 (id uuid PRIMARY KEY, payload text NOT NULL);
+CREATE TABLE bench_v7 (id uuid PRIMARY KEY, payload text NOT NULL);
+CREATE PROCEDURE bench_insert(kind text, total int, batch int) LANGUAGE plpgsql AS $$
+BEGIN
+    FOR i IN 1..(total / batch) LOOP
+        IF kind = 'v4' THEN
+            INSERT INTO bench_v4 SELECT gen_random_uuid(), repeat('x', 64) FROM generate_series(1, batch);
+        ELSE
+            INSERT INTO bench_v7 SELECT uuidv7(), repeat('x', 64) FROM generate_series(1, batch);
+        END IF;
+        COMMIT;
+    END LOOP;
+END $$;
+SQL
+
+for kind in v4 v7; do
+    psql -c "CHECKPOINT"
+    lsn_before="$(psql -c "SELECT pg_current_wal_lsn()")"
+    start_ns="$(date +%s%N)"
+    psql -c "CALL bench_insert('$kind', $ROWS, $BATCH)"
+    elapsed_ms=$(( ($(date +%s%N) - start_ns) / 1000000 ))
+    stats="$(psql -F, -c "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '$lsn_before')::bigint,
+                                 pg_relation_size('bench_${kind}_pkey'),
+                                 avg_leaf_density, leaf_fragmentation
+                          FROM pgstatindex('bench_${kind}_pkey')")"
+
+    echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$COMMIT,$kind,$ROWS,$BATCH,$elapsed_ms,$stats" >> "$RESULTS"
+    echo "$kind: ${elapsed_ms} ms, wal_bytes,index_bytes,leaf_density,fragmentation = $stats"
+done
+
+echo "Results appended to $RESULTS"
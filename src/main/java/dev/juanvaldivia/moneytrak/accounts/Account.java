@@ -1,6 +1,10 @@
 package dev.juanvaldivia.moneytrak.accounts;
 
+import dev.juanvaldivia.moneytrak.sync.ChangeSequenceListener;
+import dev.juanvaldivia.moneytrak.sync.ChangeTracked;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Objects;
@@ -13,11 +17,14 @@ import java.util.UUID;
  * <p>Subject to a hard limit of 1000 accounts per system enforced at the service layer.</p>
  */
 @Entity
+@DynamicUpdate
 @Table(name = "accounts")
-public class Account {
+@EntityListeners(ChangeSequenceListener.class)
+public class Account implements ChangeTracked {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(nullable = false, length = 100)
@@ -39,6 +46,9 @@ public class Account {
     @Column(nullable = false)
     private ZonedDateTime updatedAt;
 
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSequence = 0L;
+
     protected Account() {
         // JPA requires no-arg constructor
     }
@@ -117,6 +127,15 @@ public class Account {
         return updatedAt;
     }
 
+    public Long changeSequence() {
+        return changeSequence;
+    }
+
+    @Override
+    public void assignChangeSequence(long changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -3,6 +3,7 @@ package dev.juanvaldivia.moneytrak.accounts;
 import dev.juanvaldivia.moneytrak.accounts.dto.AccountCreationDto;
 import dev.juanvaldivia.moneytrak.accounts.dto.AccountDto;
 import dev.juanvaldivia.moneytrak.accounts.dto.AccountUpdateDto;
+import dev.juanvaldivia.moneytrak.config.MediaTypes;
 import dev.juanvaldivia.moneytrak.readings.ReadingService;
 import dev.juanvaldivia.moneytrak.readings.dto.ReadingDto;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -102,6 +103,27 @@ public class AccountController {
         return ResponseEntity.ok(accountService.updateAccount(id, dto));
     }
 
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to an account.
+     * PATCH /v1/accounts/{id} (Content-Type: application/merge-patch+json)
+     *
+     * Only the members present in the patch are written; version is required.
+     * Members cannot be removed, so null members are ignored.
+     *
+     * @param id account UUID
+     * @param patch merge patch with version for optimistic locking
+     * @return 200 OK with updated account
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found (404)
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if version mismatch (409)
+     */
+    @PatchMapping(value = "/{id}", consumes = MediaTypes.MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<AccountDto> patchAccount(
+        @PathVariable UUID id,
+        @Valid @RequestBody AccountUpdateDto patch
+    ) {
+        return ResponseEntity.ok(accountService.updateAccount(id, patch));
+    }
+
     /**
      * Delete account by ID.
      * DELETE /v1/accounts/{id}
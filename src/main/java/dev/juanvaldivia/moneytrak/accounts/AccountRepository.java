@@ -1,7 +1,10 @@
 package dev.juanvaldivia.moneytrak.accounts;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,4 +24,28 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
      */
     @Query("SELECT a FROM Account a ORDER BY a.name, a.id")
     List<Account> findAllOrderedByName();
+
+    /**
+     * Find accounts written within a change sequence range, for delta sync.
+     * Uses the change_seq index.
+     *
+     * @param after exclusive lower bound
+     * @param upTo inclusive upper bound
+     * @param pageable limit (sort is fixed by the query)
+     * @return accounts ordered by change sequence
+     */
+    @Query("SELECT a FROM Account a WHERE a.changeSequence > :after AND a.changeSequence <= :upTo " +
+           "ORDER BY a.changeSequence")
+    List<Account> findChangedBetween(@Param("after") long after, @Param("upTo") long upTo, Pageable pageable);
+
+    /**
+     * Delete an account in a single statement, only if it has no active (non-deleted) readings.
+     *
+     * @param id account UUID
+     * @return number of rows deleted (0 if not found or still in use)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Account a WHERE a.id = :id " +
+           "AND NOT EXISTS (SELECT r.id FROM Reading r WHERE r.account.id = :id AND r.deleted = false)")
+    int deleteUnusedById(@Param("id") UUID id);
 }
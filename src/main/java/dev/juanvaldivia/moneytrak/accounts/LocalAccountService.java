@@ -6,11 +6,14 @@ import dev.juanvaldivia.moneytrak.accounts.dto.AccountUpdateDto;
 import dev.juanvaldivia.moneytrak.accounts.exception.AccountInUseException;
 import dev.juanvaldivia.moneytrak.accounts.exception.AccountLimitExceededException;
 import dev.juanvaldivia.moneytrak.accounts.mapper.AccountMapper;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
 import dev.juanvaldivia.moneytrak.exception.ConflictException;
 import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import dev.juanvaldivia.moneytrak.persistence.PartialUpdate;
 import dev.juanvaldivia.moneytrak.readings.ReadingRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.OptimisticLockException;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.sync.SyncService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,18 +33,24 @@ public class LocalAccountService implements AccountService {
     private final AccountRepository accountRepository;
     private final ReadingRepository readingRepository;
     private final AccountMapper mapper;
-    private final EntityManager entityManager;
+    private final SyncService syncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PartialUpdate partialUpdate;
 
     public LocalAccountService(
         AccountRepository accountRepository,
         ReadingRepository readingRepository,
         AccountMapper mapper,
-        EntityManager entityManager
+        SyncService syncService,
+        ApplicationEventPublisher eventPublisher,
+        PartialUpdate partialUpdate
     ) {
         this.accountRepository = accountRepository;
         this.readingRepository = readingRepository;
         this.mapper = mapper;
-        this.entityManager = entityManager;
+        this.syncService = syncService;
+        this.eventPublisher = eventPublisher;
+        this.partialUpdate = partialUpdate;
     }
 
     @Override
@@ -53,6 +62,7 @@ public class LocalAccountService implements AccountService {
 
         Account entity = mapper.toEntity(dto);
         Account saved = accountRepository.save(entity);
+        eventPublisher.publishEvent(EntityChangedEvent.created(SyncEntityType.ACCOUNT, saved.id(), saved.version()));
         return mapper.toDto(saved);
     }
 
@@ -74,35 +84,39 @@ public class LocalAccountService implements AccountService {
 
     @Override
     public AccountDto updateAccount(UUID id, AccountUpdateDto dto) {
-        Account existing = accountRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Account not found with id: " + id));
-
-        if (!existing.version().equals(dto.version())) {
+        // Conditional UPDATE of the provided columns only: version check and write in one statement
+        PartialUpdate.Changes changes = PartialUpdate.Changes.of()
+            .set("name", dto.name())
+            .set("type", dto.type())
+            .set("currency", dto.currency());
+        int updated = partialUpdate.update(Account.class, id, dto.version(), changes, null);
+        if (updated == 0) {
+            // Only the failure path pays for a second query, to tell 404 from 409
+            if (!accountRepository.existsById(id)) {
+                throw new NotFoundException("Account not found with id: " + id);
+            }
             throw new ConflictException("Version mismatch: account has been modified");
         }
 
-        try {
-            mapper.updateEntity(existing, dto);
-            Account saved = accountRepository.save(existing);
-            entityManager.flush(); // Force version increment
-            return mapper.toDto(saved);
-        } catch (OptimisticLockException e) {
-            throw new ConflictException("Version mismatch: account has been modified");
-        }
+        Account saved = accountRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Account not found with id: " + id));
+        eventPublisher.publishEvent(EntityChangedEvent.updated(SyncEntityType.ACCOUNT, saved.id(), saved.version()));
+        return mapper.toDto(saved);
     }
 
     @Override
     public void deleteAccount(UUID id) {
-        if (!accountRepository.existsById(id)) {
-            throw new NotFoundException("Account not found with id: " + id);
-        }
-
-        // Validate account has no active readings
-        long activeReadingCount = readingRepository.countByAccountIdAndDeletedFalse(id);
-        if (activeReadingCount > 0) {
+        // Conditional DELETE: existence and active-readings check in one statement.
+        // Soft-deleted readings still reference the account and go first; a failed delete rolls this back.
+        readingRepository.deleteSoftDeletedByAccountId(id);
+        if (accountRepository.deleteUnusedById(id) == 0) {
+            if (!accountRepository.existsById(id)) {
+                throw new NotFoundException("Account not found with id: " + id);
+            }
+            long activeReadingCount = readingRepository.countByAccountIdAndDeletedFalse(id);
             throw new AccountInUseException("Cannot delete account with " + activeReadingCount + " active reading(s)");
         }
-
-        accountRepository.deleteById(id);
+        syncService.recordDeletion(SyncEntityType.ACCOUNT, id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(SyncEntityType.ACCOUNT, id));
     }
 }
@@ -0,0 +1,23 @@
+package dev.juanvaldivia.moneytrak.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-process columnar store used to answer transaction aggregates without a database round trip.
+ *
+ * @param enabled whether the store is loaded at startup and used for summaries, breakdowns and counts
+ * @param parallelThreshold row count from which scans are split across the common fork-join pool
+ * @param snapshotPath file the store is persisted to for warm starts (blank = no snapshots)
+ * @param snapshotInterval how often the snapshot is rewritten while there are new writes
+ */
+@ConfigurationProperties(prefix = "moneytrak.analytics")
+public record AnalyticsProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100000") int parallelThreshold,
+    @DefaultValue("data/analytics.snapshot") String snapshotPath,
+    @DefaultValue("10m") Duration snapshotInterval
+) {
+}
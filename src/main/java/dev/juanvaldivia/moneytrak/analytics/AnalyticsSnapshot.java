@@ -0,0 +1,178 @@
+package dev.juanvaldivia.moneytrak.analytics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of the columnar store, written and read through a memory-mapped {@link FileChannel}.
+ *
+ * <p>Layout (big-endian): a fixed header (magic, format version, change sequence marker, creation time,
+ * row/dictionary counts), the category and currency dictionaries, one block per column, and a CRC32 of
+ * everything before it. Each column is a single bulk copy between the mapping and a heap array, so pages
+ * are faulted in by the OS as the copy reaches them rather than read up front.
+ *
+ * <p>Snapshots are written to a sibling temporary file and moved into place, so a crash mid-write
+ * leaves the previous snapshot intact.
+ *
+ * @param marker change sequence watermark: every change at or below it is contained in the snapshot
+ * @param createdAt when the snapshot was taken
+ * @param columns store contents
+ */
+record AnalyticsSnapshot(long marker, Instant createdAt, ColumnarTransactionStore.Columns columns) {
+
+    static final int MAGIC = 0x4D54_4153; // "MTAS"
+    static final int FORMAT_VERSION = 2; // 2: row versions
+
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 4 + 4;
+    private static final int CHECKSUM_BYTES = 8;
+
+    /**
+     * Write this snapshot to {@code path}, replacing any previous one.
+     *
+     * @param path snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    void write(Path path) throws IOException {
+        ColumnarTransactionStore.Columns c = columns;
+        List<byte[]> currencies = c.currencies().stream().map(s -> s.getBytes(StandardCharsets.UTF_8)).toList();
+        long size = HEADER_BYTES
+            + 16L * c.categories().size()
+            + currencies.stream().mapToLong(bytes -> 1 + bytes.length).sum()
+            + (long) c.size() * ColumnarTransactionStore.BYTES_PER_ROW
+            + CHECKSUM_BYTES;
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = directory.resolve(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(marker).putLong(createdAt.toEpochMilli())
+                .putInt(c.size()).putInt(c.categories().size()).putInt(currencies.size());
+            for (UUID category : c.categories()) {
+                buffer.putLong(category.getMostSignificantBits()).putLong(category.getLeastSignificantBits());
+            }
+            for (byte[] currency : currencies) {
+                buffer.put((byte) currency.length).put(currency);
+            }
+            int rows = c.size();
+            buffer.asLongBuffer().put(c.idsHigh(), 0, rows);
+            skip(buffer, 8L * rows);
+            buffer.asLongBuffer().put(c.idsLow(), 0, rows);
+            skip(buffer, 8L * rows);
+            buffer.asLongBuffer().put(c.amounts(), 0, rows);
+            skip(buffer, 8L * rows);
+            buffer.asIntBuffer().put(c.epochDays(), 0, rows);
+            skip(buffer, 4L * rows);
+            buffer.asIntBuffer().put(c.categoryIndexes(), 0, rows);
+            skip(buffer, 4L * rows);
+            buffer.asIntBuffer().put(c.versions(), 0, rows);
+            skip(buffer, 4L * rows);
+            buffer.asShortBuffer().put(c.currencyIndexes(), 0, rows);
+            skip(buffer, 2L * rows);
+            buffer.put(c.types(), 0, rows).put(c.stabilities(), 0, rows);
+            buffer.putLong(checksum(buffer, buffer.position()));
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a snapshot written by {@link #write(Path)}.
+     *
+     * @param path snapshot file
+     * @return the snapshot
+     * @throws IOException if the file is missing, truncated, from another format version or fails its checksum
+     */
+    static AnalyticsSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES + CHECKSUM_BYTES) {
+                throw new IOException("Snapshot is truncated");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an analytics snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format version " + version);
+            }
+            long expected = buffer.getLong((int) fileSize - CHECKSUM_BYTES);
+            if (checksum(buffer, (int) fileSize - CHECKSUM_BYTES) != expected) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+
+            long marker = buffer.getLong();
+            Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+            int rows = buffer.getInt();
+            int categoryCount = buffer.getInt();
+            int currencyCount = buffer.getInt();
+
+            List<UUID> categories = new ArrayList<>(categoryCount);
+            for (int i = 0; i < categoryCount; i++) {
+                categories.add(new UUID(buffer.getLong(), buffer.getLong()));
+            }
+            List<String> currencies = new ArrayList<>(currencyCount);
+            for (int i = 0; i < currencyCount; i++) {
+                byte[] bytes = new byte[buffer.get()];
+                buffer.get(bytes);
+                currencies.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+
+            long[] idsHigh = new long[rows];
+            long[] idsLow = new long[rows];
+            long[] amounts = new long[rows];
+            int[] epochDays = new int[rows];
+            int[] categoryIndexes = new int[rows];
+            int[] versions = new int[rows];
+            short[] currencyIndexes = new short[rows];
+            byte[] types = new byte[rows];
+            byte[] stabilities = new byte[rows];
+            buffer.asLongBuffer().get(idsHigh);
+            skip(buffer, 8L * rows);
+            buffer.asLongBuffer().get(idsLow);
+            skip(buffer, 8L * rows);
+            buffer.asLongBuffer().get(amounts);
+            skip(buffer, 8L * rows);
+            buffer.asIntBuffer().get(epochDays);
+            skip(buffer, 4L * rows);
+            buffer.asIntBuffer().get(categoryIndexes);
+            skip(buffer, 4L * rows);
+            buffer.asIntBuffer().get(versions);
+            skip(buffer, 4L * rows);
+            buffer.asShortBuffer().get(currencyIndexes);
+            skip(buffer, 2L * rows);
+            buffer.get(types).get(stabilities);
+
+            return new AnalyticsSnapshot(marker, createdAt, new ColumnarTransactionStore.Columns(rows, epochDays,
+                amounts, categoryIndexes, types, stabilities, currencyIndexes, versions, idsHigh, idsLow, categories,
+                currencies));
+        } catch (RuntimeException e) {
+            // Buffer underflows and bad dictionary lengths from a damaged file
+            throw new IOException("Snapshot is corrupt", e);
+        }
+    }
+
+    private static void skip(ByteBuffer buffer, long bytes) {
+        buffer.position(Math.toIntExact(buffer.position() + bytes));
+    }
+
+    private static long checksum(ByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return crc.getValue();
+    }
+}
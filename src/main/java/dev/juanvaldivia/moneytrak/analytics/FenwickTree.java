@@ -0,0 +1,92 @@
+package dev.juanvaldivia.moneytrak.analytics;
+
+/**
+ * Binary indexed (Fenwick) tree of per-day totals, addressed by epoch day.
+ *
+ * <p>Point updates and range sums are O(log n) in the number of days covered. The covered span starts
+ * around the first day added and grows in either direction as needed; growing rebuilds the tree in O(n)
+ * from the per-day values kept alongside it, with a year of slack so that it stays rare.
+ */
+final class FenwickTree {
+
+    private static final int SLACK_DAYS = 366;
+
+    private int origin;
+    private long[] values;
+    private long[] tree;
+
+    FenwickTree() {
+        this.values = new long[0];
+        this.tree = new long[1];
+    }
+
+    /**
+     * Add {@code delta} to the total of one day.
+     *
+     * @param epochDay day
+     * @param delta amount to add (negative to subtract)
+     */
+    void add(int epochDay, long delta) {
+        cover(epochDay);
+        int index = epochDay - origin;
+        values[index] += delta;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Sum of the totals of every day in {@code [fromDay, toDay]}.
+     *
+     * @param fromDay first day, inclusive
+     * @param toDay last day, inclusive
+     * @return sum, 0 if the range is empty or outside the covered span
+     */
+    long sum(long fromDay, long toDay) {
+        if (fromDay > toDay) {
+            return 0;
+        }
+        return prefix(toDay - origin) - prefix(fromDay - origin - 1);
+    }
+
+    private long prefix(long index) {
+        if (index < 0 || values.length == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = (int) Math.min(index, values.length - 1) + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void cover(int epochDay) {
+        if (values.length == 0) {
+            origin = epochDay - SLACK_DAYS;
+            values = new long[2 * SLACK_DAYS + 1];
+            tree = new long[values.length + 1];
+            return;
+        }
+        if (epochDay >= origin && epochDay < origin + values.length) {
+            return;
+        }
+        int from = Math.min(origin, epochDay - SLACK_DAYS);
+        int to = Math.max(origin + values.length, epochDay + SLACK_DAYS + 1);
+        long[] grown = new long[to - from];
+        System.arraycopy(values, 0, grown, origin - from, values.length);
+        origin = from;
+        values = grown;
+        rebuild();
+    }
+
+    private void rebuild() {
+        tree = new long[values.length + 1];
+        System.arraycopy(values, 0, tree, 1, values.length);
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import dev.juanvaldivia.moneytrak.categories.Category;
+import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing a monthly spending limit for one category in one currency.
+ * The limit applies to every calendar month (UTC); only EXPENSE transactions count against it.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "budgets", uniqueConstraints = @UniqueConstraint(
+    name = "uk_budgets_category_currency", columnNames = {"category_id", "currency"}))
+public class Budget {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false, foreignKey = @ForeignKey(name = "fk_budget_category"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category category;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 11, scale = 2)
+    private BigDecimal monthlyLimit;
+
+    @Version
+    private Integer version;
+
+    @Column(nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+
+    protected Budget() {
+        // JPA requires no-arg constructor
+    }
+
+    private Budget(Category category, String currency, BigDecimal monthlyLimit, ZonedDateTime createdAt) {
+        this.category = category;
+        this.currency = currency;
+        this.monthlyLimit = monthlyLimit;
+        this.version = 0;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    /**
+     * Create a new budget.
+     *
+     * @param category budgeted category
+     * @param currency ISO 4217 code of the transactions that count
+     * @param monthlyLimit spending limit per month
+     * @return new budget instance
+     */
+    public static Budget create(Category category, String currency, BigDecimal monthlyLimit) {
+        return new Budget(category, currency, monthlyLimit, ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Change the monthly limit.
+     */
+    public void updateLimit(BigDecimal monthlyLimit) {
+        this.monthlyLimit = monthlyLimit;
+        this.updatedAt = ZonedDateTime.now(ZoneOffset.UTC);
+    }
+
+    // Getters
+    public UUID id() {
+        return id;
+    }
+
+    public Category category() {
+        return category;
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    public BigDecimal monthlyLimit() {
+        return monthlyLimit;
+    }
+
+    public Integer version() {
+        return version;
+    }
+
+    public ZonedDateTime createdAt() {
+        return createdAt;
+    }
+
+    public ZonedDateTime updatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Budget budget)) return false;
+        return Objects.equals(id, budget.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
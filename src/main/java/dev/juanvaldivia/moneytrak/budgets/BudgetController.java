@@ -0,0 +1,109 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetCreationDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetStatusDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetUpdateDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for monthly budgets.
+ * All endpoints are versioned under /v1/budgets.
+ */
+@Tag(name = "Budgets", description = "Monthly budget endpoints")
+@RestController
+@RequestMapping("/v1/budgets")
+public class BudgetController {
+
+    private final BudgetService budgetService;
+
+    public BudgetController(BudgetService budgetService) {
+        this.budgetService = budgetService;
+    }
+
+    /**
+     * Create a new budget.
+     * POST /v1/budgets
+     *
+     * @param dto budget creation data
+     * @return 201 Created with Location header and created budget
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the category does not exist (404)
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if the category already has a budget in the currency (409)
+     */
+    @PostMapping
+    public ResponseEntity<BudgetDto> createBudget(@Valid @RequestBody BudgetCreationDto dto) {
+        BudgetDto created = budgetService.createBudget(dto);
+
+        URI location = ServletUriComponentsBuilder
+            .fromCurrentRequest()
+            .path("/{id}")
+            .buildAndExpand(created.id())
+            .toUri();
+
+        return ResponseEntity.created(location).body(created);
+    }
+
+    /**
+     * List all budgets.
+     * GET /v1/budgets
+     *
+     * @return 200 OK with budgets ordered by category name, then currency
+     */
+    @GetMapping
+    public ResponseEntity<List<BudgetDto>> listBudgets() {
+        return ResponseEntity.ok(budgetService.listBudgets());
+    }
+
+    /**
+     * Spend against every budget in a month.
+     * GET /v1/budgets/status?month=2026-01
+     *
+     * @param month calendar month (optional, defaults to the current UTC month)
+     * @return 200 OK with one status per budget
+     */
+    @GetMapping("/status")
+    public ResponseEntity<List<BudgetStatusDto>> getStatus(
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        return ResponseEntity.ok(budgetService.getStatus(month));
+    }
+
+    /**
+     * Change a budget's monthly limit with optimistic locking.
+     * PUT /v1/budgets/{id}
+     *
+     * @param id budget UUID
+     * @param dto new limit with version for optimistic locking
+     * @return 200 OK with updated budget
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found (404)
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if version mismatch (409)
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<BudgetDto> updateBudget(@PathVariable UUID id, @Valid @RequestBody BudgetUpdateDto dto) {
+        return ResponseEntity.ok(budgetService.updateBudget(id, dto));
+    }
+
+    /**
+     * Delete budget by ID.
+     * DELETE /v1/budgets/{id}
+     *
+     * @param id budget UUID
+     * @return 204 No Content
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found (404)
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteBudget(@PathVariable UUID id) {
+        budgetService.deleteBudget(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,38 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+/**
+ * How much of its monthly limit a budget has used.
+ */
+public enum BudgetLevel {
+    /** Below 80% of the limit. */
+    OK(0),
+    /** At 80% of the limit or more. */
+    WARNING(80),
+    /** At or over the limit. */
+    EXCEEDED(100);
+
+    private final int percent;
+
+    BudgetLevel(int percent) {
+        this.percent = percent;
+    }
+
+    /**
+     * @return share of the limit, in percent, from which this level applies
+     */
+    public int percent() {
+        return percent;
+    }
+
+    /**
+     * @param spent amount spent, in cents
+     * @param limit monthly limit, in cents
+     * @return the highest level reached
+     */
+    public static BudgetLevel of(long spent, long limit) {
+        if (spent * 100 >= limit * (long) EXCEEDED.percent) {
+            return EXCEEDED;
+        }
+        return spent * 100 >= limit * (long) WARNING.percent ? WARNING : OK;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import dev.juanvaldivia.moneytrak.categories.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for Budget entity.
+ */
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, UUID> {
+
+    /**
+     * Find all budgets ordered by category name, then currency.
+     * Categories are fetched in the same query for the response DTOs.
+     *
+     * @return all budgets
+     */
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category c ORDER BY c.name, b.currency")
+    List<Budget> findAllWithCategory();
+
+    /**
+     * Check whether a category already has a budget in a currency.
+     */
+    boolean existsByCategoryIdAndCurrency(UUID categoryId, String currency);
+
+    /**
+     * Delete the budgets of a category in the currencies another category already has a budget in.
+     *
+     * @return number of budgets deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Budget b WHERE b.category.id = :categoryId AND b.currency IN " +
+           "(SELECT o.currency FROM Budget o WHERE o.category.id = :otherCategoryId)")
+    int deleteShadowedBy(@Param("categoryId") UUID categoryId, @Param("otherCategoryId") UUID otherCategoryId);
+
+    /**
+     * Move every budget of a category to another category in a single statement.
+     * Bypasses the persistence context, so the version and timestamp are set here.
+     *
+     * @return number of budgets moved
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Budget b SET b.category = :target, b.version = b.version + 1, b.updatedAt = :updatedAt " +
+           "WHERE b.category.id = :sourceId")
+    int moveToCategory(@Param("sourceId") UUID sourceId, @Param("target") Category target,
+                       @Param("updatedAt") ZonedDateTime updatedAt);
+}
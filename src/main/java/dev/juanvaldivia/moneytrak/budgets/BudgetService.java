@@ -0,0 +1,58 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetCreationDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetStatusDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetUpdateDto;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for monthly budget operations.
+ */
+public interface BudgetService {
+
+    /**
+     * Create a budget for a category and currency.
+     *
+     * @param dto creation data
+     * @return created budget
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the category does not exist
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if the category already has a budget in the currency
+     */
+    BudgetDto createBudget(BudgetCreationDto dto);
+
+    /**
+     * @return all budgets, by category name then currency
+     */
+    List<BudgetDto> listBudgets();
+
+    /**
+     * Change a budget's monthly limit.
+     *
+     * @param id budget UUID
+     * @param dto new limit and current version
+     * @return updated budget
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the budget does not exist
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if the version does not match
+     */
+    BudgetDto updateBudget(UUID id, BudgetUpdateDto dto);
+
+    /**
+     * Delete a budget. Spend keeps being counted.
+     *
+     * @param id budget UUID
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the budget does not exist
+     */
+    void deleteBudget(UUID id);
+
+    /**
+     * Spend against every budget in a month, read from the spend counters.
+     *
+     * @param month calendar month (UTC), or null for the current one
+     * @return one status per budget, by category name then currency
+     */
+    List<BudgetStatusDto> getStatus(YearMonth month);
+}
@@ -0,0 +1,73 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity for one persisted spend counter: the EXPENSE total of a category in one currency and UTC month.
+ * Rows are only written by {@link BudgetSpendCounters}, with SQL that adds to {@code spent} in place; the
+ * mapping exists for the schema.
+ */
+@Entity
+@Table(name = "budget_spend")
+public class BudgetSpend {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal spent;
+
+    protected BudgetSpend() {
+        // JPA requires no-arg constructor
+    }
+
+    public Key key() {
+        return key;
+    }
+
+    public BigDecimal spent() {
+        return spent;
+    }
+
+    /**
+     * Counter key.
+     */
+    @Embeddable
+    public static class Key {
+
+        @Column(name = "category_id", nullable = false)
+        private UUID categoryId;
+
+        @Column(nullable = false, length = 3)
+        private String currency;
+
+        @Column(name = "month_start", nullable = false)
+        private LocalDate monthStart;
+
+        protected Key() {
+            // JPA requires no-arg constructor
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(categoryId, other.categoryId) && Objects.equals(currency, other.currency)
+                && Objects.equals(monthStart, other.monthStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(categoryId, currency, monthStart);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import dev.juanvaldivia.moneytrak.persistence.CommitBuffers;
+import dev.juanvaldivia.moneytrak.persistence.DatabaseDialect;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFigures;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFiguresListener;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EXPENSE totals per category, currency and UTC month, kept in memory and in {@code budget_spend}.
+ *
+ * <p>Every transaction write is reported with the transaction's figures before and after it. The
+ * differences in EXPENSE amounts are collected per database transaction,
+ * added to {@code budget_spend} just before it commits (so the counters commit or roll back with the
+ * write) and added to the in-memory {@link LongAdder}s once it has committed. Reading a month's spend
+ * is a map lookup, and concurrent writers to the same counter never contend on a lock.</p>
+ *
+ * <p>After each in-memory update the spend is compared with the budget for the category and currency,
+ * if any, and a {@link BudgetThresholdCrossedEvent} is published when it reaches a higher {@link BudgetLevel}.</p>
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10) // Before WarmupRunner
+public class BudgetSpendCounters implements ApplicationRunner, TransactionFiguresListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetSpendCounters.class);
+
+    // On PostgreSQL a MERGE racing a concurrent insert of the same counter fails with a unique
+    // violation; ON CONFLICT waits for the other insert and adds to the row it created instead
+    private static final String ADD_SPEND_POSTGRES =
+        "INSERT INTO budget_spend (category_id, currency, month_start, spent) VALUES (CAST(? AS UUID), " +
+        "CAST(? AS VARCHAR(3)), CAST(? AS DATE), CAST(? AS DECIMAL(15, 2))) " +
+        "ON CONFLICT (category_id, currency, month_start) DO UPDATE SET spent = budget_spend.spent + EXCLUDED.spent";
+    // Standard MERGE for H2 so that the counter is created on first use
+    private static final String ADD_SPEND =
+        "MERGE INTO budget_spend s USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR(3)), CAST(? AS DATE), " +
+        "CAST(? AS DECIMAL(15, 2)))) AS d (category_id, currency, month_start, delta) " +
+        "ON s.category_id = d.category_id AND s.currency = d.currency AND s.month_start = d.month_start " +
+        "WHEN MATCHED THEN UPDATE SET spent = s.spent + d.delta " +
+        "WHEN NOT MATCHED THEN INSERT (category_id, currency, month_start, spent) " +
+        "VALUES (d.category_id, d.currency, d.month_start, d.delta)";
+
+    private record CounterKey(UUID categoryId, String currency, YearMonth month) {
+    }
+
+    private record BudgetKey(UUID categoryId, String currency) {
+    }
+
+    private record Limit(UUID budgetId, long cents) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<CounterKey, LongAdder> spent = new ConcurrentHashMap<>();
+    private final Map<CounterKey, AtomicReference<BudgetLevel>> announced = new ConcurrentHashMap<>();
+    private volatile Map<BudgetKey, Limit> limits = Map.of();
+
+    public BudgetSpendCounters(JdbcTemplate jdbcTemplate, DatabaseDialect dialect,
+                               ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        jdbcTemplate.query("SELECT category_id, currency, month_start, spent FROM budget_spend", rs -> {
+            CounterKey key = new CounterKey(rs.getObject("category_id", UUID.class), rs.getString("currency"),
+                YearMonth.from(rs.getDate("month_start").toLocalDate()));
+            spent.computeIfAbsent(key, k -> new LongAdder()).add(cents(rs.getBigDecimal("spent")));
+        });
+        reloadLimits();
+        log.info("Loaded {} budget spend counter(s) and {} budget(s) in {} ms",
+            spent.size(), limits.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Reload limits once budget changes are committed.
+     */
+    @TransactionalEventListener
+    public void onBudgetsChanged(BudgetsChangedEvent event) {
+        reloadLimits();
+    }
+
+    @Override
+    public void onFiguresChanged(TransactionFigures before, TransactionFigures after) {
+        Map<CounterKey, Long> deltas = new HashMap<>(2);
+        if (before != null && before.type() == TransactionType.EXPENSE) {
+            deltas.merge(keyOf(before), -before.cents(), Long::sum);
+        }
+        if (after != null && after.type() == TransactionType.EXPENSE) {
+            deltas.merge(keyOf(after), after.cents(), Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<CounterKey, Long> pending = CommitBuffers.current(this, HashMap::new, this::persist, this::apply);
+        if (pending == null) {
+            persist(deltas);
+            apply(deltas);
+        } else {
+            deltas.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+        }
+    }
+
+    /**
+     * @return committed EXPENSE total of a category in a currency and month
+     */
+    public BigDecimal spent(UUID categoryId, String currency, YearMonth month) {
+        LongAdder adder = spent.get(new CounterKey(categoryId, currency, month));
+        return BigDecimal.valueOf(adder != null ? adder.sum() : 0L, 2);
+    }
+
+    private void persist(Map<CounterKey, Long> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                rows.add(new Object[]{key.categoryId(), key.currency(), Date.valueOf(key.month().atDay(1)),
+                    BigDecimal.valueOf(delta, 2)});
+            }
+        });
+        jdbcTemplate.batchUpdate(dialect.isPostgres() ? ADD_SPEND_POSTGRES : ADD_SPEND, rows);
+    }
+
+    private void apply(Map<CounterKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            LongAdder adder = spent.computeIfAbsent(key, k -> new LongAdder());
+            adder.add(delta);
+            Limit limit = limits.get(new BudgetKey(key.categoryId(), key.currency()));
+            if (limit != null) {
+                announce(key, limit, adder.sum(), delta);
+            }
+        });
+    }
+
+    /**
+     * Publish every level passed on the way up. The compare-and-set makes concurrent writers agree on
+     * which of them announces a level, so each is announced once.
+     */
+    private void announce(CounterKey key, Limit limit, long total, long delta) {
+        BudgetLevel reached = BudgetLevel.of(total, limit.cents());
+        AtomicReference<BudgetLevel> last = announced.computeIfAbsent(key,
+            k -> new AtomicReference<>(BudgetLevel.of(total - delta, limit.cents())));
+        BudgetLevel previous = last.get();
+        while (previous != reached) {
+            if (last.compareAndSet(previous, reached)) {
+                for (BudgetLevel level : BudgetLevel.values()) {
+                    if (level.compareTo(previous) > 0 && level.compareTo(reached) <= 0) {
+                        eventPublisher.publishEvent(new BudgetThresholdCrossedEvent(limit.budgetId(),
+                            key.categoryId(), key.currency(), key.month(), level, BigDecimal.valueOf(total, 2),
+                            BigDecimal.valueOf(limit.cents(), 2)));
+                    }
+                }
+                return;
+            }
+            previous = last.get();
+        }
+    }
+
+    private void reloadLimits() {
+        Map<BudgetKey, Limit> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT id, category_id, currency, monthly_limit FROM budgets", rs -> {
+            loaded.put(new BudgetKey(rs.getObject("category_id", UUID.class), rs.getString("currency")),
+                new Limit(rs.getObject("id", UUID.class), cents(rs.getBigDecimal("monthly_limit"))));
+        });
+        limits = Map.copyOf(loaded);
+        // Levels are relative to the limits: start over from the current spend
+        announced.clear();
+    }
+
+    private static CounterKey keyOf(TransactionFigures figures) {
+        return new CounterKey(figures.categoryId(), figures.currency(), figures.month());
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
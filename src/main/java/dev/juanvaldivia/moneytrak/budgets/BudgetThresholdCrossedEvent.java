@@ -0,0 +1,21 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Published after commit when a transaction write takes a budget's spend for a month to a higher
+ * {@link BudgetLevel}. Each level is announced once per budget and month, until spend drops below it again.
+ *
+ * @param budgetId budget UUID
+ * @param categoryId budgeted category
+ * @param currency budget currency
+ * @param month month whose spend crossed the threshold
+ * @param level level reached (WARNING at 80%, EXCEEDED at 100%)
+ * @param spent spend for the month after the write
+ * @param limit monthly limit
+ */
+public record BudgetThresholdCrossedEvent(UUID budgetId, UUID categoryId, String currency, YearMonth month,
+                                          BudgetLevel level, BigDecimal spent, BigDecimal limit) {
+}
@@ -0,0 +1,8 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+/**
+ * Published inside the write transaction whenever a budget is created, updated or deleted.
+ * {@link BudgetSpendCounters} reloads the limits after commit.
+ */
+public record BudgetsChangedEvent() {
+}
@@ -0,0 +1,119 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetCreationDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetStatusDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetUpdateDto;
+import dev.juanvaldivia.moneytrak.budgets.mapper.BudgetMapper;
+import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.categories.CategoryMergedEvent;
+import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.exception.ConflictException;
+import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Local implementation of BudgetService.
+ * Budgets are plain entities; spend comes from {@link BudgetSpendCounters}, never from summing transactions.
+ * Every budget change is announced with a {@link BudgetsChangedEvent}.
+ */
+@Service
+@Transactional
+public class LocalBudgetService implements BudgetService {
+
+    private final BudgetRepository budgetRepository;
+    private final CategoryRepository categoryRepository;
+    private final BudgetSpendCounters counters;
+    private final BudgetMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LocalBudgetService(
+        BudgetRepository budgetRepository,
+        CategoryRepository categoryRepository,
+        BudgetSpendCounters counters,
+        BudgetMapper mapper,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.budgetRepository = budgetRepository;
+        this.categoryRepository = categoryRepository;
+        this.counters = counters;
+        this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public BudgetDto createBudget(BudgetCreationDto dto) {
+        Category category = categoryRepository.findById(dto.categoryId())
+            .orElseThrow(() -> new NotFoundException("Category not found with id: " + dto.categoryId()));
+        if (budgetRepository.existsByCategoryIdAndCurrency(dto.categoryId(), dto.currency())) {
+            throw new ConflictException("Category already has a budget in " + dto.currency());
+        }
+        Budget saved = budgetRepository.save(mapper.toEntity(dto, category));
+        eventPublisher.publishEvent(new BudgetsChangedEvent());
+        return mapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetDto> listBudgets() {
+        return budgetRepository.findAllWithCategory().stream()
+            .map(mapper::toDto)
+            .toList();
+    }
+
+    @Override
+    public BudgetDto updateBudget(UUID id, BudgetUpdateDto dto) {
+        Budget budget = findBudget(id);
+        if (!budget.version().equals(dto.version())) {
+            throw new ConflictException("Version mismatch: budget has been modified");
+        }
+        budget.updateLimit(dto.monthlyLimit());
+        Budget saved = budgetRepository.saveAndFlush(budget);
+        eventPublisher.publishEvent(new BudgetsChangedEvent());
+        return mapper.toDto(saved);
+    }
+
+    @Override
+    public void deleteBudget(UUID id) {
+        budgetRepository.delete(findBudget(id));
+        eventPublisher.publishEvent(new BudgetsChangedEvent());
+    }
+
+    /**
+     * Move the merged category's budgets to the target, inside the merge transaction. Where both have a
+     * budget in the same currency, the target's is kept. Spend has already moved with the transactions.
+     */
+    @EventListener
+    public void onCategoryMerged(CategoryMergedEvent event) {
+        int dropped = budgetRepository.deleteShadowedBy(event.sourceId(), event.targetId());
+        int moved = budgetRepository.moveToCategory(event.sourceId(),
+            categoryRepository.getReferenceById(event.targetId()), ZonedDateTime.now());
+        if (dropped + moved > 0) {
+            eventPublisher.publishEvent(new BudgetsChangedEvent());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetStatusDto> getStatus(YearMonth month) {
+        YearMonth statusMonth = month != null ? month : YearMonth.now(ZoneOffset.UTC);
+        return budgetRepository.findAllWithCategory().stream()
+            .map(budget -> mapper.toStatusDto(budget, statusMonth,
+                counters.spent(budget.category().getId(), budget.currency(), statusMonth)))
+            .toList();
+    }
+
+    private Budget findBudget(UUID id) {
+        return budgetRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Budget not found with id: " + id));
+    }
+}
@@ -0,0 +1,31 @@
+package dev.juanvaldivia.moneytrak.budgets.dto;
+
+import dev.juanvaldivia.moneytrak.validation.Currency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for creating a new monthly budget.
+ *
+ * @param categoryId budgeted category (required)
+ * @param currency ISO 4217 code of the transactions that count (required)
+ * @param monthlyLimit positive spending limit per month (required)
+ */
+public record BudgetCreationDto(
+    @NotNull(message = "Category id is required")
+    UUID categoryId,
+
+    @NotNull(message = "Currency is required")
+    @Currency
+    String currency,
+
+    @NotNull(message = "Monthly limit is required")
+    @DecimalMin(value = "0.01", message = "Monthly limit must be positive")
+    @Digits(integer = 9, fraction = 2, message = "Monthly limit must have at most 2 decimal places and not exceed 999,999,999.99")
+    BigDecimal monthlyLimit
+) {
+}
@@ -0,0 +1,29 @@
+package dev.juanvaldivia.moneytrak.budgets.dto;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for budget responses.
+ *
+ * @param id budget UUID
+ * @param categoryId budgeted category
+ * @param categoryName category name
+ * @param currency ISO 4217 code of the transactions that count
+ * @param monthlyLimit spending limit per month
+ * @param version optimistic locking version
+ * @param createdAt creation timestamp
+ * @param updatedAt last update timestamp
+ */
+public record BudgetDto(
+    UUID id,
+    UUID categoryId,
+    String categoryName,
+    String currency,
+    BigDecimal monthlyLimit,
+    Integer version,
+    ZonedDateTime createdAt,
+    ZonedDateTime updatedAt
+) {
+}
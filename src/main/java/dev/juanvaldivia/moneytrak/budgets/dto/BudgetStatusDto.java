@@ -0,0 +1,35 @@
+package dev.juanvaldivia.moneytrak.budgets.dto;
+
+import dev.juanvaldivia.moneytrak.budgets.BudgetLevel;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * DTO for the spend of one budget in one month.
+ *
+ * @param budgetId budget UUID
+ * @param categoryId budgeted category
+ * @param categoryName category name
+ * @param currency budget currency
+ * @param month calendar month (UTC)
+ * @param limit monthly limit
+ * @param spent EXPENSE total of the category in the currency and month
+ * @param remaining limit minus spent, negative when over budget
+ * @param percentUsed spent as a whole percentage of the limit, rounded down
+ * @param level OK, WARNING (80% or more) or EXCEEDED (100% or more)
+ */
+public record BudgetStatusDto(
+    UUID budgetId,
+    UUID categoryId,
+    String categoryName,
+    String currency,
+    YearMonth month,
+    BigDecimal limit,
+    BigDecimal spent,
+    BigDecimal remaining,
+    int percentUsed,
+    BudgetLevel level
+) {
+}
@@ -0,0 +1,25 @@
+package dev.juanvaldivia.moneytrak.budgets.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for changing the limit of an existing budget.
+ * Category and currency are fixed; budget another pair by creating a new budget.
+ *
+ * @param monthlyLimit new positive spending limit per month (required)
+ * @param version current version for optimistic locking (required)
+ */
+public record BudgetUpdateDto(
+    @NotNull(message = "Monthly limit is required")
+    @DecimalMin(value = "0.01", message = "Monthly limit must be positive")
+    @Digits(integer = 9, fraction = 2, message = "Monthly limit must have at most 2 decimal places and not exceed 999,999,999.99")
+    BigDecimal monthlyLimit,
+
+    @NotNull(message = "Version is required for optimistic locking")
+    Integer version
+) {
+}
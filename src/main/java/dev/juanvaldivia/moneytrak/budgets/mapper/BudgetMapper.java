@@ -0,0 +1,74 @@
+package dev.juanvaldivia.moneytrak.budgets.mapper;
+
+import dev.juanvaldivia.moneytrak.budgets.Budget;
+import dev.juanvaldivia.moneytrak.budgets.BudgetLevel;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetCreationDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetDto;
+import dev.juanvaldivia.moneytrak.budgets.dto.BudgetStatusDto;
+import dev.juanvaldivia.moneytrak.categories.Category;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+
+/**
+ * Mapper for converting between Budget entity and DTOs.
+ */
+@Component
+public class BudgetMapper {
+
+    /**
+     * Convert BudgetCreationDto to Budget entity.
+     *
+     * @param dto creation DTO
+     * @param category resolved budgeted category
+     * @return new Budget entity
+     */
+    public Budget toEntity(BudgetCreationDto dto, Category category) {
+        return Budget.create(category, dto.currency(), dto.monthlyLimit());
+    }
+
+    /**
+     * Convert Budget entity to BudgetDto for API response.
+     *
+     * @param entity budget entity
+     * @return budget DTO
+     */
+    public BudgetDto toDto(Budget entity) {
+        return new BudgetDto(
+            entity.id(),
+            entity.category().getId(),
+            entity.category().getName(),
+            entity.currency(),
+            entity.monthlyLimit(),
+            entity.version(),
+            entity.createdAt(),
+            entity.updatedAt()
+        );
+    }
+
+    /**
+     * Combine a budget with its spend for a month.
+     *
+     * @param entity budget entity
+     * @param month calendar month
+     * @param spent EXPENSE total for the month
+     * @return status DTO
+     */
+    public BudgetStatusDto toStatusDto(Budget entity, YearMonth month, BigDecimal spent) {
+        BigDecimal limit = entity.monthlyLimit();
+        return new BudgetStatusDto(
+            entity.id(),
+            entity.category().getId(),
+            entity.category().getName(),
+            entity.currency(),
+            month,
+            limit,
+            spent,
+            limit.subtract(spent),
+            spent.multiply(BigDecimal.valueOf(100)).divide(limit, 0, RoundingMode.FLOOR).intValue(),
+            BudgetLevel.of(spent.movePointRight(2).longValue(), limit.movePointRight(2).longValue())
+        );
+    }
+}
@@ -1,6 +1,10 @@
 package dev.juanvaldivia.moneytrak.categories;
 
+import dev.juanvaldivia.moneytrak.sync.ChangeSequenceListener;
+import dev.juanvaldivia.moneytrak.sync.ChangeTracked;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
@@ -11,14 +15,20 @@ import java.util.UUID;
  * <p>Categories can be predefined (system-seeded) or custom (user-created).
  * Predefined categories can be renamed but maintain their isPredefined flag.
  *
+ * <p>Categories form a tree through their parent. The whole ancestry is kept in {@link CategoryClosure}
+ * rows by {@link CategoryTree}; the parent here is what clients see and sync.
+ *
  * <p>Uses optimistic locking via @Version to prevent concurrent update conflicts.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "categories")
-public class Category {
+@EntityListeners(ChangeSequenceListener.class)
+public class Category implements ChangeTracked {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @Column(nullable = false, length = 100)
@@ -27,6 +37,9 @@ public class Category {
     @Column(name = "is_predefined", nullable = false)
     private Boolean isPredefined = false;
 
+    @Column(name = "parent_id")
+    private UUID parentId;
+
     @Version
     @Column(nullable = false)
     private Integer version = 0;
@@ -37,6 +50,9 @@ public class Category {
     @Column(name = "updated_at", nullable = false)
     private ZonedDateTime updatedAt;
 
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSequence = 0L;
+
     /**
      * Default constructor for JPA.
      */
@@ -69,6 +85,19 @@ public class Category {
         return new Category(name, true, now, now);
     }
 
+    /**
+     * Factory method for creating a predefined category under another one.
+     *
+     * @param name category name
+     * @param parentId parent category UUID
+     * @return new predefined category instance
+     */
+    public static Category createPredefined(String name, UUID parentId) {
+        Category category = createPredefined(name);
+        category.parentId = parentId;
+        return category;
+    }
+
     /**
      * Factory method for creating a custom (user-created) category.
      *
@@ -80,6 +109,30 @@ public class Category {
         return new Category(name, false, now, now);
     }
 
+    /**
+     * Factory method for creating a custom (user-created) category under another one.
+     *
+     * @param name category name
+     * @param parentId parent category UUID, or null for a top-level category
+     * @return new custom category instance
+     */
+    public static Category createCustom(String name, UUID parentId) {
+        Category category = createCustom(name);
+        category.parentId = parentId;
+        return category;
+    }
+
+    /**
+     * Moves the category under another parent and bumps the updated timestamp.
+     * The ancestry itself is updated by {@link CategoryTree#move(UUID, UUID)}.
+     *
+     * @param newParentId parent category UUID, or null to make it top-level
+     */
+    public void moveTo(UUID newParentId) {
+        this.parentId = newParentId;
+        this.updatedAt = ZonedDateTime.now();
+    }
+
     /**
      * Updates the category name and bumps the updated timestamp.
      *
@@ -103,6 +156,10 @@ public class Category {
         return isPredefined;
     }
 
+    public UUID getParentId() {
+        return parentId;
+    }
+
     public Integer getVersion() {
         return version;
     }
@@ -115,6 +172,15 @@ public class Category {
         return updatedAt;
     }
 
+    public Long getChangeSequence() {
+        return changeSequence;
+    }
+
+    @Override
+    public void assignChangeSequence(long changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
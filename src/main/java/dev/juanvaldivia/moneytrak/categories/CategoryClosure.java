@@ -0,0 +1,68 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity for one ancestor/descendant pair of the category tree. Every category is also paired
+ * with itself at depth 0, so "a category and its subcategories" is every row with that ancestor.
+ * Rows are only written by {@link CategoryTree}; the mapping exists for the schema and for subtree
+ * filters in queries.
+ */
+@Entity
+@Table(name = "category_closure")
+public class CategoryClosure {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private int depth;
+
+    protected CategoryClosure() {
+        // JPA requires no-arg constructor
+    }
+
+    public Key key() {
+        return key;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Pair key.
+     */
+    @Embeddable
+    public static class Key {
+
+        @Column(name = "ancestor_id", nullable = false)
+        private UUID ancestorId;
+
+        @Column(name = "descendant_id", nullable = false)
+        private UUID descendantId;
+
+        protected Key() {
+            // JPA requires no-arg constructor
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(ancestorId, other.ancestorId) && Objects.equals(descendantId, other.descendantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ancestorId, descendantId);
+        }
+    }
+}
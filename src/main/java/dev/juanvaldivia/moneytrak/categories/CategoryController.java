@@ -1,7 +1,10 @@
 package dev.juanvaldivia.moneytrak.categories;
 
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryCreationDto;
+import dev.juanvaldivia.moneytrak.config.MediaTypes;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryMergeDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryParentUpdateDto;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryUpdateDto;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -55,13 +58,15 @@ public class CategoryController {
      * Get all categories (predefined and custom).
      * GET /v1/categories
      *
+     * @param includeUsage whether to include each category's transaction count and totals
      * @return 200 OK with list of all categories
      */
     @GetMapping
     public ResponseEntity<Page<CategoryDto>> getAllCategories(
-        @PageableDefault(size = 50, sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+        @PageableDefault(size = 50, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+        @RequestParam(defaultValue = "false") boolean includeUsage
     ) {
-        return ResponseEntity.ok(categoryService.findAll(pageable));
+        return ResponseEntity.ok(categoryService.findAll(pageable, includeUsage));
     }
 
     /**
@@ -69,11 +74,15 @@ public class CategoryController {
      * GET /v1/categories/{id}
      *
      * @param id category UUID
+     * @param includeUsage whether to include the category's transaction count and totals
      * @return 200 OK with category or 404 Not Found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable UUID id) {
-        CategoryDto category = categoryService.findById(id);
+    public ResponseEntity<CategoryDto> getCategoryById(
+        @PathVariable UUID id,
+        @RequestParam(defaultValue = "false") boolean includeUsage
+    ) {
+        CategoryDto category = categoryService.findById(id, includeUsage);
         return ResponseEntity.ok(category);
     }
 
@@ -94,11 +103,45 @@ public class CategoryController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to a category.
+     * PATCH /v1/categories/{id} (Content-Type: application/merge-patch+json)
+     *
+     * The name is the only writable member, so this is equivalent to PUT.
+     *
+     * @param id category UUID
+     * @param patch merge patch with new name and version
+     * @return 200 OK with updated category or 404/409 on error
+     */
+    @PatchMapping(value = "/{id}", consumes = MediaTypes.MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<CategoryDto> patchCategory(
+        @PathVariable UUID id,
+        @Valid @RequestBody CategoryUpdateDto patch
+    ) {
+        return ResponseEntity.ok(categoryService.update(id, patch));
+    }
+
+    /**
+     * Move a category, with its subcategories, under another parent.
+     * PUT /v1/categories/{id}/parent
+     *
+     * @param id category UUID
+     * @param dto new parent (null for top-level) and version
+     * @return 200 OK with updated category or 400/404/409 on error
+     */
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<CategoryDto> moveCategory(
+        @PathVariable UUID id,
+        @Valid @RequestBody CategoryParentUpdateDto dto
+    ) {
+        return ResponseEntity.ok(categoryService.moveCategory(id, dto));
+    }
+
     /**
      * Delete category.
      * DELETE /v1/categories/{id}
      *
-     * Only allowed if category has no linked transactions.
+     * Only allowed if category has no linked transactions and no subcategories.
      *
      * @param id category UUID
      * @return 204 No Content or 404/409 on error
@@ -108,4 +151,40 @@ public class CategoryController {
         categoryService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Merge a category into another.
+     * POST /v1/categories/{id}/merge-into/{targetId}
+     *
+     * Moves every linked transaction, rule and budget to the target, then deletes the category.
+     * The merge runs in the background; its progress is at the Location returned.
+     *
+     * @param id category UUID to merge away
+     * @param targetId category UUID to merge into
+     * @return 202 Accepted with Location header and the running merge, or 400/404/409 on error
+     */
+    @PostMapping("/{id}/merge-into/{targetId}")
+    public ResponseEntity<CategoryMergeDto> mergeCategory(@PathVariable UUID id, @PathVariable UUID targetId) {
+        CategoryMergeDto merge = categoryService.merge(id, targetId);
+
+        URI location = ServletUriComponentsBuilder
+            .fromCurrentContextPath()
+            .path("/v1/categories/{id}/merge")
+            .buildAndExpand(id)
+            .toUri();
+
+        return ResponseEntity.accepted().location(location).body(merge);
+    }
+
+    /**
+     * Get the progress of a category merge.
+     * GET /v1/categories/{id}/merge
+     *
+     * @param id category UUID being merged away
+     * @return 200 OK with the merge, kept for an hour after it finishes, or 404 if none is known
+     */
+    @GetMapping("/{id}/merge")
+    public ResponseEntity<CategoryMergeDto> getMergeStatus(@PathVariable UUID id) {
+        return ResponseEntity.ok(categoryService.mergeStatus(id));
+    }
 }
@@ -0,0 +1,22 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+/**
+ * State of a category merge running in the background.
+ */
+public enum CategoryMergeStatus {
+    /**
+     * Transactions are still being moved.
+     */
+    RUNNING,
+
+    /**
+     * Everything has moved and the source category is deleted.
+     */
+    COMPLETED,
+
+    /**
+     * The merge stopped before the source category could be deleted. Moved transactions stay moved;
+     * starting the merge again picks up where it stopped.
+     */
+    FAILED
+}
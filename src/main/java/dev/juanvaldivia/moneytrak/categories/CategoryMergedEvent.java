@@ -0,0 +1,14 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import java.util.UUID;
+
+/**
+ * Published inside the last transaction of a category merge, once every transaction has moved and
+ * before the source category is deleted. Listeners move what else refers to the source in the same
+ * transaction, or it is deleted along with the category.
+ *
+ * @param sourceId category being merged away
+ * @param targetId category it is merged into
+ */
+public record CategoryMergedEvent(UUID sourceId, UUID targetId) {
+}
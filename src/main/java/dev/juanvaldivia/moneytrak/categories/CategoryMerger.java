@@ -0,0 +1,311 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryMergeDto;
+import dev.juanvaldivia.moneytrak.events.EntitiesChangedEvent;
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import dev.juanvaldivia.moneytrak.exception.ConflictException;
+import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import dev.juanvaldivia.moneytrak.sync.ChangeSequence;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.sync.SyncService;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFigures;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFiguresRecorder;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Merges one category into another: moves its transactions, rules, budgets and subcategories, then deletes it.
+ *
+ * <p>Transactions move in chunks of {@link CategoryProperties#mergeChunkSize()}, each chunk in its own
+ * database transaction, so no lock is held for longer than one chunk. A chunk locks its rows, re-points
+ * them with one set-based MERGE and reports them to the {@link TransactionFiguresRecorder}, so usage and
+ * budget counters follow as for any other write. Moved transactions get a new version and change sequence,
+ * and each chunk is announced with one {@link EntitiesChangedEvent}.</p>
+ *
+ * <p>A merge runs on a virtual thread once its checks have passed. Its progress is kept in memory by source
+ * category, logged and updated after every chunk, and kept for {@link #RETENTION} after it finishes. Only
+ * one merge of a category runs at a time; one cut short by a restart is resumed by starting it again.</p>
+ *
+ * <p>The last database transaction locks the source category, which holds back new transactions in it,
+ * and only deletes it once no transaction refers to it; transactions added to it meanwhile are moved first.
+ * If it still finds some after {@link #MAX_EMPTY_PASSES} passes that moved nothing, the merge gives up
+ * with a conflict instead of retrying forever.
+ * {@link CategoryMergedEvent} listeners move the rules and budgets in that same transaction.</p>
+ */
+@Component
+@EnableConfigurationProperties(CategoryProperties.class)
+public class CategoryMerger {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryMerger.class);
+
+    static final int MAX_EMPTY_PASSES = 3;
+    static final Duration RETENTION = Duration.ofHours(1);
+
+    private static final String LOCK_CHUNK =
+        "SELECT id, currency, amount, date, transaction_type FROM transactions " +
+        "WHERE category_id = ? ORDER BY id LIMIT ? FOR UPDATE";
+    private static final String LOCK_CATEGORY =
+        "SELECT id FROM categories WHERE id = ? FOR UPDATE";
+    // On idx_transactions_category_id, and exact: a counter that drifted would never reach zero
+    private static final String HAS_TRANSACTIONS =
+        "SELECT 1 FROM transactions WHERE category_id = ? LIMIT 1";
+
+    private final CategoryProperties properties;
+    private final CategoryRepository categoryRepository;
+    private final CategoryTree categoryTree;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeSequence changeSequence;
+    private final TransactionFiguresRecorder figures;
+    private final SyncService syncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<UUID, Progress> merges = new ConcurrentHashMap<>();
+
+    public CategoryMerger(
+        CategoryProperties properties,
+        CategoryRepository categoryRepository,
+        CategoryTree categoryTree,
+        JdbcTemplate jdbcTemplate,
+        ChangeSequence changeSequence,
+        TransactionFiguresRecorder figures,
+        SyncService syncService,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.properties = properties;
+        this.categoryRepository = categoryRepository;
+        this.categoryTree = categoryTree;
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeSequence = changeSequence;
+        this.figures = figures;
+        this.syncService = syncService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Start merging a category into another in the background. The checks run here, so a merge that
+     * cannot happen is rejected before anything moves.
+     *
+     * @param sourceId category to merge away
+     * @param targetId category to merge into; must not be in the source's subtree
+     * @return the merge, running
+     */
+    public CategoryMergeDto start(UUID sourceId, UUID targetId) {
+        check(sourceId, targetId);
+        Instant expired = Instant.now().minus(RETENTION);
+        merges.values().removeIf(merge -> merge.finishedAt != null && merge.finishedAt.isBefore(expired));
+
+        Progress progress = new Progress(sourceId, targetId);
+        Progress current = merges.compute(sourceId,
+            (id, previous) -> previous != null && previous.status == CategoryMergeStatus.RUNNING ? previous : progress);
+        if (current != progress) {
+            throw new ConflictException("Category " + sourceId + " is already being merged");
+        }
+        executor.execute(() -> run(progress));
+        return progress.toDto();
+    }
+
+    /**
+     * @param sourceId category being merged away
+     * @return progress of its running or recently finished merge
+     */
+    public CategoryMergeDto status(UUID sourceId) {
+        Progress progress = merges.get(sourceId);
+        if (progress == null) {
+            throw new NotFoundException("No merge found for category with id: " + sourceId);
+        }
+        return progress.toDto();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // A chunk interrupted mid-way rolls back; what has committed stays moved
+        executor.shutdownNow();
+    }
+
+    private void check(UUID sourceId, UUID targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new BadRequestException("Cannot merge a category into itself");
+        }
+        Category source = categoryRepository.findById(sourceId)
+            .orElseThrow(() -> new NotFoundException("Category not found with id: " + sourceId));
+        if (!categoryRepository.existsById(targetId)) {
+            throw new NotFoundException("Category not found with id: " + targetId);
+        }
+        // Its subcategories move under the target, which must then not be one of them
+        if (categoryTree.contains(sourceId, targetId)) {
+            throw new BadRequestException("Cannot merge a category into one of its subcategories");
+        }
+        // Transactions without a category fall back to it, and rules re-classify from it
+        if ("Others".equalsIgnoreCase(source.getName())) {
+            throw new ConflictException("Cannot merge the default category 'Others'");
+        }
+    }
+
+    private void run(Progress progress) {
+        try {
+            merge(progress);
+            progress.finish(CategoryMergeStatus.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.warn("Merging category {} into {} failed after {} transaction(s) moved",
+                progress.sourceId, progress.targetId, progress.moved, e);
+            progress.finish(CategoryMergeStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Move the source's transactions chunk by chunk, then delete it. Must not run inside a database
+     * transaction: every chunk commits on its own.
+     */
+    private void merge(Progress progress) {
+        UUID sourceId = progress.sourceId;
+        UUID targetId = progress.targetId;
+        long start = System.nanoTime();
+        long moved = 0;
+        int emptyPasses = 0;
+        while (true) {
+            int chunk = Objects.requireNonNull(transactionTemplate.execute(status -> moveChunk(sourceId, targetId)));
+            moved += chunk;
+            progress.moved = moved;
+            if (chunk > 0) {
+                emptyPasses = 0;
+                log.info("Merging category {} into {}: {} transaction(s) moved", sourceId, targetId, moved);
+            } else if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteIfEmpty(sourceId, targetId)))) {
+                break;
+            } else if (++emptyPasses == MAX_EMPTY_PASSES) {
+                throw new ConflictException("Category " + sourceId + " still has transactions after " + moved +
+                    " were moved; retry the merge");
+            }
+        }
+        log.info("Merged category {} into {}: moved {} transaction(s) in {} ms",
+            sourceId, targetId, moved, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Move the next chunk of the source's transactions.
+     *
+     * @return number of transactions moved, 0 when the source has none left
+     */
+    private int moveChunk(UUID sourceId, UUID targetId) {
+        List<Row> rows = jdbcTemplate.query(LOCK_CHUNK, (rs, i) -> new Row(rs.getObject("id", UUID.class),
+            new TransactionFigures(sourceId, rs.getString("currency"),
+                rs.getObject("date", OffsetDateTime.class).toZonedDateTime(), rs.getBigDecimal("amount"),
+                TransactionType.valueOf(rs.getString("transaction_type")))), sourceId, properties.mergeChunkSize());
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // One change sequence per row: sync pages end on a sequence number, so rows must not share one
+        long firstSequence = changeSequence.nextBlock(rows.size());
+        List<Object> args = new ArrayList<>(rows.size() * 2 + 2);
+        for (int i = 0; i < rows.size(); i++) {
+            args.add(rows.get(i).id());
+            args.add(firstSequence + i);
+        }
+        args.add(targetId);
+        args.add(OffsetDateTime.now(ZoneOffset.UTC));
+        jdbcTemplate.update(reassignStatement(rows.size()), args.toArray());
+
+        for (Row row : rows) {
+            TransactionFigures before = row.figures();
+            figures.record(before, new TransactionFigures(targetId, before.currency(), before.date(),
+                before.amount(), before.type()));
+        }
+        // One event for the chunk: per-row events would overflow event subscribers' buffers on large merges
+        eventPublisher.publishEvent(EntitiesChangedEvent.updated(SyncEntityType.TRANSACTION,
+            rows.stream().map(Row::id).toList()));
+        return rows.size();
+    }
+
+    /**
+     * Delete the source if it has no transactions left, after its rules, budgets and subcategories
+     * have moved.
+     *
+     * @return true if deleted, false if transactions were added to it since the last chunk
+     */
+    private boolean deleteIfEmpty(UUID sourceId, UUID targetId) {
+        if (jdbcTemplate.queryForList(LOCK_CATEGORY, UUID.class, sourceId).isEmpty()) {
+            throw new NotFoundException("Category not found with id: " + sourceId);
+        }
+        if (!jdbcTemplate.queryForList(HAS_TRANSACTIONS, Integer.class, sourceId).isEmpty()) {
+            return false;
+        }
+        eventPublisher.publishEvent(new CategoryMergedEvent(sourceId, targetId));
+        for (Category child : categoryRepository.findByParentId(sourceId)) {
+            child.moveTo(targetId);
+            categoryRepository.saveAndFlush(child);
+            categoryTree.move(child.getId(), targetId);
+        }
+        categoryTree.detach(sourceId);
+        categoryRepository.deleteById(sourceId);
+        syncService.recordDeletion(SyncEntityType.CATEGORY, sourceId);
+        return true;
+    }
+
+    /**
+     * Standard MERGE (PostgreSQL 15+, H2) joining the chunk's ids to their new change sequences,
+     * so the whole chunk is re-pointed by one statement.
+     */
+    private static String reassignStatement(int rows) {
+        return "MERGE INTO transactions t USING (VALUES " +
+            String.join(", ", Collections.nCopies(rows, "(CAST(? AS UUID), CAST(? AS BIGINT))")) +
+            ") AS m (id, change_seq) ON t.id = m.id " +
+            "WHEN MATCHED THEN UPDATE SET category_id = CAST(? AS UUID), version = t.version + 1, " +
+            "updated_at = CAST(? AS TIMESTAMP WITH TIME ZONE), change_seq = m.change_seq";
+    }
+
+    private record Row(UUID id, TransactionFigures figures) {
+    }
+
+    /**
+     * Progress of one merge. Written by the merging thread, read by status requests.
+     */
+    private static final class Progress {
+        private final UUID sourceId;
+        private final UUID targetId;
+        private volatile CategoryMergeStatus status = CategoryMergeStatus.RUNNING;
+        private volatile long moved;
+        private volatile String failure;
+        private volatile Instant finishedAt;
+
+        Progress(UUID sourceId, UUID targetId) {
+            this.sourceId = sourceId;
+            this.targetId = targetId;
+        }
+
+        void finish(CategoryMergeStatus outcome, String reason) {
+            failure = reason;
+            finishedAt = Instant.now();
+            status = outcome;
+        }
+
+        CategoryMergeDto toDto() {
+            // Status first: a finished one is only visible after the failure it was finished with
+            return new CategoryMergeDto(sourceId, targetId, status, moved, failure);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Category settings.
+ *
+ * @param mergeChunkSize transactions moved per database transaction when merging categories
+ */
+@ConfigurationProperties(prefix = "moneytrak.categories")
+public record CategoryProperties(
+    @DefaultValue("500") int mergeChunkSize
+) {
+}
@@ -1,8 +1,14 @@
 package dev.juanvaldivia.moneytrak.categories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,4 +36,53 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
      * @return true if category exists, false otherwise
      */
     boolean existsByNameIgnoreCase(String name);
-}
\ No newline at end of file
+
+    /**
+     * Check if a category has subcategories.
+     * Used to block deleting a category that still has children.
+     *
+     * @param parentId parent category UUID
+     * @return true if any category has it as parent
+     */
+    boolean existsByParentId(UUID parentId);
+
+    /**
+     * Find the direct subcategories of a category.
+     *
+     * @param parentId parent category UUID
+     * @return categories that have it as parent
+     */
+    List<Category> findByParentId(UUID parentId);
+
+    /**
+     * Find categories written within a change sequence range, for delta sync.
+     * Uses the change_seq index.
+     *
+     * @param after exclusive lower bound
+     * @param upTo inclusive upper bound
+     * @param pageable limit (sort is fixed by the query)
+     * @return categories ordered by change sequence
+     */
+    @Query("SELECT c FROM Category c WHERE c.changeSequence > :after AND c.changeSequence <= :upTo " +
+           "ORDER BY c.changeSequence")
+    List<Category> findChangedBetween(@Param("after") long after, @Param("upTo") long upTo, Pageable pageable);
+
+    /**
+     * Rename a category in a single statement, only if the stored version still matches, it is not
+     * the default "Others" category and no other category already uses the name (case-insensitive).
+     * Bypasses the persistence context, so the version, timestamp and change sequence are set here.
+     *
+     * @return 1 if renamed, 0 if any of the conditions failed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.name = :name, " +
+           "c.version = c.version + 1, c.updatedAt = :updatedAt, c.changeSequence = :changeSequence " +
+           "WHERE c.id = :id AND c.version = :version AND LOWER(c.name) <> 'others' " +
+           "AND NOT EXISTS (SELECT o.id FROM Category o WHERE LOWER(o.name) = LOWER(:name) AND o.id <> :id)")
+    int renameIfVersionMatches(
+        @Param("id") UUID id,
+        @Param("version") Integer version,
+        @Param("name") String name,
+        @Param("updatedAt") ZonedDateTime updatedAt,
+        @Param("changeSequence") long changeSequence);
+}
@@ -3,26 +3,50 @@ package dev.juanvaldivia.moneytrak.categories;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Seeds the database with 14 predefined categories on application startup.
+ * Seeds the database with a default tree of 19 predefined categories on application startup:
+ * four groups with the everyday categories under them, plus "Office Renting" and "Others" at the top.
  * Runs only if no categories exist (idempotent).
+ * Runs before any other runner so the warm-up sees the seeded data.
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class CategorySeeder implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(CategorySeeder.class);
 
+    // Group name to the names of its subcategories, in seeding order
+    private static final Map<String, List<String>> TREE = new LinkedHashMap<>();
+
+    static {
+        TREE.put("Transport", List.of("Public Transport", "Car Maintenance", "Tolls", "Gas"));
+        TREE.put("Food", List.of("Food & Drinks", "Supermarket"));
+        TREE.put("Leisure", List.of("Sport", "Video & Films", "Subscriptions", "Gifts"));
+        TREE.put("Finance", List.of("Bank", "ATM", "Transfers"));
+        TREE.put("Office Renting", List.of());
+        TREE.put("Others", List.of());
+    }
+
     private final CategoryRepository categoryRepository;
+    private final CategoryTree categoryTree;
 
-    public CategorySeeder(CategoryRepository categoryRepository) {
+    public CategorySeeder(CategoryRepository categoryRepository, CategoryTree categoryTree) {
         this.categoryRepository = categoryRepository;
+        this.categoryTree = categoryTree;
     }
 
     @Override
+    @Transactional
     public void run(String... args) {
         // Only seed if the default "Others" category does not exist yet
         if (categoryRepository.existsByNameIgnoreCase("Others")) {
@@ -30,28 +54,22 @@ public class CategorySeeder implements CommandLineRunner {
             return;
         }
 
-        log.info("Seeding 15 predefined categories...");
-
-        List<Category> predefinedCategories = List.of(
-            Category.createPredefined("Office Renting"),
-            Category.createPredefined("Public Transport"),
-            Category.createPredefined("Bank"),
-            Category.createPredefined("Car Maintenance"),
-            Category.createPredefined("Food & Drinks"),
-            Category.createPredefined("Subscriptions"),
-            Category.createPredefined("Supermarket"),
-            Category.createPredefined("Tolls"),
-            Category.createPredefined("Gas"),
-            Category.createPredefined("Sport"),
-            Category.createPredefined("Gifts"),
-            Category.createPredefined("ATM"),
-            Category.createPredefined("Video & Films"),
-            Category.createPredefined("Transfers"),
-            Category.createPredefined("Others")
-        );
-
-        categoryRepository.saveAll(predefinedCategories);
-
-        log.info("Successfully seeded {} predefined categories", predefinedCategories.size());
+        log.info("Seeding 19 predefined categories...");
+
+        // Groups first: their rows must exist before the subcategories' ancestry is recorded
+        List<Category> groups = categoryRepository.saveAllAndFlush(
+            TREE.keySet().stream().map(Category::createPredefined).toList());
+        List<Category> children = new ArrayList<>();
+        for (Category group : groups) {
+            categoryTree.attach(group.getId(), null);
+            for (String name : TREE.get(group.getName())) {
+                children.add(Category.createPredefined(name, group.getId()));
+            }
+        }
+        for (Category child : categoryRepository.saveAllAndFlush(children)) {
+            categoryTree.attach(child.getId(), child.getParentId());
+        }
+
+        log.info("Successfully seeded {} predefined categories", groups.size() + children.size());
     }
 }
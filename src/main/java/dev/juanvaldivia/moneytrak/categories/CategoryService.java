@@ -2,6 +2,8 @@ package dev.juanvaldivia.moneytrak.categories;
 
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryCreationDto;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryMergeDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryParentUpdateDto;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryUpdateDto;
 
 import org.springframework.data.domain.Page;
@@ -21,6 +23,7 @@ public interface CategoryService {
      * @param dto category creation data
      * @return created category DTO
      * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if category name already exists
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the parent category is not found
      */
     CategoryDto create(CategoryCreationDto dto);
 
@@ -32,6 +35,15 @@ public interface CategoryService {
      */
     Page<CategoryDto> findAll(Pageable pageable);
 
+    /**
+     * Find all categories, optionally with their usage.
+     *
+     * @param pageable pagination and sort parameters
+     * @param includeUsage whether to fill in each category's transaction count and totals
+     * @return page of all categories
+     */
+    Page<CategoryDto> findAll(Pageable pageable, boolean includeUsage);
+
     /**
      * Find category by ID.
      *
@@ -41,6 +53,16 @@ public interface CategoryService {
      */
     CategoryDto findById(UUID id);
 
+    /**
+     * Find category by ID, optionally with its usage.
+     *
+     * @param id category UUID
+     * @param includeUsage whether to fill in the category's transaction count and totals
+     * @return category DTO
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if category not found
+     */
+    CategoryDto findById(UUID id, boolean includeUsage);
+
     /**
      * Update existing category.
      *
@@ -52,13 +74,47 @@ public interface CategoryService {
      */
     CategoryDto update(UUID id, CategoryUpdateDto dto);
 
+    /**
+     * Move a category, with all its subcategories, under another parent.
+     *
+     * @param id category UUID
+     * @param dto new parent (null for top-level) and version
+     * @return updated category DTO
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the category or the parent is not found
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the parent is the category or one of its subcategories
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if version mismatch
+     */
+    CategoryDto moveCategory(UUID id, CategoryParentUpdateDto dto);
+
     /**
      * Delete category.
-     * Only allowed if category has no linked transactions.
+     * Only allowed if category has no linked transactions and no subcategories.
      *
      * @param id category UUID
      * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if category not found
-     * @throws dev.juanvaldivia.moneytrak.categories.exception.CategoryInUseException if category has linked transactions
+     * @throws dev.juanvaldivia.moneytrak.categories.exception.CategoryInUseException if category has linked transactions or subcategories
      */
     void delete(UUID id);
+
+    /**
+     * Start merging a category into another: move all its transactions, rules and budgets, then delete it.
+     * The merge runs in the background and transactions move in chunks, each committed on its own.
+     *
+     * @param id category UUID to merge away
+     * @param targetId category UUID to merge into
+     * @return the merge, running
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if either category is not found
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the target is the category or one of its subcategories
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if the category is the default "Others" or is already being merged
+     */
+    CategoryMergeDto merge(UUID id, UUID targetId);
+
+    /**
+     * Progress of a category's running or recently finished merge.
+     *
+     * @param id category UUID being merged away
+     * @return merge progress
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if no merge of the category is known
+     */
+    CategoryMergeDto mergeStatus(UUID id);
 }
@@ -0,0 +1,128 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the {@code category_closure} table in step with category parents.
+ *
+ * <p>The closure holds every ancestor/descendant pair, each category paired with itself at depth 0.
+ * A subtree is then the rows of one ancestor and the ancestry the rows of one descendant, both on an
+ * index, whatever the depth of the tree. Writes touch one row per pair that changes: adding a leaf
+ * inserts its ancestry, and moving a category re-links its whole subtree with two set-based statements.</p>
+ *
+ * <p>Must run inside the caller's database transaction, after the category row has been flushed.</p>
+ */
+@Component
+public class CategoryTree {
+
+    private static final String ATTACH_SELF =
+        "INSERT INTO category_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, 0)";
+
+    private static final String ATTACH_ANCESTORS =
+        "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+        "SELECT ancestor_id, ?, depth + 1 FROM category_closure WHERE descendant_id = ?";
+
+    // Links from outside the subtree into it; links within the subtree stay as they are
+    private static final String UNLINK_SUBTREE =
+        "DELETE FROM category_closure WHERE " +
+        "descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :id) " +
+        "AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :id)";
+
+    private static final String LINK_SUBTREE =
+        "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+        "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 " +
+        "FROM category_closure a CROSS JOIN category_closure d " +
+        "WHERE a.descendant_id = :parentId AND d.ancestor_id = :id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public CategoryTree(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Record the ancestry of a new category.
+     *
+     * @param id new category UUID
+     * @param parentId its parent, or null for a top-level category
+     */
+    public void attach(UUID id, UUID parentId) {
+        jdbcTemplate.update(ATTACH_SELF, id, id);
+        if (parentId != null) {
+            jdbcTemplate.update(ATTACH_ANCESTORS, id, parentId);
+        }
+    }
+
+    /**
+     * Move a category, with its subtree, under another parent.
+     *
+     * @param id category UUID
+     * @param parentId new parent, or null to make it top-level; must not be in the category's subtree
+     */
+    public void move(UUID id, UUID parentId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id).addValue("parentId", parentId);
+        namedJdbcTemplate.update(UNLINK_SUBTREE, params);
+        if (parentId != null) {
+            namedJdbcTemplate.update(LINK_SUBTREE, params);
+        }
+    }
+
+    /**
+     * Drop the ancestry of a category that has no subcategories.
+     *
+     * @param id category UUID
+     */
+    public void detach(UUID id) {
+        jdbcTemplate.update("DELETE FROM category_closure WHERE descendant_id = ?", id);
+    }
+
+    /**
+     * @param ancestorId category UUID
+     * @param id another category UUID
+     * @return whether {@code id} is {@code ancestorId} itself or one of its subcategories, at any depth
+     */
+    public boolean contains(UUID ancestorId, UUID id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) > 0 FROM category_closure WHERE ancestor_id = ? AND descendant_id = ?",
+            Boolean.class, ancestorId, id));
+    }
+
+    /**
+     * @param ancestorId category UUID
+     * @return the category and all its subcategories, at any depth
+     */
+    public List<UUID> subtree(UUID ancestorId) {
+        return jdbcTemplate.queryForList(
+            "SELECT descendant_id FROM category_closure WHERE ancestor_id = ?", UUID.class, ancestorId);
+    }
+
+    /**
+     * @param ids category UUIDs
+     * @return for each of them, itself and all its ancestors
+     */
+    public Map<UUID, List<UUID>> ancestors(Collection<UUID> ids) {
+        Map<UUID, List<UUID>> ancestors = new HashMap<>();
+        if (ids.isEmpty()) {
+            return ancestors;
+        }
+        namedJdbcTemplate.query(
+            "SELECT descendant_id, ancestor_id FROM category_closure WHERE descendant_id IN (:ids)",
+            new MapSqlParameterSource("ids", ids), rs -> {
+                ancestors.computeIfAbsent(rs.getObject("descendant_id", UUID.class), id -> new ArrayList<>())
+                    .add(rs.getObject("ancestor_id", UUID.class));
+            });
+        return ancestors;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity for one persisted usage counter: how many transactions of one type and currency a category
+ * has, and their total. Rows are only written by {@link CategoryUsageCounters}, with SQL that adds to the
+ * counter in place; the mapping exists for the schema.
+ */
+@Entity
+@Table(name = "category_usage")
+public class CategoryUsage {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal total;
+
+    protected CategoryUsage() {
+        // JPA requires no-arg constructor
+    }
+
+    public Key key() {
+        return key;
+    }
+
+    public long transactionCount() {
+        return transactionCount;
+    }
+
+    public BigDecimal total() {
+        return total;
+    }
+
+    /**
+     * Counter key.
+     */
+    @Embeddable
+    public static class Key {
+
+        @Column(name = "category_id", nullable = false)
+        private UUID categoryId;
+
+        @Column(nullable = false, length = 3)
+        private String currency;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "transaction_type", nullable = false, length = 32)
+        private TransactionType type;
+
+        protected Key() {
+            // JPA requires no-arg constructor
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(categoryId, other.categoryId) && Objects.equals(currency, other.currency)
+                && type == other.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(categoryId, currency, type);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryUsageDto;
+import dev.juanvaldivia.moneytrak.persistence.CommitBuffers;
+import dev.juanvaldivia.moneytrak.persistence.DatabaseDialect;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFigures;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFiguresListener;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import dev.juanvaldivia.moneytrak.transactions.dto.CurrencyTotalDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transaction count and totals per category, kept in memory and in {@code category_usage}.
+ *
+ * <p>Like {@code BudgetSpendCounters}, the differences reported for a database transaction are written
+ * just before it commits and added to the in-memory {@link LongAdder}s once it has. Listing categories
+ * with their usage is then a map lookup per category, and checking whether a category can be deleted
+ * sums the category's few {@code category_usage} rows ({@link #transactionCount(UUID)}).</p>
+ *
+ * <p>Each write locks the {@code category_usage} rows it adds to until it commits. The rows are only
+ * written just before commit, so the lock is short, but concurrent writes of the same type and currency
+ * in one category still commit one after another.</p>
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10) // Before WarmupRunner
+public class CategoryUsageCounters implements ApplicationRunner, TransactionFiguresListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryUsageCounters.class);
+
+    // On PostgreSQL a MERGE racing a concurrent insert of the same counter fails with a unique
+    // violation; ON CONFLICT waits for the other insert and adds to the row it created instead
+    private static final String ADD_USAGE_POSTGRES =
+        "INSERT INTO category_usage (category_id, currency, transaction_type, transaction_count, total) " +
+        "VALUES (CAST(? AS UUID), CAST(? AS VARCHAR(3)), CAST(? AS VARCHAR(32)), CAST(? AS BIGINT), " +
+        "CAST(? AS DECIMAL(15, 2))) ON CONFLICT (category_id, currency, transaction_type) DO UPDATE SET " +
+        "transaction_count = category_usage.transaction_count + EXCLUDED.transaction_count, " +
+        "total = category_usage.total + EXCLUDED.total";
+    // Standard MERGE for H2 so that the counter is created on first use
+    private static final String ADD_USAGE =
+        "MERGE INTO category_usage u USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR(3)), CAST(? AS VARCHAR(32)), " +
+        "CAST(? AS BIGINT), CAST(? AS DECIMAL(15, 2)))) AS d (category_id, currency, transaction_type, count_delta, total_delta) " +
+        "ON u.category_id = d.category_id AND u.currency = d.currency AND u.transaction_type = d.transaction_type " +
+        "WHEN MATCHED THEN UPDATE SET transaction_count = u.transaction_count + d.count_delta, total = u.total + d.total_delta " +
+        "WHEN NOT MATCHED THEN INSERT (category_id, currency, transaction_type, transaction_count, total) " +
+        "VALUES (d.category_id, d.currency, d.transaction_type, d.count_delta, d.total_delta)";
+
+    private static final String STORED_COUNT =
+        "SELECT COALESCE(SUM(transaction_count), 0) FROM category_usage WHERE category_id = ?";
+
+    private static final Comparator<CurrencyTotalDto> BY_TYPE_AND_CURRENCY =
+        Comparator.comparing(CurrencyTotalDto::type).thenComparing(CurrencyTotalDto::currency);
+
+    private record CounterKey(UUID categoryId, String currency, TransactionType type) {
+    }
+
+    /**
+     * Change of one counter: transactions added (negative if removed) and cents added.
+     */
+    private record Delta(long count, long cents) {
+
+        Delta plus(Delta other) {
+            return new Delta(count + other.count, cents + other.cents);
+        }
+
+        boolean isZero() {
+            return count == 0 && cents == 0;
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder cents = new LongAdder();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+    private final Map<UUID, Map<CounterKey, Counter>> counters = new ConcurrentHashMap<>();
+
+    public CategoryUsageCounters(JdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        jdbcTemplate.query("SELECT category_id, currency, transaction_type, transaction_count, total " +
+            "FROM category_usage", rs -> {
+            CounterKey key = new CounterKey(rs.getObject("category_id", UUID.class), rs.getString("currency"),
+                TransactionType.valueOf(rs.getString("transaction_type")));
+            add(key, new Delta(rs.getLong("transaction_count"),
+                rs.getBigDecimal("total").movePointRight(2).longValueExact()));
+        });
+        log.info("Loaded usage counters of {} categories in {} ms",
+            counters.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void onFiguresChanged(TransactionFigures before, TransactionFigures after) {
+        Map<CounterKey, Delta> deltas = new HashMap<>(2);
+        if (before != null) {
+            deltas.merge(keyOf(before), new Delta(-1, -before.cents()), Delta::plus);
+        }
+        if (after != null) {
+            deltas.merge(keyOf(after), new Delta(1, after.cents()), Delta::plus);
+        }
+        deltas.values().removeIf(Delta::isZero);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<CounterKey, Delta> pending = CommitBuffers.current(this, HashMap::new, this::persist, this::apply);
+        if (pending == null) {
+            persist(deltas);
+            apply(deltas);
+        } else {
+            deltas.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+        }
+    }
+
+    /**
+     * @param categoryId category UUID
+     * @return committed usage of the category; zero if it has no transactions
+     */
+    public CategoryUsageDto usage(UUID categoryId) {
+        long count = 0;
+        List<CurrencyTotalDto> totals = new ArrayList<>();
+        for (Map.Entry<CounterKey, Counter> entry : counters.getOrDefault(categoryId, Map.of()).entrySet()) {
+            long transactions = entry.getValue().count.sum();
+            if (transactions != 0) {
+                CounterKey key = entry.getKey();
+                count += transactions;
+                totals.add(new CurrencyTotalDto(key.type(), key.currency(),
+                    BigDecimal.valueOf(entry.getValue().cents.sum(), 2)));
+            }
+        }
+        totals.sort(BY_TYPE_AND_CURRENCY);
+        return new CategoryUsageDto(count, totals);
+    }
+
+    /**
+     * Number of transactions in a category as the caller's database transaction sees it: the stored
+     * counters, plus what that transaction has changed and not written yet.
+     *
+     * @param categoryId category UUID
+     * @return transaction count of the category
+     */
+    public long transactionCount(UUID categoryId) {
+        Long stored = jdbcTemplate.queryForObject(STORED_COUNT, Long.class, categoryId);
+        return (stored != null ? stored : 0) + pendingCount(categoryId);
+    }
+
+    private long pendingCount(UUID categoryId) {
+        Map<CounterKey, Delta> pending = CommitBuffers.peek(this);
+        if (pending == null) {
+            return 0;
+        }
+        return pending.entrySet().stream()
+            .filter(entry -> entry.getKey().categoryId().equals(categoryId))
+            .mapToLong(entry -> entry.getValue().count())
+            .sum();
+    }
+
+    private void persist(Map<CounterKey, Delta> deltas) {
+        List<Object[]> usageRows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                usageRows.add(new Object[]{key.categoryId(), key.currency(), key.type().name(), delta.count(),
+                    BigDecimal.valueOf(delta.cents(), 2)});
+            }
+        });
+        jdbcTemplate.batchUpdate(dialect.isPostgres() ? ADD_USAGE_POSTGRES : ADD_USAGE, usageRows);
+    }
+
+    private void apply(Map<CounterKey, Delta> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    private void add(CounterKey key, Delta delta) {
+        Counter counter = counters.computeIfAbsent(key.categoryId(), id -> new ConcurrentHashMap<>())
+            .computeIfAbsent(key, k -> new Counter());
+        counter.count.add(delta.count());
+        counter.cents.add(delta.cents());
+    }
+
+    private static CounterKey keyOf(TransactionFigures figures) {
+        return new CounterKey(figures.categoryId(), figures.currency(), figures.type());
+    }
+}
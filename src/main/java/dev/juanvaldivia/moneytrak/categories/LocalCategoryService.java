@@ -2,18 +2,28 @@ package dev.juanvaldivia.moneytrak.categories;
 
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryCreationDto;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryMergeDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryParentUpdateDto;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryUpdateDto;
 import dev.juanvaldivia.moneytrak.categories.exception.CategoryInUseException;
 import dev.juanvaldivia.moneytrak.categories.mapper.CategoryMapper;
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
 import dev.juanvaldivia.moneytrak.exception.ConflictException;
 import dev.juanvaldivia.moneytrak.exception.NotFoundException;
-import dev.juanvaldivia.moneytrak.transactions.TransactionRepository;
+import dev.juanvaldivia.moneytrak.persistence.Pageables;
+import dev.juanvaldivia.moneytrak.sync.ChangeSequence;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.sync.SyncService;
 import java.util.Objects;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,18 +34,37 @@ import java.util.UUID;
 @Transactional
 public class LocalCategoryService implements CategoryService {
 
+    // In id order, so that two moves locking the same pair of rows cannot deadlock
+    private static final String LOCK_CATEGORIES =
+        "SELECT id FROM categories WHERE id IN (?, ?) ORDER BY id FOR UPDATE";
+
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
-    private final TransactionRepository transactionRepository;
+    private final CategoryUsageCounters usageCounters;
+    private final SyncService syncService;
+    private final ChangeSequence changeSequence;
+    private final CategoryMerger categoryMerger;
+    private final CategoryTree categoryTree;
+    private final JdbcTemplate jdbcTemplate;
 
     public LocalCategoryService(
         CategoryRepository categoryRepository,
         CategoryMapper categoryMapper,
-        TransactionRepository transactionRepository
+        CategoryUsageCounters usageCounters,
+        SyncService syncService,
+        ChangeSequence changeSequence,
+        CategoryMerger categoryMerger,
+        CategoryTree categoryTree,
+        JdbcTemplate jdbcTemplate
     ) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
-        this.transactionRepository = transactionRepository;
+        this.usageCounters = usageCounters;
+        this.syncService = syncService;
+        this.changeSequence = changeSequence;
+        this.categoryMerger = categoryMerger;
+        this.categoryTree = categoryTree;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -45,9 +74,14 @@ public class LocalCategoryService implements CategoryService {
             throw new ConflictException("Category with name '" + dto.name() + "' already exists");
         }
 
-        // Create new custom category
-        Category category = Category.createCustom(dto.name());
-        Category saved = categoryRepository.save(category);
+        if (dto.parentId() != null && !categoryRepository.existsById(dto.parentId())) {
+            throw new NotFoundException("Category not found with id: " + dto.parentId());
+        }
+
+        // Create new custom category; the row must exist before its ancestry is recorded
+        Category category = Category.createCustom(dto.name(), dto.parentId());
+        Category saved = categoryRepository.saveAndFlush(category);
+        categoryTree.attach(saved.getId(), saved.getParentId());
 
         return categoryMapper.toDto(saved);
     }
@@ -55,47 +89,115 @@ public class LocalCategoryService implements CategoryService {
     @Override
     @Transactional(readOnly = true)
     public Page<CategoryDto> findAll(Pageable pageable) {
-        return categoryRepository.findAll(pageable)
-            .map(categoryMapper::toDto);
+        return findAll(pageable, false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CategoryDto> findAll(Pageable pageable, boolean includeUsage) {
+        return categoryRepository.findAll(Pageables.withIdTiebreaker(pageable))
+            .map(category -> toDto(category, includeUsage));
     }
 
     @Override
     @Transactional(readOnly = true)
     public CategoryDto findById(UUID id) {
+        return findById(id, false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryDto findById(UUID id, boolean includeUsage) {
         Category category = categoryRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
 
-        return categoryMapper.toDto(category);
+        return toDto(category, includeUsage);
+    }
+
+    private CategoryDto toDto(Category category, boolean includeUsage) {
+        // Usage comes from the in-memory counters: no query per category
+        return includeUsage
+            ? categoryMapper.toDto(category, usageCounters.usage(category.getId()))
+            : categoryMapper.toDto(category);
     }
 
     @Override
     public CategoryDto update(UUID id, CategoryUpdateDto dto) {
+        // Conditional UPDATE: version, "Others" and name uniqueness checks and write in one statement
+        int updated = categoryRepository.renameIfVersionMatches(
+            id, dto.version(), dto.name(), ZonedDateTime.now(), changeSequence.next());
+        if (updated == 0) {
+            throw updateFailure(id, dto);
+        }
+
+        Category renamed = categoryRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+        return categoryMapper.toDto(renamed);
+    }
+
+    /**
+     * Work out why a conditional rename matched no row. Only runs on the failure path,
+     * and checks in the order the API has always reported them.
+     *
+     * @param id category UUID
+     * @param dto rejected update
+     * @return exception to throw
+     */
+    private RuntimeException updateFailure(UUID id, CategoryUpdateDto dto) {
         // Find existing category
         Category category = categoryRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+            .orElse(null);
+        if (category == null) {
+            return new NotFoundException("Category not found with id: " + id);
+        }
 
         // Protect the default "Others" category from being renamed
         if ("Others".equalsIgnoreCase(category.getName())) {
-            throw new ConflictException("Cannot rename the default category 'Others'");
+            return new ConflictException("Cannot rename the default category 'Others'");
         }
 
         // Check if name already exists (excluding current category)
-        categoryRepository.findByNameIgnoreCase(dto.name())
+        boolean nameTaken = categoryRepository.findByNameIgnoreCase(dto.name())
             .filter(existing -> !Objects.equals(existing.getId(), id))
-            .ifPresent(existing -> {
-                throw new ConflictException("Category with name '" + dto.name() + "' already exists");
-            });
+            .isPresent();
+        if (nameTaken) {
+            return new ConflictException("Category with name '" + dto.name() + "' already exists");
+        }
+
+        // Version mismatch (or a concurrent write between the UPDATE and this check)
+        return new ConflictException("Category has been modified by another user");
+    }
 
-        // Verify version for optimistic locking
+    @Override
+    public CategoryDto moveCategory(UUID id, CategoryParentUpdateDto dto) {
+        UUID parentId = dto.parentId();
+        // Both rows stay locked until commit: a concurrent move of either waits for this one, so the
+        // containment check below sees it and two moves cannot close a cycle between them
+        List<UUID> locked =
+            jdbcTemplate.queryForList(LOCK_CATEGORIES, UUID.class, id, parentId != null ? parentId : id);
+        Category category = categoryRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
         if (!category.getVersion().equals(dto.version())) {
             throw new ConflictException("Category has been modified by another user");
         }
 
-        // Update category
-        category.updateName(dto.name());
-        Category updated = categoryRepository.save(category);
+        if (parentId != null) {
+            if (!locked.contains(parentId)) {
+                throw new NotFoundException("Category not found with id: " + parentId);
+            }
+            // Also covers moving a category under itself
+            if (categoryTree.contains(id, parentId)) {
+                throw new BadRequestException("Cannot move a category under itself or one of its subcategories");
+            }
+        }
+        if (Objects.equals(category.getParentId(), parentId)) {
+            return categoryMapper.toDto(category);
+        }
 
-        return categoryMapper.toDto(updated);
+        category.moveTo(parentId);
+        Category saved = categoryRepository.saveAndFlush(category);
+        categoryTree.move(id, parentId);
+        return categoryMapper.toDto(saved);
     }
 
     @Override
@@ -105,7 +207,7 @@ public class LocalCategoryService implements CategoryService {
             .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
 
         // Check if category has linked transactions
-        long transactionCount = transactionRepository.countByCategoryId(id);
+        long transactionCount = usageCounters.transactionCount(id);
 
         if (transactionCount > 0) {
             throw new CategoryInUseException(
@@ -114,7 +216,27 @@ public class LocalCategoryService implements CategoryService {
             );
         }
 
+        if (categoryRepository.existsByParentId(id)) {
+            throw new CategoryInUseException(
+                "Cannot delete category '" + category.getName() + "' because it has subcategories"
+            );
+        }
+
         // Delete category
+        categoryTree.detach(id);
         categoryRepository.delete(category);
+        syncService.recordDeletion(SyncEntityType.CATEGORY, id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Each chunk commits on its own
+    public CategoryMergeDto merge(UUID id, UUID targetId) {
+        return categoryMerger.start(id, targetId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CategoryMergeDto mergeStatus(UUID id) {
+        return categoryMerger.status(id);
     }
 }
@@ -3,15 +3,20 @@ package dev.juanvaldivia.moneytrak.categories.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.util.UUID;
+
 /**
  * DTO for creating a new category.
  * Used in POST /v1/categories requests.
  *
  * @param name category name (required, max 100 characters)
+ * @param parentId parent category UUID (optional; top-level if omitted)
  */
 public record CategoryCreationDto(
     @NotBlank(message = "Category name is required")
     @Size(max = 100, message = "Category name must not exceed 100 characters")
-    String name
+    String name,
+
+    UUID parentId
 ) {
 }
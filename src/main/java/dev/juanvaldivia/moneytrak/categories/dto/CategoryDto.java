@@ -1,5 +1,7 @@
 package dev.juanvaldivia.moneytrak.categories.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
@@ -9,17 +11,21 @@ import java.util.UUID;
  *
  * @param id category unique identifier
  * @param name category name
+ * @param parentId parent category UUID; null for a top-level category
  * @param isPredefined true if system-predefined, false if user-created
  * @param version optimistic locking version (required for PUT requests)
  * @param createdAt creation timestamp
  * @param updatedAt last update timestamp
+ * @param usage transaction count and totals; only present when requested
  */
 public record CategoryDto(
     UUID id,
     String name,
+    UUID parentId,
     Boolean isPredefined,
     Integer version,
     ZonedDateTime createdAt,
-    ZonedDateTime updatedAt
+    ZonedDateTime updatedAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL) CategoryUsageDto usage
 ) {
 }
\ No newline at end of file
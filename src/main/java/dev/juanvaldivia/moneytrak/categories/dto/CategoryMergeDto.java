@@ -0,0 +1,18 @@
+package dev.juanvaldivia.moneytrak.categories.dto;
+
+import dev.juanvaldivia.moneytrak.categories.CategoryMergeStatus;
+
+import java.util.UUID;
+
+/**
+ * DTO for the progress of a category merge.
+ *
+ * @param sourceId category being merged away, deleted once the merge completes
+ * @param targetId category receiving its transactions, rules and budgets
+ * @param status whether the merge is running, completed or failed
+ * @param movedTransactions number of transactions moved so far
+ * @param failure why the merge failed, null unless it did
+ */
+public record CategoryMergeDto(UUID sourceId, UUID targetId, CategoryMergeStatus status, long movedTransactions,
+                               String failure) {
+}
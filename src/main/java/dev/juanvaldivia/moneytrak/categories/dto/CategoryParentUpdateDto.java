@@ -0,0 +1,20 @@
+package dev.juanvaldivia.moneytrak.categories.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * DTO for moving a category under another parent.
+ * Used in PUT /v1/categories/{id}/parent requests.
+ *
+ * @param parentId new parent category UUID, or null to make the category top-level
+ * @param version current version for optimistic locking
+ */
+public record CategoryParentUpdateDto(
+    UUID parentId,
+
+    @NotNull(message = "Version is required for optimistic locking")
+    Integer version
+) {
+}
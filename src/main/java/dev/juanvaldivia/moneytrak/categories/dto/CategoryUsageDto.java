@@ -0,0 +1,14 @@
+package dev.juanvaldivia.moneytrak.categories.dto;
+
+import dev.juanvaldivia.moneytrak.transactions.dto.CurrencyTotalDto;
+
+import java.util.List;
+
+/**
+ * DTO for how much a category is used.
+ *
+ * @param transactionCount number of transactions in the category
+ * @param totals transaction total per type and currency, by type then currency
+ */
+public record CategoryUsageDto(long transactionCount, List<CurrencyTotalDto> totals) {
+}
@@ -2,6 +2,7 @@ package dev.juanvaldivia.moneytrak.categories.mapper;
 
 import dev.juanvaldivia.moneytrak.categories.Category;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryUsageDto;
 import org.springframework.stereotype.Component;
 
 /**
@@ -18,13 +19,26 @@ public class CategoryMapper {
      * @return DTO for API response
      */
     public CategoryDto toDto(Category category) {
+        return toDto(category, null);
+    }
+
+    /**
+     * Convert Category entity to CategoryDto, with its usage.
+     *
+     * @param category domain entity
+     * @param usage transaction count and totals, or null to leave them out
+     * @return DTO for API response
+     */
+    public CategoryDto toDto(Category category, CategoryUsageDto usage) {
         return new CategoryDto(
             category.getId(),
             category.getName(),
+            category.getParentId(),
             category.getIsPredefined(),
             category.getVersion(),
             category.getCreatedAt(),
-            category.getUpdatedAt()
+            category.getUpdatedAt(),
+            usage
         );
     }
 }
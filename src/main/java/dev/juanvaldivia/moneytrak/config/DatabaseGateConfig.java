@@ -0,0 +1,52 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link GatedDataSource} so that, with request handling
+ * on virtual threads ({@code spring.threads.virtual.enabled}), thousands of parked requests queue
+ * fairly for a permit instead of piling up inside the pool and failing with acquire timeouts.
+ *
+ * <p>The {@code moneytrak.database-gate} properties are read at runtime rather than through a
+ * condition, because Spring AOT fixes conditions at build time.
+ */
+@Configuration
+public class DatabaseGateConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseGatePostProcessor(Environment environment,
+                                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof GatedDataSource) {
+                    return bean;
+                }
+                DatabaseGateProperties properties = Binder.get(environment)
+                    .bindOrCreate("moneytrak.database-gate", DatabaseGateProperties.class);
+                if (!properties.enabled()) {
+                    return bean;
+                }
+                int permits = properties.permits() > 0 ? properties.permits() : poolSize(dataSource);
+                return new GatedDataSource(dataSource, permits, properties.acquireTimeout(), meterRegistry.getObject());
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("moneytrak.database-gate.permits must be set for "
+            + dataSource.getClass().getName());
+    }
+}
@@ -0,0 +1,19 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Fair admission gate in front of the JDBC connection pool.
+ *
+ * @param enabled whether connection requests pass through the gate
+ * @param permits concurrent connection holders allowed; 0 uses the Hikari maximum pool size
+ * @param acquireTimeout how long a request may queue for a permit before failing
+ */
+public record DatabaseGateProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0") int permits,
+    @DefaultValue("30s") Duration acquireTimeout
+) {
+}
@@ -0,0 +1,27 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Runs Flyway migrations through a strategy that honours {@code spring.flyway.enabled} at runtime.
+ *
+ * <p>With Spring AOT processing (the {@code aot} Maven profile) auto-configuration conditions are
+ * evaluated at build time, so the Flyway beans exist whatever the runtime property says. The
+ * Dockerfile training run that records the JDK AOT cache disables migrations this way and never
+ * opens a database connection.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.getProperty("spring.flyway.enabled", Boolean.class, true)) {
+                flyway.migrate();
+            }
+        };
+    }
+}
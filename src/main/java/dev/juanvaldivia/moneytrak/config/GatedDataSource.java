@@ -0,0 +1,135 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that hands out at most {@code permits} connections at a time, queueing callers on a
+ * fair {@link Semaphore}. A permit is taken before the pool is asked for a connection and returned
+ * when that connection is closed.
+ *
+ * <p>Metrics: {@code moneytrak.db.gate.wait} (time spent queueing for a permit),
+ * {@code moneytrak.db.gate.waiting} and {@code moneytrak.db.gate.available} gauges, and
+ * {@code moneytrak.db.gate.timeouts}.
+ */
+class GatedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    GatedDataSource(DataSource target, int permits, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+
+        this.waitTimer = Timer.builder("moneytrak.db.gate.wait")
+            .description("Time spent waiting for a database permit")
+            .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("moneytrak.db.gate.timeouts")
+            .description("Connection requests that gave up waiting for a database permit")
+            .register(meterRegistry);
+        Gauge.builder("moneytrak.db.gate.waiting", this.permits, Semaphore::getQueueLength)
+            .description("Threads queued for a database permit")
+            .register(meterRegistry);
+        Gauge.builder("moneytrak.db.gate.available", this.permits, Semaphore::availablePermits)
+            .description("Database permits not currently held")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return the number of connections that may be held concurrently
+     */
+    int maxPermits() {
+        return maxPermits;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            timeoutCounter.increment();
+            throw new SQLTransientConnectionException("Timed out after "
+                + Duration.ofNanos(acquireTimeoutNanos).toMillis() + " ms waiting for a database permit");
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals" -> {
+                        return proxy == args[0];
+                    }
+                    case "hashCode" -> {
+                        return System.identityHashCode(proxy);
+                    }
+                    default -> {
+                    }
+                }
+                if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                    try {
+                        connection.close();
+                    } finally {
+                        // close() may be called more than once; only the first returns the permit
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
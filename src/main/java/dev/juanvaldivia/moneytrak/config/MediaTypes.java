@@ -0,0 +1,15 @@
+package dev.juanvaldivia.moneytrak.config;
+
+/**
+ * Media types used by the API that Spring does not define.
+ */
+public final class MediaTypes {
+
+    /**
+     * JSON Merge Patch (RFC 7396), accepted by the PATCH endpoints.
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private MediaTypes() {
+    }
+}
@@ -0,0 +1,12 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping tasks (e.g. expiring authentication failure counters).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
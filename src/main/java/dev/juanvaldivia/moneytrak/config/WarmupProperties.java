@@ -0,0 +1,19 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Warm-up phase executed after startup and before the readiness probe reports ACCEPTING_TRAFFIC.
+ *
+ * @param enabled whether the warm-up runs at all
+ * @param iterations how many times each read path is exercised
+ * @param pageSize page size used for paged read paths (matches the API defaults)
+ */
+@ConfigurationProperties(prefix = "moneytrak.warmup")
+public record WarmupProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("20") int iterations,
+    @DefaultValue("20") int pageSize
+) {
+}
@@ -0,0 +1,174 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import dev.juanvaldivia.moneytrak.accounts.AccountService;
+import dev.juanvaldivia.moneytrak.categories.CategoryService;
+import dev.juanvaldivia.moneytrak.readings.ReadingService;
+import dev.juanvaldivia.moneytrak.transactions.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Exercises the main read paths and their JSON serialization against the real database before
+ * the application reports itself ready.
+ *
+ * <p>Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC} only after all runners complete,
+ * so {@code /actuator/health/readiness} stays DOWN while this runs and the platform health check
+ * keeps traffic away until the JIT, Hibernate query plan cache and connection pool are warm.
+ *
+ * <p>Per-step timings are logged, published as {@code moneytrak.warmup.step} timers and exposed
+ * under {@code warmup} in {@code /actuator/info}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupRunner implements ApplicationRunner, InfoContributor {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    /**
+     * Timing of one warm-up step.
+     *
+     * @param step read path name
+     * @param iterations successful iterations
+     * @param first duration of the first (cold) iteration
+     * @param last duration of the last (warm) iteration
+     * @param total duration of all iterations
+     * @param error failure message if the step was aborted, null otherwise
+     */
+    public record StepTiming(String step, int iterations, Duration first, Duration last, Duration total, String error) {
+    }
+
+    private final WarmupProperties properties;
+    private final TransactionService transactionService;
+    private final ReadingService readingService;
+    private final AccountService accountService;
+    private final CategoryService categoryService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private volatile List<StepTiming> timings = List.of();
+    private volatile Duration totalDuration = Duration.ZERO;
+
+    public WarmupRunner(
+        WarmupProperties properties,
+        TransactionService transactionService,
+        ReadingService readingService,
+        AccountService accountService,
+        CategoryService categoryService,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.transactionService = transactionService;
+        this.readingService = readingService;
+        this.accountService = accountService;
+        this.categoryService = categoryService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            log.info("Warm-up disabled, skipping...");
+            return;
+        }
+
+        log.info("Warming up read paths ({} iterations each)...", properties.iterations());
+        long start = System.nanoTime();
+
+        PageRequest transactionsPage = PageRequest.of(0, properties.pageSize(), Sort.by(Sort.Direction.DESC, "date"));
+        PageRequest categoriesPage = PageRequest.of(0, properties.pageSize(), Sort.by(Sort.Direction.ASC, "name"));
+
+        List<StepTiming> results = new ArrayList<>();
+        results.add(step("transactions.list", () -> transactionService.listTransactions(null, null, transactionsPage)));
+        results.add(step("transactions.summary", () -> List.of(
+            transactionService.calculateExpenseTotal(), transactionService.calculateIncomeTotal())));
+        results.add(step("readings.latest", readingService::getLatestReadings));
+        results.add(step("accounts.list", accountService::listAccounts));
+        results.add(step("categories.list", () -> categoryService.findAll(categoriesPage)));
+
+        timings = List.copyOf(results);
+        totalDuration = Duration.ofNanos(System.nanoTime() - start);
+
+        log.info("Warm-up completed in {} ms", totalDuration.toMillis());
+        for (StepTiming timing : timings) {
+            log.info("Warm-up step {}: iterations={}, first={} ms, last={} ms, total={} ms{}",
+                timing.step(), timing.iterations(), timing.first().toMillis(), timing.last().toMillis(),
+                timing.total().toMillis(), timing.error() != null ? ", error=" + timing.error() : "");
+        }
+    }
+
+    /**
+     * @return timings of the last warm-up run, in execution order
+     */
+    public List<StepTiming> timings() {
+        return timings;
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> steps = new LinkedHashMap<>();
+        for (StepTiming timing : timings) {
+            steps.put(timing.step(), Map.of(
+                "iterations", timing.iterations(),
+                "firstMillis", timing.first().toMillis(),
+                "lastMillis", timing.last().toMillis(),
+                "totalMillis", timing.total().toMillis()
+            ));
+        }
+        builder.withDetail("warmup", Map.of("durationMillis", totalDuration.toMillis(), "steps", steps));
+    }
+
+    private StepTiming step(String name, Supplier<Object> readPath) {
+        Timer timer = Timer.builder("moneytrak.warmup.step")
+            .description("Warm-up iteration of a read path including JSON serialization")
+            .tag("step", name)
+            .register(meterRegistry);
+
+        Duration first = Duration.ZERO;
+        Duration last = Duration.ZERO;
+        long total = 0;
+        int completed = 0;
+        try {
+            for (int i = 0; i < properties.iterations(); i++) {
+                long start = System.nanoTime();
+                objectMapper.writeValueAsBytes(readPath.get());
+                long elapsed = System.nanoTime() - start;
+
+                timer.record(Duration.ofNanos(elapsed));
+                total += elapsed;
+                last = Duration.ofNanos(elapsed);
+                if (i == 0) {
+                    first = last;
+                }
+                completed++;
+            }
+            return new StepTiming(name, completed, first, last, Duration.ofNanos(total), null);
+        } catch (RuntimeException e) {
+            // A failed warm-up must not keep the instance out of rotation forever
+            log.warn("Warm-up step {} failed after {} iteration(s): {}", name, completed, e.getMessage());
+            return new StepTiming(name, completed, first, last, Duration.ofNanos(total), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.juanvaldivia.moneytrak.dashboard;
+
+import dev.juanvaldivia.moneytrak.dashboard.dto.DashboardDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the home screen dashboard.
+ * Replaces the separate accounts, latest readings, summary and recent transaction calls with one request.
+ * Versioned under /v1/dashboard.
+ */
+@Tag(name = "Dashboard", description = "Composite home screen endpoint")
+@RestController
+@RequestMapping("/v1/dashboard")
+public class DashboardController {
+
+    private final DashboardService service;
+
+    public DashboardController(DashboardService service) {
+        this.service = service;
+    }
+
+    /**
+     * Get the composite dashboard document.
+     * GET /v1/dashboard
+     *
+     * Sections load concurrently under a shared deadline (moneytrak.dashboard.timeout).
+     * Optional sections that miss the deadline are null and listed in unavailableSections.
+     *
+     * @return 200 OK with the dashboard, possibly partial
+     * @throws dev.juanvaldivia.moneytrak.exception.ServiceUnavailableException if a required section
+     *         did not complete in time (503)
+     */
+    @GetMapping
+    public ResponseEntity<DashboardDto> getDashboard() {
+        return ResponseEntity.ok(service.getDashboard());
+    }
+}
@@ -0,0 +1,19 @@
+package dev.juanvaldivia.moneytrak.dashboard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Dashboard composition settings.
+ *
+ * @param timeout deadline shared by all sections of one dashboard request
+ * @param recentTransactions number of most recent transactions included
+ */
+@ConfigurationProperties(prefix = "moneytrak.dashboard")
+public record DashboardProperties(
+    @DefaultValue("2s") Duration timeout,
+    @DefaultValue("10") int recentTransactions
+) {
+}
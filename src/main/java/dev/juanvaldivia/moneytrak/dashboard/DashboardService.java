@@ -0,0 +1,19 @@
+package dev.juanvaldivia.moneytrak.dashboard;
+
+import dev.juanvaldivia.moneytrak.dashboard.dto.DashboardDto;
+
+/**
+ * Service interface for the composite home screen document.
+ */
+public interface DashboardService {
+
+    /**
+     * Load all dashboard sections concurrently under a shared deadline.
+     * Optional sections that fail or miss the deadline are reported as unavailable.
+     *
+     * @return composite dashboard document
+     * @throws dev.juanvaldivia.moneytrak.exception.ServiceUnavailableException if a required section
+     *         did not complete before the deadline
+     */
+    DashboardDto getDashboard();
+}
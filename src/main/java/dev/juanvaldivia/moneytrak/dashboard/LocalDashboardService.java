@@ -0,0 +1,99 @@
+package dev.juanvaldivia.moneytrak.dashboard;
+
+import dev.juanvaldivia.moneytrak.accounts.AccountService;
+import dev.juanvaldivia.moneytrak.accounts.dto.AccountDto;
+import dev.juanvaldivia.moneytrak.dashboard.dto.DashboardDto;
+import dev.juanvaldivia.moneytrak.exception.ServiceUnavailableException;
+import dev.juanvaldivia.moneytrak.readings.ReadingService;
+import dev.juanvaldivia.moneytrak.readings.dto.ReadingDto;
+import dev.juanvaldivia.moneytrak.transactions.TransactionService;
+import dev.juanvaldivia.moneytrak.transactions.dto.SummaryDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Local implementation of DashboardService.
+ * Each section calls its own service on a separate virtual thread (and therefore its own read-only
+ * transaction); accounts and both totals are required, latest readings and recent transactions optional.
+ */
+@Service
+@EnableConfigurationProperties(DashboardProperties.class)
+public class LocalDashboardService implements DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalDashboardService.class);
+
+    private final AccountService accountService;
+    private final ReadingService readingService;
+    private final TransactionService transactionService;
+    private final DashboardProperties properties;
+
+    public LocalDashboardService(
+        AccountService accountService,
+        ReadingService readingService,
+        TransactionService transactionService,
+        DashboardProperties properties
+    ) {
+        this.accountService = accountService;
+        this.readingService = readingService;
+        this.transactionService = transactionService;
+        this.properties = properties;
+    }
+
+    @Override
+    public DashboardDto getDashboard() {
+        PageRequest recent = PageRequest.of(0, properties.recentTransactions(), Sort.by(Sort.Direction.DESC, "date"));
+
+        try (SectionScope scope = new SectionScope(properties.timeout())) {
+            SectionScope.Section<List<AccountDto>> accounts =
+                scope.fork("accounts", true, accountService::listAccounts);
+            SectionScope.Section<SummaryDto> expenses =
+                scope.fork("expenses", true, transactionService::calculateExpenseTotal);
+            SectionScope.Section<SummaryDto> income =
+                scope.fork("income", true, transactionService::calculateIncomeTotal);
+            SectionScope.Section<List<ReadingDto>> latestReadings =
+                scope.fork("latestReadings", false, readingService::getLatestReadings);
+            SectionScope.Section<List<TransactionDto>> recentTransactions =
+                scope.fork("recentTransactions", false,
+                    () -> transactionService.listTransactions(null, null, recent).getContent());
+
+            scope.join();
+
+            List<String> unavailable = Stream.of(latestReadings, recentTransactions)
+                .filter(section -> section.state() != SectionScope.State.SUCCESS)
+                .map(SectionScope.Section::name)
+                .toList();
+            if (!unavailable.isEmpty()) {
+                log.warn("Dashboard returned without optional sections {} (timeout {} ms)",
+                    unavailable, properties.timeout().toMillis());
+            }
+
+            return new DashboardDto(
+                accounts.resultOrNull(),
+                expenses.resultOrNull(),
+                income.resultOrNull(),
+                latestReadings.resultOrNull(),
+                recentTransactions.resultOrNull(),
+                unavailable
+            );
+        } catch (SectionScope.SectionFailedException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() != null) {
+                throw new IllegalStateException(e.getMessage(), e.getCause());
+            }
+            throw new ServiceUnavailableException(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Dashboard request was interrupted");
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dev.juanvaldivia.moneytrak.dashboard;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Structured fan-out of dashboard sections: one virtual thread per section, a shared deadline,
+ * and no thread outliving the try-with-resources block that opened the scope.
+ *
+ * <p>Follows the {@code StructuredTaskScope} model: the first failing required section interrupts
+ * its siblings and fails the scope; sections still running at the deadline are interrupted, which
+ * fails the scope if one of them is required and leaves optional ones unavailable.
+ */
+final class SectionScope implements AutoCloseable {
+
+    /**
+     * Outcome of a forked section.
+     */
+    enum State {
+        RUNNING, SUCCESS, FAILED, CANCELLED
+    }
+
+    /**
+     * A forked dashboard section.
+     *
+     * @param <T> section result type
+     */
+    static final class Section<T> {
+
+        private final String name;
+        private final boolean required;
+        private final AtomicReference<State> state = new AtomicReference<>(State.RUNNING);
+        private volatile T result;
+        private volatile Throwable failure;
+
+        private Section(String name, boolean required) {
+            this.name = name;
+            this.required = required;
+        }
+
+        String name() {
+            return name;
+        }
+
+        State state() {
+            return state.get();
+        }
+
+        /**
+         * @return the section result, or null if it did not complete successfully
+         */
+        T resultOrNull() {
+            return state.get() == State.SUCCESS ? result : null;
+        }
+
+        Throwable failure() {
+            return failure;
+        }
+    }
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Section<?>> sections = new ArrayList<>();
+    private final List<Callable<Void>> pending = new ArrayList<>();
+    private final AtomicReference<Section<?>> firstRequiredFailure = new AtomicReference<>();
+    private final long deadlineNanos;
+    private CountDownLatch remaining;
+
+    SectionScope(Duration timeout) {
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Register a section; sections start together when {@link #join()} is called.
+     */
+    <T> Section<T> fork(String name, boolean required, Callable<T> task) {
+        Section<T> section = new Section<>(name, required);
+        sections.add(section);
+        pending.add(() -> {
+            try {
+                T result = task.call();
+                section.result = result;
+                section.state.compareAndSet(State.RUNNING, State.SUCCESS);
+            } catch (Throwable e) {
+                section.failure = e;
+                if (section.state.compareAndSet(State.RUNNING, State.FAILED)
+                    && section.required && firstRequiredFailure.compareAndSet(null, section)) {
+                    cancelRunning();
+                }
+            } finally {
+                remaining.countDown();
+            }
+            return null;
+        });
+        return section;
+    }
+
+    /**
+     * Run all forked sections and wait until they complete, a required one fails, or the deadline passes.
+     *
+     * @throws SectionFailedException if a required section failed or missed the deadline
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    void join() throws InterruptedException {
+        remaining = new CountDownLatch(pending.size());
+        for (Callable<Void> task : pending) {
+            try {
+                executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                // A required section already failed and shut the scope down
+                remaining.countDown();
+            }
+        }
+
+        long timeLeft = deadlineNanos - System.nanoTime();
+        if (!remaining.await(Math.max(timeLeft, 0), TimeUnit.NANOSECONDS)) {
+            cancelRunning();
+        }
+
+        Section<?> failed = firstRequiredFailure.get();
+        if (failed != null) {
+            throw new SectionFailedException(failed.name(), failed.failure());
+        }
+        for (Section<?> section : sections) {
+            if (section.required && section.state() != State.SUCCESS) {
+                throw new SectionFailedException(section.name(), null);
+            }
+        }
+    }
+
+    /**
+     * Mark every unfinished section as cancelled, so a late result is ignored, and interrupt its thread.
+     */
+    private void cancelRunning() {
+        sections.forEach(section -> section.state.compareAndSet(State.RUNNING, State.CANCELLED));
+        executor.shutdownNow();
+    }
+
+    /**
+     * Interrupt anything still running and wait for every section thread to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        executor.close();
+    }
+
+    /**
+     * A required section failed (cause set) or did not finish before the deadline (cause null).
+     */
+    static final class SectionFailedException extends RuntimeException {
+
+        private final String section;
+
+        SectionFailedException(String section, Throwable cause) {
+            super(cause == null
+                ? "Dashboard section '" + section + "' did not complete in time"
+                : "Dashboard section '" + section + "' failed", cause);
+            this.section = section;
+        }
+
+        String section() {
+            return section;
+        }
+    }
+}
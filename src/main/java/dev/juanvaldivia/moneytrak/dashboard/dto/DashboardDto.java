@@ -0,0 +1,30 @@
+package dev.juanvaldivia.moneytrak.dashboard.dto;
+
+import dev.juanvaldivia.moneytrak.accounts.dto.AccountDto;
+import dev.juanvaldivia.moneytrak.readings.dto.ReadingDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.SummaryDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
+
+import java.util.List;
+
+/**
+ * DTO for the home screen: everything the app previously fetched with five separate calls.
+ * Optional sections are null when they did not complete in time and are then listed in
+ * {@code unavailableSections}.
+ *
+ * @param accounts all accounts (required)
+ * @param expenses expense total (required)
+ * @param income income total (required)
+ * @param latestReadings latest reading per account (optional)
+ * @param recentTransactions most recent transactions by date (optional)
+ * @param unavailableSections names of optional sections missing from this response
+ */
+public record DashboardDto(
+    List<AccountDto> accounts,
+    SummaryDto expenses,
+    SummaryDto income,
+    List<ReadingDto> latestReadings,
+    List<TransactionDto> recentTransactions,
+    List<String> unavailableSections
+) {
+}
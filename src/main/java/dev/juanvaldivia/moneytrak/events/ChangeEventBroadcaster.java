@@ -0,0 +1,204 @@
+package dev.juanvaldivia.moneytrak.events;
+
+import dev.juanvaldivia.moneytrak.budgets.BudgetThresholdCrossedEvent;
+import dev.juanvaldivia.moneytrak.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans out committed {@link EntityChangedEvent}s ({@code change} events), {@link EntitiesChangedEvent}s
+ * ({@code changes} events) and budget alerts ({@code budget} events) to Server-Sent Events subscribers.
+ *
+ * <p>Producers never block: each subscriber has a bounded queue drained by its own virtual thread,
+ * and an event is only offered to it. A subscriber whose queue is full is dropped (its stream is
+ * closed and the client reconnects, catching up through {@code /v1/sync}).
+ *
+ * <p>Metrics: {@code moneytrak.events.subscribers} gauge, {@code moneytrak.events.published} and
+ * {@code moneytrak.events.dropped} counters.
+ */
+@Component
+@EnableConfigurationProperties(EventsProperties.class)
+public class ChangeEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeEventBroadcaster.class);
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final EventsProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+
+    public ChangeEventBroadcaster(EventsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.publishedCounter = Counter.builder("moneytrak.events.published")
+            .description("Change notifications fanned out after commit")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("moneytrak.events.dropped")
+            .description("Subscribers dropped because their buffer was full")
+            .register(meterRegistry);
+        Gauge.builder("moneytrak.events.subscribers", subscribers, Set::size)
+            .description("Open /v1/events subscriptions")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Open a new subscription.
+     *
+     * @return emitter streaming change notifications
+     * @throws ServiceUnavailableException if the subscriber limit is reached
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= properties.maxSubscribers()) {
+            throw new ServiceUnavailableException("Too many event subscribers; poll /v1/sync instead");
+        }
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(properties.bufferSize()));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscriber.start();
+        return emitter;
+    }
+
+    /**
+     * Offer a committed change to every subscriber without blocking.
+     */
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        publishedCounter.increment();
+        broadcast(event);
+    }
+
+    /**
+     * Offer a committed set-based change to every subscriber as a single message.
+     */
+    @TransactionalEventListener
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        publishedCounter.increment();
+        broadcast(event);
+    }
+
+    /**
+     * Offer a budget alert to every subscriber. Already published after commit, so not deferred again.
+     */
+    @EventListener
+    public void onBudgetThresholdCrossed(BudgetThresholdCrossedEvent event) {
+        publishedCounter.increment();
+        broadcast(event);
+    }
+
+    /**
+     * Keep idle connections alive and detect clients that went away.
+     */
+    @Scheduled(fixedRateString = "${moneytrak.events.heartbeat-interval:15s}")
+    public void heartbeat() {
+        broadcast(HEARTBEAT);
+    }
+
+    /**
+     * @return number of open subscriptions
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void closeAll() {
+        subscribers.forEach(subscriber -> subscriber.close(null));
+    }
+
+    private void broadcast(Object message) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(message)) {
+                droppedCounter.increment();
+                log.debug("Dropping slow event subscriber (buffer of {} full)", properties.bufferSize());
+                subscriber.close(new IOException("Subscriber buffer full"));
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.stop();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Thread writer;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        void start() {
+            writer = Thread.ofVirtual().name("sse-subscriber").start(this::drain);
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    Object message = queue.take();
+                    if (message == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (message instanceof BudgetThresholdCrossedEvent) {
+                        emitter.send(SseEmitter.event().name("budget").data(message, MediaType.APPLICATION_JSON));
+                    } else if (message instanceof EntitiesChangedEvent) {
+                        emitter.send(SseEmitter.event().name("changes").data(message, MediaType.APPLICATION_JSON));
+                    } else {
+                        emitter.send(SseEmitter.event().name("change").data(message, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // Client disconnected or the emitter already completed
+                close(e);
+            }
+        }
+
+        void close(Throwable error) {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+                if (error != null) {
+                    emitter.completeWithError(error);
+                } else {
+                    emitter.complete();
+                }
+            }
+        }
+
+        void stop() {
+            closed.set(true);
+            if (writer != null) {
+                writer.interrupt();
+            }
+        }
+    }
+}
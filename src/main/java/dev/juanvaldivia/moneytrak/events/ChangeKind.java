@@ -0,0 +1,10 @@
+package dev.juanvaldivia.moneytrak.events;
+
+/**
+ * Kind of write reported in an {@link EntityChangedEvent}.
+ */
+public enum ChangeKind {
+    CREATED,
+    UPDATED,
+    DELETED
+}
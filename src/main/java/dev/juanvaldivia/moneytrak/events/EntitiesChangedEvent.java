@@ -0,0 +1,26 @@
+package dev.juanvaldivia.moneytrak.events;
+
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk counterpart of {@link EntityChangedEvent}, for set-based writes: one event per statement instead
+ * of one per row, so that listeners re-read the rows with one query and subscribers get one
+ * {@code changes} message. Versions are left out; clients fetch the entities or call {@code /v1/sync}.
+ *
+ * @param type entity type
+ * @param ids ids of the written entities
+ * @param kind kind of write, the same for all of them
+ */
+public record EntitiesChangedEvent(SyncEntityType type, List<UUID> ids, ChangeKind kind) {
+
+    public EntitiesChangedEvent {
+        ids = List.copyOf(ids);
+    }
+
+    public static EntitiesChangedEvent updated(SyncEntityType type, List<UUID> ids) {
+        return new EntitiesChangedEvent(type, ids, ChangeKind.UPDATED);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.juanvaldivia.moneytrak.events;
+
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+
+import java.util.UUID;
+
+/**
+ * Lightweight change notification published by services inside their write transaction and pushed
+ * to {@code /v1/events} subscribers once that transaction commits. Clients fetch the entity
+ * (or call {@code /v1/sync}) to get its state.
+ *
+ * @param type entity type
+ * @param id entity id
+ * @param version entity version after the write (null for deletions)
+ * @param kind kind of write
+ */
+public record EntityChangedEvent(SyncEntityType type, UUID id, Integer version, ChangeKind kind) {
+
+    public static EntityChangedEvent created(SyncEntityType type, UUID id, Integer version) {
+        return new EntityChangedEvent(type, id, version, ChangeKind.CREATED);
+    }
+
+    public static EntityChangedEvent updated(SyncEntityType type, UUID id, Integer version) {
+        return new EntityChangedEvent(type, id, version, ChangeKind.UPDATED);
+    }
+
+    public static EntityChangedEvent deleted(SyncEntityType type, UUID id) {
+        return new EntityChangedEvent(type, id, null, ChangeKind.DELETED);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.juanvaldivia.moneytrak.events;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for Server-Sent Events change notifications.
+ * Replaces polling of /v1/readings/latest and the transaction list.
+ * Versioned under /v1/events.
+ */
+@Tag(name = "Events", description = "Server-Sent Events change notifications")
+@RestController
+@RequestMapping("/v1/events")
+public class EventsController {
+
+    private final ChangeEventBroadcaster broadcaster;
+
+    public EventsController(ChangeEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Subscribe to change notifications.
+     * GET /v1/events (Accept: text/event-stream)
+     *
+     * Each committed create, update or delete of a transaction, reading or account is sent as a
+     * "change" event: {"type":"TRANSACTION","id":"...","version":1,"kind":"UPDATED"}.
+     * Slow subscribers are disconnected; clients reconnect and catch up with /v1/sync.
+     *
+     * @return event stream
+     * @throws dev.juanvaldivia.moneytrak.exception.ServiceUnavailableException if the subscriber limit is reached (503)
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return broadcaster.subscribe();
+    }
+}
@@ -0,0 +1,23 @@
+package dev.juanvaldivia.moneytrak.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Server-Sent Events push settings.
+ *
+ * @param bufferSize notifications queued per subscriber; a subscriber whose buffer is full is dropped
+ * @param maxSubscribers concurrent subscriptions accepted before new ones get 503
+ * @param timeout how long a subscription stays open before the client has to reconnect
+ * @param heartbeatInterval how often an SSE comment is sent to detect dead connections
+ */
+@ConfigurationProperties(prefix = "moneytrak.events")
+public record EventsProperties(
+    @DefaultValue("64") int bufferSize,
+    @DefaultValue("500") int maxSubscribers,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("15s") Duration heartbeatInterval
+) {
+}
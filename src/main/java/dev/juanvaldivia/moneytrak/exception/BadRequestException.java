@@ -0,0 +1,7 @@
+package dev.juanvaldivia.moneytrak.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -11,7 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Global exception handler for all REST endpoints (transactions, categories, accounts, readings).
+ * Global exception handler for all REST endpoints (transactions, categories, accounts, readings, dashboard, sync).
  * Provides consistent error response format across all API endpoints.
  *
  * <p>Error responses follow the format: {status, error, message, details[]}
@@ -21,7 +21,16 @@ import java.util.List;
     "dev.juanvaldivia.moneytrak.transactions",
     "dev.juanvaldivia.moneytrak.categories",
     "dev.juanvaldivia.moneytrak.accounts",
-    "dev.juanvaldivia.moneytrak.readings"
+    "dev.juanvaldivia.moneytrak.readings",
+    "dev.juanvaldivia.moneytrak.dashboard",
+    "dev.juanvaldivia.moneytrak.sync",
+    "dev.juanvaldivia.moneytrak.events",
+    "dev.juanvaldivia.moneytrak.rules",
+    "dev.juanvaldivia.moneytrak.merchants",
+    "dev.juanvaldivia.moneytrak.imports",
+    "dev.juanvaldivia.moneytrak.recurring",
+    "dev.juanvaldivia.moneytrak.forecast",
+    "dev.juanvaldivia.moneytrak.budgets"
 })
 public class GlobalExceptionHandler {
 
@@ -42,6 +51,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponseDto> handleBadRequestException(BadRequestException ex) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.BAD_REQUEST.value(),
+            "BadRequest",
+            ex.getMessage(),
+            List.of()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponseDto> handleNotFoundException(NotFoundException ex) {
         ErrorResponseDto errorResponse = new ErrorResponseDto(
@@ -71,6 +92,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(GoneException.class)
+    public ResponseEntity<ErrorResponseDto> handleGoneException(GoneException ex) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.GONE.value(),
+            "Gone",
+            ex.getMessage(),
+            List.of()
+        );
+
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "ServiceUnavailable",
+            ex.getMessage(),
+            List.of()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleGenericException(Exception ex) {
         ErrorResponseDto errorResponse = new ErrorResponseDto(
@@ -0,0 +1,7 @@
+package dev.juanvaldivia.moneytrak.exception;
+
+public class GoneException extends RuntimeException {
+    public GoneException(String message) {
+        super(message);
+    }
+}
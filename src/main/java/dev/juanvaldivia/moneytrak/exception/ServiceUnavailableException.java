@@ -0,0 +1,7 @@
+package dev.juanvaldivia.moneytrak.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,268 @@
+package dev.juanvaldivia.moneytrak.forecast;
+
+import dev.juanvaldivia.moneytrak.events.ChangeKind;
+import dev.juanvaldivia.moneytrak.events.EntitiesChangedEvent;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
+import dev.juanvaldivia.moneytrak.recurring.Cadence;
+import dev.juanvaldivia.moneytrak.recurring.RecurringDetectionProperties;
+import dev.juanvaldivia.moneytrak.recurring.RecurringSeriesDetector;
+import dev.juanvaldivia.moneytrak.recurring.RecurringSeriesDetector.SeriesKey;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.transactions.TransactionStability;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory state of every FIXED series: its transactions, grouped like {@link RecurringSeriesDetector}
+ * groups them, and a {@link Projection} of when and how much it is due next.
+ *
+ * <p>A write only recomputes the projections of the series it leaves and joins, from their last
+ * {@link RecurringDetectionProperties#history()} occurrences, so the forecast never scans history.
+ * Every change bumps {@link #generation()}, which lets readers keep results until the index changes.</p>
+ *
+ * <p>Loaded before the application reports ready and maintained from committed {@link EntityChangedEvent}s,
+ * like {@link dev.juanvaldivia.moneytrak.transactions.DuplicateTransactionIndex}. Written transactions are
+ * re-read whatever their stability, with their version, so that a re-read older than what the index holds
+ * (two commits whose listeners ran in the opposite order) is dropped.</p>
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10) // Before WarmupRunner
+@EnableConfigurationProperties(RecurringDetectionProperties.class)
+public class FixedSeriesIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(FixedSeriesIndex.class);
+
+    private static final String SELECT_COLUMNS =
+        "SELECT id, category_id, currency, transaction_type, " + RecurringSeriesDetector.MERCHANT_KEY +
+        " AS merchant_key, amount, date, transaction_stability, version FROM transactions";
+    private static final String SELECT_FIXED = SELECT_COLUMNS + " WHERE transaction_stability = 'FIXED'";
+    private static final Comparator<Occurrence> CHRONOLOGICAL =
+        Comparator.comparing(Occurrence::date).thenComparing(Occurrence::id);
+
+    /**
+     * One transaction as read from the database; only FIXED ones are held.
+     */
+    record Occurrence(UUID id, SeriesKey key, LocalDate date, BigDecimal amount, boolean fixed, int version) {
+    }
+
+    /**
+     * When and how much a FIXED series is due next.
+     *
+     * @param key grouping key
+     * @param cadence repetition period; MONTHLY for a series with a single transaction so far
+     * @param lastDate date of the latest transaction
+     * @param amount amount of the latest transaction
+     */
+    public record Projection(SeriesKey key, Cadence cadence, LocalDate lastDate, BigDecimal amount) {
+
+        /**
+         * @return the date of the {@code n}th occurrence after the latest one
+         */
+        public LocalDate occurrence(int n) {
+            return cadence.plus(lastDate, n);
+        }
+    }
+
+    /**
+     * Projections as of one generation of the index.
+     */
+    public record Snapshot(long generation, List<Projection> projections) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final RecurringDetectionProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Occurrence> occurrences = new HashMap<>();
+    private final Map<SeriesKey, NavigableSet<Occurrence>> series = new HashMap<>();
+    private final Map<SeriesKey, Projection> projections = new HashMap<>();
+    private volatile long generation;
+
+    public FixedSeriesIndex(JdbcTemplate jdbcTemplate, RecurringDetectionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<Occurrence> loaded = jdbcTemplate.query(SELECT_FIXED, (rs, i) -> toOccurrence(rs));
+        lock.writeLock().lock();
+        try {
+            loaded.forEach(this::put);
+            series.keySet().forEach(this::project);
+            generation++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} FIXED transactions in {} series for forecasting in {} ms",
+            loaded.size(), projections.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Apply a committed transaction write. Other entity types are ignored.
+     */
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type() != SyncEntityType.TRANSACTION) {
+            return;
+        }
+        List<Occurrence> current = event.kind() == ChangeKind.DELETED ? List.of()
+            : jdbcTemplate.query(SELECT_COLUMNS + " WHERE id = ?", (rs, i) -> toOccurrence(rs), event.id());
+        apply(event.id(), current.isEmpty() ? null : current.getFirst());
+    }
+
+    /**
+     * Apply a committed set-based transaction write, re-reading its rows with one query.
+     */
+    @TransactionalEventListener
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        if (event.type() != SyncEntityType.TRANSACTION) {
+            return;
+        }
+        Map<UUID, Occurrence> current = new HashMap<>();
+        if (event.kind() != ChangeKind.DELETED) {
+            namedJdbcTemplate.query(SELECT_COLUMNS + " WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", event.ids()), rs -> {
+                    Occurrence occurrence = toOccurrence(rs);
+                    current.put(occurrence.id(), occurrence);
+                });
+        }
+        event.ids().forEach(id -> apply(id, current.get(id)));
+    }
+
+    /**
+     * Replace what a transaction contributes to the index, unless a newer version of it is already held.
+     *
+     * @param id transaction UUID
+     * @param occurrence its current values, or null if it no longer exists
+     */
+    void apply(UUID id, Occurrence occurrence) {
+        lock.writeLock().lock();
+        try {
+            Occurrence held = occurrences.get(id);
+            if (held != null && occurrence != null && occurrence.version() < held.version()) {
+                return; // Read before a newer write that has already been applied
+            }
+            Occurrence previous = remove(id);
+            Occurrence current = occurrence != null && occurrence.fixed() ? occurrence : null;
+            if (current != null) {
+                put(current);
+                project(current.key());
+            }
+            if (previous != null && (current == null || !previous.key().equals(current.key()))) {
+                project(previous.key());
+            }
+            if (previous != null || current != null) {
+                generation++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return current projections, one per series with a recognizable cadence
+     */
+    public Snapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            return new Snapshot(generation, List.copyOf(projections.values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return counter incremented by every change to the index
+     */
+    public long generation() {
+        return generation;
+    }
+
+    private void put(Occurrence occurrence) {
+        occurrences.put(occurrence.id(), occurrence);
+        series.computeIfAbsent(occurrence.key(), key -> new TreeSet<>(CHRONOLOGICAL)).add(occurrence);
+    }
+
+    private Occurrence remove(UUID id) {
+        Occurrence previous = occurrences.remove(id);
+        if (previous != null) {
+            NavigableSet<Occurrence> members = series.get(previous.key());
+            members.remove(previous);
+            if (members.isEmpty()) {
+                series.remove(previous.key());
+            }
+        }
+        return previous;
+    }
+
+    private void project(SeriesKey key) {
+        NavigableSet<Occurrence> members = series.get(key);
+        if (members == null) {
+            projections.remove(key);
+            return;
+        }
+        Occurrence last = members.last();
+        Cadence cadence = members.size() == 1 ? Cadence.MONTHLY : Cadence.of(medianInterval(members));
+        if (cadence == null) {
+            // Marked FIXED but irregular: nothing sensible to project
+            projections.remove(key);
+        } else {
+            projections.put(key, new Projection(key, cadence, last.date(), last.amount()));
+        }
+    }
+
+    private long medianInterval(NavigableSet<Occurrence> members) {
+        int count = Math.min(members.size(), Math.max(2, properties.history()));
+        long[] intervals = new long[count - 1];
+        Iterator<Occurrence> latestFirst = members.descendingIterator();
+        LocalDate later = latestFirst.next().date();
+        for (int i = 0; i < intervals.length; i++) {
+            LocalDate earlier = latestFirst.next().date();
+            intervals[i] = later.toEpochDay() - earlier.toEpochDay();
+            later = earlier;
+        }
+        Arrays.sort(intervals);
+        return intervals[intervals.length / 2];
+    }
+
+    private static Occurrence toOccurrence(ResultSet rs) throws SQLException {
+        SeriesKey key = new SeriesKey(rs.getObject("category_id", UUID.class), rs.getString("currency"),
+            TransactionType.valueOf(rs.getString("transaction_type")), rs.getString("merchant_key"));
+        return new Occurrence(rs.getObject("id", UUID.class), key,
+            rs.getObject("date", OffsetDateTime.class).withOffsetSameInstant(ZoneOffset.UTC).toLocalDate(),
+            rs.getBigDecimal("amount"),
+            TransactionStability.valueOf(rs.getString("transaction_stability")) == TransactionStability.FIXED,
+            rs.getInt("version"));
+    }
+}
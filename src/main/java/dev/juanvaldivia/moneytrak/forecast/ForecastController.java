@@ -0,0 +1,37 @@
+package dev.juanvaldivia.moneytrak.forecast;
+
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for cash-flow forecasts.
+ * All endpoints are versioned under /v1/forecast.
+ */
+@Tag(name = "Forecast", description = "Cash-flow forecast endpoints")
+@RestController
+@RequestMapping("/v1/forecast")
+public class ForecastController {
+
+    private final ForecastService forecastService;
+
+    public ForecastController(ForecastService forecastService) {
+        this.forecastService = forecastService;
+    }
+
+    /**
+     * Project FIXED income and expense per month and category.
+     * GET /v1/forecast?months=6
+     *
+     * @param months calendar months to project, including the current one (default 6, 1 to 24)
+     * @return 200 OK with the forecast, 400 Bad Request if months is out of range
+     */
+    @GetMapping
+    public ResponseEntity<ForecastDto> forecast(@RequestParam(required = false) Integer months) {
+        return ResponseEntity.ok(forecastService.forecast(months));
+    }
+}
@@ -0,0 +1,18 @@
+package dev.juanvaldivia.moneytrak.forecast;
+
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastDto;
+
+/**
+ * Service interface for cash-flow forecasts.
+ */
+public interface ForecastService {
+
+    /**
+     * Project FIXED income and expense for the current and following months.
+     *
+     * @param months number of calendar months including the current one (default 6, 1 to 24)
+     * @return forecast per month, currency and category
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if months is out of range
+     */
+    ForecastDto forecast(Integer months);
+}
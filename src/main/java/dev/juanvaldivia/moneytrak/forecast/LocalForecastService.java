@@ -0,0 +1,128 @@
+package dev.juanvaldivia.moneytrak.forecast;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastCategoryDto;
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastDto;
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastMonthDto;
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastTotalDto;
+import dev.juanvaldivia.moneytrak.recurring.RecurringSeriesDetector.SeriesKey;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local implementation of ForecastService.
+ * Forecasts are built from the projections of {@link FixedSeriesIndex}, never from history, and kept per
+ * {@code months} until the index changes or the day rolls over, so dashboards polling the same forecast
+ * get it without any work.
+ */
+@Service
+public class LocalForecastService implements ForecastService {
+
+    private static final int DEFAULT_MONTHS = 6;
+    private static final int MAX_MONTHS = 24;
+
+    private static final Comparator<ForecastCategoryDto> CATEGORY_ORDER =
+        Comparator.comparing(ForecastCategoryDto::currency)
+            .thenComparing(ForecastCategoryDto::type)
+            .thenComparing(ForecastCategoryDto::amount, Comparator.reverseOrder())
+            .thenComparing(ForecastCategoryDto::categoryId);
+
+    private record Cached(long generation, LocalDate asOf, ForecastDto forecast) {
+    }
+
+    private record CategoryKey(UUID categoryId, TransactionType type, String currency) {
+    }
+
+    private final FixedSeriesIndex index;
+    private final Clock clock;
+    private final Map<Integer, Cached> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LocalForecastService(FixedSeriesIndex index) {
+        this(index, Clock.systemUTC());
+    }
+
+    LocalForecastService(FixedSeriesIndex index, Clock clock) {
+        this.index = index;
+        this.clock = clock;
+    }
+
+    @Override
+    public ForecastDto forecast(Integer months) {
+        int count = months != null ? months : DEFAULT_MONTHS;
+        if (count < 1 || count > MAX_MONTHS) {
+            throw new BadRequestException("months must be between 1 and " + MAX_MONTHS);
+        }
+        LocalDate today = LocalDate.now(clock);
+        Cached cached = cache.get(count);
+        if (cached != null && cached.generation() == index.generation() && cached.asOf().equals(today)) {
+            return cached.forecast();
+        }
+        FixedSeriesIndex.Snapshot snapshot = index.snapshot();
+        ForecastDto forecast = build(snapshot.projections(), today, count);
+        cache.put(count, new Cached(snapshot.generation(), today, forecast));
+        return forecast;
+    }
+
+    private static ForecastDto build(List<FixedSeriesIndex.Projection> projections, LocalDate today, int count) {
+        YearMonth first = YearMonth.from(today);
+        LocalDate end = first.plusMonths(count).atDay(1);
+        List<Map<CategoryKey, ForecastCategoryDto>> byMonth = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byMonth.add(new HashMap<>());
+        }
+        for (FixedSeriesIndex.Projection projection : projections) {
+            // A series more than one period overdue has stopped
+            if (today.isAfter(projection.occurrence(2))) {
+                continue;
+            }
+            SeriesKey key = projection.key();
+            CategoryKey categoryKey = new CategoryKey(key.categoryId(), key.type(), key.currency());
+            for (int n = 1; projection.occurrence(n).isBefore(end); n++) {
+                LocalDate date = projection.occurrence(n);
+                // An overdue occurrence is still expected, so it counts as due now
+                int month = (int) first.until(YearMonth.from(date.isBefore(today) ? today : date),
+                    ChronoUnit.MONTHS);
+                byMonth.get(month).merge(categoryKey,
+                    new ForecastCategoryDto(key.categoryId(), key.type(), key.currency(), projection.amount(), 1),
+                    (a, b) -> new ForecastCategoryDto(a.categoryId(), a.type(), a.currency(),
+                        a.amount().add(b.amount()), a.occurrences() + b.occurrences()));
+            }
+        }
+        List<ForecastMonthDto> months = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<ForecastCategoryDto> categories = byMonth.get(i).values().stream().sorted(CATEGORY_ORDER).toList();
+            months.add(new ForecastMonthDto(first.plusMonths(i), totals(categories), categories));
+        }
+        return new ForecastDto(today, months);
+    }
+
+    private static List<ForecastTotalDto> totals(List<ForecastCategoryDto> categories) {
+        Map<String, BigDecimal[]> byCurrency = new TreeMap<>();
+        for (ForecastCategoryDto category : categories) {
+            BigDecimal[] sums = byCurrency.computeIfAbsent(category.currency(),
+                currency -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            int slot = category.type() == TransactionType.INCOME ? 0 : 1;
+            sums[slot] = sums[slot].add(category.amount());
+        }
+        return byCurrency.entrySet().stream()
+            .map(entry -> new ForecastTotalDto(entry.getKey(), entry.getValue()[0], entry.getValue()[1],
+                entry.getValue()[0].subtract(entry.getValue()[1])))
+            .toList();
+    }
+}
@@ -0,0 +1,19 @@
+package dev.juanvaldivia.moneytrak.forecast.dto;
+
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for the projected amount of one category, type and currency in one month.
+ *
+ * @param categoryId category UUID
+ * @param type EXPENSE or INCOME
+ * @param currency ISO 4217 code
+ * @param amount sum of projected occurrences
+ * @param occurrences number of projected transactions
+ */
+public record ForecastCategoryDto(UUID categoryId, TransactionType type, String currency, BigDecimal amount,
+                                  int occurrences) {
+}
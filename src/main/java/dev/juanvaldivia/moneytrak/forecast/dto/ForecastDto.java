@@ -0,0 +1,13 @@
+package dev.juanvaldivia.moneytrak.forecast.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a cash-flow forecast of FIXED transactions.
+ *
+ * @param asOf date the forecast starts from; the first month only includes what is still due
+ * @param months one entry per calendar month, starting with the current one
+ */
+public record ForecastDto(LocalDate asOf, List<ForecastMonthDto> months) {
+}
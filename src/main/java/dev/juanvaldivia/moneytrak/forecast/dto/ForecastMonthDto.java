@@ -0,0 +1,14 @@
+package dev.juanvaldivia.moneytrak.forecast.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * DTO for the projected FIXED transactions of one month.
+ *
+ * @param month calendar month
+ * @param totals projected income and expense per currency, ordered by currency
+ * @param categories projected amounts per category, ordered by currency, type and amount (largest first)
+ */
+public record ForecastMonthDto(YearMonth month, List<ForecastTotalDto> totals, List<ForecastCategoryDto> categories) {
+}
@@ -0,0 +1,14 @@
+package dev.juanvaldivia.moneytrak.forecast.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the projected totals of one currency in one month.
+ *
+ * @param currency ISO 4217 code
+ * @param income projected INCOME
+ * @param expense projected EXPENSE
+ * @param net income minus expense
+ */
+public record ForecastTotalDto(String currency, BigDecimal income, BigDecimal expense, BigDecimal net) {
+}
@@ -0,0 +1,146 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Reads ISO 20022 camt.053 bank-to-customer statements with StAX, one {@code Ntry} element per line,
+ * so memory use does not grow with the statement. Namespaces are ignored: every camt.053 version
+ * uses the same element names for what is read here.
+ *
+ * <p>Fields used: {@code Amt} with its {@code Ccy} attribute, signed by {@code CdtDbtInd}; {@code BookgDt}
+ * (or {@code ValDt}) as date; {@code AcctSvcrRef} (or {@code NtryRef}) as reference. The description is
+ * the counterparty's name (creditor for debits, debtor for credits), else the unstructured remittance
+ * information, else the additional entry information. A batch entry with several transaction details
+ * becomes one line.</p>
+ */
+@Component
+public class Camt053StatementParser implements StatementParser {
+
+    private final XMLInputFactory factory;
+
+    public Camt053StatementParser() {
+        factory = XMLInputFactory.newFactory();
+        // Uploaded content: no DTDs, no external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.CAMT053;
+    }
+
+    @Override
+    public void parse(InputStream input, Sink sink) {
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                read(reader, sink);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new BadRequestException("Malformed CAMT.053 statement: " + e.getMessage());
+        }
+    }
+
+    private static void read(XMLStreamReader reader, Sink sink) throws XMLStreamException {
+        Deque<String> path = new ArrayDeque<>();
+        Map<String, String> entry = null;
+        int position = 0;
+        boolean seenStatement = false;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                path.push(name);
+                seenStatement |= name.equals("Stmt");
+                if (name.equals("Ntry")) {
+                    entry = new HashMap<>();
+                    position++;
+                } else if (entry != null && name.equals("Amt") && parentIs(path, "Ntry")) {
+                    entry.put("Ccy", reader.getAttributeValue(null, "Ccy"));
+                    entry.put("Amt", reader.getElementText());
+                    path.pop();
+                } else if (entry != null && isLeaf(name)) {
+                    String field = field(path);
+                    String text = reader.getElementText().strip();
+                    path.pop();
+                    if (field != null && !text.isEmpty()) {
+                        entry.putIfAbsent(field, text);
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = path.pop();
+                if (name.equals("Ntry") && entry != null) {
+                    emit(position, entry, sink);
+                    entry = null;
+                }
+            }
+        }
+        if (!seenStatement) {
+            throw new BadRequestException("Malformed CAMT.053 statement: no Stmt element found");
+        }
+    }
+
+    private static boolean isLeaf(String name) {
+        return switch (name) {
+            case "CdtDbtInd", "Dt", "DtTm", "AcctSvcrRef", "NtryRef", "Nm", "Ustrd", "AddtlNtryInf" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * @return the key a leaf element is stored under within the entry, or null if it is not used
+     */
+    private static String field(Deque<String> path) {
+        String name = path.peek();
+        return switch (name) {
+            case "CdtDbtInd", "AcctSvcrRef", "NtryRef", "AddtlNtryInf" -> parentIs(path, "Ntry") ? name : null;
+            case "Dt", "DtTm" -> parentIs(path, "BookgDt") ? "BookgDt" : parentIs(path, "ValDt") ? "ValDt" : null;
+            case "Ustrd" -> name;
+            // Cdtr/Nm in camt.053.001.02, Cdtr/Pty/Nm from .08 on; agents (CdtrAgt, DbtrAgt) have other names
+            case "Nm" -> path.contains("Cdtr") ? "Cdtr" : path.contains("Dbtr") ? "Dbtr" : null;
+            default -> null;
+        };
+    }
+
+    private static boolean parentIs(Deque<String> path, String parent) {
+        Iterator<String> iterator = path.iterator();
+        iterator.next();
+        return iterator.hasNext() && iterator.next().equals(parent);
+    }
+
+    private static void emit(int position, Map<String, String> entry, Sink sink) {
+        String amount = entry.get("Amt");
+        String date = entry.getOrDefault("BookgDt", entry.get("ValDt"));
+        if (amount == null || date == null) {
+            sink.reject(position, "Ntry without Amt or booking date");
+            return;
+        }
+        boolean debit = "DBIT".equals(entry.get("CdtDbtInd"));
+        String counterparty = entry.get(debit ? "Cdtr" : "Dbtr");
+        String description = counterparty != null ? counterparty
+            : entry.getOrDefault("Ustrd", entry.getOrDefault("AddtlNtryInf", ""));
+        try {
+            BigDecimal value = StatementValues.parseAmount(amount).abs();
+            sink.accept(new StatementLine(position, StatementValues.parseDate(date), debit ? value.negate() : value,
+                entry.get("Ccy"), description, entry.getOrDefault("AcctSvcrRef", entry.get("NtryRef"))));
+        } catch (IllegalArgumentException e) {
+            sink.reject(position, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reads UTF-8 delimited statements as exported by bank websites.
+ *
+ * <p>Layouts differ per bank, so columns are found by header name rather than position: a date, a
+ * description and either a signed amount or separate debit and credit columns are required; currency
+ * and reference columns are used when present. Names are matched case- and accent-insensitively against
+ * the English and Spanish names in the alias lists below. The delimiter ({@code ;}, {@code ,} or tab) is
+ * whichever occurs most in the header. Quoted fields follow RFC 4180.</p>
+ */
+@Component
+public class CsvStatementParser implements StatementParser {
+
+    private static final List<String> DATE = List.of("booking date", "date", "transaction date", "posting date",
+        "fecha operacion", "fecha", "fecha contable");
+    private static final List<String> DESCRIPTION = List.of("description", "concept", "details", "payee", "name",
+        "memo", "narrative", "concepto", "descripcion", "movimiento");
+    private static final List<String> AMOUNT = List.of("amount", "value", "importe", "cantidad");
+    private static final List<String> DEBIT = List.of("debit", "withdrawal", "paid out", "cargo", "debe");
+    private static final List<String> CREDIT = List.of("credit", "deposit", "paid in", "abono", "haber");
+    private static final List<String> CURRENCY = List.of("currency", "divisa", "moneda");
+    private static final List<String> REFERENCE = List.of("reference", "transaction id", "id", "referencia");
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final char[] DELIMITERS = {';', ',', '\t'};
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.CSV;
+    }
+
+    @Override
+    public void parse(InputStream input, Sink sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new BadRequestException("CSV statement is empty");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        char delimiter = detectDelimiter(headerLine);
+        Columns columns = Columns.of(new RecordReader(new StringReader(headerLine), delimiter).next());
+
+        RecordReader records = new RecordReader(reader, delimiter);
+        int position = 1;
+        List<String> record;
+        while ((record = records.next()) != null) {
+            position++;
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            try {
+                sink.accept(columns.toLine(position, record));
+            } catch (IllegalArgumentException e) {
+                sink.reject(position, e.getMessage());
+            }
+        }
+    }
+
+    private static char detectDelimiter(String headerLine) {
+        char best = DELIMITERS[0];
+        long bestCount = -1;
+        for (char delimiter : DELIMITERS) {
+            long count = headerLine.chars().filter(c -> c == delimiter).count();
+            if (count > bestCount) {
+                best = delimiter;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Positions of the recognized columns; -1 when absent.
+     */
+    private record Columns(int date, int description, int amount, int debit, int credit, int currency, int reference) {
+
+        static Columns of(List<String> header) {
+            List<String> names = header.stream().map(Columns::normalize).toList();
+            Columns columns = new Columns(find(names, DATE), find(names, DESCRIPTION), find(names, AMOUNT),
+                find(names, DEBIT), find(names, CREDIT), find(names, CURRENCY), find(names, REFERENCE));
+            if (columns.date < 0 || columns.description < 0 || (columns.amount < 0 && (columns.debit < 0 || columns.credit < 0))) {
+                throw new BadRequestException(
+                    "CSV header must name a date, a description and an amount (or debit and credit) column");
+            }
+            return columns;
+        }
+
+        StatementLine toLine(int position, List<String> record) {
+            BigDecimal value;
+            if (amount >= 0) {
+                value = StatementValues.parseAmount(field(record, amount));
+            } else if (!field(record, debit).isBlank()) {
+                value = StatementValues.parseAmount(field(record, debit)).abs().negate();
+            } else if (!field(record, credit).isBlank()) {
+                value = StatementValues.parseAmount(field(record, credit)).abs();
+            } else {
+                throw new IllegalArgumentException("Neither debit nor credit amount");
+            }
+            return new StatementLine(
+                position,
+                StatementValues.parseDate(field(record, date)),
+                value,
+                blankToNull(field(record, currency)),
+                field(record, description).strip(),
+                blankToNull(field(record, reference))
+            );
+        }
+
+        private static int find(List<String> names, List<String> aliases) {
+            for (String alias : aliases) {
+                int index = names.indexOf(alias);
+                if (index >= 0) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private static String field(List<String> record, int index) {
+            return index >= 0 && index < record.size() ? record.get(index) : "";
+        }
+
+        private static String blankToNull(String value) {
+            return value.isBlank() ? null : value.strip();
+        }
+
+        private static String normalize(String name) {
+            String lower = name.strip().toLowerCase(Locale.ROOT).replace('_', ' ');
+            return MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+        }
+    }
+
+    /**
+     * RFC 4180 record reader: quoted fields may contain delimiters, line breaks and doubled quotes.
+     */
+    private static final class RecordReader {
+
+        private final Reader in;
+        private final char delimiter;
+
+        RecordReader(Reader in, char delimiter) {
+            this.in = in;
+            this.delimiter = delimiter;
+        }
+
+        /**
+         * @return fields of the next record, or null at the end of the input
+         */
+        List<String> next() throws IOException {
+            int c = in.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new BadRequestException("Malformed CSV statement: unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        int next = in.read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == delimiter) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = in.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import dev.juanvaldivia.moneytrak.exception.ConflictException;
+import dev.juanvaldivia.moneytrak.imports.dto.RejectedLineDto;
+import dev.juanvaldivia.moneytrak.imports.dto.StatementImportResultDto;
+import dev.juanvaldivia.moneytrak.transactions.TransactionService;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import dev.juanvaldivia.moneytrak.transactions.dto.TransactionCreationDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Local implementation of StatementImportService.
+ *
+ * <p>Lines are validated as {@link TransactionCreationDto}s and stored in batches, one database
+ * transaction each, through {@link TransactionService#importTransactions(Map)}. Every line gets a
+ * fingerprint: a hash of the bank's reference when the format has one, otherwise of date, signed amount,
+ * currency and normalized description plus how many identical lines came before it in the same file (two
+ * equal coffees on one day stay two transactions). The fingerprints are stored under a unique index.</p>
+ */
+@Service
+@EnableConfigurationProperties(StatementImportProperties.class)
+public class LocalStatementImportService implements StatementImportService {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<StatementFormat, StatementParser> parsers = new EnumMap<>(StatementFormat.class);
+    private final TransactionService transactionService;
+    private final Validator validator;
+    private final StatementImportProperties properties;
+
+    public LocalStatementImportService(
+        List<StatementParser> parsers,
+        TransactionService transactionService,
+        Validator validator,
+        StatementImportProperties properties
+    ) {
+        parsers.forEach(parser -> this.parsers.put(parser.format(), parser));
+        this.transactionService = transactionService;
+        this.validator = validator;
+        this.properties = properties;
+    }
+
+    @Override
+    public StatementImportResultDto importStatement(StatementFormat format, InputStream input, String currency) {
+        StatementParser parser = parsers.get(format);
+        if (parser == null) {
+            throw new BadRequestException("Unsupported statement format: " + format);
+        }
+        Run run = new Run(currency);
+        try {
+            parser.parse(input, run);
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read the statement: " + e.getMessage());
+        }
+        run.flush();
+        return run.result();
+    }
+
+    /**
+     * State of one import: the pending batch and the counters.
+     */
+    private final class Run implements StatementParser.Sink {
+
+        private final String defaultCurrency;
+        private final Map<String, TransactionCreationDto> batch = new LinkedHashMap<>();
+        private final Map<String, Integer> occurrences = new HashMap<>();
+        private final List<RejectedLineDto> errors = new ArrayList<>();
+        private final List<UUID> possibleDuplicates = new ArrayList<>();
+        private int lines;
+        private int created;
+        private int alreadyImported;
+        private int rejected;
+
+        Run(String defaultCurrency) {
+            this.defaultCurrency = defaultCurrency;
+        }
+
+        @Override
+        public void accept(StatementLine line) {
+            lines++;
+            String currency = line.currency() != null ? line.currency() : defaultCurrency;
+            if (currency == null) {
+                error(line.position(), "The statement gives no currency; pass the currency parameter");
+                return;
+            }
+            TransactionCreationDto dto = new TransactionCreationDto(
+                truncate(line.description()),
+                line.amount().abs(),
+                currency.toUpperCase(Locale.ROOT),
+                line.date().atStartOfDay(ZoneOffset.UTC),
+                line.amount().signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME,
+                null,
+                null
+            );
+            Set<ConstraintViolation<TransactionCreationDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                error(line.position(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            batch.put(fingerprint(line, dto), dto);
+            if (batch.size() >= properties.batchSize()) {
+                flush();
+            }
+        }
+
+        @Override
+        public void reject(int position, String reason) {
+            lines++;
+            error(position, reason);
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            // Checked before storing: afterwards each line would find itself
+            Set<String> flagged = new HashSet<>();
+            batch.forEach((fingerprint, dto) -> {
+                if (!transactionService.findLikelyDuplicates(dto).isEmpty()) {
+                    flagged.add(fingerprint);
+                }
+            });
+            Map<String, TransactionDto> stored;
+            try {
+                stored = transactionService.importTransactions(batch);
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("Another import stored some of these statement lines first; retry the import");
+            }
+            created += stored.size();
+            alreadyImported += batch.size() - stored.size();
+            stored.forEach((fingerprint, transaction) -> {
+                if (flagged.contains(fingerprint)) {
+                    possibleDuplicates.add(transaction.id());
+                }
+            });
+            batch.clear();
+        }
+
+        StatementImportResultDto result() {
+            return new StatementImportResultDto(lines, created, alreadyImported, rejected, List.copyOf(errors),
+                List.copyOf(possibleDuplicates));
+        }
+
+        private void error(int position, String reason) {
+            rejected++;
+            if (errors.size() < properties.maxReportedErrors()) {
+                errors.add(new RejectedLineDto(position, reason));
+            }
+        }
+
+        private String fingerprint(StatementLine line, TransactionCreationDto dto) {
+            String amount = line.amount().setScale(2, RoundingMode.UNNECESSARY).toPlainString();
+            String content = line.reference() != null
+                ? String.join("|", "ref", line.date().toString(), amount, dto.currency(), line.reference())
+                : String.join("|", "line", line.date().toString(), amount, dto.currency(),
+                    WHITESPACE.matcher(dto.description().strip()).replaceAll(" ").toLowerCase(Locale.ROOT));
+            int occurrence = occurrences.merge(content, 1, Integer::sum);
+            return sha256(content + "|" + occurrence);
+        }
+    }
+
+    private static String truncate(String description) {
+        return description.length() > MAX_DESCRIPTION_LENGTH ? description.substring(0, MAX_DESCRIPTION_LENGTH) : description;
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
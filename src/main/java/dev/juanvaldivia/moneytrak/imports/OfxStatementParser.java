@@ -0,0 +1,145 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads OFX bank and card statements, one {@code STMTTRN} aggregate per line.
+ *
+ * <p>OFX 1.x is SGML whose leaf elements have no closing tags, so the file is read as a flat sequence of
+ * tags and the text following each, which also covers the XML of OFX 2.x. Fields used: {@code DTPOSTED},
+ * {@code TRNAMT} (signed), {@code FITID} as reference, {@code NAME} or else {@code MEMO} as description,
+ * and the statement's {@code CURDEF} as currency.</p>
+ */
+@Component
+public class OfxStatementParser implements StatementParser {
+
+    private static final int HEADER_PEEK = 1024;
+
+    @Override
+    public StatementFormat format() {
+        return StatementFormat.OFX;
+    }
+
+    @Override
+    public void parse(InputStream input, Sink sink) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        PushbackReader reader = new PushbackReader(new InputStreamReader(buffered, charsetOf(buffered)));
+        String currency = null;
+        Map<String, String> transaction = null;
+        int position = 0;
+        boolean seenOfx = false;
+        String tag;
+        while ((tag = nextTag(reader)) != null) {
+            if (tag.startsWith("?") || tag.startsWith("!")) {
+                continue;
+            }
+            seenOfx |= tag.equals("OFX");
+            if (tag.equals("STMTTRN")) {
+                transaction = new HashMap<>();
+                position++;
+            } else if (tag.equals("/STMTTRN") && transaction != null) {
+                emit(position, transaction, currency, sink);
+                transaction = null;
+            } else if (!tag.startsWith("/")) {
+                String text = text(reader);
+                if (tag.equals("CURDEF")) {
+                    currency = text;
+                } else if (transaction != null && !text.isEmpty()) {
+                    transaction.put(tag, text);
+                }
+            }
+        }
+        if (!seenOfx) {
+            throw new BadRequestException("Malformed OFX statement: no OFX element found");
+        }
+    }
+
+    private static void emit(int position, Map<String, String> transaction, String currency, Sink sink) {
+        String posted = transaction.get("DTPOSTED");
+        String amount = transaction.get("TRNAMT");
+        if (posted == null || amount == null) {
+            sink.reject(position, "STMTTRN without DTPOSTED or TRNAMT");
+            return;
+        }
+        String description = transaction.getOrDefault("NAME", transaction.getOrDefault("MEMO", ""));
+        try {
+            // DTPOSTED is YYYYMMDD optionally followed by time and time zone
+            sink.accept(new StatementLine(position, StatementValues.parseDate(posted.substring(0, Math.min(8, posted.length()))),
+                StatementValues.parseAmount(amount), currency, description, transaction.get("FITID")));
+        } catch (IllegalArgumentException e) {
+            sink.reject(position, e.getMessage());
+        }
+    }
+
+    /**
+     * OFX 1.x declares its character set in the plain-text header; XML and OFX 2.x are UTF-8 here.
+     */
+    private static Charset charsetOf(BufferedInputStream input) throws IOException {
+        input.mark(HEADER_PEEK);
+        byte[] header = input.readNBytes(HEADER_PEEK);
+        input.reset();
+        String text = new String(header, StandardCharsets.US_ASCII);
+        if (text.contains("CHARSET:1252")) {
+            return Charset.forName("windows-1252");
+        }
+        if (text.contains("CHARSET:ISO-8859-1") || text.contains("CHARSET:8859-1")) {
+            return StandardCharsets.ISO_8859_1;
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * @return the next tag name, upper case, with a leading {@code /} for closing tags; null at the end
+     */
+    private static String nextTag(PushbackReader reader) throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // Skip text outside leaf elements
+        }
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder tag = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        if (c == -1) {
+            throw new BadRequestException("Malformed OFX statement: unterminated tag");
+        }
+        String name = tag.toString().strip();
+        int attributes = name.indexOf(' ');
+        return (attributes >= 0 ? name.substring(0, attributes) : name).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the text up to the next tag, trimmed, with XML entities decoded
+     */
+    private static String text(PushbackReader reader) throws IOException {
+        StringBuilder text = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            text.append((char) c);
+        }
+        if (c == '<') {
+            reader.unread(c);
+        }
+        return text.toString().strip()
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&apos;", "'")
+            .replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,19 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+/**
+ * Bank statement file formats accepted by the import.
+ */
+public enum StatementFormat {
+    /**
+     * Delimited text with a header row; columns are recognized by name.
+     */
+    CSV,
+    /**
+     * Open Financial Exchange, SGML (1.x) or XML (2.x).
+     */
+    OFX,
+    /**
+     * ISO 20022 bank-to-customer statement (camt.053) XML.
+     */
+    CAMT053
+}
@@ -0,0 +1,54 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.imports.dto.StatementImportResultDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST controller for bank statement imports.
+ * All endpoints are versioned under /v1/imports.
+ */
+@Tag(name = "Imports", description = "Bank statement import endpoints")
+@RestController
+@RequestMapping("/v1/imports")
+public class StatementImportController {
+
+    private final StatementImportService importService;
+
+    public StatementImportController(StatementImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Import a bank statement.
+     * POST /v1/imports?format={CSV|OFX|CAMT053}&currency=EUR (multipart, file part "file")
+     *
+     * Re-importing a statement, or one overlapping an earlier import, only creates the new lines.
+     *
+     * @param format statement format
+     * @param currency optional currency for lines the statement gives none for (CSV without a currency column)
+     * @param file statement file
+     * @return 200 OK with counts of created, already imported and rejected lines
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the file is not in the given format (400)
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if a concurrent import stored the same lines (409)
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StatementImportResultDto> importStatement(
+        @RequestParam StatementFormat format,
+        @RequestParam(required = false) String currency,
+        @RequestParam MultipartFile file
+    ) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importStatement(format, input, currency));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Statement import settings.
+ *
+ * @param batchSize statement lines stored per database transaction
+ * @param maxReportedErrors rejected lines listed individually in the import result
+ */
+@ConfigurationProperties(prefix = "moneytrak.imports")
+public record StatementImportProperties(
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("100") int maxReportedErrors
+) {
+}
@@ -0,0 +1,25 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.imports.dto.StatementImportResultDto;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for importing bank statements as transactions.
+ */
+public interface StatementImportService {
+
+    /**
+     * Import every valid line of a statement. Lines imported before, from this or an overlapping
+     * statement, are skipped. Lines without a category get one from the rules, or "Others".
+     *
+     * @param format statement format
+     * @param input statement content
+     * @param currency currency of lines whose statement does not give one (null = none)
+     * @return counts of created, skipped and rejected lines
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the statement cannot be read
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if a concurrent import stored the same
+     *         lines first; batches stored before stay stored and a retry skips them
+     */
+    StatementImportResultDto importStatement(StatementFormat format, InputStream input, String currency);
+}
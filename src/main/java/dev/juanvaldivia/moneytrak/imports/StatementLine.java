@@ -0,0 +1,18 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One booked movement read from a statement.
+ *
+ * @param position 1-based line (CSV) or entry (OFX, CAMT.053) number, for error reporting
+ * @param date booking date
+ * @param amount signed amount: negative for money going out
+ * @param currency ISO 4217 code, or null if the statement does not say
+ * @param description text identifying the movement
+ * @param reference the bank's own id for the movement, or null if it provides none
+ */
+public record StatementLine(int position, LocalDate date, BigDecimal amount, String currency, String description,
+                            String reference) {
+}
@@ -0,0 +1,39 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streaming reader of one statement format. Implementations are Spring components, picked by
+ * {@link #format()}; supporting another format means adding another one.
+ *
+ * <p>Parsers hand over each line as soon as it is read and never hold the whole statement in memory.
+ * A line that cannot be read is rejected and parsing goes on; a file that cannot be read at all fails
+ * with {@link dev.juanvaldivia.moneytrak.exception.BadRequestException}.</p>
+ */
+public interface StatementParser {
+
+    /**
+     * Receives the lines of a statement in file order.
+     */
+    interface Sink {
+
+        void accept(StatementLine line);
+
+        /**
+         * @param position 1-based line or entry number
+         * @param reason why the line was skipped
+         */
+        void reject(int position, String reason);
+    }
+
+    StatementFormat format();
+
+    /**
+     * @param input statement content; not closed by the parser
+     * @param sink receiver of lines and rejections
+     * @throws IOException if reading the input fails
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the content is not in this format
+     */
+    void parse(InputStream input, Sink sink) throws IOException;
+}
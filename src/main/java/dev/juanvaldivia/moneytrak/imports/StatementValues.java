@@ -0,0 +1,94 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Lenient parsing of the amounts and dates banks write in statements.
+ */
+final class StatementValues {
+
+    private static final Pattern ISO_DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}.*");
+    private static final Pattern NOT_NUMERIC = Pattern.compile("[^0-9.,+-]");
+    // Day first: the formats of the banks this is used with; month-first dates are not supported
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+        DateTimeFormatter.ofPattern("d/M/uuuu").withResolverStyle(ResolverStyle.STRICT),
+        DateTimeFormatter.ofPattern("d-M-uuuu").withResolverStyle(ResolverStyle.STRICT),
+        DateTimeFormatter.ofPattern("d.M.uuuu").withResolverStyle(ResolverStyle.STRICT),
+        DateTimeFormatter.BASIC_ISO_DATE
+    );
+
+    private StatementValues() {
+    }
+
+    /**
+     * Parse an amount written with either decimal separator and optional thousands separators:
+     * {@code -1.234,56}, {@code 1,234.56}, {@code (12.50)}, {@code 12,50-} and {@code EUR 3.20} are all accepted.
+     *
+     * @param text amount as written
+     * @return signed amount
+     * @throws IllegalArgumentException if the text is not an amount
+     */
+    static BigDecimal parseAmount(String text) {
+        String value = text.strip();
+        boolean negative = false;
+        if (value.startsWith("(") && value.endsWith(")")) {
+            negative = true;
+            value = value.substring(1, value.length() - 1);
+        }
+        value = NOT_NUMERIC.matcher(value).replaceAll("");
+        if (value.endsWith("-")) {
+            negative = !negative;
+            value = value.substring(0, value.length() - 1);
+        }
+        int comma = value.lastIndexOf(',');
+        int dot = value.lastIndexOf('.');
+        if (comma >= 0 && dot >= 0) {
+            // Whichever comes last is the decimal separator
+            value = comma > dot ? value.replace(".", "").replace(',', '.') : value.replace(",", "");
+        } else if (comma >= 0) {
+            boolean decimal = value.indexOf(',') == comma && value.length() - comma - 1 <= 2;
+            value = decimal ? value.replace(',', '.') : value.replace(",", "");
+        } else if (dot >= 0 && value.indexOf('.') != dot) {
+            value = value.replace(".", "");
+        }
+        try {
+            BigDecimal amount = new BigDecimal(value);
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + text);
+        }
+    }
+
+    /**
+     * Parse a date as ISO ({@code 2026-01-31}, time part ignored), day first ({@code 31/01/2026},
+     * {@code 31-01-2026}, {@code 31.01.2026}) or compact ({@code 20260131}).
+     *
+     * @param text date as written
+     * @return the date
+     * @throws IllegalArgumentException if the text is not a date
+     */
+    static LocalDate parseDate(String text) {
+        String value = text.strip();
+        try {
+            if (ISO_DATE.matcher(value).matches()) {
+                return LocalDate.parse(value.substring(0, 10));
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + text);
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format);
+            } catch (DateTimeParseException e) {
+                // Try the next format
+            }
+        }
+        throw new IllegalArgumentException("Invalid date: " + text);
+    }
+}
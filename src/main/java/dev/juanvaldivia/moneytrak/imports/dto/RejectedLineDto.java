@@ -0,0 +1,10 @@
+package dev.juanvaldivia.moneytrak.imports.dto;
+
+/**
+ * DTO for a statement line that was not imported.
+ *
+ * @param position 1-based line (CSV) or entry (OFX, CAMT.053) number
+ * @param reason why it was rejected
+ */
+public record RejectedLineDto(int position, String reason) {
+}
@@ -0,0 +1,24 @@
+package dev.juanvaldivia.moneytrak.imports.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO summarizing a statement import.
+ *
+ * @param lines statement lines read
+ * @param created transactions created
+ * @param alreadyImported lines skipped because an earlier import created them
+ * @param rejected lines skipped because they could not be read or failed validation
+ * @param errors the first rejected lines with their reasons
+ * @param possibleDuplicates created transactions that look like duplicates of existing ones
+ */
+public record StatementImportResultDto(
+    int lines,
+    int created,
+    int alreadyImported,
+    int rejected,
+    List<RejectedLineDto> errors,
+    List<UUID> possibleDuplicates
+) {
+}
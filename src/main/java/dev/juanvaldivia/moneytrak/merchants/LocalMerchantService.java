@@ -0,0 +1,47 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import dev.juanvaldivia.moneytrak.merchants.dto.MerchantDto;
+import dev.juanvaldivia.moneytrak.merchants.dto.MerchantTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Local implementation of MerchantService.
+ */
+@Service
+@Transactional(readOnly = true)
+public class LocalMerchantService implements MerchantService {
+
+    private static final ZonedDateTime MIN_DATE = ZonedDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final ZonedDateTime MAX_DATE = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final MerchantRepository merchantRepository;
+
+    public LocalMerchantService(MerchantRepository merchantRepository) {
+        this.merchantRepository = merchantRepository;
+    }
+
+    @Override
+    public List<MerchantDto> listMerchants() {
+        return merchantRepository.findAllOrderedByName().stream()
+            .map(m -> new MerchantDto(m.id(), m.name(), m.createdAt()))
+            .toList();
+    }
+
+    @Override
+    public List<MerchantTotalDto> calculateMerchantTotals(TransactionType type, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        ZonedDateTime lower = from != null ? from.atStartOfDay(ZoneOffset.UTC) : MIN_DATE;
+        ZonedDateTime upper = to != null ? to.plusDays(1).atStartOfDay(ZoneOffset.UTC) : MAX_DATE;
+        return merchantRepository.sumAmountByMerchant(type, lower, upper);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import jakarta.persistence.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing a merchant, as derived from transaction descriptions by {@link MerchantNormalizer}.
+ *
+ * <p>Merchants are immutable dictionary entries. The id is a name-based UUID of the normalized key
+ * rather than a generated one: resolving a description to a merchant id needs no lookup, and
+ * concurrent first uses of a new merchant agree on its id.</p>
+ */
+@Entity
+@Table(name = "merchants")
+public class Merchant {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "normalized_key", nullable = false, unique = true, length = 100)
+    private String normalizedKey;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    protected Merchant() {
+        // JPA requires no-arg constructor
+    }
+
+    private Merchant(UUID id, String normalizedKey, String name, ZonedDateTime createdAt) {
+        this.id = id;
+        this.normalizedKey = normalizedKey;
+        this.name = name;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Create a merchant from a normalized name.
+     *
+     * @param merchantName output of {@link MerchantNormalizer#normalize(String)}
+     * @return new merchant instance
+     */
+    public static Merchant create(MerchantNormalizer.MerchantName merchantName) {
+        return new Merchant(idOf(merchantName.key()), merchantName.key(), merchantName.displayName(),
+            ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * @param normalizedKey merchant key
+     * @return the merchant id for the key
+     */
+    public static UUID idOf(String normalizedKey) {
+        return UUID.nameUUIDFromBytes(("merchant:" + normalizedKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Getters
+    public UUID id() {
+        return id;
+    }
+
+    public String normalizedKey() {
+        return normalizedKey;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public ZonedDateTime createdAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Merchant merchant)) return false;
+        return Objects.equals(id, merchant.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
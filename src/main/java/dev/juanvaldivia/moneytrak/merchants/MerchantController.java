@@ -0,0 +1,60 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import dev.juanvaldivia.moneytrak.merchants.dto.MerchantDto;
+import dev.juanvaldivia.moneytrak.merchants.dto.MerchantTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for merchants.
+ * Merchants are derived from transaction descriptions when transactions are written; they are read-only here.
+ */
+@Tag(name = "Merchants", description = "Merchant endpoints")
+@RestController
+@RequestMapping("/v1/merchants")
+public class MerchantController {
+
+    private final MerchantService merchantService;
+
+    public MerchantController(MerchantService merchantService) {
+        this.merchantService = merchantService;
+    }
+
+    /**
+     * List all merchants ordered by name.
+     * GET /v1/merchants
+     *
+     * @return 200 OK with all merchants
+     */
+    @GetMapping
+    public ResponseEntity<List<MerchantDto>> listMerchants() {
+        return ResponseEntity.ok(merchantService.listMerchants());
+    }
+
+    /**
+     * Get totals per merchant and currency for one transaction type.
+     * GET /v1/merchants/totals?type=EXPENSE&from=2026-01-01&to=2026-01-31
+     *
+     * @param type EXPENSE or INCOME (default EXPENSE)
+     * @param from optional first day, inclusive (UTC)
+     * @param to optional last day, inclusive (UTC)
+     * @return 200 OK with merchants ordered by total descending
+     */
+    @GetMapping("/totals")
+    public ResponseEntity<List<MerchantTotalDto>> getMerchantTotals(
+        @RequestParam(defaultValue = "EXPENSE") TransactionType type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(merchantService.calculateMerchantTotals(type, from, to));
+    }
+}
@@ -0,0 +1,120 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import dev.juanvaldivia.moneytrak.persistence.DatabaseDialect;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the merchant table: every merchant name is held once, keyed by id, and shared by
+ * all transaction responses that show it.
+ *
+ * <p>{@link #resolve(String)} turns a description into a merchant id. Known merchants cost no query;
+ * a new one is inserted in the caller's transaction and only counted as stored once that transaction
+ * commits, so a rolled-back write never makes a later caller skip the insert.</p>
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class MerchantDictionary implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MerchantDictionary.class);
+
+    // On PostgreSQL a MERGE racing a concurrent insert of the same merchant fails with a unique
+    // violation, failing the caller's write; ON CONFLICT waits for the other insert and skips instead
+    private static final String INSERT_IF_ABSENT_POSTGRES =
+        "INSERT INTO merchants (id, normalized_key, name, created_at) " +
+        "VALUES (CAST(:id AS UUID), :key, :name, CAST(:createdAt AS TIMESTAMP WITH TIME ZONE)) ON CONFLICT DO NOTHING";
+
+    // Standard MERGE for H2 so that inserting an existing merchant is a no-op
+    private static final String INSERT_IF_ABSENT =
+        "MERGE INTO merchants m USING (VALUES (CAST(:id AS UUID), :key, :name, CAST(:createdAt AS TIMESTAMP WITH TIME ZONE))) " +
+        "AS s (id, normalized_key, name, created_at) ON m.id = s.id " +
+        "WHEN NOT MATCHED THEN INSERT (id, normalized_key, name, created_at) " +
+        "VALUES (s.id, s.normalized_key, s.name, s.created_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final DatabaseDialect dialect;
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+    private final Set<UUID> stored = ConcurrentHashMap.newKeySet();
+
+    public MerchantDictionary(JdbcTemplate jdbcTemplate, EntityManager entityManager, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.query("SELECT id, name FROM merchants",
+            rs -> {
+                UUID id = rs.getObject("id", UUID.class);
+                names.put(id, rs.getString("name"));
+                stored.add(id);
+            });
+        log.info("Loaded {} merchant(s)", names.size());
+    }
+
+    /**
+     * Find or create the merchant a description refers to. Must run inside the transaction that
+     * stores the merchant id.
+     *
+     * @param description transaction description
+     * @return merchant id, or null if the description names no merchant
+     */
+    public UUID resolve(String description) {
+        Optional<MerchantNormalizer.MerchantName> normalized = MerchantNormalizer.normalize(description);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        MerchantNormalizer.MerchantName merchantName = normalized.get();
+        UUID id = Merchant.idOf(merchantName.key());
+        if (stored.contains(id)) {
+            return id;
+        }
+        // Through the persistence context's connection, so it belongs to the caller's transaction
+        entityManager.createNativeQuery(dialect.isPostgres() ? INSERT_IF_ABSENT_POSTGRES : INSERT_IF_ABSENT)
+            .setParameter("id", id)
+            .setParameter("key", merchantName.key())
+            .setParameter("name", merchantName.displayName())
+            .setParameter("createdAt", OffsetDateTime.now(ZoneOffset.UTC))
+            .executeUpdate();
+        // Names are only displayed, so the uncommitted one can be shown right away
+        names.putIfAbsent(id, merchantName.displayName());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stored.add(id);
+                }
+            });
+        } else {
+            stored.add(id);
+        }
+        return id;
+    }
+
+    /**
+     * @param id merchant UUID
+     * @return merchant name, or null if unknown
+     */
+    public String name(UUID id) {
+        return id != null ? names.get(id) : null;
+    }
+}
@@ -0,0 +1,100 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Derives the merchant behind a transaction description.
+ *
+ * <p>Pipeline: drop everything after a {@code *} or {@code #} (card processors append reference codes
+ * there, as in {@code AMAZON MKTPL*1A2B3}), split into letter/digit tokens, discard tokens containing
+ * digits (references, store numbers), single characters and noise words (legal forms, domain parts,
+ * payment channel words), then keep the first {@value #MAX_TOKENS} tokens. The key is those tokens
+ * lowercased without accents; the display name keeps the accents and is title-cased.</p>
+ *
+ * <p>So {@code "AMAZON MKTPL*1A2B3"} and {@code "Amazon.com*9Z8"} both become key {@code amazon}.</p>
+ */
+public final class MerchantNormalizer {
+
+    static final int MAX_TOKENS = 3;
+    static final int MAX_TOKEN_LENGTH = 30;
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern DIGIT = Pattern.compile("\\p{N}");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<String> NOISE = Set.of(
+        // Legal forms
+        "inc", "ltd", "llc", "plc", "gmbh", "sl", "sa", "sau", "slu", "sarl", "bv", "corp", "co",
+        // Domain parts
+        "www", "com", "net", "org", "es", "uk", "de", "fr", "eu",
+        // Payment channel words added by card processors and banks
+        "pos", "tpv", "mktp", "mktpl", "marketplace", "purchase", "payment", "compra", "pago", "card",
+        "tarjeta", "ref", "contactless"
+    );
+
+    private MerchantNormalizer() {
+    }
+
+    /**
+     * Normalized merchant name.
+     *
+     * @param key accent-free lowercase key, unique per merchant
+     * @param displayName human readable name
+     */
+    public record MerchantName(String key, String displayName) {
+    }
+
+    /**
+     * @param description transaction description
+     * @return merchant name, or empty if no significant token remains
+     */
+    public static Optional<MerchantName> normalize(String description) {
+        if (description == null) {
+            return Optional.empty();
+        }
+        String text = description;
+        int reference = indexOfReference(text);
+        if (reference >= 0) {
+            text = text.substring(0, reference);
+        }
+
+        List<String> keys = new ArrayList<>(MAX_TOKENS);
+        List<String> names = new ArrayList<>(MAX_TOKENS);
+        Matcher tokens = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (tokens.find() && keys.size() < MAX_TOKENS) {
+            String token = tokens.group();
+            if (token.length() > MAX_TOKEN_LENGTH) {
+                token = token.substring(0, MAX_TOKEN_LENGTH);
+            }
+            String key = stripAccents(token);
+            if (key.length() < 2 || NOISE.contains(key) || DIGIT.matcher(key).find()) {
+                continue;
+            }
+            keys.add(key);
+            names.add(Character.toUpperCase(token.charAt(0)) + token.substring(1));
+        }
+        if (keys.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new MerchantName(String.join(" ", keys), String.join(" ", names)));
+    }
+
+    private static int indexOfReference(String text) {
+        int star = text.indexOf('*');
+        int hash = text.indexOf('#');
+        if (star < 0) {
+            return hash;
+        }
+        return hash < 0 ? star : Math.min(star, hash);
+    }
+
+    private static String stripAccents(String token) {
+        return MARKS.matcher(Normalizer.normalize(token, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
@@ -0,0 +1,46 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import dev.juanvaldivia.moneytrak.merchants.dto.MerchantTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for Merchant entity.
+ */
+@Repository
+public interface MerchantRepository extends JpaRepository<Merchant, UUID> {
+
+    /**
+     * Find all merchants ordered by name, then by id for deterministic ordering.
+     *
+     * @return all merchants
+     */
+    @Query("SELECT m FROM Merchant m ORDER BY m.name, m.id")
+    List<Merchant> findAllOrderedByName();
+
+    /**
+     * Totals per merchant and currency for one type within a date range, largest total first.
+     * Served by the (merchant_id, currency, transaction_type, date) index, which includes the amount.
+     *
+     * @param type transaction type (EXPENSE or INCOME)
+     * @param from inclusive lower bound
+     * @param to exclusive upper bound
+     * @return one line per merchant and currency with at least one matching transaction
+     */
+    @Query("SELECT new dev.juanvaldivia.moneytrak.merchants.dto.MerchantTotalDto(" +
+           "m.id, m.name, t.currency, SUM(t.amount), COUNT(t)) " +
+           "FROM Transaction t JOIN Merchant m ON m.id = t.merchantId " +
+           "WHERE t.type = :type AND t.date >= :from AND t.date < :to " +
+           "GROUP BY m.id, m.name, t.currency ORDER BY SUM(t.amount) DESC, m.name")
+    List<MerchantTotalDto> sumAmountByMerchant(
+            @Param("type") TransactionType type,
+            @Param("from") ZonedDateTime from,
+            @Param("to") ZonedDateTime to);
+}
@@ -0,0 +1,32 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import dev.juanvaldivia.moneytrak.merchants.dto.MerchantDto;
+import dev.juanvaldivia.moneytrak.merchants.dto.MerchantTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for merchants derived from transaction descriptions.
+ */
+public interface MerchantService {
+
+    /**
+     * List all merchants ordered by name.
+     *
+     * @return all merchants
+     */
+    List<MerchantDto> listMerchants();
+
+    /**
+     * Totals per merchant and currency, largest first.
+     *
+     * @param type transaction type to include
+     * @param from inclusive start date (UTC), or null for no lower bound
+     * @param to inclusive end date (UTC), or null for no upper bound
+     * @return one line per merchant and currency
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if from is after to
+     */
+    List<MerchantTotalDto> calculateMerchantTotals(TransactionType type, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,14 @@
+package dev.juanvaldivia.moneytrak.merchants.dto;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Merchant response.
+ *
+ * @param id merchant UUID
+ * @param name merchant name
+ * @param createdAt when the first transaction naming it was stored
+ */
+public record MerchantDto(UUID id, String name, ZonedDateTime createdAt) {
+}
@@ -0,0 +1,16 @@
+package dev.juanvaldivia.moneytrak.merchants.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Total and number of transactions of one merchant in one currency.
+ *
+ * @param merchantId merchant UUID
+ * @param merchantName merchant name
+ * @param currency ISO 4217 currency code
+ * @param total sum of amounts
+ * @param count number of transactions
+ */
+public record MerchantTotalDto(UUID merchantId, String merchantName, String currency, BigDecimal total, long count) {
+}
@@ -0,0 +1,72 @@
+package dev.juanvaldivia.moneytrak.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Buffers bound to the current database transaction, for state that is written with the transaction
+ * and published only once it commits.
+ */
+public final class CommitBuffers {
+
+    private CommitBuffers() {
+    }
+
+    /**
+     * Get the caller's buffer for the current database transaction, creating it on first use.
+     * The buffer is handed to {@code beforeCommit} while the transaction can still write (and roll
+     * back with it), to {@code afterCommit} once it has committed, and dropped in any case.
+     *
+     * @param owner key of the buffer, one per owner and transaction
+     * @param factory creates an empty buffer
+     * @param beforeCommit writes the buffer inside the transaction
+     * @param afterCommit publishes the buffer
+     * @return the buffer, or null if no transaction synchronization is active
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T current(Object owner, Supplier<T> factory, Consumer<T> beforeCommit,
+                                Consumer<T> afterCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        T buffer = (T) TransactionSynchronizationManager.getResource(owner);
+        if (buffer == null) {
+            T created = factory.get();
+            TransactionSynchronizationManager.bindResource(owner, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    beforeCommit.accept(created);
+                }
+
+                @Override
+                public void afterCommit() {
+                    afterCommit.accept(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+                }
+            });
+            buffer = created;
+        }
+        return buffer;
+    }
+
+    /**
+     * Get the caller's buffer for the current database transaction without creating it.
+     *
+     * @param owner key of the buffer
+     * @return the buffer, or null if nothing was buffered yet or no transaction synchronization is active
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T peek(Object owner) {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+            ? (T) TransactionSynchronizationManager.getResource(owner)
+            : null;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.juanvaldivia.moneytrak.persistence;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Pagination helpers for entities with time-ordered (UUIDv7) ids.
+ */
+public final class Pageables {
+
+    private static final String ID = "id";
+
+    private Pageables() {
+    }
+
+    /**
+     * Append the id as the last sort key, so rows with equal sort values (same date, same name)
+     * come back in a stable order across pages. UUIDv7 ids sort by creation time, so ties are broken
+     * oldest/newest first in the direction of the last requested order.
+     *
+     * @param pageable requested page
+     * @return the same page with a total order, or the original if it is unpaged or already sorts by id
+     */
+    public static Pageable withIdTiebreaker(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor(ID) != null) {
+            return pageable;
+        }
+        Sort.Direction direction = pageable.getSort().stream()
+            .reduce((first, second) -> second)
+            .map(Sort.Order::getDirection)
+            .orElse(Sort.Direction.ASC);
+        Sort sort = pageable.getSort().and(Sort.by(direction, ID));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
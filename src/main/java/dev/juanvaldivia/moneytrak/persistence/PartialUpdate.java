@@ -0,0 +1,115 @@
+package dev.juanvaldivia.moneytrak.persistence;
+
+import dev.juanvaldivia.moneytrak.sync.ChangeSequence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs a partial update as a single conditional statement that writes only the changed columns:
+ * {@code UPDATE ... SET <changed>, version = version + 1, updated_at = ?, change_seq = ?
+ * WHERE id = ? AND version = ? [AND ...]}.
+ *
+ * <p>Used by the PUT and PATCH (merge patch) write paths of versioned entities with
+ * {@code id}, {@code version}, {@code updatedAt} and {@code changeSequence} attributes.
+ * The statement bypasses the persistence context and entity listeners, so the version, timestamp and
+ * change sequence are set here, and pending changes are flushed and the context cleared around it.
+ */
+@Component
+public class PartialUpdate {
+
+    /**
+     * Extra restriction added to the WHERE clause (e.g. a soft-delete flag or an EXISTS subquery).
+     *
+     * @param <T> entity type
+     */
+    @FunctionalInterface
+    public interface Condition<T> {
+        Predicate toPredicate(CriteriaBuilder cb, CriteriaUpdate<T> update, Root<T> root);
+    }
+
+    /**
+     * Attribute values to write. Null values mean "unchanged" and are skipped, except through {@link #setNullable}.
+     */
+    public static final class Changes {
+
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        public static Changes of() {
+            return new Changes();
+        }
+
+        public Changes set(String attribute, Object value) {
+            if (value != null) {
+                values.put(attribute, value);
+            }
+            return this;
+        }
+
+        /**
+         * Write the value even when it is null, clearing the column.
+         */
+        public Changes setNullable(String attribute, Object value) {
+            values.put(attribute, value);
+            return this;
+        }
+
+        public Map<String, Object> values() {
+            return values;
+        }
+    }
+
+    private final EntityManager entityManager;
+    private final ChangeSequence changeSequence;
+
+    public PartialUpdate(EntityManager entityManager, ChangeSequence changeSequence) {
+        this.entityManager = entityManager;
+        this.changeSequence = changeSequence;
+    }
+
+    /**
+     * Write the given changes if the stored version still matches.
+     * With no changes the row is still touched, so the version check and bump behave as for any update.
+     *
+     * @param entityType entity class
+     * @param id entity UUID
+     * @param version version the client read
+     * @param changes attributes to write
+     * @param condition extra restriction, or null
+     * @return 1 if updated, 0 if no row matched (missing, stale version or condition failed)
+     */
+    public <T> int update(Class<T> entityType, UUID id, Integer version, Changes changes, Condition<T> condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityType);
+        Root<T> root = update.from(entityType);
+
+        changes.values().forEach(update::set);
+        update.set(root.<Integer>get("version"), cb.sum(root.<Integer>get("version"), 1));
+        update.set("updatedAt", ZonedDateTime.now(ZoneOffset.UTC));
+        update.set("changeSequence", changeSequence.next());
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("id"), id));
+        predicates.add(cb.equal(root.get("version"), version));
+        if (condition != null) {
+            predicates.add(condition.toPredicate(cb, update, root));
+        }
+        update.where(predicates.toArray(Predicate[]::new));
+
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
@@ -2,19 +2,23 @@ package dev.juanvaldivia.moneytrak.readings;
 
 import dev.juanvaldivia.moneytrak.accounts.Account;
 import dev.juanvaldivia.moneytrak.accounts.AccountRepository;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
 import dev.juanvaldivia.moneytrak.exception.ConflictException;
 import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import dev.juanvaldivia.moneytrak.persistence.Pageables;
+import dev.juanvaldivia.moneytrak.persistence.PartialUpdate;
 import dev.juanvaldivia.moneytrak.readings.dto.ReadingCreationDto;
 import dev.juanvaldivia.moneytrak.readings.dto.ReadingDto;
 import dev.juanvaldivia.moneytrak.readings.dto.ReadingUpdateDto;
 import dev.juanvaldivia.moneytrak.readings.mapper.ReadingMapper;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.OptimisticLockException;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,18 +33,21 @@ public class LocalReadingService implements ReadingService {
     private final ReadingRepository readingRepository;
     private final AccountRepository accountRepository;
     private final ReadingMapper mapper;
-    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PartialUpdate partialUpdate;
 
     public LocalReadingService(
         ReadingRepository readingRepository,
         AccountRepository accountRepository,
         ReadingMapper mapper,
-        EntityManager entityManager
+        ApplicationEventPublisher eventPublisher,
+        PartialUpdate partialUpdate
     ) {
         this.readingRepository = readingRepository;
         this.accountRepository = accountRepository;
         this.mapper = mapper;
-        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.partialUpdate = partialUpdate;
     }
 
     @Override
@@ -51,6 +58,7 @@ public class LocalReadingService implements ReadingService {
 
         Reading entity = mapper.toEntity(dto, account);
         Reading saved = readingRepository.save(entity);
+        eventPublisher.publishEvent(EntityChangedEvent.created(SyncEntityType.READING, saved.id(), saved.version()));
         return mapper.toDto(saved);
     }
 
@@ -64,21 +72,24 @@ public class LocalReadingService implements ReadingService {
 
     @Override
     public ReadingDto updateReading(UUID id, ReadingUpdateDto dto) {
-        Reading existing = readingRepository.findByIdAndDeletedFalse(id)
-            .orElseThrow(() -> new NotFoundException("Reading not found with id: " + id));
-
-        if (!existing.version().equals(dto.version())) {
+        // Conditional UPDATE of the provided columns only: version check and write in one statement
+        PartialUpdate.Changes changes = PartialUpdate.Changes.of()
+            .set("amount", dto.amount())
+            .set("readingDate", dto.readingDate() != null ? dto.readingDate().withZoneSameInstant(ZoneOffset.UTC) : null);
+        int updated = partialUpdate.update(Reading.class, id, dto.version(), changes,
+            (cb, update, root) -> cb.isFalse(root.get("deleted")));
+        if (updated == 0) {
+            // Only the failure path pays for a second query, to tell 404 from 409
+            if (!readingRepository.existsByIdAndDeletedFalse(id)) {
+                throw new NotFoundException("Reading not found with id: " + id);
+            }
             throw new ConflictException("Version mismatch: reading has been modified");
         }
 
-        try {
-            mapper.updateEntity(existing, dto);
-            Reading saved = readingRepository.save(existing);
-            entityManager.flush(); // Force version increment
-            return mapper.toDto(saved);
-        } catch (OptimisticLockException e) {
-            throw new ConflictException("Version mismatch: reading has been modified");
-        }
+        Reading saved = readingRepository.findByIdAndDeletedFalse(id)
+            .orElseThrow(() -> new NotFoundException("Reading not found with id: " + id));
+        eventPublisher.publishEvent(EntityChangedEvent.updated(SyncEntityType.READING, saved.id(), saved.version()));
+        return mapper.toDto(saved);
     }
 
     @Override
@@ -88,6 +99,7 @@ public class LocalReadingService implements ReadingService {
 
         reading.markDeleted();
         readingRepository.save(reading);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(SyncEntityType.READING, id));
     }
 
     @Override
@@ -106,7 +118,7 @@ public class LocalReadingService implements ReadingService {
             throw new NotFoundException("Account not found with id: " + accountId);
         }
 
-        return readingRepository.findByAccountIdAndDeletedFalse(accountId, pageable)
+        return readingRepository.findByAccountIdAndDeletedFalse(accountId, Pageables.withIdTiebreaker(pageable))
             .map(mapper::toDto);
     }
 }
@@ -1,7 +1,11 @@
 package dev.juanvaldivia.moneytrak.readings;
 
 import dev.juanvaldivia.moneytrak.accounts.Account;
+import dev.juanvaldivia.moneytrak.sync.ChangeSequenceListener;
+import dev.juanvaldivia.moneytrak.sync.ChangeTracked;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -18,11 +22,14 @@ import java.util.UUID;
  * <p>Amount precision is DECIMAL(15,8) to support cryptocurrency balances with 8 decimal places.</p>
  */
 @Entity
+@DynamicUpdate
 @Table(name = "readings")
-public class Reading {
+@EntityListeners(ChangeSequenceListener.class)
+public class Reading implements ChangeTracked {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,6 +54,9 @@ public class Reading {
     @Column(nullable = false)
     private ZonedDateTime updatedAt;
 
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSequence = 0L;
+
     protected Reading() {
         // JPA requires no-arg constructor
     }
@@ -148,6 +158,15 @@ public class Reading {
         return updatedAt;
     }
 
+    public Long changeSequence() {
+        return changeSequence;
+    }
+
+    @Override
+    public void assignChangeSequence(long changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,6 @@
 package dev.juanvaldivia.moneytrak.readings;
 
+import dev.juanvaldivia.moneytrak.config.MediaTypes;
 import dev.juanvaldivia.moneytrak.readings.dto.ReadingCreationDto;
 import dev.juanvaldivia.moneytrak.readings.dto.ReadingDto;
 import dev.juanvaldivia.moneytrak.readings.dto.ReadingUpdateDto;
@@ -84,6 +85,27 @@ public class ReadingController {
         return ResponseEntity.ok(service.updateReading(id, dto));
     }
 
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to a reading.
+     * PATCH /v1/readings/{id} (Content-Type: application/merge-patch+json)
+     *
+     * Only the members present in the patch are written; version is required.
+     * Members cannot be removed, so null members are ignored.
+     *
+     * @param id reading UUID
+     * @param patch merge patch with version for optimistic locking
+     * @return 200 OK with updated reading
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found or soft-deleted (404)
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if version mismatch (409)
+     */
+    @PatchMapping(value = "/{id}", consumes = MediaTypes.MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<ReadingDto> patchReading(
+        @PathVariable UUID id,
+        @Valid @RequestBody ReadingUpdateDto patch
+    ) {
+        return ResponseEntity.ok(service.updateReading(id, patch));
+    }
+
     /**
      * Soft delete reading by ID.
      * DELETE /v1/readings/{id}
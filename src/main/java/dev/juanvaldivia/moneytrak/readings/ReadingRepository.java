@@ -3,6 +3,7 @@ package dev.juanvaldivia.moneytrak.readings;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +14,8 @@ import java.util.UUID;
 
 /**
  * Spring Data JPA repository for Reading entity.
- * All queries filter out soft-deleted readings (deleted=true).
+ * All queries filter out soft-deleted readings (deleted=true), except the delta-sync query,
+ * which reports them as deletions.
  */
 @Repository
 public interface ReadingRepository extends JpaRepository<Reading, UUID> {
@@ -67,4 +69,42 @@ public interface ReadingRepository extends JpaRepository<Reading, UUID> {
      * @return page of readings ordered by date descending (most recent first)
      */
     Page<Reading> findByAccountIdAndDeletedFalse(UUID accountId, Pageable pageable);
+
+    /**
+     * Find readings written within a change sequence range, for delta sync.
+     * Uses the change_seq index and JOIN FETCH to load accounts in the same query.
+     *
+     * @param after exclusive lower bound
+     * @param upTo inclusive upper bound
+     * @param includeDeleted whether soft-deleted readings are returned
+     * @param pageable limit (sort is fixed by the query)
+     * @return readings ordered by change sequence
+     */
+    @Query("SELECT r FROM Reading r JOIN FETCH r.account " +
+           "WHERE r.changeSequence > :after AND r.changeSequence <= :upTo " +
+           "AND (:includeDeleted = true OR r.deleted = false) ORDER BY r.changeSequence")
+    List<Reading> findChangedBetween(
+        @Param("after") long after,
+        @Param("upTo") long upTo,
+        @Param("includeDeleted") boolean includeDeleted,
+        Pageable pageable);
+
+    /**
+     * Check whether an active (non-deleted) reading exists.
+     *
+     * @param id reading UUID
+     * @return true if the reading exists and is not soft-deleted
+     */
+    boolean existsByIdAndDeletedFalse(UUID id);
+
+    /**
+     * Hard-delete the soft-deleted readings of an account, so the account row itself can be deleted
+     * (fk_reading_account is ON DELETE RESTRICT). Sync clients already saw these readings as deleted.
+     *
+     * @param accountId account UUID
+     * @return number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Reading r WHERE r.account.id = :accountId AND r.deleted = true")
+    int deleteSoftDeletedByAccountId(@Param("accountId") UUID accountId);
 }
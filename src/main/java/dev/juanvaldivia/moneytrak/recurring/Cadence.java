@@ -0,0 +1,67 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import java.time.LocalDate;
+
+/**
+ * Repetition period of a recurring series.
+ */
+public enum Cadence {
+    WEEKLY(7, 1),
+    MONTHLY(30, 4),
+    YEARLY(365, 10);
+
+    private final int days;
+    private final int toleranceDays;
+
+    Cadence(int days, int toleranceDays) {
+        this.days = days;
+        this.toleranceDays = toleranceDays;
+    }
+
+    /**
+     * @return typical number of days between occurrences
+     */
+    public int days() {
+        return days;
+    }
+
+    /**
+     * @param interval days between two occurrences
+     * @return whether the interval fits this cadence; months and years vary in length, and banks book late
+     */
+    boolean fits(long interval) {
+        return Math.abs(interval - days) <= toleranceDays;
+    }
+
+    /**
+     * @return the date one period after {@code date}, by calendar for months and years
+     */
+    public LocalDate next(LocalDate date) {
+        return plus(date, 1);
+    }
+
+    /**
+     * @return the date {@code periods} periods after {@code date}; counted from the same anchor, so a
+     * series on the 31st stays on the last day of shorter months instead of drifting to the 28th
+     */
+    public LocalDate plus(LocalDate date, long periods) {
+        return switch (this) {
+            case WEEKLY -> date.plusWeeks(periods);
+            case MONTHLY -> date.plusMonths(periods);
+            case YEARLY -> date.plusYears(periods);
+        };
+    }
+
+    /**
+     * @param interval typical days between occurrences
+     * @return the cadence the interval fits, or null
+     */
+    public static Cadence of(long interval) {
+        for (Cadence cadence : values()) {
+            if (cadence.fits(interval)) {
+                return cadence;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,139 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import dev.juanvaldivia.moneytrak.events.EntitiesChangedEvent;
+import dev.juanvaldivia.moneytrak.recurring.dto.RecurringApplyResultDto;
+import dev.juanvaldivia.moneytrak.recurring.dto.RecurringSeriesDto;
+import dev.juanvaldivia.moneytrak.sync.ChangeSequence;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local implementation of RecurringService.
+ * Detection is delegated to {@link RecurringSeriesDetector}. When applying, it hands over each series with
+ * the ids of its VARIABLE transactions as soon as the series is found; those ids are updated right away with
+ * one set-based MERGE per batch, in a database transaction of its own, so updated transactions get a new
+ * version and change sequence, and each batch is announced with one {@link EntitiesChangedEvent}.
+ */
+@Service
+public class LocalRecurringService implements RecurringService {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalRecurringService.class);
+
+    private static final Comparator<RecurringSeriesDetector.Series> ACTIVE_FIRST =
+        Comparator.comparing(RecurringSeriesDetector.Series::active).reversed()
+            .thenComparing(RecurringSeriesDetector.Series::expectedNextDate);
+
+    // Keeps the IN list and the VALUES list of one batch within what drivers bind comfortably
+    private static final int BATCH_SIZE = 500;
+
+    // Still VARIABLE: one may have been edited since detection
+    private static final String LOCK_VARIABLE =
+        "SELECT id FROM transactions WHERE id IN (:ids) AND transaction_stability = 'VARIABLE' FOR UPDATE";
+
+    private final RecurringSeriesDetector detector;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ChangeSequence changeSequence;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public LocalRecurringService(
+        RecurringSeriesDetector detector,
+        JdbcTemplate jdbcTemplate,
+        ChangeSequence changeSequence,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.detector = detector;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.changeSequence = changeSequence;
+        this.eventPublisher = eventPublisher;
+        // Batches commit on their own while the detector's read-only scan is still open
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<RecurringSeriesDto> detectSeries() {
+        return detector.detect().stream()
+            .sorted(ACTIVE_FIRST)
+            .map(LocalRecurringService::toDto)
+            .toList();
+    }
+
+    @Override
+    public RecurringApplyResultDto applyFixedStability() {
+        AtomicInteger updated = new AtomicInteger();
+        List<RecurringSeriesDetector.Series> series = detector.detect((detected, ids) -> {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<UUID> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                try {
+                    updated.addAndGet(Objects.requireNonNull(transactionTemplate.execute(status -> markFixed(batch))));
+                } catch (RuntimeException e) {
+                    log.warn("Skipped marking recurring series '{}' as FIXED: {}", detected.description(), e.getMessage());
+                }
+            }
+        });
+        return new RecurringApplyResultDto(series.size(), updated.get());
+    }
+
+    private int markFixed(List<UUID> ids) {
+        List<UUID> locked = namedJdbcTemplate.query(LOCK_VARIABLE, new MapSqlParameterSource("ids", ids),
+            (rs, i) -> rs.getObject("id", UUID.class));
+        if (locked.isEmpty()) {
+            return 0;
+        }
+
+        // One change sequence per row: sync pages end on a sequence number, so rows must not share one
+        long firstSequence = changeSequence.nextBlock(locked.size());
+        List<Object> args = new ArrayList<>(locked.size() * 2 + 1);
+        for (int i = 0; i < locked.size(); i++) {
+            args.add(locked.get(i));
+            args.add(firstSequence + i);
+        }
+        args.add(OffsetDateTime.now(ZoneOffset.UTC));
+        jdbcTemplate.update(markFixedStatement(locked.size()), args.toArray());
+
+        eventPublisher.publishEvent(EntitiesChangedEvent.updated(SyncEntityType.TRANSACTION, locked));
+        return locked.size();
+    }
+
+    /**
+     * Standard MERGE (PostgreSQL 15+, H2) joining the batch's ids to their new change sequences,
+     * so the whole batch is marked by one statement.
+     */
+    private static String markFixedStatement(int rows) {
+        return "MERGE INTO transactions t USING (VALUES " +
+            String.join(", ", Collections.nCopies(rows, "(CAST(? AS UUID), CAST(? AS BIGINT))")) +
+            ") AS m (id, change_seq) ON t.id = m.id " +
+            "WHEN MATCHED THEN UPDATE SET transaction_stability = 'FIXED', version = t.version + 1, " +
+            "updated_at = CAST(? AS TIMESTAMP WITH TIME ZONE), change_seq = m.change_seq";
+    }
+
+    private static RecurringSeriesDto toDto(RecurringSeriesDetector.Series series) {
+        RecurringSeriesDetector.SeriesKey key = series.key();
+        return new RecurringSeriesDto(series.description(), key.categoryId(), key.type(), key.currency(),
+            series.cadence(), series.occurrences(), series.variableCount(), series.lastDate(),
+            series.expectedNextDate(), series.expectedAmount(), series.active());
+    }
+}
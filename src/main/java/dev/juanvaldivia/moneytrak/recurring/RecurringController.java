@@ -0,0 +1,50 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import dev.juanvaldivia.moneytrak.recurring.dto.RecurringApplyResultDto;
+import dev.juanvaldivia.moneytrak.recurring.dto.RecurringSeriesDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for recurring transaction detection.
+ * All endpoints are versioned under /v1/recurring.
+ */
+@Tag(name = "Recurring", description = "Recurring transaction detection endpoints")
+@RestController
+@RequestMapping("/v1/recurring")
+public class RecurringController {
+
+    private final RecurringService recurringService;
+
+    public RecurringController(RecurringService recurringService) {
+        this.recurringService = recurringService;
+    }
+
+    /**
+     * List recurring series found in the ledger, with when and how much each is expected next.
+     * GET /v1/recurring
+     *
+     * @return 200 OK with series, active ones first
+     */
+    @GetMapping
+    public ResponseEntity<List<RecurringSeriesDto>> listSeries() {
+        return ResponseEntity.ok(recurringService.detectSeries());
+    }
+
+    /**
+     * Mark the transactions of every recurring series as FIXED.
+     * POST /v1/recurring/apply
+     *
+     * @return 200 OK with the number of series found and transactions updated
+     */
+    @PostMapping("/apply")
+    public ResponseEntity<RecurringApplyResultDto> applyFixedStability() {
+        return ResponseEntity.ok(recurringService.applyFixedStability());
+    }
+}
@@ -0,0 +1,23 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Recurring series detection settings.
+ *
+ * @param minOccurrences transactions a group needs before it can be a series
+ * @param history most recent occurrences per group the cadence and amount are judged on; bounds memory
+ * @param minRegularity share (0 to 1) of intervals and amounts that must fit the series
+ * @param amountTolerance relative deviation (0 to 1) from the median amount that still fits the series
+ * @param fetchSize rows fetched per round trip while streaming the ledger
+ */
+@ConfigurationProperties(prefix = "moneytrak.recurring")
+public record RecurringDetectionProperties(
+    @DefaultValue("3") int minOccurrences,
+    @DefaultValue("24") int history,
+    @DefaultValue("0.8") double minRegularity,
+    @DefaultValue("0.1") double amountTolerance,
+    @DefaultValue("1000") int fetchSize
+) {
+}
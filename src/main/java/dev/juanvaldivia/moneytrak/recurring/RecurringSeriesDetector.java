@@ -0,0 +1,273 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import dev.juanvaldivia.moneytrak.transactions.TransactionStability;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Finds recurring series in the ledger: transactions with the same category, currency, type and
+ * merchant that repeat weekly, monthly or yearly for a stable amount. "Netflix.com 1234" and
+ * "NETFLIX.COM 5678" are then one series, as {@link dev.juanvaldivia.moneytrak.merchants.MerchantNormalizer}
+ * gives them the same merchant; transactions without a merchant group on their lowercased description.
+ *
+ * <p>The database sorts the ledger by group and date, and the rows are streamed through in that order
+ * with a bounded fetch size. Only the current group is held, and of it only the last
+ * {@link RecurringDetectionProperties#history()} occurrences, so memory stays flat whatever the ledger
+ * size; the sort itself spills to disk on the database side when it has to. When the series are to be
+ * applied, the current group also holds the ids of its VARIABLE transactions, which are handed over and
+ * dropped as soon as the group ends.</p>
+ *
+ * <p>A group is a series when the median interval between its occurrences fits a {@link Cadence}, and
+ * enough intervals and amounts fit it too (a skipped month or one price change does not break a
+ * series).</p>
+ */
+@Component
+@EnableConfigurationProperties(RecurringDetectionProperties.class)
+public class RecurringSeriesDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringSeriesDetector.class);
+
+    /**
+     * SQL expression for {@link SeriesKey#merchantKey()}, shared with the indexes that group like this class.
+     */
+    public static final String MERCHANT_KEY = "COALESCE(CAST(merchant_id AS VARCHAR), LOWER(description))";
+
+    private static final String ORDERED_LEDGER =
+        "SELECT id, category_id, currency, transaction_type, " + MERCHANT_KEY + " AS merchant_key, description, " +
+        "amount, date, transaction_stability FROM transactions " +
+        "ORDER BY category_id, currency, transaction_type, " + MERCHANT_KEY + ", date";
+
+    /**
+     * What transactions of one series have in common.
+     *
+     * @param merchantKey merchant id, or the lowercased description when the transaction has no merchant
+     */
+    public record SeriesKey(UUID categoryId, String currency, TransactionType type, String merchantKey) {
+    }
+
+    /**
+     * A detected series.
+     *
+     * @param key grouping key
+     * @param description description of the latest occurrence
+     * @param cadence repetition period
+     * @param occurrences transactions in the series
+     * @param variableCount of those, the ones not marked FIXED yet
+     * @param lastDate date of the latest occurrence
+     * @param expectedNextDate one period after the latest occurrence
+     * @param expectedAmount amount of the latest occurrence
+     * @param active whether the next occurrence is less than one period overdue
+     */
+    public record Series(SeriesKey key, String description, Cadence cadence, int occurrences, int variableCount,
+                         LocalDate lastDate, LocalDate expectedNextDate, BigDecimal expectedAmount, boolean active) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final RecurringDetectionProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public RecurringSeriesDetector(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   RecurringDetectionProperties properties) {
+        this(jdbcTemplate, transactionManager, properties, Clock.systemUTC());
+    }
+
+    RecurringSeriesDetector(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            RecurringDetectionProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Scan the whole ledger.
+     *
+     * @return detected series, in grouping order
+     */
+    public List<Series> detect() {
+        return scan(null);
+    }
+
+    /**
+     * Scan the whole ledger and hand each series over as soon as its group ends, with the ids of its
+     * VARIABLE transactions. Only this variant collects ids, and only for the current group. The handler
+     * runs inside the scan's read-only database transaction.
+     *
+     * @param onSeries called with each series and the ids of its VARIABLE transactions
+     * @return detected series, in grouping order
+     */
+    public List<Series> detect(BiConsumer<Series, List<UUID>> onSeries) {
+        return scan(Objects.requireNonNull(onSeries));
+    }
+
+    private List<Series> scan(BiConsumer<Series, List<UUID>> onSeries) {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now(clock);
+        Scan scan = new Scan(today, onSeries);
+        // In a transaction: the PostgreSQL driver only honours the fetch size with auto-commit off
+        readOnly.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ORDERED_LEDGER);
+            statement.setFetchSize(properties.fetchSize());
+            return statement;
+        }, scan::row));
+        scan.finish();
+        log.info("Scanned {} transactions in {} groups, found {} recurring series in {} ms",
+            scan.rows, scan.groups, scan.series.size(), (System.nanoTime() - start) / 1_000_000);
+        return scan.series;
+    }
+
+    /**
+     * Judge one group.
+     *
+     * @param key grouping key
+     * @param group occurrences, oldest first
+     * @param today reference date for {@link Series#active()}
+     * @return the series, or empty if the group does not repeat regularly
+     */
+    Optional<Series> evaluate(SeriesKey key, Group group, LocalDate today) {
+        if (group.dates.size() < Math.max(2, properties.minOccurrences())) {
+            return Optional.empty();
+        }
+        List<LocalDate> dates = new ArrayList<>(group.dates);
+        long[] intervals = new long[dates.size() - 1];
+        for (int i = 1; i < dates.size(); i++) {
+            intervals[i - 1] = dates.get(i).toEpochDay() - dates.get(i - 1).toEpochDay();
+        }
+        long[] sortedIntervals = intervals.clone();
+        Arrays.sort(sortedIntervals);
+        Cadence cadence = Cadence.of(sortedIntervals[sortedIntervals.length / 2]);
+        if (cadence == null || !mostlyFits(Arrays.stream(intervals).filter(cadence::fits).count(), intervals.length)) {
+            return Optional.empty();
+        }
+        BigDecimal median = group.amounts.stream().sorted().toList().get(group.amounts.size() / 2);
+        BigDecimal tolerance = median.multiply(BigDecimal.valueOf(properties.amountTolerance()));
+        long stableAmounts = group.amounts.stream()
+            .filter(amount -> amount.subtract(median).abs().compareTo(tolerance) <= 0)
+            .count();
+        if (!mostlyFits(stableAmounts, group.amounts.size())) {
+            return Optional.empty();
+        }
+        LocalDate last = dates.getLast();
+        LocalDate next = cadence.next(last);
+        return Optional.of(new Series(key, group.description, cadence, group.occurrences, group.variableCount, last,
+            next, group.amounts.getLast().setScale(2, RoundingMode.HALF_UP), !today.isAfter(next.plusDays(cadence.days()))));
+    }
+
+    private boolean mostlyFits(long fitting, int total) {
+        return fitting >= Math.ceil(properties.minRegularity() * total);
+    }
+
+    /**
+     * Occurrences of one group seen so far; only the most recent {@code history} are kept. When collecting,
+     * the ids of every VARIABLE one are kept too, so that applying the series needs no second query.
+     */
+    static final class Group {
+        private final int history;
+        private final ArrayDeque<LocalDate> dates = new ArrayDeque<>();
+        private final ArrayDeque<BigDecimal> amounts = new ArrayDeque<>();
+        private final List<UUID> variableIds;
+        private String description;
+        private int occurrences;
+        private int variableCount;
+
+        Group(int history) {
+            this(history, false);
+        }
+
+        Group(int history, boolean collectIds) {
+            this.history = history;
+            this.variableIds = collectIds ? new ArrayList<>() : null;
+        }
+
+        void add(UUID id, String description, LocalDate date, BigDecimal amount, boolean variable) {
+            if (dates.size() == history) {
+                dates.removeFirst();
+                amounts.removeFirst();
+            }
+            dates.addLast(date);
+            amounts.addLast(amount);
+            this.description = description;
+            occurrences++;
+            if (variable) {
+                variableCount++;
+                if (variableIds != null) {
+                    variableIds.add(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * State of one pass over the ordered ledger.
+     */
+    private final class Scan {
+        private final LocalDate today;
+        private final BiConsumer<Series, List<UUID>> onSeries;
+        private final List<Series> series = new ArrayList<>();
+        private SeriesKey key;
+        private Group group;
+        private long rows;
+        private long groups;
+
+        Scan(LocalDate today, BiConsumer<Series, List<UUID>> onSeries) {
+            this.today = today;
+            this.onSeries = onSeries;
+        }
+
+        void row(ResultSet rs) throws SQLException {
+            SeriesKey rowKey = new SeriesKey(rs.getObject("category_id", UUID.class), rs.getString("currency"),
+                TransactionType.valueOf(rs.getString("transaction_type")), rs.getString("merchant_key"));
+            if (!Objects.equals(rowKey, key)) {
+                finish();
+                key = rowKey;
+                group = new Group(properties.history(), onSeries != null);
+                groups++;
+            }
+            group.add(rs.getObject("id", UUID.class), rs.getString("description"),
+                rs.getObject("date", OffsetDateTime.class).withOffsetSameInstant(ZoneOffset.UTC).toLocalDate(),
+                rs.getBigDecimal("amount"),
+                TransactionStability.valueOf(rs.getString("transaction_stability")) == TransactionStability.VARIABLE);
+            rows++;
+        }
+
+        void finish() {
+            if (group != null) {
+                evaluate(key, group, today).ifPresent(detected -> {
+                    series.add(detected);
+                    if (onSeries != null) {
+                        onSeries.accept(detected, group.variableIds);
+                    }
+                });
+                group = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import dev.juanvaldivia.moneytrak.recurring.dto.RecurringApplyResultDto;
+import dev.juanvaldivia.moneytrak.recurring.dto.RecurringSeriesDto;
+
+import java.util.List;
+
+/**
+ * Service interface for recurring transaction detection.
+ * Each call scans the whole ledger; nothing is cached between calls.
+ */
+public interface RecurringService {
+
+    /**
+     * Detect recurring series without changing anything.
+     *
+     * @return series, active ones first, then by expected next date
+     */
+    List<RecurringSeriesDto> detectSeries();
+
+    /**
+     * Detect recurring series and mark their VARIABLE transactions as FIXED.
+     * Each series is updated in its own database transaction; a series whose transactions are edited
+     * concurrently is skipped and picked up by the next run.
+     *
+     * @return number of series detected and transactions updated
+     */
+    RecurringApplyResultDto applyFixedStability();
+}
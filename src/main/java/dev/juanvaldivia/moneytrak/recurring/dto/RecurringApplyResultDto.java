@@ -0,0 +1,10 @@
+package dev.juanvaldivia.moneytrak.recurring.dto;
+
+/**
+ * DTO summarizing a run that marked recurring transactions as FIXED.
+ *
+ * @param series recurring series detected
+ * @param updated transactions changed from VARIABLE to FIXED
+ */
+public record RecurringApplyResultDto(int series, int updated) {
+}
@@ -0,0 +1,38 @@
+package dev.juanvaldivia.moneytrak.recurring.dto;
+
+import dev.juanvaldivia.moneytrak.recurring.Cadence;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO for a detected recurring series.
+ *
+ * @param description description of the latest occurrence
+ * @param categoryId category of the series
+ * @param type EXPENSE or INCOME
+ * @param currency ISO 4217 currency code
+ * @param cadence WEEKLY, MONTHLY or YEARLY
+ * @param occurrences transactions in the series
+ * @param variableCount transactions of the series not marked FIXED yet
+ * @param lastDate date of the latest occurrence
+ * @param expectedNextDate one period after the latest occurrence
+ * @param expectedAmount amount of the latest occurrence
+ * @param active false once the next occurrence is more than one period overdue
+ */
+public record RecurringSeriesDto(
+    String description,
+    UUID categoryId,
+    TransactionType type,
+    String currency,
+    Cadence cadence,
+    int occurrences,
+    int variableCount,
+    LocalDate lastDate,
+    LocalDate expectedNextDate,
+    BigDecimal expectedAmount,
+    boolean active
+) {
+}
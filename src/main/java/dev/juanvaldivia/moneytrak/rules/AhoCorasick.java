@@ -0,0 +1,135 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton over a fixed set of keywords.
+ * One pass over the text reports every keyword occurrence, so scanning costs
+ * O(text length + matches) no matter how many keywords were compiled.
+ *
+ * <p>Immutable once built and safe to share between threads. Matching is exact on chars;
+ * callers normalize case on both sides.</p>
+ */
+final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    /** Goto function keyed by {@code state << 16 | char}. */
+    private final Map<Long, Integer> transitions;
+    private final int[] failure;
+    /** Keyword indexes ending at each state, including those reached through failure links. */
+    private final int[][] outputs;
+
+    private AhoCorasick(Map<Long, Integer> transitions, int[] failure, int[][] outputs) {
+        this.transitions = transitions;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Build the automaton.
+     *
+     * @param keywords keywords to find; the index in this list is reported on match. Empty keywords are ignored.
+     * @return compiled automaton
+     */
+    static AhoCorasick compile(List<String> keywords) {
+        Map<Long, Integer> transitions = new HashMap<>();
+        List<List<Integer>> outputs = new ArrayList<>();
+        outputs.add(new ArrayList<>());
+
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                long key = key(state, keyword.charAt(i));
+                Integer next = transitions.get(key);
+                if (next == null) {
+                    next = outputs.size();
+                    outputs.add(new ArrayList<>());
+                    transitions.put(key, next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(k);
+        }
+
+        // Children per state, to walk the trie breadth-first when computing failure links
+        List<List<long[]>> children = new ArrayList<>(outputs.size());
+        for (int s = 0; s < outputs.size(); s++) {
+            children.add(new ArrayList<>());
+        }
+        transitions.forEach((key, target) ->
+            children.get((int) (key >>> 16)).add(new long[] {key & 0xFFFF, target}));
+
+        int[] failure = new int[outputs.size()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (long[] child : children.get(ROOT)) {
+            queue.add((int) child[1]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (long[] child : children.get(state)) {
+                char c = (char) child[0];
+                int target = (int) child[1];
+                int fallback = failure[state];
+                while (fallback != ROOT && !transitions.containsKey(key(fallback, c))) {
+                    fallback = failure[fallback];
+                }
+                Integer next = transitions.get(key(fallback, c));
+                failure[target] = next != null && next != target ? next : ROOT;
+                // Parents are dequeued first, so the failure state's outputs are already complete
+                outputs.get(target).addAll(outputs.get(failure[target]));
+                queue.add(target);
+            }
+        }
+
+        int[][] packed = new int[outputs.size()][];
+        for (int s = 0; s < packed.length; s++) {
+            List<Integer> out = outputs.get(s);
+            packed[s] = out.isEmpty() ? NO_OUTPUT : out.stream().mapToInt(Integer::intValue).distinct().toArray();
+        }
+        return new AhoCorasick(transitions, failure, packed);
+    }
+
+    /**
+     * Report the index of every keyword occurring in the text, once per occurrence.
+     *
+     * @param text text to scan
+     * @param onMatch receives keyword indexes
+     */
+    void match(CharSequence text, IntConsumer onMatch) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Integer next = transitions.get(key(state, c));
+            while (next == null && state != ROOT) {
+                state = failure[state];
+                next = transitions.get(key(state, c));
+            }
+            state = next != null ? next : ROOT;
+            for (int k : outputs[state]) {
+                onMatch.accept(k);
+            }
+        }
+    }
+
+    /**
+     * @return number of trie states, for diagnostics
+     */
+    int stateCount() {
+        return failure.length;
+    }
+
+    private static long key(int state, char c) {
+        return (long) state << 16 | c;
+    }
+}
@@ -0,0 +1,194 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.categories.Category;
+import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing an auto-categorization rule.
+ * A rule matches a transaction when every condition it defines holds: the description pattern
+ * (substring or regular expression, case-insensitive), the amount range (inclusive) and the currency.
+ * Among matching rules the lowest priority wins, then the oldest.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "category_rules")
+public class CategoryRule {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false, foreignKey = @ForeignKey(name = "fk_category_rule_category"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "match_type", nullable = false, length = 16)
+    private RuleMatchType matchType;
+
+    @Column(length = 200)
+    private String pattern;
+
+    @Column(precision = 11, scale = 2)
+    private BigDecimal minAmount;
+
+    @Column(precision = 11, scale = 2)
+    private BigDecimal maxAmount;
+
+    @Column(length = 3)
+    private String currency;
+
+    @Column(nullable = false)
+    private int priority;
+
+    @Version
+    private Integer version;
+
+    @Column(nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+
+    protected CategoryRule() {
+        // JPA requires no-arg constructor
+    }
+
+    private CategoryRule(
+        Category category,
+        RuleMatchType matchType,
+        String pattern,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String currency,
+        int priority,
+        ZonedDateTime createdAt
+    ) {
+        this.category = category;
+        this.matchType = matchType;
+        this.pattern = pattern;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.currency = currency;
+        this.priority = priority;
+        this.version = 0;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    /**
+     * Create a new rule.
+     *
+     * @param category category assigned on match
+     * @param matchType how the pattern is applied to descriptions
+     * @param pattern description pattern (null to match any description)
+     * @param minAmount inclusive lower amount bound (null for none)
+     * @param maxAmount inclusive upper amount bound (null for none)
+     * @param currency required currency (null for any)
+     * @param priority evaluation order, lower first
+     * @return new rule instance
+     */
+    public static CategoryRule create(
+        Category category,
+        RuleMatchType matchType,
+        String pattern,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String currency,
+        int priority
+    ) {
+        return new CategoryRule(category, matchType, pattern, minAmount, maxAmount, currency, priority,
+            ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Update rule fields.
+     */
+    public void update(
+        Category category,
+        RuleMatchType matchType,
+        String pattern,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String currency,
+        int priority
+    ) {
+        this.category = category;
+        this.matchType = matchType;
+        this.pattern = pattern;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.currency = currency;
+        this.priority = priority;
+        this.updatedAt = ZonedDateTime.now(ZoneOffset.UTC);
+    }
+
+    // Getters
+    public UUID id() {
+        return id;
+    }
+
+    public Category category() {
+        return category;
+    }
+
+    public RuleMatchType matchType() {
+        return matchType;
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    public BigDecimal minAmount() {
+        return minAmount;
+    }
+
+    public BigDecimal maxAmount() {
+        return maxAmount;
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    public int priority() {
+        return priority;
+    }
+
+    public Integer version() {
+        return version;
+    }
+
+    public ZonedDateTime createdAt() {
+        return createdAt;
+    }
+
+    public ZonedDateTime updatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CategoryRule rule)) return false;
+        return Objects.equals(id, rule.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
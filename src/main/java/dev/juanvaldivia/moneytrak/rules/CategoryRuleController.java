@@ -0,0 +1,111 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleCreationDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleUpdateDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for auto-categorization rules.
+ * Rules assign a category to transactions created without one.
+ * All endpoints are versioned under /v1/rules.
+ */
+@Tag(name = "Rules", description = "Auto-categorization rule endpoints")
+@RestController
+@RequestMapping("/v1/rules")
+public class CategoryRuleController {
+
+    private final CategoryRuleService ruleService;
+
+    public CategoryRuleController(CategoryRuleService ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    /**
+     * Create a new rule.
+     * POST /v1/rules
+     *
+     * @param dto rule creation data
+     * @return 201 Created with Location header and created rule
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the category does not exist (404)
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the rule is invalid (400)
+     */
+    @PostMapping
+    public ResponseEntity<CategoryRuleDto> createRule(@Valid @RequestBody CategoryRuleCreationDto dto) {
+        CategoryRuleDto created = ruleService.createRule(dto);
+
+        URI location = ServletUriComponentsBuilder
+            .fromCurrentRequest()
+            .path("/{id}")
+            .buildAndExpand(created.id())
+            .toUri();
+
+        return ResponseEntity.created(location).body(created);
+    }
+
+    /**
+     * List all rules in evaluation order.
+     * GET /v1/rules
+     *
+     * @return 200 OK with rules ordered by priority, then creation time
+     */
+    @GetMapping
+    public ResponseEntity<List<CategoryRuleDto>> listRules() {
+        return ResponseEntity.ok(ruleService.listRules());
+    }
+
+    /**
+     * Get rule by ID.
+     * GET /v1/rules/{id}
+     *
+     * @param id rule UUID
+     * @return 200 OK with rule details
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found (404)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CategoryRuleDto> getRule(@PathVariable UUID id) {
+        return ResponseEntity.ok(ruleService.getRuleById(id));
+    }
+
+    /**
+     * Update existing rule with optimistic locking.
+     * PUT /v1/rules/{id}
+     *
+     * Partial updates supported - null fields preserve existing values.
+     *
+     * @param id rule UUID
+     * @param dto update data with version for optimistic locking
+     * @return 200 OK with updated rule
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found (404)
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if version mismatch (409)
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<CategoryRuleDto> updateRule(
+        @PathVariable UUID id,
+        @Valid @RequestBody CategoryRuleUpdateDto dto
+    ) {
+        return ResponseEntity.ok(ruleService.updateRule(id, dto));
+    }
+
+    /**
+     * Delete rule by ID.
+     * DELETE /v1/rules/{id}
+     *
+     * @param id rule UUID
+     * @return 204 No Content
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found (404)
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRule(@PathVariable UUID id) {
+        ruleService.deleteRule(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,170 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.events.ChangeKind;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies transactions with the user-defined rules.
+ *
+ * <p>The rule set is compiled on first use after every committed change. All CONTAINS patterns go into
+ * a single {@link AhoCorasick} automaton, so one pass over the description finds every matching
+ * substring rule regardless of how many exist. Only REGEX rules and rules without a pattern are
+ * checked one by one, and only those ranked ahead of the best automaton hit.</p>
+ */
+@Component
+public class CategoryRuleEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryRuleEngine.class);
+
+    private final CategoryRuleRepository repository;
+    private long generation;
+    private volatile CompiledRules compiled;
+
+    public CategoryRuleEngine(CategoryRuleRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Find the category of the first rule, in evaluation order, matching the transaction.
+     *
+     * @param description transaction description
+     * @param amount transaction amount
+     * @param currency transaction currency
+     * @return category id of the winning rule, or empty if none matches
+     */
+    public Optional<UUID> classify(String description, BigDecimal amount, String currency) {
+        return Optional.ofNullable(rules().classify(description, amount, currency));
+    }
+
+    /**
+     * Drop the compiled rule set once rule changes are committed; the next classification recompiles.
+     * Runs before the re-classification job so that it sees the new rules.
+     */
+    @Order(0)
+    @TransactionalEventListener
+    public void onRulesChanged(CategoryRulesChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Deleting a category removes its rules through the foreign key, without a rule event.
+     */
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type() == SyncEntityType.CATEGORY && event.kind() == ChangeKind.DELETED) {
+            invalidate();
+        }
+    }
+
+    private synchronized void invalidate() {
+        generation++;
+        compiled = null;
+    }
+
+    private CompiledRules rules() {
+        CompiledRules current = compiled;
+        if (current != null) {
+            return current;
+        }
+        long seen;
+        synchronized (this) {
+            seen = generation;
+        }
+        CompiledRules fresh = CompiledRules.compile(repository.findAllInEvaluationOrder());
+        synchronized (this) {
+            // A change committed while loading makes this copy stale: use it once, don't cache it
+            if (generation == seen) {
+                compiled = fresh;
+                log.info("Compiled {} category rule(s) into {} automaton state(s)",
+                    fresh.rules.size(), fresh.automaton.stateCount());
+            }
+        }
+        return fresh;
+    }
+
+    /**
+     * One rule reduced to what evaluation needs.
+     */
+    private record Rule(UUID categoryId, Pattern regex, BigDecimal minAmount, BigDecimal maxAmount, String currency) {
+
+        boolean accepts(BigDecimal amount, String currency) {
+            return (minAmount == null || amount.compareTo(minAmount) >= 0)
+                && (maxAmount == null || amount.compareTo(maxAmount) <= 0)
+                && (this.currency == null || this.currency.equalsIgnoreCase(currency));
+        }
+    }
+
+    /**
+     * Immutable compiled form of the rule set.
+     *
+     * @param rules rules in evaluation order
+     * @param automaton CONTAINS patterns, lowercased
+     * @param keywordRules rule index of each automaton keyword
+     * @param individualRules ascending indexes of REGEX and pattern-less rules
+     */
+    private record CompiledRules(List<Rule> rules, AhoCorasick automaton, int[] keywordRules, int[] individualRules) {
+
+        static CompiledRules compile(List<CategoryRule> entities) {
+            List<Rule> rules = new ArrayList<>(entities.size());
+            List<String> keywords = new ArrayList<>();
+            List<Integer> keywordRules = new ArrayList<>();
+            List<Integer> individualRules = new ArrayList<>();
+            for (CategoryRule entity : entities) {
+                String pattern = entity.pattern();
+                Pattern regex = null;
+                if (pattern == null) {
+                    individualRules.add(rules.size());
+                } else if (entity.matchType() == RuleMatchType.REGEX) {
+                    regex = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                    individualRules.add(rules.size());
+                } else {
+                    keywords.add(pattern.toLowerCase(Locale.ROOT));
+                    keywordRules.add(rules.size());
+                }
+                rules.add(new Rule(entity.category().getId(), regex, entity.minAmount(), entity.maxAmount(),
+                    entity.currency()));
+            }
+            return new CompiledRules(
+                List.copyOf(rules),
+                AhoCorasick.compile(keywords),
+                keywordRules.stream().mapToInt(Integer::intValue).toArray(),
+                individualRules.stream().mapToInt(Integer::intValue).toArray()
+            );
+        }
+
+        UUID classify(String description, BigDecimal amount, String currency) {
+            int[] best = {Integer.MAX_VALUE};
+            automaton.match(description.toLowerCase(Locale.ROOT), keyword -> {
+                int index = keywordRules[keyword];
+                if (index < best[0] && rules.get(index).accepts(amount, currency)) {
+                    best[0] = index;
+                }
+            });
+            for (int index : individualRules) {
+                if (index >= best[0]) {
+                    break;
+                }
+                Rule rule = rules.get(index);
+                if (rule.accepts(amount, currency) && (rule.regex() == null || rule.regex().matcher(description).find())) {
+                    best[0] = index;
+                    break;
+                }
+            }
+            return best[0] == Integer.MAX_VALUE ? null : rules.get(best[0]).categoryId();
+        }
+    }
+}
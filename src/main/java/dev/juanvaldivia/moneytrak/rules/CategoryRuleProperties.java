@@ -0,0 +1,17 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Auto-categorization settings.
+ *
+ * @param reapplyEnabled whether rule changes are re-applied to existing "Others" transactions
+ * @param reapplyChunkSize transactions re-classified per database transaction
+ */
+@ConfigurationProperties(prefix = "moneytrak.rules")
+public record CategoryRuleProperties(
+    @DefaultValue("true") boolean reapplyEnabled,
+    @DefaultValue("500") int reapplyChunkSize
+) {
+}
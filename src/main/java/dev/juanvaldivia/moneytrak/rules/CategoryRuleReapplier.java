@@ -0,0 +1,170 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.transactions.Transaction;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFigures;
+import dev.juanvaldivia.moneytrak.transactions.TransactionFiguresRecorder;
+import dev.juanvaldivia.moneytrak.transactions.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Background job that re-classifies existing transactions after rules change.
+ *
+ * <p>Only transactions still in "Others" are considered: a category picked by the user, or already
+ * assigned by a rule, is never overridden. Transactions are walked by id in chunks, each chunk in its
+ * own database transaction, so a large backlog never holds locks for long. Moved transactions get a new
+ * version and change sequence through the regular entity path and are announced like any other update.</p>
+ *
+ * <p>Runs on a virtual thread. Changes arriving while a pass is running are coalesced into one more pass.</p>
+ */
+@Component
+@EnableConfigurationProperties(CategoryRuleProperties.class)
+public class CategoryRuleReapplier {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryRuleReapplier.class);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final CategoryRuleProperties properties;
+    private final CategoryRuleEngine engine;
+    private final CategoryRepository categoryRepository;
+    private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionFiguresRecorder figures;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CategoryRuleReapplier(
+        CategoryRuleProperties properties,
+        CategoryRuleEngine engine,
+        CategoryRepository categoryRepository,
+        TransactionRepository transactionRepository,
+        ApplicationEventPublisher eventPublisher,
+        TransactionFiguresRecorder figures,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.properties = properties;
+        this.engine = engine;
+        this.categoryRepository = categoryRepository;
+        this.transactionRepository = transactionRepository;
+        this.eventPublisher = eventPublisher;
+        this.figures = figures;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Schedule a pass once rule changes are committed. Ordered after the engine drops its compiled rules.
+     */
+    @Order(1)
+    @TransactionalEventListener
+    public void onRulesChanged(CategoryRulesChangedEvent event) {
+        if (properties.reapplyEnabled()) {
+            requestRun();
+        }
+    }
+
+    private void requestRun() {
+        pending.set(true);
+        if (running.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("category-rule-reapply").start(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            try {
+                while (pending.getAndSet(false)) {
+                    reapply();
+                }
+            } finally {
+                running.set(false);
+            }
+            // A request may have arrived between the last check and releasing the flag
+        } while (pending.get() && running.compareAndSet(false, true));
+    }
+
+    /**
+     * Re-classify every transaction in "Others", one chunk at a time.
+     *
+     * @return number of transactions moved to another category
+     */
+    int reapply() {
+        long start = System.nanoTime();
+        Optional<UUID> others = categoryRepository.findByNameIgnoreCase("Others").map(Category::getId);
+        if (others.isEmpty()) {
+            return 0;
+        }
+        int scanned = 0;
+        int moved = 0;
+        UUID after = FIRST_ID;
+        try {
+            while (true) {
+                UUID cursor = after;
+                Chunk chunk = transactionTemplate.execute(status -> reapplyChunk(others.get(), cursor));
+                scanned += chunk.scanned();
+                moved += chunk.moved();
+                if (chunk.lastId() == null) {
+                    break;
+                }
+                after = chunk.lastId();
+            }
+        } catch (RuntimeException e) {
+            // Typically a concurrent edit of a transaction in the chunk; the next rule change retries
+            log.warn("Re-applying category rules stopped after {} transaction(s): {}", scanned, e.getMessage());
+        }
+        log.info("Re-applied category rules to {} transaction(s) in Others, moved {} in {} ms",
+            scanned, moved, (System.nanoTime() - start) / 1_000_000);
+        return moved;
+    }
+
+    private Chunk reapplyChunk(UUID othersId, UUID after) {
+        List<Transaction> transactions = transactionRepository.findByCategoryIdAfter(
+            othersId, after, PageRequest.ofSize(properties.reapplyChunkSize()));
+        if (transactions.isEmpty()) {
+            return new Chunk(0, 0, null);
+        }
+        Map<UUID, Optional<Category>> targets = new HashMap<>();
+        List<Transaction> changed = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            engine.classify(transaction.description(), transaction.amount(), transaction.currency())
+                .filter(categoryId -> !categoryId.equals(othersId))
+                .flatMap(categoryId -> targets.computeIfAbsent(categoryId, categoryRepository::findById))
+                .ifPresent(category -> {
+                    TransactionFigures before = TransactionFigures.of(transaction);
+                    transaction.assignCategory(category);
+                    figures.record(before, TransactionFigures.of(transaction));
+                    changed.add(transaction);
+                });
+        }
+        // Flush first so the events carry the incremented versions
+        transactionRepository.flush();
+        for (Transaction transaction : changed) {
+            eventPublisher.publishEvent(
+                EntityChangedEvent.updated(SyncEntityType.TRANSACTION, transaction.id(), transaction.version()));
+        }
+        return new Chunk(transactions.size(), changed.size(), transactions.getLast().id());
+    }
+
+    private record Chunk(int scanned, int moved, UUID lastId) {
+    }
+}
@@ -0,0 +1,40 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.categories.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for CategoryRule entity.
+ */
+@Repository
+public interface CategoryRuleRepository extends JpaRepository<CategoryRule, UUID> {
+
+    /**
+     * Find all rules in evaluation order: priority, then creation time, then id.
+     * Categories are fetched in the same query for the response DTOs.
+     *
+     * @return all rules in evaluation order
+     */
+    @Query("SELECT r FROM CategoryRule r JOIN FETCH r.category ORDER BY r.priority, r.createdAt, r.id")
+    List<CategoryRule> findAllInEvaluationOrder();
+
+    /**
+     * Move every rule of a category to another category in a single statement.
+     * Bypasses the persistence context, so the version and timestamp are set here.
+     *
+     * @return number of rules moved
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CategoryRule r SET r.category = :target, r.version = r.version + 1, r.updatedAt = :updatedAt " +
+           "WHERE r.category.id = :sourceId")
+    int moveToCategory(@Param("sourceId") UUID sourceId, @Param("target") Category target,
+                       @Param("updatedAt") ZonedDateTime updatedAt);
+}
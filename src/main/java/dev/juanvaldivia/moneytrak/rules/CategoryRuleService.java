@@ -0,0 +1,62 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleCreationDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleUpdateDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for auto-categorization rule management.
+ * Every committed change recompiles the rule set and re-classifies transactions still in "Others".
+ */
+public interface CategoryRuleService {
+
+    /**
+     * Create a new rule.
+     *
+     * @param dto rule creation data
+     * @return created rule
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the category does not exist
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the rule has no condition,
+     *         an invalid regular expression or an empty amount range
+     */
+    CategoryRuleDto createRule(CategoryRuleCreationDto dto);
+
+    /**
+     * List all rules in evaluation order.
+     *
+     * @return rules ordered by priority, then creation time
+     */
+    List<CategoryRuleDto> listRules();
+
+    /**
+     * Get rule by ID.
+     *
+     * @param id rule UUID
+     * @return rule details
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found
+     */
+    CategoryRuleDto getRuleById(UUID id);
+
+    /**
+     * Update existing rule with optimistic locking.
+     *
+     * @param id rule UUID
+     * @param dto update data (null fields keep their value)
+     * @return updated rule
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if the rule or the new category is not found
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if version mismatch
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the resulting rule is invalid
+     */
+    CategoryRuleDto updateRule(UUID id, CategoryRuleUpdateDto dto);
+
+    /**
+     * Delete rule by ID. Transactions it already classified keep their category.
+     *
+     * @param id rule UUID
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if not found
+     */
+    void deleteRule(UUID id);
+}
@@ -0,0 +1,8 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+/**
+ * Published inside the write transaction whenever a rule is created, updated or deleted.
+ * Listeners act on it after commit: the engine recompiles and existing transactions are re-classified.
+ */
+public record CategoryRulesChangedEvent() {
+}
@@ -0,0 +1,139 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.categories.CategoryMergedEvent;
+import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import dev.juanvaldivia.moneytrak.exception.ConflictException;
+import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleCreationDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleUpdateDto;
+import dev.juanvaldivia.moneytrak.rules.mapper.CategoryRuleMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Local implementation of CategoryRuleService.
+ * Validates rules as a whole (after merging partial updates) and announces every change
+ * with a {@link CategoryRulesChangedEvent}.
+ */
+@Service
+@Transactional
+public class LocalCategoryRuleService implements CategoryRuleService {
+
+    private final CategoryRuleRepository ruleRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryRuleMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LocalCategoryRuleService(
+        CategoryRuleRepository ruleRepository,
+        CategoryRepository categoryRepository,
+        CategoryRuleMapper mapper,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.ruleRepository = ruleRepository;
+        this.categoryRepository = categoryRepository;
+        this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public CategoryRuleDto createRule(CategoryRuleCreationDto dto) {
+        CategoryRule rule = mapper.toEntity(dto, findCategory(dto.categoryId()));
+        validate(rule);
+        CategoryRule saved = ruleRepository.save(rule);
+        eventPublisher.publishEvent(new CategoryRulesChangedEvent());
+        return mapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryRuleDto> listRules() {
+        return ruleRepository.findAllInEvaluationOrder().stream()
+            .map(mapper::toDto)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryRuleDto getRuleById(UUID id) {
+        return mapper.toDto(findRule(id));
+    }
+
+    @Override
+    public CategoryRuleDto updateRule(UUID id, CategoryRuleUpdateDto dto) {
+        CategoryRule rule = findRule(id);
+        if (!rule.version().equals(dto.version())) {
+            throw new ConflictException("Version mismatch: rule has been modified");
+        }
+        Category category = dto.categoryId() != null ? findCategory(dto.categoryId()) : null;
+        mapper.updateEntity(rule, dto, category);
+        validate(rule);
+        CategoryRule saved = ruleRepository.saveAndFlush(rule);
+        eventPublisher.publishEvent(new CategoryRulesChangedEvent());
+        return mapper.toDto(saved);
+    }
+
+    @Override
+    public void deleteRule(UUID id) {
+        ruleRepository.delete(findRule(id));
+        eventPublisher.publishEvent(new CategoryRulesChangedEvent());
+    }
+
+    /**
+     * Point the merged category's rules at the target, inside the merge transaction.
+     */
+    @EventListener
+    public void onCategoryMerged(CategoryMergedEvent event) {
+        int moved = ruleRepository.moveToCategory(event.sourceId(),
+            categoryRepository.getReferenceById(event.targetId()), ZonedDateTime.now());
+        if (moved > 0) {
+            eventPublisher.publishEvent(new CategoryRulesChangedEvent());
+        }
+    }
+
+    private CategoryRule findRule(UUID id) {
+        return ruleRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Rule not found with id: " + id));
+    }
+
+    private Category findCategory(UUID categoryId) {
+        return categoryRepository.findById(categoryId)
+            .orElseThrow(() -> new NotFoundException("Category not found with id: " + categoryId));
+    }
+
+    /**
+     * Checks that need the whole rule: a rule without conditions would swallow every transaction.
+     */
+    private static void validate(CategoryRule rule) {
+        if (rule.pattern() == null && rule.minAmount() == null && rule.maxAmount() == null && rule.currency() == null) {
+            throw new BadRequestException("Rule must define a pattern, an amount bound or a currency");
+        }
+        if (rule.pattern() != null && rule.pattern().isBlank()) {
+            throw new BadRequestException("Pattern must not be blank");
+        }
+        if (rule.minAmount() != null && rule.maxAmount() != null && rule.minAmount().compareTo(rule.maxAmount()) > 0) {
+            throw new BadRequestException("minAmount must not be greater than maxAmount");
+        }
+        if (rule.matchType() == RuleMatchType.REGEX) {
+            if (rule.pattern() == null) {
+                throw new BadRequestException("REGEX rules require a pattern");
+            }
+            try {
+                Pattern.compile(rule.pattern());
+            } catch (PatternSyntaxException e) {
+                throw new BadRequestException("Invalid regular expression: " + e.getDescription());
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+/**
+ * How a rule's pattern is applied to transaction descriptions.
+ * Both comparisons ignore case.
+ */
+public enum RuleMatchType {
+    /**
+     * Description contains the pattern as a substring.
+     */
+    CONTAINS,
+
+    /**
+     * Pattern is a regular expression found anywhere in the description.
+     */
+    REGEX
+}
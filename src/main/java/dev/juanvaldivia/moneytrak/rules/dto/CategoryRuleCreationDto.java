@@ -0,0 +1,51 @@
+package dev.juanvaldivia.moneytrak.rules.dto;
+
+import dev.juanvaldivia.moneytrak.rules.RuleMatchType;
+import dev.juanvaldivia.moneytrak.validation.Currency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for creating a new auto-categorization rule.
+ * At least one of pattern, minAmount, maxAmount or currency is required.
+ *
+ * @param categoryId category assigned on match (required)
+ * @param matchType CONTAINS or REGEX (optional, defaults to CONTAINS)
+ * @param pattern description substring or regular expression (optional, max 200 chars)
+ * @param minAmount inclusive lower amount bound (optional)
+ * @param maxAmount inclusive upper amount bound (optional)
+ * @param currency ISO 4217 currency code the transaction must use (optional)
+ * @param priority evaluation order, lower first (optional, defaults to 100)
+ */
+public record CategoryRuleCreationDto(
+    @NotNull(message = "Category id is required")
+    UUID categoryId,
+
+    RuleMatchType matchType,
+
+    @Size(min = 1, max = 200, message = "Pattern must be between 1 and 200 characters")
+    String pattern,
+
+    @DecimalMin(value = "0.00", message = "Minimum amount must not be negative")
+    @Digits(integer = 9, fraction = 2, message = "Minimum amount must have at most 2 decimal places and not exceed 999,999,999.99")
+    BigDecimal minAmount,
+
+    @DecimalMin(value = "0.00", message = "Maximum amount must not be negative")
+    @Digits(integer = 9, fraction = 2, message = "Maximum amount must have at most 2 decimal places and not exceed 999,999,999.99")
+    BigDecimal maxAmount,
+
+    @Currency
+    String currency,
+
+    @Min(value = 0, message = "Priority must be between 0 and 10000")
+    @Max(value = 10000, message = "Priority must be between 0 and 10000")
+    Integer priority
+) {
+}
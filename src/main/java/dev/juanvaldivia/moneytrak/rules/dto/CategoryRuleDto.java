@@ -0,0 +1,39 @@
+package dev.juanvaldivia.moneytrak.rules.dto;
+
+import dev.juanvaldivia.moneytrak.rules.RuleMatchType;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Auto-categorization rule response.
+ *
+ * @param id rule UUID
+ * @param categoryId category assigned on match
+ * @param categoryName category name
+ * @param matchType CONTAINS or REGEX
+ * @param pattern description pattern (null matches any description)
+ * @param minAmount inclusive lower amount bound (null for none)
+ * @param maxAmount inclusive upper amount bound (null for none)
+ * @param currency required currency (null for any)
+ * @param priority evaluation order, lower first
+ * @param version optimistic locking version
+ * @param createdAt creation timestamp
+ * @param updatedAt last update timestamp
+ */
+public record CategoryRuleDto(
+    UUID id,
+    UUID categoryId,
+    String categoryName,
+    RuleMatchType matchType,
+    String pattern,
+    BigDecimal minAmount,
+    BigDecimal maxAmount,
+    String currency,
+    int priority,
+    Integer version,
+    ZonedDateTime createdAt,
+    ZonedDateTime updatedAt
+) {
+}
@@ -0,0 +1,54 @@
+package dev.juanvaldivia.moneytrak.rules.dto;
+
+import dev.juanvaldivia.moneytrak.rules.RuleMatchType;
+import dev.juanvaldivia.moneytrak.validation.Currency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for updating an existing auto-categorization rule.
+ * All fields except version are optional for partial updates.
+ *
+ * @param categoryId new target category (optional)
+ * @param matchType new match type (optional)
+ * @param pattern new description pattern (optional)
+ * @param minAmount new inclusive lower amount bound (optional)
+ * @param maxAmount new inclusive upper amount bound (optional)
+ * @param currency new required currency (optional)
+ * @param priority new evaluation order (optional)
+ * @param version current version for optimistic locking (required)
+ */
+public record CategoryRuleUpdateDto(
+    UUID categoryId,
+
+    RuleMatchType matchType,
+
+    @Size(min = 1, max = 200, message = "Pattern must be between 1 and 200 characters")
+    String pattern,
+
+    @DecimalMin(value = "0.00", message = "Minimum amount must not be negative")
+    @Digits(integer = 9, fraction = 2, message = "Minimum amount must have at most 2 decimal places and not exceed 999,999,999.99")
+    BigDecimal minAmount,
+
+    @DecimalMin(value = "0.00", message = "Maximum amount must not be negative")
+    @Digits(integer = 9, fraction = 2, message = "Maximum amount must have at most 2 decimal places and not exceed 999,999,999.99")
+    BigDecimal maxAmount,
+
+    @Currency
+    String currency,
+
+    @Min(value = 0, message = "Priority must be between 0 and 10000")
+    @Max(value = 10000, message = "Priority must be between 0 and 10000")
+    Integer priority,
+
+    @NotNull(message = "Version is required for optimistic locking")
+    Integer version
+) {
+}
@@ -0,0 +1,80 @@
+package dev.juanvaldivia.moneytrak.rules.mapper;
+
+import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.rules.CategoryRule;
+import dev.juanvaldivia.moneytrak.rules.RuleMatchType;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleCreationDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleDto;
+import dev.juanvaldivia.moneytrak.rules.dto.CategoryRuleUpdateDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting between CategoryRule entity and DTOs.
+ */
+@Component
+public class CategoryRuleMapper {
+
+    private static final int DEFAULT_PRIORITY = 100;
+
+    /**
+     * Convert CategoryRuleCreationDto to CategoryRule entity.
+     *
+     * @param dto creation DTO
+     * @param category resolved target category
+     * @return new CategoryRule entity
+     */
+    public CategoryRule toEntity(CategoryRuleCreationDto dto, Category category) {
+        return CategoryRule.create(
+            category,
+            dto.matchType() != null ? dto.matchType() : RuleMatchType.CONTAINS,
+            dto.pattern(),
+            dto.minAmount(),
+            dto.maxAmount(),
+            dto.currency(),
+            dto.priority() != null ? dto.priority() : DEFAULT_PRIORITY
+        );
+    }
+
+    /**
+     * Update existing CategoryRule entity from CategoryRuleUpdateDto.
+     * Handles partial updates (null fields are ignored).
+     *
+     * @param existing existing rule entity
+     * @param dto update DTO
+     * @param category resolved target category (null keeps the current one)
+     */
+    public void updateEntity(CategoryRule existing, CategoryRuleUpdateDto dto, Category category) {
+        existing.update(
+            category != null ? category : existing.category(),
+            dto.matchType() != null ? dto.matchType() : existing.matchType(),
+            dto.pattern() != null ? dto.pattern() : existing.pattern(),
+            dto.minAmount() != null ? dto.minAmount() : existing.minAmount(),
+            dto.maxAmount() != null ? dto.maxAmount() : existing.maxAmount(),
+            dto.currency() != null ? dto.currency() : existing.currency(),
+            dto.priority() != null ? dto.priority() : existing.priority()
+        );
+    }
+
+    /**
+     * Convert CategoryRule entity to CategoryRuleDto for API response.
+     *
+     * @param entity rule entity
+     * @return rule DTO
+     */
+    public CategoryRuleDto toDto(CategoryRule entity) {
+        return new CategoryRuleDto(
+            entity.id(),
+            entity.category().getId(),
+            entity.category().getName(),
+            entity.matchType(),
+            entity.pattern(),
+            entity.minAmount(),
+            entity.maxAmount(),
+            entity.currency(),
+            entity.priority(),
+            entity.version(),
+            entity.createdAt(),
+            entity.updatedAt()
+        );
+    }
+}
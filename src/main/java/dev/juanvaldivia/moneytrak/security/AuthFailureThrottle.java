@@ -0,0 +1,276 @@
+package dev.juanvaldivia.moneytrak.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Sliding-window counters of failed authentication attempts per client IP and per username.
+ *
+ * <p>Once either counter reaches its limit, further attempts carrying credentials are rejected by
+ * {@link AuthThrottleFilter} before the password is hashed. Counters expire after two idle windows
+ * and the number held in memory is capped by {@code moneytrak.security.throttle.max-tracked-keys}.
+ *
+ * <p>Failures are logged once per window as an aggregate WARN line instead of once per attempt.
+ */
+@Component
+public class AuthFailureThrottle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthFailureThrottle.class);
+
+    private static final int TOP_OFFENDERS = 5;
+
+    /**
+     * Which counter caused an attempt to be rejected.
+     */
+    public enum Scope {
+        IP, USERNAME
+    }
+
+    /**
+     * An attempt rejected by the throttle.
+     *
+     * @param scope counter that reached its limit
+     * @param retryAfter how long the client should wait before retrying
+     */
+    public record Rejection(Scope scope, Duration retryAfter) {
+    }
+
+    private final SecurityProperties.Throttle config;
+    private final Clock clock;
+    private final long windowMillis;
+
+    private final Map<String, SlidingWindowCounter> ipFailures = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindowCounter> usernameFailures = new ConcurrentHashMap<>();
+
+    private final Counter failureCounter;
+    private final Counter ipRejectionCounter;
+    private final Counter usernameRejectionCounter;
+
+    private final LongAdder windowFailures = new LongAdder();
+    private final LongAdder windowRejections = new LongAdder();
+    private final LongAdder windowUntracked = new LongAdder();
+    private final AtomicLong windowStart;
+
+    @Autowired
+    public AuthFailureThrottle(SecurityProperties properties, MeterRegistry meterRegistry) {
+        this(properties.throttle(), meterRegistry, Clock.systemUTC());
+    }
+
+    AuthFailureThrottle(SecurityProperties.Throttle config, MeterRegistry meterRegistry, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+        this.windowMillis = config.window().toMillis();
+        this.windowStart = new AtomicLong(clock.millis());
+
+        this.failureCounter = Counter.builder("moneytrak.auth.failures")
+            .description("Failed HTTP Basic authentication attempts")
+            .register(meterRegistry);
+        this.ipRejectionCounter = Counter.builder("moneytrak.auth.throttled")
+            .description("Authentication attempts rejected before password verification")
+            .tag("scope", "ip")
+            .register(meterRegistry);
+        this.usernameRejectionCounter = Counter.builder("moneytrak.auth.throttled")
+            .description("Authentication attempts rejected before password verification")
+            .tag("scope", "username")
+            .register(meterRegistry);
+        Gauge.builder("moneytrak.auth.throttle.tracked", ipFailures, Map::size)
+            .description("Failure counters held in memory")
+            .tag("scope", "ip")
+            .register(meterRegistry);
+        Gauge.builder("moneytrak.auth.throttle.tracked", usernameFailures, Map::size)
+            .description("Failure counters held in memory")
+            .tag("scope", "username")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Client IP to count failures against. Behind a reverse proxy every connection comes from the proxy,
+     * so the address it passes in {@code moneytrak.security.throttle.client-ip-header} is used when present.
+     *
+     * @param request incoming request
+     * @return client IP address
+     */
+    public String clientIp(HttpServletRequest request) {
+        String header = config.clientIpHeader();
+        if (header != null && !header.isBlank()) {
+            String forwarded = request.getHeader(header);
+            if (forwarded != null && !forwarded.isBlank()) {
+                return forwarded.trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Decide whether an attempt carrying credentials may proceed to password verification.
+     *
+     * @param ip client IP address
+     * @param username username from the credentials (may be null if the header is malformed)
+     * @return the rejection if either counter has reached its limit, empty otherwise
+     */
+    public Optional<Rejection> check(String ip, String username) {
+        if (!config.enabled()) {
+            return Optional.empty();
+        }
+        long now = clock.millis();
+        if (reachedLimit(ipFailures.get(ip), now, config.maxFailuresPerIp())) {
+            ipRejectionCounter.increment();
+            windowRejections.increment();
+            return Optional.of(new Rejection(Scope.IP, config.window()));
+        }
+        if (username != null
+            && reachedLimit(usernameFailures.get(normalize(username)), now, config.maxFailuresPerUsername())) {
+            usernameRejectionCounter.increment();
+            windowRejections.increment();
+            return Optional.of(new Rejection(Scope.USERNAME, config.window()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Count a failed authentication attempt against the client IP and the username.
+     *
+     * @param ip client IP address
+     * @param username username from the credentials (may be null if the header is malformed)
+     */
+    public void recordFailure(String ip, String username) {
+        failureCounter.increment();
+        windowFailures.increment();
+        if (!config.enabled()) {
+            return;
+        }
+        long now = clock.millis();
+        increment(ipFailures, ip, now);
+        if (username != null) {
+            increment(usernameFailures, normalize(username), now);
+        }
+    }
+
+    /**
+     * Drop expired counters and emit the aggregate log line for the window that just ended.
+     * Runs once per configured window.
+     */
+    @Scheduled(fixedRateString = "${moneytrak.security.throttle.window:5m}",
+        initialDelayString = "${moneytrak.security.throttle.window:5m}")
+    public void closeWindow() {
+        long now = clock.millis();
+        long failures = windowFailures.sumThenReset();
+        long rejections = windowRejections.sumThenReset();
+        long untracked = windowUntracked.sumThenReset();
+        Instant from = Instant.ofEpochMilli(windowStart.getAndSet(now));
+
+        if (failures > 0 || rejections > 0) {
+            log.warn("Failed authentication attempts between {} and {}: failures={}, rejected={}, untracked={}, "
+                    + "top ips={}, top usernames={}",
+                from, Instant.ofEpochMilli(now), failures, rejections, untracked,
+                topOffenders(ipFailures, now), topOffenders(usernameFailures, now));
+        }
+
+        evictExpired(ipFailures, now);
+        evictExpired(usernameFailures, now);
+    }
+
+    private boolean reachedLimit(SlidingWindowCounter counter, long now, int limit) {
+        return counter != null && counter.estimate(now) >= limit;
+    }
+
+    private void increment(Map<String, SlidingWindowCounter> counters, String key, long now) {
+        SlidingWindowCounter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= config.maxTrackedKeys()) {
+                evictExpired(counters, now);
+                if (counters.size() >= config.maxTrackedKeys()) {
+                    windowUntracked.increment();
+                    return;
+                }
+            }
+            counter = counters.computeIfAbsent(key, k -> new SlidingWindowCounter(windowMillis, now));
+        }
+        counter.increment(now);
+    }
+
+    private void evictExpired(Map<String, SlidingWindowCounter> counters, long now) {
+        counters.values().removeIf(counter -> counter.isExpired(now));
+    }
+
+    private String topOffenders(Map<String, SlidingWindowCounter> counters, long now) {
+        return counters.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), (long) Math.ceil(entry.getValue().estimate(now))))
+            .filter(entry -> entry.getValue() > 0)
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(TOP_OFFENDERS)
+            .map(entry -> entry.getKey() + "=" + entry.getValue())
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String normalize(String username) {
+        // InMemoryUserDetailsManager treats usernames case-insensitively
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Sliding-window counter approximated from the current and previous fixed windows:
+     * {@code previous * (1 - elapsedFraction) + current}. Constant memory per key.
+     */
+    private static final class SlidingWindowCounter {
+
+        private final long windowMillis;
+        private long windowStart;
+        private int current;
+        private int previous;
+        private long lastSeen;
+
+        SlidingWindowCounter(long windowMillis, long now) {
+            this.windowMillis = windowMillis;
+            this.windowStart = now;
+            this.lastSeen = now;
+        }
+
+        synchronized void increment(long now) {
+            roll(now);
+            current++;
+            lastSeen = now;
+        }
+
+        synchronized double estimate(long now) {
+            roll(now);
+            double elapsedFraction = (double) (now - windowStart) / windowMillis;
+            return previous * (1.0 - elapsedFraction) + current;
+        }
+
+        synchronized boolean isExpired(long now) {
+            return now - lastSeen >= 2 * windowMillis;
+        }
+
+        private void roll(long now) {
+            long elapsedWindows = (now - windowStart) / windowMillis;
+            if (elapsedWindows == 1) {
+                previous = current;
+                current = 0;
+            } else if (elapsedWindows > 1) {
+                previous = 0;
+                current = 0;
+            }
+            windowStart += elapsedWindows * windowMillis;
+        }
+    }
+}
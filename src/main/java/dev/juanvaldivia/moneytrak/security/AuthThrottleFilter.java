@@ -0,0 +1,61 @@
+package dev.juanvaldivia.moneytrak.security;
+
+import dev.juanvaldivia.moneytrak.exception.ErrorResponseDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Rejects requests carrying HTTP Basic credentials with 429 while the client IP or username is throttled.
+ * Registered ahead of {@code BasicAuthenticationFilter} so throttled attempts never reach password hashing.
+ * Requests without credentials pass through untouched.
+ */
+class AuthThrottleFilter extends OncePerRequestFilter {
+
+    private final AuthFailureThrottle throttle;
+    private final ObjectMapper objectMapper;
+
+    AuthThrottleFilter(AuthFailureThrottle throttle, ObjectMapper objectMapper) {
+        this.throttle = throttle;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!BasicAuthHeader.isPresent(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AuthFailureThrottle.Rejection> rejection =
+            throttle.check(throttle.clientIp(request), BasicAuthHeader.username(request));
+        if (rejection.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rejection.get().retryAfter().toSeconds()));
+
+        var errorResponse = new ErrorResponseDto(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "TooManyRequests",
+                "Too many failed authentication attempts. Try again later.",
+                List.of()
+        );
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,52 @@
+package dev.juanvaldivia.moneytrak.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Reads the username from an HTTP Basic {@code Authorization} header without touching the password.
+ * Used by the brute-force throttle, which must identify the caller before any password hashing happens.
+ */
+final class BasicAuthHeader {
+
+    private static final String BASIC_PREFIX = "basic ";
+    private static final int MAX_USERNAME_LENGTH = 256;
+
+    private BasicAuthHeader() {
+    }
+
+    /**
+     * @param request incoming request
+     * @return true if the request carries HTTP Basic credentials (well-formed or not)
+     */
+    static boolean isPresent(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return header != null && header.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length());
+    }
+
+    /**
+     * @param request incoming request
+     * @return the username from the Basic credentials, or null if absent or malformed
+     */
+    static String username(HttpServletRequest request) {
+        if (!isPresent(request)) {
+            return null;
+        }
+        String token = request.getHeader(HttpHeaders.AUTHORIZATION).substring(BASIC_PREFIX.length()).trim();
+        String decoded;
+        try {
+            decoded = new String(Base64.getDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int separator = decoded.indexOf(':');
+        if (separator <= 0) {
+            return null;
+        }
+        String username = decoded.substring(0, separator);
+        return username.length() > MAX_USERNAME_LENGTH ? username.substring(0, MAX_USERNAME_LENGTH) : username;
+    }
+}
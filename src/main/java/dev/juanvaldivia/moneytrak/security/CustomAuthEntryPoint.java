@@ -13,7 +13,6 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.ZonedDateTime;
 import java.util.List;
 
 @Component
@@ -22,19 +21,24 @@ public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
     private static final Logger log = LoggerFactory.getLogger(CustomAuthEntryPoint.class);
 
     private final ObjectMapper objectMapper;
+    private final AuthFailureThrottle authFailureThrottle;
 
-    public CustomAuthEntryPoint(ObjectMapper objectMapper) {
+    public CustomAuthEntryPoint(ObjectMapper objectMapper, AuthFailureThrottle authFailureThrottle) {
         this.objectMapper = objectMapper;
+        this.authFailureThrottle = authFailureThrottle;
     }
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
-        String username = request.getRemoteUser() != null ? request.getRemoteUser() : "anonymous";
-        String ip = request.getRemoteAddr();
-        String timestamp = ZonedDateTime.now().toString();
-
-        log.warn("Failed authentication attempt: username='{}', ip='{}', timestamp='{}'", username, ip, timestamp);
+        // Only attempts that presented credentials count towards throttling; the aggregate
+        // WARN line is emitted once per window by AuthFailureThrottle.
+        if (BasicAuthHeader.isPresent(request)) {
+            String username = BasicAuthHeader.username(request);
+            String ip = authFailureThrottle.clientIp(request);
+            authFailureThrottle.recordFailure(ip, username);
+            log.debug("Failed authentication attempt: username='{}', ip='{}'", username, ip);
+        }
 
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
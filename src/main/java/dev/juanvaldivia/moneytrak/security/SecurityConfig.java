@@ -10,6 +10,8 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import tools.jackson.databind.ObjectMapper;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -21,13 +23,19 @@ public class SecurityConfig {
     private final CustomAuthEntryPoint customAuthEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final SecurityUserDetailsService securityUserDetailsService;
+    private final AuthFailureThrottle authFailureThrottle;
+    private final ObjectMapper objectMapper;
 
     public SecurityConfig(CustomAuthEntryPoint customAuthEntryPoint,
                           CustomAccessDeniedHandler customAccessDeniedHandler,
-                          SecurityUserDetailsService securityUserDetailsService) {
+                          SecurityUserDetailsService securityUserDetailsService,
+                          AuthFailureThrottle authFailureThrottle,
+                          ObjectMapper objectMapper) {
         this.customAuthEntryPoint = customAuthEntryPoint;
         this.customAccessDeniedHandler = customAccessDeniedHandler;
         this.securityUserDetailsService = securityUserDetailsService;
+        this.authFailureThrottle = authFailureThrottle;
+        this.objectMapper = objectMapper;
     }
 
     @Bean
@@ -39,13 +47,15 @@ public class SecurityConfig {
                         .frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").hasRole("ADMIN")
-                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
                         .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/h2-console/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/v1/**").hasAnyRole("APP", "BACKOFFICE", "ADMIN")
                         .requestMatchers("/v1/**").hasAnyRole("BACKOFFICE", "ADMIN")
                         .anyRequest().authenticated()
                 )
+                .addFilterBefore(new AuthThrottleFilter(authFailureThrottle, objectMapper),
+                        BasicAuthenticationFilter.class)
                 .httpBasic(basic -> basic
                         .authenticationEntryPoint(customAuthEntryPoint))
                 .exceptionHandling(ex -> ex
@@ -1,11 +1,33 @@
 package dev.juanvaldivia.moneytrak.security;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
 import java.util.List;
 
 @ConfigurationProperties(prefix = "moneytrak.security")
-public record SecurityProperties(List<ConfigUser> users) {
+public record SecurityProperties(List<ConfigUser> users, @DefaultValue Throttle throttle) {
 
     public record ConfigUser(String username, String password, String role) {}
+
+    /**
+     * Brute-force throttling for failed HTTP Basic authentication attempts.
+     *
+     * @param enabled whether failed attempts are counted and blocked
+     * @param window sliding window over which failures are counted (also the log aggregation period)
+     * @param maxFailuresPerIp failures from one client IP within the window before further attempts are rejected
+     * @param maxFailuresPerUsername failures for one username within the window before further attempts are rejected
+     * @param maxTrackedKeys upper bound on IP and username counters held in memory
+     * @param clientIpHeader request header in which the reverse proxy passes the client IP (such as
+     *                       {@code Fly-Client-IP}); blank to use the connection's remote address
+     */
+    public record Throttle(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration window,
+        @DefaultValue("20") int maxFailuresPerIp,
+        @DefaultValue("10") int maxFailuresPerUsername,
+        @DefaultValue("10000") int maxTrackedKeys,
+        @DefaultValue("") String clientIpHeader
+    ) {}
 }
@@ -0,0 +1,123 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Allocates the monotonic change sequence shared by all synced tables and tombstones.
+ *
+ * <p>Sequence numbers are handed out before commit, so a later number can become visible before an
+ * earlier one. Each number stays in flight until its transaction completes, and {@link #watermark()}
+ * only advances past numbers whose transactions have finished. A client that synced up to the watermark
+ * can therefore never miss a change that commits later with a lower number.
+ *
+ * <p>The allocator is seeded lazily from the highest sequence stored in the database, which makes it
+ * valid for a single application instance writing to the database (the Fly.io deployment).
+ */
+@Component
+public class ChangeSequence {
+
+    private static final List<String> TABLES =
+        List.of("categories", "accounts", "transactions", "readings", "sync_tombstones");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+    private long last = -1;
+
+    public ChangeSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Allocate the next sequence number. It counts as in flight until the current transaction completes.
+     *
+     * @return the allocated sequence number
+     */
+    public long next() {
+        long sequence;
+        synchronized (this) {
+            seedIfNeeded();
+            sequence = ++last;
+            inFlight.add(sequence);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(sequence);
+                }
+            });
+        } else {
+            release(sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * Allocate consecutive sequence numbers for a bulk write. They count as in flight until the current
+     * transaction completes.
+     *
+     * @param count how many numbers to allocate, at least 1
+     * @return the first allocated number; the others follow it
+     */
+    public long nextBlock(int count) {
+        long first;
+        synchronized (this) {
+            seedIfNeeded();
+            first = last + 1;
+            last += count;
+            for (long sequence = first; sequence <= last; sequence++) {
+                inFlight.add(sequence);
+            }
+        }
+        long end = first + count;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(first, end);
+                }
+            });
+        } else {
+            release(first, end);
+        }
+        return first;
+    }
+
+    /**
+     * @return the highest sequence number below which every allocated number has completed
+     */
+    public synchronized long watermark() {
+        seedIfNeeded();
+        return inFlight.isEmpty() ? last : inFlight.first() - 1;
+    }
+
+    private synchronized void release(long sequence) {
+        inFlight.remove(sequence);
+    }
+
+    private synchronized void release(long from, long to) {
+        inFlight.subSet(from, to).clear();
+    }
+
+    private void seedIfNeeded() {
+        if (last >= 0) {
+            return;
+        }
+        long max = 0;
+        for (String table : TABLES) {
+            Long tableMax = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(change_seq), 0) FROM " + table, Long.class);
+            max = Math.max(max, tableMax != null ? tableMax : 0);
+        }
+        last = max;
+    }
+}
@@ -0,0 +1,26 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA entity listener that stamps {@link ChangeTracked} entities with the next change sequence
+ * whenever they are inserted or flushed with changes.
+ * Instantiated by Hibernate through Spring's bean container, so the allocator is injected.
+ */
+public class ChangeSequenceListener {
+
+    private final ChangeSequence changeSequence;
+
+    public ChangeSequenceListener(ChangeSequence changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void stamp(Object entity) {
+        if (entity instanceof ChangeTracked tracked) {
+            tracked.assignChangeSequence(changeSequence.next());
+        }
+    }
+}
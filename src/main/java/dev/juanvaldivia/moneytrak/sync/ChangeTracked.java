@@ -0,0 +1,12 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+/**
+ * Entity stamped with a change sequence on every insert and update by {@link ChangeSequenceListener}.
+ */
+public interface ChangeTracked {
+
+    /**
+     * @param changeSequence sequence number allocated for the pending write
+     */
+    void assignChangeSequence(long changeSequence);
+}
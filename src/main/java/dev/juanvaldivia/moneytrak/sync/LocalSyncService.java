@@ -0,0 +1,166 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import dev.juanvaldivia.moneytrak.accounts.AccountRepository;
+import dev.juanvaldivia.moneytrak.accounts.mapper.AccountMapper;
+import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.categories.mapper.CategoryMapper;
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import dev.juanvaldivia.moneytrak.exception.GoneException;
+import dev.juanvaldivia.moneytrak.readings.ReadingRepository;
+import dev.juanvaldivia.moneytrak.readings.mapper.ReadingMapper;
+import dev.juanvaldivia.moneytrak.sync.dto.SyncChangeDto;
+import dev.juanvaldivia.moneytrak.sync.dto.SyncResponseDto;
+import dev.juanvaldivia.moneytrak.transactions.TransactionRepository;
+import dev.juanvaldivia.moneytrak.transactions.mapper.TransactionMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Local implementation of SyncService.
+ *
+ * <p>Each page runs one range query per table on its change_seq index plus one on the tombstones,
+ * each limited to the page size, and merges the results by sequence. The range is capped at the
+ * {@link ChangeSequence#watermark()}, so the cost of a sync follows the number of changes, not the data size.
+ */
+@Service
+@Transactional
+@EnableConfigurationProperties(SyncProperties.class)
+public class LocalSyncService implements SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSyncService.class);
+
+    // Covers transactions still in flight when a token was issued
+    private static final Duration PURGE_GRACE = Duration.ofHours(1);
+
+    private final ChangeSequence changeSequence;
+    private final TombstoneRepository tombstoneRepository;
+    private final CategoryRepository categoryRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ReadingRepository readingRepository;
+    private final CategoryMapper categoryMapper;
+    private final AccountMapper accountMapper;
+    private final TransactionMapper transactionMapper;
+    private final ReadingMapper readingMapper;
+    private final EntityManager entityManager;
+    private final SyncProperties properties;
+
+    public LocalSyncService(
+        ChangeSequence changeSequence,
+        TombstoneRepository tombstoneRepository,
+        CategoryRepository categoryRepository,
+        AccountRepository accountRepository,
+        TransactionRepository transactionRepository,
+        ReadingRepository readingRepository,
+        CategoryMapper categoryMapper,
+        AccountMapper accountMapper,
+        TransactionMapper transactionMapper,
+        ReadingMapper readingMapper,
+        EntityManager entityManager,
+        SyncProperties properties
+    ) {
+        this.changeSequence = changeSequence;
+        this.tombstoneRepository = tombstoneRepository;
+        this.categoryRepository = categoryRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.readingRepository = readingRepository;
+        this.categoryMapper = categoryMapper;
+        this.accountMapper = accountMapper;
+        this.transactionMapper = transactionMapper;
+        this.readingMapper = readingMapper;
+        this.entityManager = entityManager;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponseDto getChanges(String since, Integer limit) {
+        Instant now = Instant.now();
+        int pageSize = pageSize(limit);
+        SyncToken token = since != null ? SyncToken.decode(since) : null;
+        if (token != null && token.issuedAt().isBefore(now.minus(properties.tombstoneHorizon()))) {
+            throw new GoneException("Sync token is older than the tombstone horizon; perform a full sync without 'since'");
+        }
+
+        boolean fullSync = token == null;
+        long after = fullSync ? 0 : token.sequence();
+        long upTo = Math.max(changeSequence.watermark(), after);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<SyncChangeDto> changes = new ArrayList<>();
+        categoryRepository.findChangedBetween(after, upTo, page).forEach(category -> changes.add(
+            new SyncChangeDto(SyncEntityType.CATEGORY, category.getId(), category.getChangeSequence(), false,
+                categoryMapper.toDto(category))));
+        accountRepository.findChangedBetween(after, upTo, page).forEach(account -> changes.add(
+            new SyncChangeDto(SyncEntityType.ACCOUNT, account.id(), account.changeSequence(), false,
+                accountMapper.toDto(account))));
+        transactionRepository.findChangedBetween(after, upTo, page).forEach(transaction -> changes.add(
+            new SyncChangeDto(SyncEntityType.TRANSACTION, transaction.id(), transaction.changeSequence(), false,
+                transactionMapper.toDto(transaction))));
+        readingRepository.findChangedBetween(after, upTo, !fullSync, page).forEach(reading -> changes.add(
+            reading.deleted()
+                ? new SyncChangeDto(SyncEntityType.READING, reading.id(), reading.changeSequence(), true, null)
+                : new SyncChangeDto(SyncEntityType.READING, reading.id(), reading.changeSequence(), false,
+                    readingMapper.toDto(reading))));
+        if (!fullSync) {
+            tombstoneRepository.findChangedBetween(after, upTo, page).forEach(tombstone -> changes.add(
+                new SyncChangeDto(tombstone.entityType(), tombstone.entityId(), tombstone.changeSequence(), true, null)));
+        }
+        changes.sort(Comparator.comparingLong(SyncChangeDto::sequence));
+
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            List<SyncChangeDto> pageChanges = List.copyOf(changes.subList(0, pageSize));
+            // Continuation pages keep the original issue time, so tombstones the client has not seen yet
+            // are not purged while it is still paging
+            Instant issuedAt = fullSync ? now : token.issuedAt();
+            SyncToken next = new SyncToken(pageChanges.getLast().sequence(), issuedAt);
+            return new SyncResponseDto(pageChanges, next.encode(), true);
+        }
+        return new SyncResponseDto(List.copyOf(changes), new SyncToken(upTo, now).encode(), false);
+    }
+
+    @Override
+    public void recordDeletion(SyncEntityType type, UUID id) {
+        entityManager.persist(Tombstone.create(changeSequence.next(), type, id));
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "${moneytrak.sync.purge-interval:1h}",
+        initialDelayString = "${moneytrak.sync.purge-interval:1h}")
+    public void purgeExpiredTombstones() {
+        ZonedDateTime cutoff = ZonedDateTime.now(ZoneOffset.UTC)
+            .minus(properties.tombstoneHorizon())
+            .minus(PURGE_GRACE);
+        int purged = tombstoneRepository.deleteByDeletedAtBefore(cutoff);
+        if (purged > 0) {
+            log.info("Purged {} sync tombstone(s) deleted before {}", purged, cutoff);
+        }
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return properties.defaultLimit();
+        }
+        if (limit < 1 || limit > properties.maxLimit()) {
+            throw new BadRequestException("limit must be between 1 and " + properties.maxLimit());
+        }
+        return limit;
+    }
+}
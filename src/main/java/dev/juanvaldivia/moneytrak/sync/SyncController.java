@@ -0,0 +1,48 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import dev.juanvaldivia.moneytrak.sync.dto.SyncResponseDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the delta-sync feed used by offline clients.
+ * Versioned under /v1/sync.
+ */
+@Tag(name = "Sync", description = "Delta synchronization endpoint")
+@RestController
+@RequestMapping("/v1/sync")
+public class SyncController {
+
+    private final SyncService service;
+
+    public SyncController(SyncService service) {
+        this.service = service;
+    }
+
+    /**
+     * Get changes since a sync token.
+     * GET /v1/sync?since={token}&limit={n}
+     *
+     * Without since, returns every existing category, account, transaction and reading.
+     * With since, also returns deletions (deleted=true, data=null).
+     * Changes are ordered by change sequence; keep calling with nextToken while hasMore is true.
+     *
+     * @param since token from a previous response (optional)
+     * @param limit maximum changes per page (optional, default 500, max 1000)
+     * @return 200 OK with changes and the next token
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the token or limit is invalid (400)
+     * @throws dev.juanvaldivia.moneytrak.exception.GoneException if the token is older than the tombstone
+     *         horizon; the client must perform a full sync (410)
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponseDto> getChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(service.getChanges(since, limit));
+    }
+}
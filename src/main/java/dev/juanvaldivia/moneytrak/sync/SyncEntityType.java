@@ -0,0 +1,11 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+/**
+ * Entity types exposed through the delta-sync API.
+ */
+public enum SyncEntityType {
+    CATEGORY,
+    ACCOUNT,
+    TRANSACTION,
+    READING
+}
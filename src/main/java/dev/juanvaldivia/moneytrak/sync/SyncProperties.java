@@ -0,0 +1,23 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Delta-sync settings.
+ *
+ * @param tombstoneHorizon how long deletions are retained; older sync tokens are rejected with 410 Gone
+ * @param defaultLimit changes per page when the client does not ask for a limit
+ * @param maxLimit upper bound on changes per page
+ * @param purgeInterval how often expired tombstones are removed
+ */
+@ConfigurationProperties(prefix = "moneytrak.sync")
+public record SyncProperties(
+    @DefaultValue("30d") Duration tombstoneHorizon,
+    @DefaultValue("500") int defaultLimit,
+    @DefaultValue("1000") int maxLimit,
+    @DefaultValue("1h") Duration purgeInterval
+) {
+}
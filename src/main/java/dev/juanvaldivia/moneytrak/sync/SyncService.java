@@ -0,0 +1,36 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import dev.juanvaldivia.moneytrak.sync.dto.SyncResponseDto;
+
+import java.util.UUID;
+
+/**
+ * Service interface for the delta-sync feed used by offline clients.
+ */
+public interface SyncService {
+
+    /**
+     * Get changes to transactions, categories, accounts and readings after a sync token.
+     * Without a token, returns the current state of all entities (no deletions).
+     *
+     * @param since token from a previous call, or null for a full sync
+     * @param limit maximum changes to return, or null for the configured default
+     * @return page of changes ordered by change sequence
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the token or limit is invalid
+     * @throws dev.juanvaldivia.moneytrak.exception.GoneException if the token is older than the tombstone horizon
+     */
+    SyncResponseDto getChanges(String since, Integer limit);
+
+    /**
+     * Record a tombstone for a hard-deleted entity within the current transaction.
+     *
+     * @param type type of the deleted entity
+     * @param id id of the deleted entity
+     */
+    void recordDeletion(SyncEntityType type, UUID id);
+
+    /**
+     * Remove tombstones older than the tombstone horizon.
+     */
+    void purgeExpiredTombstones();
+}
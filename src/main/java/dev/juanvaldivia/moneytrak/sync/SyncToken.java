@@ -0,0 +1,46 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque sync position handed to clients: the change sequence they are consistent up to and
+ * when that state was issued (used to reject tokens older than the tombstone horizon).
+ *
+ * @param sequence last change sequence included in the client's state
+ * @param issuedAt when the client's state was known to be complete up to {@code sequence}
+ */
+record SyncToken(long sequence, Instant issuedAt) {
+
+    private static final String VERSION = "v1";
+
+    String encode() {
+        String raw = VERSION + ":" + sequence + ":" + issuedAt.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token token previously returned by the sync endpoint
+     * @return decoded token
+     * @throws BadRequestException if the token is malformed
+     */
+    static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            long sequence = Long.parseLong(parts[1]);
+            if (sequence < 0) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            return new SyncToken(sequence, Instant.ofEpochMilli(Long.parseLong(parts[2])));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+}
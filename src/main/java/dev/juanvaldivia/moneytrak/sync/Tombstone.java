@@ -0,0 +1,71 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import jakarta.persistence.*;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity recording a hard-deleted entity so that sync clients can remove it locally.
+ * Retained for {@code moneytrak.sync.tombstone-horizon}; older tombstones are purged.
+ *
+ * <p>The change sequence doubles as primary key, as it is unique across all synced tables.
+ */
+@Entity
+@Table(name = "sync_tombstones")
+public class Tombstone {
+
+    @Id
+    @Column(name = "change_seq")
+    private Long changeSequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 32, nullable = false)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private ZonedDateTime deletedAt;
+
+    protected Tombstone() {
+        // JPA requires no-arg constructor
+    }
+
+    private Tombstone(Long changeSequence, SyncEntityType entityType, UUID entityId, ZonedDateTime deletedAt) {
+        this.changeSequence = changeSequence;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deletedAt = deletedAt;
+    }
+
+    /**
+     * Create a tombstone for an entity deleted now.
+     *
+     * @param changeSequence sequence number allocated for the deletion
+     * @param entityType type of the deleted entity
+     * @param entityId id of the deleted entity
+     * @return new tombstone instance
+     */
+    public static Tombstone create(long changeSequence, SyncEntityType entityType, UUID entityId) {
+        return new Tombstone(changeSequence, entityType, entityId, ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    // Getters
+    public Long changeSequence() {
+        return changeSequence;
+    }
+
+    public SyncEntityType entityType() {
+        return entityType;
+    }
+
+    public UUID entityId() {
+        return entityId;
+    }
+
+    public ZonedDateTime deletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,41 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for Tombstone entity.
+ */
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    /**
+     * Find tombstones in a change sequence range, ordered by sequence.
+     * Served by the primary key index.
+     *
+     * @param after exclusive lower bound
+     * @param upTo inclusive upper bound
+     * @param pageable limit (sort is fixed by the query)
+     * @return tombstones ordered by change sequence
+     */
+    @Query("SELECT t FROM Tombstone t WHERE t.changeSequence > :after AND t.changeSequence <= :upTo " +
+           "ORDER BY t.changeSequence")
+    List<Tombstone> findChangedBetween(@Param("after") long after, @Param("upTo") long upTo, Pageable pageable);
+
+    /**
+     * Delete tombstones older than the retention horizon.
+     *
+     * @param cutoff tombstones deleted before this instant are removed
+     * @return number of removed tombstones
+     */
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") ZonedDateTime cutoff);
+}
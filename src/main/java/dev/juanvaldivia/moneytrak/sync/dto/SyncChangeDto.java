@@ -0,0 +1,23 @@
+package dev.juanvaldivia.moneytrak.sync.dto;
+
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+
+import java.util.UUID;
+
+/**
+ * DTO for one change in a sync page.
+ *
+ * @param type entity type
+ * @param id entity id
+ * @param sequence change sequence of this write
+ * @param deleted true if the entity was deleted (data is then null)
+ * @param data current entity state, using the same DTO as the entity's own endpoint
+ */
+public record SyncChangeDto(
+    SyncEntityType type,
+    UUID id,
+    long sequence,
+    boolean deleted,
+    Object data
+) {
+}
@@ -0,0 +1,17 @@
+package dev.juanvaldivia.moneytrak.sync.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the delta-sync feed.
+ *
+ * @param changes changes ordered by sequence
+ * @param nextToken token to pass as {@code since} on the next call
+ * @param hasMore true if more changes are available right away with {@code nextToken}
+ */
+public record SyncResponseDto(
+    List<SyncChangeDto> changes,
+    String nextToken,
+    boolean hasMore
+) {
+}
@@ -0,0 +1,269 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import dev.juanvaldivia.moneytrak.events.ChangeKind;
+import dev.juanvaldivia.moneytrak.events.EntitiesChangedEvent;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index of previously used transaction descriptions, for typeahead.
+ *
+ * <p>Descriptions are normalized (trimmed, whitespace collapsed, lowercased) and kept once each in a sorted
+ * list of keys; a lookup binary-searches the first key with the prefix and walks forward while keys still
+ * match, so it never touches the database. Each key tracks how many transactions use it, the category
+ * used most often with it and the most frequent amount and currency.
+ *
+ * <p>The index is loaded before the application reports ready and maintained from committed
+ * {@link EntityChangedEvent}s. To undo what an updated or deleted transaction contributed, it remembers
+ * the contribution of every transaction id (one small map entry per transaction). Listeners re-read rows
+ * outside any lock, so a re-read older than the remembered version is dropped.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10) // Before WarmupRunner
+public class DescriptionSuggestionIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DescriptionSuggestionIndex.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String SELECT_COLUMNS =
+        "SELECT id, description, category_id, amount, currency, version FROM transactions";
+
+    /**
+     * One typeahead suggestion.
+     *
+     * @param description description as most recently written, whitespace collapsed
+     * @param frequency number of transactions using it
+     * @param categoryId category most often used with it
+     * @param amount most frequent amount
+     * @param currency currency of that amount
+     */
+    public record Suggestion(String description, int frequency, UUID categoryId, BigDecimal amount, String currency) {
+    }
+
+    /**
+     * What one transaction contributes to the index.
+     */
+    record Use(String description, UUID categoryId, BigDecimal amount, String currency, int version) {
+    }
+
+    private record Amount(BigDecimal amount, String currency) {
+    }
+
+    /**
+     * Aggregated uses of one normalized description.
+     */
+    private static final class Entry {
+        private String description;
+        private int frequency;
+        private final Map<UUID, Integer> categories = new HashMap<>();
+        private final Map<Amount, Integer> amounts = new HashMap<>();
+
+        void add(Use use) {
+            String display = WHITESPACE.matcher(use.description().strip()).replaceAll(" ");
+            if (!display.equals(description)) {
+                description = display;
+            }
+            frequency++;
+            categories.merge(use.categoryId(), 1, Integer::sum);
+            amounts.merge(new Amount(use.amount(), use.currency()), 1, Integer::sum);
+        }
+
+        void remove(Use use) {
+            frequency--;
+            categories.computeIfPresent(use.categoryId(), (id, count) -> count > 1 ? count - 1 : null);
+            amounts.computeIfPresent(new Amount(use.amount(), use.currency()), (amount, count) -> count > 1 ? count - 1 : null);
+        }
+
+        Suggestion toSuggestion() {
+            UUID category = Collections.max(categories.entrySet(), Map.Entry.comparingByValue()).getKey();
+            Amount amount = Collections.max(amounts.entrySet(), Map.Entry.comparingByValue()).getKey();
+            return new Suggestion(description, frequency, category, amount.amount(), amount.currency());
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<UUID, Use> uses = new HashMap<>();
+
+    public DescriptionSuggestionIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        Map<UUID, Use> loaded = new HashMap<>();
+        jdbcTemplate.query(SELECT_COLUMNS, rs -> {
+            loaded.put(rs.getObject("id", UUID.class), toUse(rs));
+        });
+        lock.writeLock().lock();
+        try {
+            loaded.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} distinct descriptions from {} transactions in {} ms",
+            entries.size(), loaded.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Apply a committed transaction write. Other entity types are ignored.
+     */
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type() != SyncEntityType.TRANSACTION) {
+            return;
+        }
+        List<Use> current = event.kind() == ChangeKind.DELETED ? List.of()
+            : jdbcTemplate.query(SELECT_COLUMNS + " WHERE id = ?", (rs, i) -> toUse(rs), event.id());
+        apply(event.id(), current.isEmpty() ? null : current.getFirst());
+    }
+
+    /**
+     * Apply a committed set-based transaction write, re-reading its rows with one query.
+     */
+    @TransactionalEventListener
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        if (event.type() != SyncEntityType.TRANSACTION) {
+            return;
+        }
+        Map<UUID, Use> current = new HashMap<>();
+        if (event.kind() != ChangeKind.DELETED) {
+            namedJdbcTemplate.query(SELECT_COLUMNS + " WHERE id IN (:ids)", new MapSqlParameterSource("ids", event.ids()),
+                rs -> {
+                    current.put(rs.getObject("id", UUID.class), toUse(rs));
+                });
+        }
+        event.ids().forEach(id -> apply(id, current.get(id)));
+    }
+
+    /**
+     * Replace what a transaction contributes to the index.
+     *
+     * @param id transaction UUID
+     * @param use its current values, or null if it no longer exists
+     */
+    void apply(UUID id, Use use) {
+        lock.writeLock().lock();
+        try {
+            Use held = uses.get(id);
+            if (held != null && use != null && use.version() < held.version()) {
+                return; // Read before a newer write that has already been applied
+            }
+            if (use == null) {
+                remove(id);
+            } else {
+                put(id, use);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most used descriptions starting with {@code prefix}, most frequent first.
+     *
+     * @param prefix typed text; compared after the same normalization as descriptions
+     * @param limit maximum number of suggestions
+     * @return suggestions, empty if nothing matches
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = WHITESPACE.matcher(prefix.stripLeading()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            int from = Collections.binarySearch(keys, normalized);
+            if (from < 0) {
+                from = -from - 1;
+            }
+            List<Entry> matches = new ArrayList<>();
+            for (int i = from; i < keys.size() && keys.get(i).startsWith(normalized); i++) {
+                matches.add(entries.get(keys.get(i)));
+            }
+            return matches.stream()
+                .sorted(Comparator.comparingInt((Entry e) -> e.frequency).reversed()
+                    .thenComparing(e -> e.description))
+                .limit(limit)
+                .map(Entry::toSuggestion)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of distinct normalized descriptions
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String description) {
+        return WHITESPACE.matcher(description.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private void put(UUID id, Use use) {
+        remove(id);
+        String key = normalize(use.description());
+        Entry entry = entries.computeIfAbsent(key, k -> {
+            int index = Collections.binarySearch(keys, k);
+            keys.add(-index - 1, k);
+            return new Entry();
+        });
+        entry.add(use);
+        // Interned: transactions sharing a description hold one copy of its text, the entry's
+        uses.put(id, new Use(entry.description, use.categoryId(), use.amount(), use.currency(), use.version()));
+    }
+
+    private void remove(UUID id) {
+        Use previous = uses.remove(id);
+        if (previous == null) {
+            return;
+        }
+        String key = normalize(previous.description());
+        Entry entry = entries.get(key);
+        entry.remove(previous);
+        if (entry.frequency == 0) {
+            entries.remove(key);
+            keys.remove(Collections.binarySearch(keys, key));
+        }
+    }
+
+    private static Use toUse(ResultSet rs) throws SQLException {
+        return new Use(rs.getString("description"), rs.getObject("category_id", UUID.class),
+            rs.getBigDecimal("amount"), rs.getString("currency"), rs.getInt("version"));
+    }
+}
@@ -0,0 +1,19 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Near-duplicate detection settings.
+ *
+ * @param window maximum distance between the dates of two duplicates, rounded down to whole days
+ * @param minSimilarity estimated description similarity (0 to 1) from which two transactions are duplicates
+ */
+@ConfigurationProperties(prefix = "moneytrak.duplicates")
+public record DuplicateDetectionProperties(
+    @DefaultValue("3d") Duration window,
+    @DefaultValue("0.7") double minSimilarity
+) {
+}
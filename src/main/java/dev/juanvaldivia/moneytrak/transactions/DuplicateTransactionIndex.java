@@ -0,0 +1,300 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import dev.juanvaldivia.moneytrak.events.ChangeKind;
+import dev.juanvaldivia.moneytrak.events.EntitiesChangedEvent;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index for finding likely duplicate transactions: same type, amount and currency, dates a few
+ * days apart at most and near-identical descriptions.
+ *
+ * <p>Each transaction is filed under one bucket per {@link MinHash} band, keyed by the band hash together
+ * with type, amount and currency. Only transactions sharing a bucket are compared, so a lookup costs a
+ * handful of map reads and signature comparisons however large the ledger is. Candidates are then checked
+ * for the date window and for the estimated similarity of their whole signatures.</p>
+ *
+ * <p>Loaded before the application reports ready and maintained from committed {@link EntityChangedEvent}s,
+ * like {@link DescriptionSuggestionIndex}. Duplicates are therefore only found among committed transactions.
+ * Listeners re-read rows outside any lock, so a re-read older than the indexed version is dropped.</p>
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10) // Before WarmupRunner
+@EnableConfigurationProperties(DuplicateDetectionProperties.class)
+public class DuplicateTransactionIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateTransactionIndex.class);
+
+    private static final String SELECT_COLUMNS =
+        "SELECT id, description, amount, currency, date, transaction_type, version FROM transactions";
+    private static final Comparator<Entry> LATEST_FIRST =
+        Comparator.comparingLong(Entry::epochDay).thenComparing(Entry::id).reversed();
+
+    /**
+     * A likely duplicate.
+     *
+     * @param id transaction UUID
+     * @param similarity estimated description similarity, between 0 and 1
+     */
+    public record Match(UUID id, double similarity) {
+    }
+
+    /**
+     * Two transactions that look like duplicates of each other.
+     *
+     * @param id the later one (by date, then id)
+     * @param duplicateOf the earlier one
+     * @param similarity estimated description similarity, between 0 and 1
+     */
+    public record Pair(UUID id, UUID duplicateOf, double similarity) {
+    }
+
+    /**
+     * What one transaction contributes to the index.
+     */
+    record Entry(UUID id, TransactionType type, long amountInCents, String currency, long epochDay, int[] signature,
+                 int version) {
+
+        static Entry of(UUID id, String description, BigDecimal amount, String currency, ZonedDateTime date,
+                        TransactionType type, int version) {
+            return new Entry(id, type, amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue(),
+                currency, date.withZoneSameInstant(ZoneOffset.UTC).toLocalDate().toEpochDay(),
+                MinHash.signature(description), version);
+        }
+
+        long bucket(int band, int bandHash) {
+            long key = amountInCents;
+            key = key * 31 + currency.hashCode();
+            key = key * 31 + type.ordinal();
+            key = key * 31 + band;
+            return key * 0x9e3779b97f4a7c15L + bandHash;
+        }
+
+        boolean sameBlock(Entry other) {
+            return type == other.type && amountInCents == other.amountInCents && currency.equals(other.currency);
+        }
+
+        boolean isBefore(Entry other) {
+            return epochDay != other.epochDay ? epochDay < other.epochDay : id.compareTo(other.id) < 0;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final DuplicateDetectionProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    public DuplicateTransactionIndex(JdbcTemplate jdbcTemplate, DuplicateDetectionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<Entry> loaded = jdbcTemplate.query(SELECT_COLUMNS, (rs, i) -> toEntry(rs));
+        lock.writeLock().lock();
+        try {
+            loaded.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} transactions for duplicate detection in {} ms",
+            loaded.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Apply a committed transaction write. Other entity types are ignored.
+     */
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type() != SyncEntityType.TRANSACTION) {
+            return;
+        }
+        List<Entry> current = event.kind() == ChangeKind.DELETED ? List.of()
+            : jdbcTemplate.query(SELECT_COLUMNS + " WHERE id = ?", (rs, i) -> toEntry(rs), event.id());
+        apply(event.id(), current.isEmpty() ? null : current.getFirst());
+    }
+
+    /**
+     * Apply a committed set-based transaction write, re-reading its rows with one query.
+     */
+    @TransactionalEventListener
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        if (event.type() != SyncEntityType.TRANSACTION) {
+            return;
+        }
+        Map<UUID, Entry> current = new HashMap<>();
+        if (event.kind() != ChangeKind.DELETED) {
+            namedJdbcTemplate.query(SELECT_COLUMNS + " WHERE id IN (:ids)", new MapSqlParameterSource("ids", event.ids()),
+                rs -> {
+                    Entry entry = toEntry(rs);
+                    current.put(entry.id(), entry);
+                });
+        }
+        event.ids().forEach(id -> apply(id, current.get(id)));
+    }
+
+    /**
+     * Replace what a transaction contributes to the index.
+     *
+     * @param id transaction UUID
+     * @param entry its current values, or null if it no longer exists
+     */
+    void apply(UUID id, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            Entry held = entries.get(id);
+            if (held != null && entry != null && entry.version() < held.version()) {
+                return; // Read before a newer write that has already been applied
+            }
+            remove(id);
+            if (entry != null) {
+                put(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed transactions a new transaction would likely duplicate, most similar first.
+     *
+     * @return matches, empty if none
+     */
+    public List<Match> findDuplicates(String description, BigDecimal amount, String currency, ZonedDateTime date,
+                                      TransactionType type) {
+        Entry probe = Entry.of(null, description, amount, currency, date, type, 0);
+        lock.readLock().lock();
+        try {
+            return candidates(probe).stream()
+                .map(entry -> new Match(entry.id(), MinHash.similarity(probe.signature(), entry.signature())))
+                .sorted(Comparator.comparingDouble(Match::similarity).reversed().thenComparing(Match::id))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every pair of indexed transactions that look like duplicates, most recent first.
+     *
+     * @param limit maximum number of pairs
+     * @return pairs, each reported once
+     */
+    public List<Pair> findPairs(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> later = new ArrayList<>(entries.values());
+            later.sort(LATEST_FIRST);
+            List<Pair> pairs = new ArrayList<>();
+            for (Entry entry : later) {
+                List<Entry> earlier = candidates(entry).stream()
+                    .filter(candidate -> candidate.isBefore(entry))
+                    .sorted(LATEST_FIRST)
+                    .toList();
+                for (Entry candidate : earlier) {
+                    if (pairs.size() == limit) {
+                        return pairs;
+                    }
+                    pairs.add(new Pair(entry.id(), candidate.id(),
+                        MinHash.similarity(entry.signature(), candidate.signature())));
+                }
+            }
+            return pairs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of indexed transactions
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Entry> candidates(Entry probe) {
+        long window = properties.window().toDays();
+        Set<Entry> found = new HashSet<>();
+        int[] bands = MinHash.bands(probe.signature());
+        for (int band = 0; band < bands.length; band++) {
+            for (Entry entry : buckets.getOrDefault(probe.bucket(band, bands[band]), List.of())) {
+                // Bucket keys can collide: the block itself is checked again
+                if (!entry.id().equals(probe.id()) && entry.sameBlock(probe)
+                    && Math.abs(entry.epochDay() - probe.epochDay()) <= window
+                    && MinHash.similarity(entry.signature(), probe.signature()) >= properties.minSimilarity()) {
+                    found.add(entry);
+                }
+            }
+        }
+        return found;
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.id(), entry);
+        int[] bands = MinHash.bands(entry.signature());
+        for (int band = 0; band < bands.length; band++) {
+            buckets.computeIfAbsent(entry.bucket(band, bands[band]), key -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    private void remove(UUID id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        int[] bands = MinHash.bands(previous.signature());
+        for (int band = 0; band < bands.length; band++) {
+            long key = previous.bucket(band, bands[band]);
+            List<Entry> bucket = buckets.get(key);
+            bucket.remove(previous);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private static Entry toEntry(ResultSet rs) throws SQLException {
+        return Entry.of(rs.getObject("id", UUID.class), rs.getString("description"), rs.getBigDecimal("amount"),
+            rs.getString("currency"), rs.getObject("date", OffsetDateTime.class).toZonedDateTime(),
+            TransactionType.valueOf(rs.getString("transaction_type")), rs.getInt("version"));
+    }
+}
@@ -1,21 +1,56 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
+import dev.juanvaldivia.moneytrak.analytics.ColumnarTransactionStore;
 import dev.juanvaldivia.moneytrak.categories.Category;
 import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.categories.CategoryTree;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
 import dev.juanvaldivia.moneytrak.exception.ConflictException;
 import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import dev.juanvaldivia.moneytrak.merchants.MerchantDictionary;
+import dev.juanvaldivia.moneytrak.persistence.Pageables;
+import dev.juanvaldivia.moneytrak.persistence.PartialUpdate;
+import dev.juanvaldivia.moneytrak.rules.CategoryRuleEngine;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.sync.SyncService;
+import dev.juanvaldivia.moneytrak.transactions.dto.CategoryTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.CurrencyTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.DescriptionSuggestionDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.DuplicatePairDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.RangeTotalsDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.SummaryDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionCreationDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionUpdateDto;
 import dev.juanvaldivia.moneytrak.transactions.mapper.TransactionMapper;
-import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Local implementation of TransactionService.
@@ -25,25 +60,84 @@ import java.util.UUID;
 @Transactional
 public class LocalTransactionService implements TransactionService {
 
+    private static final ZonedDateTime MIN_DATE = ZonedDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final ZonedDateTime MAX_DATE = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final Pattern ROLLING_WINDOW = Pattern.compile("(\\d{1,5})d");
+    private static final int MAX_ROLLING_DAYS = 3660;
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int DEFAULT_DUPLICATE_PAIRS = 50;
+    private static final int MAX_DUPLICATE_PAIRS = 200;
+
     private final TransactionRepository transactionRepository;
     private final CategoryRepository categoryRepository;
     private final TransactionMapper mapper;
+    private final SyncService syncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PartialUpdate partialUpdate;
+    private final ColumnarTransactionStore analyticsStore;
+    private final TransactionSearchRepository searchRepository;
+    private final DescriptionSuggestionIndex suggestionIndex;
+    private final CategoryRuleEngine ruleEngine;
+    private final MerchantDictionary merchants;
+    private final DuplicateTransactionIndex duplicateIndex;
+    private final TransactionFiguresRecorder figures;
+    private final CategoryTree categoryTree;
 
     public LocalTransactionService(
         TransactionRepository transactionRepository,
         CategoryRepository categoryRepository,
-        TransactionMapper mapper
+        TransactionMapper mapper,
+        SyncService syncService,
+        ApplicationEventPublisher eventPublisher,
+        PartialUpdate partialUpdate,
+        ColumnarTransactionStore analyticsStore,
+        TransactionSearchRepository searchRepository,
+        DescriptionSuggestionIndex suggestionIndex,
+        CategoryRuleEngine ruleEngine,
+        MerchantDictionary merchants,
+        DuplicateTransactionIndex duplicateIndex,
+        TransactionFiguresRecorder figures,
+        CategoryTree categoryTree
     ) {
         this.transactionRepository = transactionRepository;
         this.categoryRepository = categoryRepository;
         this.mapper = mapper;
+        this.syncService = syncService;
+        this.eventPublisher = eventPublisher;
+        this.partialUpdate = partialUpdate;
+        this.analyticsStore = analyticsStore;
+        this.searchRepository = searchRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.ruleEngine = ruleEngine;
+        this.merchants = merchants;
+        this.duplicateIndex = duplicateIndex;
+        this.figures = figures;
+        this.categoryTree = categoryTree;
     }
 
     @Override
     public TransactionDto createTransaction(TransactionCreationDto dto) {
-        Category category = resolveCategoryForCreation(dto.categoryId());
+        return createTransaction(dto, false);
+    }
+
+    @Override
+    public TransactionDto createTransaction(TransactionCreationDto dto, boolean rejectDuplicates) {
+        if (rejectDuplicates) {
+            List<UUID> duplicates = findLikelyDuplicates(dto);
+            if (!duplicates.isEmpty()) {
+                throw new ConflictException("Likely duplicate of transaction(s): " + duplicates.stream()
+                    .map(UUID::toString)
+                    .collect(Collectors.joining(", ")));
+            }
+        }
+        Category category = resolveCategoryForCreation(dto, this::othersCategory);
         Transaction entity = mapper.toEntity(dto, category);
+        entity.assignMerchant(merchants.resolve(dto.description()));
         Transaction saved = transactionRepository.save(entity);
+        figures.record(null, TransactionFigures.of(saved));
+        eventPublisher.publishEvent(EntityChangedEvent.created(SyncEntityType.TRANSACTION, saved.id(), saved.version()));
         return mapper.toDto(saved);
     }
 
@@ -53,8 +147,113 @@ public class LocalTransactionService implements TransactionService {
         if (categoryId != null && !categoryRepository.existsById(categoryId)) {
             throw new NotFoundException("Category not found with id: " + categoryId);
         }
-        return transactionRepository.findByFilters(categoryId, stability, pageable)
-            .map(mapper::toDto);
+        Pageable ordered = Pageables.withIdTiebreaker(pageable);
+        if (analyticsStore.isReady() && ordered.isPaged()) {
+            // Total comes from the in-memory store instead of a COUNT over the table
+            List<Transaction> content = transactionRepository.findPageByFilters(categoryId, stability, ordered);
+            long total = categoryId == null
+                ? analyticsStore.count(null, stability)
+                : analyticsStore.countInCategories(categoryTree.subtree(categoryId), stability);
+            return new PageImpl<>(content, ordered, total).map(mapper::toDto);
+        }
+        return transactionRepository.findByFilters(categoryId, stability, ordered).map(mapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TransactionDto> searchTransactions(String query, UUID categoryId, TransactionStability stability,
+                                                   Pageable pageable) {
+        List<String> terms = TransactionSearchRepository.terms(query);
+        if (terms.isEmpty()) {
+            throw new BadRequestException("q must contain at least one letter or digit");
+        }
+        if (categoryId != null && !categoryRepository.existsById(categoryId)) {
+            throw new NotFoundException("Category not found with id: " + categoryId);
+        }
+        Page<UUID> ids = searchRepository.search(terms, categoryId, stability, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        // Entities come back unordered; restore the rank order of the id page
+        Map<UUID, Transaction> found = transactionRepository.findWithCategoryByIdIn(ids.getContent()).stream()
+            .collect(Collectors.toMap(Transaction::id, Function.identity()));
+        List<TransactionDto> content = ids.getContent().stream()
+            .filter(found::containsKey) // Deleted between the two queries
+            .map(id -> mapper.toDto(found.get(id)))
+            .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<DescriptionSuggestionDto> suggestDescriptions(String prefix, Integer limit) {
+        if (prefix.isBlank()) {
+            throw new BadRequestException("prefix must not be blank");
+        }
+        int max = limit != null ? limit : DEFAULT_SUGGESTIONS;
+        if (max < 1 || max > MAX_SUGGESTIONS) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return suggestionIndex.suggest(prefix, max).stream()
+            .map(s -> new DescriptionSuggestionDto(s.description(), s.frequency(), s.categoryId(), s.amount(), s.currency()))
+            .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UUID> findLikelyDuplicates(TransactionCreationDto dto) {
+        return duplicateIndex.findDuplicates(dto.description(), dto.amount(), dto.currency(), dto.date(), dto.type())
+            .stream()
+            .map(DuplicateTransactionIndex.Match::id)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DuplicatePairDto> listLikelyDuplicates(Integer limit) {
+        int max = limit != null ? limit : DEFAULT_DUPLICATE_PAIRS;
+        if (max < 1 || max > MAX_DUPLICATE_PAIRS) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_DUPLICATE_PAIRS);
+        }
+        List<DuplicateTransactionIndex.Pair> pairs = duplicateIndex.findPairs(max);
+        if (pairs.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = pairs.stream().flatMap(pair -> Stream.of(pair.id(), pair.duplicateOf())).toList();
+        Map<UUID, TransactionDto> transactions = transactionRepository.findWithCategoryByIdIn(ids).stream()
+            .collect(Collectors.toMap(Transaction::id, mapper::toDto));
+        // A pair whose transaction was deleted since the index was read is skipped
+        return pairs.stream()
+            .filter(pair -> transactions.containsKey(pair.id()) && transactions.containsKey(pair.duplicateOf()))
+            .map(pair -> new DuplicatePairDto(transactions.get(pair.id()), transactions.get(pair.duplicateOf()),
+                pair.similarity()))
+            .toList();
+    }
+
+    @Override
+    public Map<String, TransactionDto> importTransactions(Map<String, TransactionCreationDto> linesByFingerprint) {
+        // One query for the whole batch; the unique index still guards against a concurrent import
+        Set<String> imported = new HashSet<>(transactionRepository.findImportFingerprintsIn(linesByFingerprint.keySet()));
+        Category others = othersCategory();
+        Map<String, Transaction> created = new LinkedHashMap<>();
+        linesByFingerprint.forEach((fingerprint, dto) -> {
+            if (imported.contains(fingerprint)) {
+                return;
+            }
+            Transaction entity = mapper.toEntity(dto, resolveCategoryForCreation(dto, () -> others));
+            entity.assignMerchant(merchants.resolve(dto.description()));
+            entity.assignImportFingerprint(fingerprint);
+            Transaction saved = transactionRepository.save(entity);
+            figures.record(null, TransactionFigures.of(saved));
+            created.put(fingerprint, saved);
+        });
+        transactionRepository.flush();
+        Map<String, TransactionDto> result = new LinkedHashMap<>();
+        created.forEach((fingerprint, saved) -> {
+            eventPublisher.publishEvent(EntityChangedEvent.created(SyncEntityType.TRANSACTION, saved.id(), saved.version()));
+            result.put(fingerprint, mapper.toDto(saved));
+        });
+        return result;
     }
 
     @Override
@@ -67,64 +266,196 @@ public class LocalTransactionService implements TransactionService {
 
     @Override
     public TransactionDto updateTransaction(UUID id, TransactionUpdateDto dto) {
-        Transaction existing = transactionRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Transaction not found with id: " + id));
-
-        if (!existing.version().equals(dto.version())) {
-            throw new ConflictException("Version mismatch: transaction has been modified");
+        // Conditional UPDATE of the provided columns only: version check, category check and write in one statement
+        UUID categoryId = dto.categoryId();
+        PartialUpdate.Changes changes = PartialUpdate.Changes.of()
+            .set("description", dto.description())
+            .set("amount", dto.amount())
+            .set("currency", dto.currency())
+            .set("date", dto.date() != null ? dto.date().withZoneSameInstant(ZoneOffset.UTC) : null)
+            .set("type", dto.type())
+            .set("stability", dto.stability())
+            .set("category", categoryId != null ? categoryRepository.getReferenceById(categoryId) : null);
+        if (dto.description() != null) {
+            changes.setNullable("merchantId", merchants.resolve(dto.description()));
         }
+        PartialUpdate.Condition<Transaction> categoryExists = categoryId == null ? null : (cb, update, root) -> {
+            Subquery<UUID> category = update.subquery(UUID.class);
+            Root<Category> c = category.from(Category.class);
+            return cb.exists(category.select(c.get("id")).where(cb.equal(c.get("id"), categoryId)));
+        };
 
-        Category newCategory = null;
-        if (dto.categoryId() != null) {
-            newCategory = categoryRepository.findById(dto.categoryId())
-                .orElseThrow(() -> new NotFoundException("Category not found with id: " + dto.categoryId()));
+        // Only an update that moves totals reads the figures it replaces, locked until commit so they
+        // are exactly the ones the UPDATE overwrites; other updates stay a single statement
+        boolean figuresChange = dto.amount() != null || dto.currency() != null || dto.date() != null
+            || dto.type() != null || categoryId != null;
+        TransactionFigures before = figuresChange ? figures.lock(id) : null;
+        int updated = partialUpdate.update(Transaction.class, id, dto.version(), changes, categoryExists);
+        if (updated == 0) {
+            throw updateFailure(id, dto);
         }
 
-        try {
-            mapper.updateEntity(existing, dto, newCategory);
-            Transaction saved = transactionRepository.save(existing);
-            return mapper.toDto(saved);
-        } catch (OptimisticLockException e) {
-            throw new ConflictException("Version mismatch: transaction has been modified");
+        Transaction saved = transactionRepository.findWithCategoryById(id)
+            .orElseThrow(() -> new NotFoundException("Transaction not found with id: " + id));
+        if (figuresChange) {
+            figures.record(before, TransactionFigures.of(saved));
         }
+        eventPublisher.publishEvent(EntityChangedEvent.updated(SyncEntityType.TRANSACTION, saved.id(), saved.version()));
+        return mapper.toDto(saved);
     }
 
     @Override
     public void deleteTransaction(UUID id) {
-        if (!transactionRepository.existsById(id)) {
+        // Deletes the row and returns the figures it had, in one statement
+        TransactionFigures before = figures.delete(id);
+        if (before == null) {
             throw new NotFoundException("Transaction not found with id: " + id);
         }
-        transactionRepository.deleteById(id);
+        figures.record(before, null);
+        syncService.recordDeletion(SyncEntityType.TRANSACTION, id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(SyncEntityType.TRANSACTION, id));
     }
 
     @Override
     @Transactional(readOnly = true)
     public SummaryDto calculateExpenseTotal() {
-        return new SummaryDto(transactionRepository.sumAmountByType(TransactionType.EXPENSE));
+        return new SummaryDto(sumAmount(TransactionType.EXPENSE));
     }
 
     @Override
     @Transactional(readOnly = true)
     public SummaryDto calculateIncomeTotal() {
-        return new SummaryDto(transactionRepository.sumAmountByType(TransactionType.INCOME));
+        return new SummaryDto(sumAmount(TransactionType.INCOME));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryTotalDto> calculateCategoryTotals(TransactionType type, LocalDate from, LocalDate to) {
+        return calculateCategoryTotals(type, from, to, false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryTotalDto> calculateCategoryTotals(TransactionType type, LocalDate from, LocalDate to,
+                                                          boolean rollup) {
+        if (!analyticsStore.isReady()) {
+            ZonedDateTime lower = from != null ? from.atStartOfDay(ZoneOffset.UTC) : MIN_DATE;
+            ZonedDateTime upper = to != null ? to.plusDays(1).atStartOfDay(ZoneOffset.UTC) : MAX_DATE;
+            return rollup
+                ? transactionRepository.sumAmountBySubtree(type, lower, upper)
+                : transactionRepository.sumAmountByCategory(type, lower, upper);
+        }
+        List<ColumnarTransactionStore.CategoryTotal> totals = analyticsStore.totalsByCategory(type, from, to);
+        if (rollup) {
+            totals = rollUp(totals);
+        }
+        Map<UUID, String> names = categoryRepository.findAllById(
+                totals.stream().map(ColumnarTransactionStore.CategoryTotal::categoryId).toList()).stream()
+            .collect(Collectors.toMap(Category::getId, Category::getName));
+        return totals.stream()
+            .map(t -> new CategoryTotalDto(t.categoryId(), names.get(t.categoryId()), t.total(), t.count()))
+            .toList();
+    }
+
+    /**
+     * Add each category's totals to all its ancestors, so that every category covers its subtree.
+     * The ancestries of all the categories are read with one query on the closure.
+     *
+     * @param totals totals per category
+     * @return totals per subtree, largest total first
+     */
+    private List<ColumnarTransactionStore.CategoryTotal> rollUp(List<ColumnarTransactionStore.CategoryTotal> totals) {
+        Map<UUID, List<UUID>> ancestors = categoryTree.ancestors(
+            totals.stream().map(ColumnarTransactionStore.CategoryTotal::categoryId).toList());
+        Map<UUID, ColumnarTransactionStore.CategoryTotal> subtrees = new HashMap<>();
+        for (ColumnarTransactionStore.CategoryTotal total : totals) {
+            for (UUID ancestor : ancestors.getOrDefault(total.categoryId(), List.of(total.categoryId()))) {
+                subtrees.merge(ancestor, new ColumnarTransactionStore.CategoryTotal(ancestor, total.total(), total.count()),
+                    (a, b) -> new ColumnarTransactionStore.CategoryTotal(ancestor, a.total().add(b.total()),
+                        a.count() + b.count()));
+            }
+        }
+        return subtrees.values().stream()
+            .sorted((a, b) -> b.total().compareTo(a.total()))
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RangeTotalsDto calculateRangeTotals(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (!analyticsStore.isReady()) {
+            return new RangeTotalsDto(from, to, transactionRepository.sumAmountByTypeAndCurrency(
+                from.atStartOfDay(ZoneOffset.UTC), to.plusDays(1).atStartOfDay(ZoneOffset.UTC)));
+        }
+        List<CurrencyTotalDto> totals = analyticsStore.rangeTotals(from, to).stream()
+            .map(t -> new CurrencyTotalDto(t.type(), t.currency(), t.total()))
+            .toList();
+        return new RangeTotalsDto(from, to, totals);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RangeTotalsDto calculateRollingTotals(String window) {
+        Matcher matcher = ROLLING_WINDOW.matcher(window);
+        int days = matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+        if (days < 1 || days > MAX_ROLLING_DAYS) {
+            throw new BadRequestException("window must be a number of days between 1d and " + MAX_ROLLING_DAYS + "d");
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        return calculateRangeTotals(today.minusDays(days - 1L), today);
+    }
+
+    private BigDecimal sumAmount(TransactionType type) {
+        return analyticsStore.isReady()
+            ? analyticsStore.sumAmount(type)
+            : transactionRepository.sumAmountByType(type);
+    }
+
+    /**
+     * Work out why a conditional update matched no row. Only runs on the failure path.
+     *
+     * @param id transaction UUID
+     * @param dto rejected update
+     * @return exception to throw
+     */
+    private RuntimeException updateFailure(UUID id, TransactionUpdateDto dto) {
+        Transaction existing = transactionRepository.findById(id).orElse(null);
+        if (existing == null) {
+            return new NotFoundException("Transaction not found with id: " + id);
+        }
+        if (existing.version().equals(dto.version())
+            && dto.categoryId() != null && !categoryRepository.existsById(dto.categoryId())) {
+            return new NotFoundException("Category not found with id: " + dto.categoryId());
+        }
+        return new ConflictException("Version mismatch: transaction has been modified");
     }
 
     /**
      * Resolve category for transaction creation.
-     * If categoryId is provided, validates and returns it.
-     * If categoryId is null, returns the default "Others" category.
+     * An explicit categoryId wins and must exist; otherwise the category of the first matching rule,
+     * or the default "Others" category when no rule matches.
      *
-     * @param categoryId optional category UUID
+     * @param dto creation data
+     * @param others supplies the default category; batches look it up once
      * @return resolved category entity
-     * @throws NotFoundException if categoryId provided but not found, or if "Others" default not found
+     * @throws NotFoundException if categoryId provided but not found
      */
-    private Category resolveCategoryForCreation(UUID categoryId) {
+    private Category resolveCategoryForCreation(TransactionCreationDto dto, Supplier<Category> others) {
+        UUID categoryId = dto.categoryId();
         if (categoryId != null) {
             return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new NotFoundException("Category not found with id: " + categoryId));
-        } else {
-            return categoryRepository.findByNameIgnoreCase("Others")
-                .orElseThrow(() -> new IllegalStateException("Default category 'Others' not found"));
         }
+        return ruleEngine.classify(dto.description(), dto.amount(), dto.currency())
+            .flatMap(categoryRepository::findById)
+            .orElseGet(others);
+    }
+
+    private Category othersCategory() {
+        return categoryRepository.findByNameIgnoreCase("Others")
+            .orElseThrow(() -> new IllegalStateException("Default category 'Others' not found"));
     }
 }
@@ -0,0 +1,94 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * MinHash signatures of descriptions, for estimating their Jaccard similarity without comparing text.
+ *
+ * <p>A description is lowercased, reduced to letters, digits and single spaces and cut into overlapping
+ * character {@value #SHINGLE_LENGTH}-grams. Each of the {@value #HASHES} signature slots holds the minimum
+ * of one seeded hash over all shingles; the fraction of equal slots between two signatures estimates
+ * the Jaccard similarity of their shingle sets.</p>
+ *
+ * <p>For locality-sensitive hashing the signature is split into {@value #BANDS} bands of {@value #ROWS}
+ * slots. Two descriptions share at least one band hash with probability {@code 1 - (1 - s^4)^6}: about
+ * 96% at similarity 0.8, 81% at 0.7 and 32% at 0.5.</p>
+ */
+final class MinHash {
+
+    static final int BANDS = 6;
+    static final int ROWS = 4;
+    static final int HASHES = BANDS * ROWS;
+    static final int SHINGLE_LENGTH = 3;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final long[] SEEDS = new SplittableRandom(0x6d696e68617368L).longs(HASHES).toArray();
+
+    private MinHash() {
+    }
+
+    /**
+     * @param description transaction description
+     * @return signature of {@value #HASHES} slots
+     */
+    static int[] signature(String description) {
+        String text = SEPARATORS.matcher(description.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, text.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = fnv1a(text, start, Math.min(text.length(), start + SHINGLE_LENGTH));
+            for (int slot = 0; slot < HASHES; slot++) {
+                int hash = (int) (mix(shingle ^ SEEDS[slot]) >>> 32);
+                if (hash < signature[slot]) {
+                    signature[slot] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * @param signature output of {@link #signature(String)}
+     * @return one hash per band
+     */
+    static int[] bands(int[] signature) {
+        int[] bands = new int[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            bands[band] = Arrays.hashCode(Arrays.copyOfRange(signature, band * ROWS, (band + 1) * ROWS));
+        }
+        return bands;
+    }
+
+    /**
+     * @return estimated Jaccard similarity, between 0 and 1
+     */
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int slot = 0; slot < HASHES; slot++) {
+            if (a[slot] == b[slot]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    private static long fnv1a(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,7 +1,11 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
 import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.sync.ChangeSequenceListener;
+import dev.juanvaldivia.moneytrak.sync.ChangeTracked;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -15,11 +19,14 @@ import java.util.UUID;
  * <p>Supports categorization, transaction types (EXPENSE/INCOME), and stability (FIXED/VARIABLE).
  */
 @Entity
+@DynamicUpdate
 @Table(name = "transactions")
-public class Transaction {
+@EntityListeners(ChangeSequenceListener.class)
+public class Transaction implements ChangeTracked {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7) // Time-ordered (v7): inserts append to the PK index and ids sort by creation
     private UUID id;
 
     @Column(nullable = false, length = 500)
@@ -46,6 +53,12 @@ public class Transaction {
     @JoinColumn(name = "category_id", nullable = false, foreignKey = @ForeignKey(name = "fk_transaction_category"))
     private Category category;
 
+    @Column(name = "merchant_id")
+    private UUID merchantId;
+
+    @Column(name = "import_fingerprint", length = 64, unique = true, updatable = false)
+    private String importFingerprint;
+
     @Version
     private Integer version;
 
@@ -55,6 +68,9 @@ public class Transaction {
     @Column(nullable = false)
     private ZonedDateTime updatedAt;
 
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSequence = 0L;
+
     protected Transaction() {
         // JPA requires no-arg constructor
     }
@@ -173,6 +189,44 @@ public class Transaction {
         this.updatedAt = ZonedDateTime.now(ZoneOffset.UTC);
     }
 
+    /**
+     * Link the transaction to the merchant its description normalizes to.
+     *
+     * @param merchantId merchant UUID (null if the description names no merchant)
+     */
+    public void assignMerchant(UUID merchantId) {
+        this.merchantId = merchantId;
+    }
+
+    /**
+     * Mark the transaction as created from a statement line, so importing the line again is a no-op.
+     *
+     * @param importFingerprint stable fingerprint of the statement line
+     */
+    public void assignImportFingerprint(String importFingerprint) {
+        this.importFingerprint = importFingerprint;
+    }
+
+    /**
+     * Move the transaction to another category, leaving every other field as is.
+     *
+     * @param category new category
+     */
+    public void assignCategory(Category category) {
+        this.category = category;
+        this.updatedAt = ZonedDateTime.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * Reclassify the transaction as recurring or one-time, leaving every other field as is.
+     *
+     * @param stability new stability
+     */
+    public void assignStability(TransactionStability stability) {
+        this.stability = stability;
+        this.updatedAt = ZonedDateTime.now(ZoneOffset.UTC);
+    }
+
     // Getters
     public UUID id() {
         return id;
@@ -206,6 +260,14 @@ public class Transaction {
         return category;
     }
 
+    public UUID merchantId() {
+        return merchantId;
+    }
+
+    public String importFingerprint() {
+        return importFingerprint;
+    }
+
     public Integer version() {
         return version;
     }
@@ -218,6 +280,15 @@ public class Transaction {
         return updatedAt;
     }
 
+    public Long changeSequence() {
+        return changeSequence;
+    }
+
+    @Override
+    public void assignChangeSequence(long changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,10 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
+import dev.juanvaldivia.moneytrak.config.MediaTypes;
+import dev.juanvaldivia.moneytrak.transactions.dto.CategoryTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.DescriptionSuggestionDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.DuplicatePairDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.RangeTotalsDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.SummaryDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionCreationDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
@@ -10,11 +15,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -29,6 +37,8 @@ import java.util.UUID;
 @RequestMapping("/v1/transactions")
 public class TransactionController {
 
+    static final String POSSIBLE_DUPLICATES_HEADER = "Possible-Duplicates";
+
     private final TransactionService service;
 
     public TransactionController(TransactionService service) {
@@ -40,21 +50,35 @@ public class TransactionController {
      * POST /v1/transactions
      *
      * If categoryId is not provided, defaults to "Others" category.
+     * Likely duplicates of existing transactions are listed in the Possible-Duplicates header,
+     * or refused with rejectDuplicates=true.
      *
      * @param dto transaction creation data
+     * @param rejectDuplicates whether to refuse a likely duplicate instead of creating it
      * @return 201 Created with Location header and created transaction
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if rejecting and a likely duplicate exists (409)
      */
     @PostMapping
-    public ResponseEntity<TransactionDto> createTransaction(@Valid @RequestBody TransactionCreationDto dto) {
-        TransactionDto created = service.createTransaction(dto);
+    public ResponseEntity<TransactionDto> createTransaction(
+        @Valid @RequestBody TransactionCreationDto dto,
+        @RequestParam(defaultValue = "false") boolean rejectDuplicates
+    ) {
+        List<UUID> duplicates = rejectDuplicates ? List.of() : service.findLikelyDuplicates(dto);
+        TransactionDto created = service.createTransaction(dto, rejectDuplicates);
 
         URI location = ServletUriComponentsBuilder
             .fromCurrentRequest()
+            .replaceQuery(null)
             .path("/{id}")
             .buildAndExpand(created.id())
             .toUri();
 
-        return ResponseEntity.created(location).body(created);
+        ResponseEntity.BodyBuilder response = ResponseEntity.created(location);
+        if (!duplicates.isEmpty()) {
+            response.header(POSSIBLE_DUPLICATES_HEADER,
+                duplicates.stream().map(UUID::toString).toArray(String[]::new));
+        }
+        return response.body(created);
     }
 
     /**
@@ -78,6 +102,59 @@ public class TransactionController {
         return ResponseEntity.ok(service.listTransactions(categoryId, stability, pageable));
     }
 
+    /**
+     * Search transactions by description.
+     * GET /v1/transactions/search?q=coffee&categoryId={uuid}&stability={FIXED|VARIABLE}&page=0&size=20
+     *
+     * Results are ordered by relevance; the filters are optional and combine with the query.
+     *
+     * @param q search text
+     * @param categoryId optional category UUID for filtering
+     * @param stability optional transaction stability for filtering
+     * @param pageable page number and size (default: page=0, size=20)
+     * @return 200 OK with page of matching transactions
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if q has no letters or digits (400)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<TransactionDto>> searchTransactions(
+        @RequestParam String q,
+        @RequestParam(required = false) UUID categoryId,
+        @RequestParam(required = false) TransactionStability stability,
+        @PageableDefault(size = 20) Pageable pageable
+    ) {
+        return ResponseEntity.ok(service.searchTransactions(q, categoryId, stability, pageable));
+    }
+
+    /**
+     * Suggest previously used descriptions for typeahead.
+     * GET /v1/transactions/suggest?prefix=cof&limit=10
+     *
+     * @param prefix typed text
+     * @param limit optional maximum number of suggestions (default 10, max 50)
+     * @return 200 OK with suggestions, most used first
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if prefix is blank or limit out of range (400)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<DescriptionSuggestionDto>> suggestDescriptions(
+        @RequestParam String prefix,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(service.suggestDescriptions(prefix, limit));
+    }
+
+    /**
+     * List pairs of transactions that look like the same entry made twice, for review.
+     * GET /v1/transactions/duplicates?limit=50
+     *
+     * @param limit optional maximum number of pairs (default 50, max 200)
+     * @return 200 OK with pairs, most recent first
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if limit out of range (400)
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<DuplicatePairDto>> listLikelyDuplicates(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.listLikelyDuplicates(limit));
+    }
+
     /**
      * Get transaction by ID.
      * GET /v1/transactions/{id}
@@ -112,6 +189,27 @@ public class TransactionController {
         return ResponseEntity.ok(service.updateTransaction(id, dto));
     }
 
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to a transaction.
+     * PATCH /v1/transactions/{id} (Content-Type: application/merge-patch+json)
+     *
+     * Only the members present in the patch are written; version is required.
+     * Members cannot be removed, so null members are ignored.
+     *
+     * @param id transaction UUID
+     * @param patch merge patch with version for optimistic locking
+     * @return 200 OK with updated transaction
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if transaction or category not found (404)
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if version mismatch (409)
+     */
+    @PatchMapping(value = "/{id}", consumes = MediaTypes.MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<TransactionDto> patchTransaction(
+        @PathVariable UUID id,
+        @Valid @RequestBody TransactionUpdateDto patch
+    ) {
+        return ResponseEntity.ok(service.updateTransaction(id, patch));
+    }
+
     /**
      * Delete transaction by ID.
      * DELETE /v1/transactions/{id}
@@ -147,4 +245,54 @@ public class TransactionController {
     public ResponseEntity<SummaryDto> getIncomeTotal() {
         return ResponseEntity.ok(service.calculateIncomeTotal());
     }
+
+    /**
+     * Get totals per category for one transaction type.
+     * GET /v1/transactions/summary/categories?type=EXPENSE&from=2026-01-01&to=2026-01-31
+     *
+     * @param type EXPENSE or INCOME (default EXPENSE)
+     * @param from optional first day, inclusive (UTC)
+     * @param to optional last day, inclusive (UTC)
+     * @param rollup whether each category's totals include its subcategories (default false)
+     * @return 200 OK with categories ordered by total descending
+     */
+    @GetMapping("/summary/categories")
+    public ResponseEntity<List<CategoryTotalDto>> getCategoryTotals(
+        @RequestParam(defaultValue = "EXPENSE") TransactionType type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "false") boolean rollup
+    ) {
+        return ResponseEntity.ok(service.calculateCategoryTotals(type, from, to, rollup));
+    }
+
+    /**
+     * Get totals per type and currency for a range of days.
+     * GET /v1/transactions/totals?from=2026-01-01&to=2026-01-31
+     *
+     * @param from first day, inclusive (UTC)
+     * @param to last day, inclusive (UTC)
+     * @return 200 OK with totals for the range
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if from is after to (400)
+     */
+    @GetMapping("/totals")
+    public ResponseEntity<RangeTotalsDto> getRangeTotals(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(service.calculateRangeTotals(from, to));
+    }
+
+    /**
+     * Get totals per type and currency for a rolling window ending today.
+     * GET /v1/transactions/rolling?window=30d
+     *
+     * @param window number of days including today (default 30d)
+     * @return 200 OK with totals for the window
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the window is invalid (400)
+     */
+    @GetMapping("/rolling")
+    public ResponseEntity<RangeTotalsDto> getRollingTotals(@RequestParam(defaultValue = "30d") String window) {
+        return ResponseEntity.ok(service.calculateRollingTotals(window));
+    }
 }
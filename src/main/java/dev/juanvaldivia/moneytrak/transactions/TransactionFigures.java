@@ -0,0 +1,43 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * The values of a transaction that running totals depend on.
+ *
+ * @param categoryId transaction category
+ * @param currency ISO 4217 code
+ * @param date transaction date
+ * @param amount positive amount
+ * @param type EXPENSE or INCOME
+ */
+public record TransactionFigures(UUID categoryId, String currency, ZonedDateTime date, BigDecimal amount,
+                                 TransactionType type) {
+
+    /**
+     * @return the current figures of a loaded transaction
+     */
+    public static TransactionFigures of(Transaction transaction) {
+        return new TransactionFigures(transaction.category().getId(), transaction.currency(), transaction.date(),
+            transaction.amount(), transaction.type());
+    }
+
+    /**
+     * @return amount in cents
+     */
+    public long cents() {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * @return calendar month of the date, in UTC
+     */
+    public YearMonth month() {
+        return YearMonth.from(date.withZoneSameInstant(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,16 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+/**
+ * Keeps running totals over transactions up to date. Called by {@link TransactionFiguresRecorder}
+ * inside the database transaction of every transaction write.
+ */
+public interface TransactionFiguresListener {
+
+    /**
+     * Account for a transaction write.
+     *
+     * @param before figures before the write (null for a creation)
+     * @param after figures after the write (null for a deletion)
+     */
+    void onFiguresChanged(TransactionFigures before, TransactionFigures after);
+}
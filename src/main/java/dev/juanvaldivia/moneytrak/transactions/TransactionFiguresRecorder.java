@@ -0,0 +1,93 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import dev.juanvaldivia.moneytrak.persistence.DatabaseDialect;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reports transaction writes to every {@link TransactionFiguresListener}.
+ *
+ * <p>Writers that load the entity read its figures before and after changing it. Deleting a single
+ * transaction goes through {@link #delete(UUID)}, which returns the deleted figures from the same
+ * statement. Other writers that change rows with a single statement call {@link #lock(UUID)} first, and
+ * only when the write changes a figure: the row stays locked until their database transaction ends,
+ * so the figures read are exactly the ones the write replaces.</p>
+ */
+@Component
+public class TransactionFiguresRecorder {
+
+    private static final String LOCK_TRANSACTION =
+        "SELECT category_id, currency, amount, date, transaction_type FROM transactions WHERE id = ? FOR UPDATE";
+
+    private static final String DELETE_RETURNING_POSTGRES =
+        "DELETE FROM transactions WHERE id = ? RETURNING category_id, currency, amount, date, transaction_type";
+    // H2 returns the deleted rows through a data change delta table
+    private static final String DELETE_RETURNING =
+        "SELECT category_id, currency, amount, date, transaction_type " +
+        "FROM OLD TABLE (DELETE FROM transactions WHERE id = ?)";
+
+    private static final RowMapper<TransactionFigures> FIGURES = (rs, i) -> new TransactionFigures(
+        rs.getObject("category_id", UUID.class), rs.getString("currency"),
+        rs.getObject("date", OffsetDateTime.class).toZonedDateTime(), rs.getBigDecimal("amount"),
+        TransactionType.valueOf(rs.getString("transaction_type")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final DatabaseDialect dialect;
+    private final List<TransactionFiguresListener> listeners;
+
+    public TransactionFiguresRecorder(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                                      DatabaseDialect dialect, List<TransactionFiguresListener> listeners) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.dialect = dialect;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Lock a transaction until the caller's database transaction ends and read its figures.
+     *
+     * @param transactionId transaction UUID
+     * @return its figures, or null if it does not exist
+     */
+    public TransactionFigures lock(UUID transactionId) {
+        List<TransactionFigures> current = jdbcTemplate.query(LOCK_TRANSACTION, FIGURES, transactionId);
+        return current.isEmpty() ? null : current.getFirst();
+    }
+
+    /**
+     * Delete a transaction in a single statement that also returns the figures it had.
+     *
+     * @param transactionId transaction UUID
+     * @return its figures before the deletion, or null if it did not exist
+     */
+    public TransactionFigures delete(UUID transactionId) {
+        // Plain JDBC: write pending entity changes first, and forget the deleted entity afterwards
+        entityManager.flush();
+        List<TransactionFigures> deleted = jdbcTemplate.query(
+            dialect.isPostgres() ? DELETE_RETURNING_POSTGRES : DELETE_RETURNING, FIGURES, transactionId);
+        entityManager.clear();
+        return deleted.isEmpty() ? null : deleted.getFirst();
+    }
+
+    /**
+     * Report a write. Must run inside the database transaction that makes it.
+     *
+     * @param before figures before the write (null for a creation)
+     * @param after figures after the write (null for a deletion)
+     */
+    public void record(TransactionFigures before, TransactionFigures after) {
+        if (before == null && after == null || before != null && before.equals(after)) {
+            return;
+        }
+        for (TransactionFiguresListener listener : listeners) {
+            listener.onFiguresChanged(before, after);
+        }
+    }
+}
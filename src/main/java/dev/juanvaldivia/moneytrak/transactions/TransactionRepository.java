@@ -1,5 +1,7 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
+import dev.juanvaldivia.moneytrak.transactions.dto.CategoryTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.CurrencyTotalDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +10,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,19 +25,22 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
 
     /**
      * Find transactions with optional category and stability filters, ordered by date descending.
-     * Both filters are independently optional and can be combined.
+     * Both filters are independently optional and can be combined. The category filter includes its
+     * subcategories at any depth, through one lookup on the category closure.
      * Uses JOIN FETCH to avoid N+1 queries when accessing category data.
      *
-     * @param categoryId optional category UUID filter (null = all categories)
+     * @param categoryId optional category UUID filter, subcategories included (null = all categories)
      * @param stability optional stability filter (null = all stability values)
      * @param pageable pagination and sort parameters
      * @return page of matching transactions with categories eagerly loaded
      */
     @Query(value = "SELECT t FROM Transaction t JOIN FETCH t.category " +
-            "WHERE (:categoryId IS NULL OR t.category.id = :categoryId) " +
+            "WHERE (:categoryId IS NULL OR t.category.id IN " +
+            "(SELECT l.key.descendantId FROM CategoryClosure l WHERE l.key.ancestorId = :categoryId)) " +
             "AND (:stability IS NULL OR t.stability = :stability)",
             countQuery = "SELECT COUNT(t) FROM Transaction t " +
-            "WHERE (:categoryId IS NULL OR t.category.id = :categoryId) " +
+            "WHERE (:categoryId IS NULL OR t.category.id IN " +
+            "(SELECT l.key.descendantId FROM CategoryClosure l WHERE l.key.ancestorId = :categoryId)) " +
             "AND (:stability IS NULL OR t.stability = :stability)")
     Page<Transaction> findByFilters(
             @Param("categoryId") UUID categoryId,
@@ -39,13 +48,22 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
             Pageable pageable);
 
     /**
-     * Count transactions linked to a specific category.
-     * Used for validation before category deletion.
+     * Same filters as {@link #findByFilters}, without the count query.
+     * Used when the total is already known from the in-memory analytics store.
      *
-     * @param categoryId category UUID
-     * @return number of transactions in the category
+     * @param categoryId optional category UUID filter, subcategories included (null = all categories)
+     * @param stability optional stability filter (null = all stability values)
+     * @param pageable pagination and sort parameters
+     * @return requested page of matching transactions with categories eagerly loaded
      */
-    long countByCategoryId(UUID categoryId);
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category " +
+            "WHERE (:categoryId IS NULL OR t.category.id IN " +
+            "(SELECT l.key.descendantId FROM CategoryClosure l WHERE l.key.ancestorId = :categoryId)) " +
+            "AND (:stability IS NULL OR t.stability = :stability)")
+    List<Transaction> findPageByFilters(
+            @Param("categoryId") UUID categoryId,
+            @Param("stability") TransactionStability stability,
+            Pageable pageable);
 
     /**
      * Calculate sum of amounts by transaction type.
@@ -56,4 +74,108 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
      */
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t WHERE t.type = :type")
     BigDecimal sumAmountByType(@Param("type") TransactionType type);
+
+    /**
+     * Totals per category for one type within a date range, largest total first.
+     *
+     * @param type transaction type (EXPENSE or INCOME)
+     * @param from inclusive lower bound
+     * @param to exclusive upper bound
+     * @return one line per category with at least one matching transaction
+     */
+    @Query("SELECT new dev.juanvaldivia.moneytrak.transactions.dto.CategoryTotalDto(" +
+           "c.id, c.name, SUM(t.amount), COUNT(t)) " +
+           "FROM Transaction t JOIN t.category c " +
+           "WHERE t.type = :type AND t.date >= :from AND t.date < :to " +
+           "GROUP BY c.id, c.name ORDER BY SUM(t.amount) DESC")
+    List<CategoryTotalDto> sumAmountByCategory(
+            @Param("type") TransactionType type,
+            @Param("from") ZonedDateTime from,
+            @Param("to") ZonedDateTime to);
+
+    /**
+     * Totals per category subtree for one type within a date range, largest total first.
+     * Each transaction counts for its category and every ancestor, through one join on the category closure.
+     *
+     * @param type transaction type (EXPENSE or INCOME)
+     * @param from inclusive lower bound
+     * @param to exclusive upper bound
+     * @return one line per category with at least one matching transaction in its subtree
+     */
+    @Query("SELECT new dev.juanvaldivia.moneytrak.transactions.dto.CategoryTotalDto(" +
+           "c.id, c.name, SUM(t.amount), COUNT(t)) " +
+           "FROM Transaction t JOIN CategoryClosure l ON l.key.descendantId = t.category.id " +
+           "JOIN Category c ON c.id = l.key.ancestorId " +
+           "WHERE t.type = :type AND t.date >= :from AND t.date < :to " +
+           "GROUP BY c.id, c.name ORDER BY SUM(t.amount) DESC")
+    List<CategoryTotalDto> sumAmountBySubtree(
+            @Param("type") TransactionType type,
+            @Param("from") ZonedDateTime from,
+            @Param("to") ZonedDateTime to);
+
+    /**
+     * Totals per type and currency within a date range.
+     *
+     * @param from inclusive lower bound
+     * @param to exclusive upper bound
+     * @return one line per type and currency with at least one matching transaction
+     */
+    @Query("SELECT new dev.juanvaldivia.moneytrak.transactions.dto.CurrencyTotalDto(" +
+           "t.type, t.currency, SUM(t.amount)) " +
+           "FROM Transaction t WHERE t.date >= :from AND t.date < :to " +
+           "GROUP BY t.type, t.currency ORDER BY t.type, t.currency")
+    List<CurrencyTotalDto> sumAmountByTypeAndCurrency(@Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to);
+
+    /**
+     * Find transactions written within a change sequence range, for delta sync.
+     * Uses the change_seq index and JOIN FETCH to load categories in the same query.
+     *
+     * @param after exclusive lower bound
+     * @param upTo inclusive upper bound
+     * @param pageable limit (sort is fixed by the query)
+     * @return transactions ordered by change sequence
+     */
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category " +
+           "WHERE t.changeSequence > :after AND t.changeSequence <= :upTo ORDER BY t.changeSequence")
+    List<Transaction> findChangedBetween(@Param("after") long after, @Param("upTo") long upTo, Pageable pageable);
+
+    /**
+     * Find the next chunk of transactions in a category, using the id as keyset cursor.
+     *
+     * @param categoryId category UUID
+     * @param after exclusive lower id bound (the last id of the previous chunk)
+     * @param pageable limit (sort is fixed by the query)
+     * @return transactions ordered by id
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.category.id = :categoryId AND t.id > :after ORDER BY t.id")
+    List<Transaction> findByCategoryIdAfter(@Param("categoryId") UUID categoryId, @Param("after") UUID after,
+                                            Pageable pageable);
+
+    /**
+     * Find a transaction with its category loaded in the same query.
+     *
+     * @param id transaction UUID
+     * @return transaction with category, if present
+     */
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category WHERE t.id = :id")
+    Optional<Transaction> findWithCategoryById(@Param("id") UUID id);
+
+    /**
+     * Find transactions by id with their categories loaded in the same query.
+     *
+     * @param ids transaction UUIDs
+     * @return transactions found, in no particular order
+     */
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category WHERE t.id IN :ids")
+    List<Transaction> findWithCategoryByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Which of the given statement line fingerprints are already imported.
+     * One index lookup per fingerprint, in a single query.
+     *
+     * @param fingerprints statement line fingerprints
+     * @return the fingerprints already stored
+     */
+    @Query("SELECT t.importFingerprint FROM Transaction t WHERE t.importFingerprint IN :fingerprints")
+    List<String> findImportFingerprintsIn(@Param("fingerprints") Collection<String> fingerprints);
 }
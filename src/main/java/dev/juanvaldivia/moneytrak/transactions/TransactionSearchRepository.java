@@ -0,0 +1,130 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked search over transaction descriptions.
+ *
+ * <p>On PostgreSQL each search term becomes a prefix match in a {@code tsquery} against
+ * {@code to_tsvector('simple', description)}, served by the GIN index from the V6 migration and ordered by
+ * {@code ts_rank}. Other databases (H2 in tests and local runs) fall back to one {@code LIKE} per term,
+ * ranking descriptions that start with the first term first; that path scans the table.
+ * The backend is picked from the connected database at first use, not from configuration.
+ *
+ * <p>Queries run as native queries through the {@link EntityManager}, so pending changes in the current
+ * persistence context are flushed first.
+ */
+@Repository
+public class TransactionSearchRepository {
+
+    static final int MAX_TERMS = 8;
+
+    private static final String TS_VECTOR = "to_tsvector('simple', t.description)";
+
+    private final EntityManager entityManager;
+    private volatile Boolean postgres;
+
+    public TransactionSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Find ids of transactions whose description contains every term, best match first.
+     *
+     * @param terms search terms from {@link #terms(String)}, at least one
+     * @param categoryId optional category filter, subcategories included
+     * @param stability optional stability filter
+     * @param pageable page number and size (sort is fixed by ranking)
+     * @return page of matching transaction ids in rank order
+     */
+    public Page<UUID> search(List<String> terms, UUID categoryId, TransactionStability stability, Pageable pageable) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder where = new StringBuilder(" WHERE ");
+        String order;
+        if (isPostgres()) {
+            params.put("query", toTsQuery(terms));
+            where.append(TS_VECTOR).append(" @@ to_tsquery('simple', :query)");
+            order = " ORDER BY ts_rank(" + TS_VECTOR + ", to_tsquery('simple', :query)) DESC, t.date DESC, t.id DESC";
+        } else {
+            for (int i = 0; i < terms.size(); i++) {
+                params.put("term" + i, "%" + terms.get(i) + "%");
+                where.append(i > 0 ? " AND " : "").append("LOWER(t.description) LIKE :term").append(i);
+            }
+            params.put("prefix", terms.getFirst() + "%");
+            order = " ORDER BY CASE WHEN LOWER(t.description) LIKE :prefix THEN 0 ELSE 1 END, t.date DESC, t.id DESC";
+        }
+        if (categoryId != null) {
+            params.put("categoryId", categoryId);
+            where.append(" AND t.category_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :categoryId)");
+        }
+        if (stability != null) {
+            params.put("stability", stability.name());
+            where.append(" AND t.transaction_stability = :stability");
+        }
+
+        Map<String, Object> countParams = new LinkedHashMap<>(params);
+        countParams.remove("prefix");
+        long total = ((Number) bind(entityManager.createNativeQuery("SELECT COUNT(*) FROM transactions t" + where),
+            countParams).getSingleResult()).longValue();
+        if (total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        List<?> ids = bind(entityManager.createNativeQuery("SELECT t.id FROM transactions t" + where + order, UUID.class),
+            params)
+            .setFirstResult(Math.toIntExact(pageable.getOffset()))
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+        return new PageImpl<>(ids.stream().map(UUID.class::cast).toList(), pageable, total);
+    }
+
+    /**
+     * Split a user query into lowercase search terms: runs of letters and digits, at most {@value #MAX_TERMS}.
+     *
+     * @param query raw query
+     * @return terms, empty if the query has no letters or digits
+     */
+    static List<String> terms(String query) {
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+            .filter(term -> !term.isEmpty())
+            .distinct()
+            .limit(MAX_TERMS)
+            .toList();
+    }
+
+    /**
+     * Build a tsquery that requires every term as a word prefix, e.g. {@code coff:* & bar:*}.
+     * Terms only contain letters and digits, so no tsquery operator can be injected.
+     */
+    static String toTsQuery(List<String> terms) {
+        return terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+    }
+
+    private static Query bind(Query query, Map<String, Object> params) {
+        params.forEach(query::setParameter);
+        return query;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -1,5 +1,9 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
+import dev.juanvaldivia.moneytrak.transactions.dto.CategoryTotalDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.DescriptionSuggestionDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.DuplicatePairDto;
+import dev.juanvaldivia.moneytrak.transactions.dto.RangeTotalsDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.SummaryDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionCreationDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
@@ -7,6 +11,9 @@ import dev.juanvaldivia.moneytrak.transactions.dto.TransactionUpdateDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -27,6 +34,47 @@ public interface TransactionService {
      */
     TransactionDto createTransaction(TransactionCreationDto dto);
 
+    /**
+     * Create a new transaction, optionally refusing likely duplicates.
+     *
+     * @param dto transaction creation data
+     * @param rejectDuplicates whether to fail instead of creating a likely duplicate
+     * @return created transaction with category details
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if category not found
+     * @throws dev.juanvaldivia.moneytrak.exception.ConflictException if rejecting and a likely duplicate exists
+     */
+    TransactionDto createTransaction(TransactionCreationDto dto, boolean rejectDuplicates);
+
+    /**
+     * Find existing transactions a new one would likely duplicate: same type, amount and currency,
+     * dates a few days apart and near-identical descriptions. Served from memory.
+     *
+     * @param dto transaction creation data
+     * @return ids of likely duplicates, most similar first
+     */
+    List<UUID> findLikelyDuplicates(TransactionCreationDto dto);
+
+    /**
+     * List pairs of existing transactions that look like duplicates, for review.
+     *
+     * @param limit maximum number of pairs (null = default)
+     * @return pairs, most recent first
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if limit out of range
+     */
+    List<DuplicatePairDto> listLikelyDuplicates(Integer limit);
+
+    /**
+     * Create the transactions of one statement import batch in a single database transaction.
+     * Lines whose fingerprint is already stored are skipped, which makes re-importing overlapping
+     * statements a no-op for the lines seen before. Categories are resolved as in createTransaction.
+     *
+     * @param linesByFingerprint valid creation data keyed by statement line fingerprint
+     * @return created transactions keyed by fingerprint
+     * @throws org.springframework.dao.DataIntegrityViolationException if a concurrent import stored one of
+     *         the fingerprints first
+     */
+    Map<String, TransactionDto> importTransactions(Map<String, TransactionCreationDto> linesByFingerprint);
+
     /**
      * List transactions with optional composable filters.
      * Both categoryId and stability are independently optional and can be combined.
@@ -40,6 +88,33 @@ public interface TransactionService {
      */
     Page<TransactionDto> listTransactions(UUID categoryId, TransactionStability stability, Pageable pageable);
 
+    /**
+     * Search transaction descriptions, best match first.
+     * Every word of the query must match the start of a word in the description (PostgreSQL)
+     * or appear anywhere in it (other databases). Combines with the list filters.
+     *
+     * @param query search text
+     * @param categoryId optional category UUID filter
+     * @param stability optional stability filter
+     * @param pageable page number and size; results are always ordered by relevance
+     * @return page of matching transactions
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the query has no letters or digits
+     * @throws dev.juanvaldivia.moneytrak.exception.NotFoundException if categoryId provided but not found
+     */
+    Page<TransactionDto> searchTransactions(String query, UUID categoryId, TransactionStability stability,
+                                            Pageable pageable);
+
+    /**
+     * Suggest previously used descriptions starting with a prefix, most used first.
+     * Served from memory without a database query.
+     *
+     * @param prefix typed text (case and repeated whitespace are ignored)
+     * @param limit maximum number of suggestions (null = default)
+     * @return suggestions with their usual category and amount
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if prefix is blank or limit out of range
+     */
+    List<DescriptionSuggestionDto> suggestDescriptions(String prefix, Integer limit);
+
     /**
      * Get transaction by ID.
      *
@@ -82,4 +157,45 @@ public interface TransactionService {
      * @return summary containing sum of all income amounts
      */
     SummaryDto calculateIncomeTotal();
+
+    /**
+     * Totals per category for one type, optionally limited to a date range (UTC days, inclusive).
+     *
+     * @param type EXPENSE or INCOME
+     * @param from first day (null = unbounded)
+     * @param to last day (null = unbounded)
+     * @return categories with at least one matching transaction, largest total first
+     */
+    List<CategoryTotalDto> calculateCategoryTotals(TransactionType type, LocalDate from, LocalDate to);
+
+    /**
+     * Totals per category for one type, optionally limited to a date range (UTC days, inclusive),
+     * optionally rolled up so that each category also covers its subcategories.
+     *
+     * @param type EXPENSE or INCOME
+     * @param from first day (null = unbounded)
+     * @param to last day (null = unbounded)
+     * @param rollup whether each category's totals include its subcategories, at any depth
+     * @return categories with at least one matching transaction, largest total first
+     */
+    List<CategoryTotalDto> calculateCategoryTotals(TransactionType type, LocalDate from, LocalDate to, boolean rollup);
+
+    /**
+     * Totals per type and currency for an inclusive range of UTC days.
+     *
+     * @param from first day
+     * @param to last day
+     * @return totals for the range
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if from is after to
+     */
+    RangeTotalsDto calculateRangeTotals(LocalDate from, LocalDate to);
+
+    /**
+     * Totals per type and currency for the last days up to and including today (UTC).
+     *
+     * @param window number of days, e.g. "30d"
+     * @return totals for the window
+     * @throws dev.juanvaldivia.moneytrak.exception.BadRequestException if the window is malformed or out of range
+     */
+    RangeTotalsDto calculateRollingTotals(String window);
 }
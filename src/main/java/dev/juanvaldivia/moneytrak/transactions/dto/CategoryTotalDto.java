@@ -0,0 +1,15 @@
+package dev.juanvaldivia.moneytrak.transactions.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for one line of a per-category breakdown.
+ *
+ * @param categoryId category UUID
+ * @param categoryName category name
+ * @param total sum of transaction amounts in the category
+ * @param count number of transactions in the category
+ */
+public record CategoryTotalDto(UUID categoryId, String categoryName, BigDecimal total, long count) {
+}
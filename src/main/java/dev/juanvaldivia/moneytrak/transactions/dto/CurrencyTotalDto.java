@@ -0,0 +1,15 @@
+package dev.juanvaldivia.moneytrak.transactions.dto;
+
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the total of one transaction type in one currency.
+ *
+ * @param type EXPENSE or INCOME
+ * @param currency ISO 4217 code
+ * @param total sum of transaction amounts
+ */
+public record CurrencyTotalDto(TransactionType type, String currency, BigDecimal total) {
+}
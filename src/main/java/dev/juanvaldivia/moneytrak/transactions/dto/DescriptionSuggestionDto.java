@@ -0,0 +1,18 @@
+package dev.juanvaldivia.moneytrak.transactions.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for a description typeahead suggestion.
+ * Carries the category id only; clients resolve the name from their category list.
+ *
+ * @param description previously used description
+ * @param frequency number of transactions using it
+ * @param categoryId category most often used with it
+ * @param amount most frequent amount
+ * @param currency currency of that amount
+ */
+public record DescriptionSuggestionDto(String description, int frequency, UUID categoryId, BigDecimal amount,
+                                       String currency) {
+}
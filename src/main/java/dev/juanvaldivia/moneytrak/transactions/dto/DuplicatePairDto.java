@@ -0,0 +1,11 @@
+package dev.juanvaldivia.moneytrak.transactions.dto;
+
+/**
+ * DTO for two transactions that look like the same entry made twice.
+ *
+ * @param transaction the later transaction, usually the one to delete
+ * @param duplicateOf the earlier transaction
+ * @param similarity estimated similarity of the descriptions, between 0 and 1
+ */
+public record DuplicatePairDto(TransactionDto transaction, TransactionDto duplicateOf, double similarity) {
+}
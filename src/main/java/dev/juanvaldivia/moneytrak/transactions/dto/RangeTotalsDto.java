@@ -0,0 +1,15 @@
+package dev.juanvaldivia.moneytrak.transactions.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for totals over a range of days.
+ * Amounts are never converted, so there is one line per type and currency.
+ *
+ * @param from first day, inclusive (UTC)
+ * @param to last day, inclusive (UTC)
+ * @param totals non-zero totals ordered by type, then currency
+ */
+public record RangeTotalsDto(LocalDate from, LocalDate to, List<CurrencyTotalDto> totals) {
+}
@@ -20,6 +20,8 @@ import java.util.UUID;
  * @param stability FIXED or VARIABLE
  * @param categoryId linked category ID
  * @param categoryName linked category name
+ * @param merchantId merchant derived from the description (null if it names none)
+ * @param merchantName merchant name
  * @param version optimistic locking version
  * @param createdAt creation timestamp
  * @param updatedAt last update timestamp
@@ -34,6 +36,8 @@ public record TransactionDto(
     TransactionStability stability,
     UUID categoryId,
     String categoryName,
+    UUID merchantId,
+    String merchantName,
     Integer version,
     ZonedDateTime createdAt,
     ZonedDateTime updatedAt
@@ -1,6 +1,7 @@
 package dev.juanvaldivia.moneytrak.transactions.mapper;
 
 import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.merchants.MerchantDictionary;
 import dev.juanvaldivia.moneytrak.transactions.Transaction;
 import dev.juanvaldivia.moneytrak.transactions.TransactionStability;
 import dev.juanvaldivia.moneytrak.transactions.TransactionType;
@@ -16,6 +17,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class TransactionMapper {
 
+    private final MerchantDictionary merchants;
+
+    public TransactionMapper(MerchantDictionary merchants) {
+        this.merchants = merchants;
+    }
+
     /**
      * Convert TransactionCreationDto to Transaction entity.
      * Category must be looked up separately before calling this method.
@@ -59,7 +66,7 @@ public class TransactionMapper {
 
     /**
      * Convert Transaction entity to TransactionDto for API response.
-     * Includes category information (id and name).
+     * Includes category information (id and name) and the merchant, named from the in-memory dictionary.
      *
      * @param entity transaction entity
      * @return transaction DTO with category details
@@ -76,6 +83,8 @@ public class TransactionMapper {
             entity.stability(),
             category != null ? category.getId() : null,
             category != null ? category.getName() : null,
+            entity.merchantId(),
+            merchants.name(entity.merchantId()),
             entity.version(),
             entity.createdAt(),
             entity.updatedAt()
@@ -0,0 +1,31 @@
+-- Migration: Monthly budgets
+-- Feature: budgets
+-- Description: Monthly spending limits per category and currency, and the spend counted against them
+
+CREATE TABLE budgets (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    category_id UUID NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    monthly_limit DECIMAL(11, 2) NOT NULL,
+    version INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_budgets_category_currency UNIQUE (category_id, currency),
+    CONSTRAINT fk_budget_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+-- EXPENSE totals per category, currency and UTC month, adjusted by every transaction write
+CREATE TABLE budget_spend (
+    category_id UUID NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    month_start DATE NOT NULL,
+    spent DECIMAL(15, 2) NOT NULL,
+    PRIMARY KEY (category_id, currency, month_start),
+    CONSTRAINT fk_budget_spend_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+INSERT INTO budget_spend (category_id, currency, month_start, spent)
+SELECT category_id, currency, CAST(date_trunc('month', date AT TIME ZONE 'UTC') AS DATE), SUM(amount)
+FROM transactions
+WHERE transaction_type = 'EXPENSE'
+GROUP BY category_id, currency, CAST(date_trunc('month', date AT TIME ZONE 'UTC') AS DATE);
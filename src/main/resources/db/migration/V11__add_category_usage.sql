@@ -0,0 +1,19 @@
+-- Migration: Category usage counters
+-- Feature: categories
+-- Description: Transaction count and total per category, currency and type,
+-- adjusted by every transaction write so that delete checks and category listings need no COUNT
+
+CREATE TABLE category_usage (
+    category_id UUID NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    transaction_type VARCHAR(32) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    total DECIMAL(15, 2) NOT NULL,
+    PRIMARY KEY (category_id, currency, transaction_type),
+    CONSTRAINT fk_category_usage_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+INSERT INTO category_usage (category_id, currency, transaction_type, transaction_count, total)
+SELECT category_id, currency, transaction_type, COUNT(*), SUM(amount)
+FROM transactions
+GROUP BY category_id, currency, transaction_type;
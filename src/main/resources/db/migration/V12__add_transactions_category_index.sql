@@ -0,0 +1,6 @@
+-- Migration: Transactions by category
+-- Feature: categories
+-- Description: Lets category merges and rule re-application walk a category's transactions by id
+-- without scanning the whole table
+
+CREATE INDEX idx_transactions_category_id ON transactions(category_id, id);
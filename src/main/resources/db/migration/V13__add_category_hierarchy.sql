@@ -0,0 +1,24 @@
+-- Migration: Category hierarchy
+-- Feature: categories
+-- Description: Parent/child categories. category_closure holds one row per ancestor/descendant pair
+-- (including each category with itself), so a subtree is one indexed lookup instead of a recursive query
+
+ALTER TABLE categories ADD COLUMN parent_id UUID;
+ALTER TABLE categories ADD CONSTRAINT fk_category_parent FOREIGN KEY (parent_id) REFERENCES categories(id);
+CREATE INDEX idx_categories_parent_id ON categories(parent_id);
+
+CREATE TABLE category_closure (
+    ancestor_id UUID NOT NULL,
+    descendant_id UUID NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_category_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES categories(id) ON DELETE CASCADE,
+    CONSTRAINT fk_category_closure_descendant FOREIGN KEY (descendant_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+-- Ancestors of a category, for moves and roll-ups
+CREATE INDEX idx_category_closure_descendant ON category_closure(descendant_id, ancestor_id);
+
+-- Existing categories are all roots
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+SELECT id, id, 0 FROM categories;
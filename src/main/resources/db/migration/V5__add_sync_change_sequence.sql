@@ -0,0 +1,54 @@
+-- Migration: Delta sync change sequence and tombstones
+-- Feature: delta-sync
+-- Description: Adds a change sequence to every synced table, backfills existing rows,
+--              and creates the tombstone table for hard deletions
+
+-- ============================================================================
+-- Add change_seq columns and backfill existing rows
+-- ============================================================================
+
+-- Temporary sequence only for the backfill; at runtime the application allocates
+-- sequence numbers, continuing from the highest value stored here
+CREATE SEQUENCE sync_backfill_seq;
+
+ALTER TABLE categories ADD COLUMN change_seq BIGINT;
+UPDATE categories SET change_seq = nextval('sync_backfill_seq');
+ALTER TABLE categories ALTER COLUMN change_seq SET NOT NULL;
+
+ALTER TABLE accounts ADD COLUMN change_seq BIGINT;
+UPDATE accounts SET change_seq = nextval('sync_backfill_seq');
+ALTER TABLE accounts ALTER COLUMN change_seq SET NOT NULL;
+
+ALTER TABLE transactions ADD COLUMN change_seq BIGINT;
+UPDATE transactions SET change_seq = nextval('sync_backfill_seq');
+ALTER TABLE transactions ALTER COLUMN change_seq SET NOT NULL;
+
+ALTER TABLE readings ADD COLUMN change_seq BIGINT;
+UPDATE readings SET change_seq = nextval('sync_backfill_seq');
+ALTER TABLE readings ALTER COLUMN change_seq SET NOT NULL;
+
+DROP SEQUENCE sync_backfill_seq;
+
+-- ============================================================================
+-- Create sync_tombstones table
+-- ============================================================================
+
+CREATE TABLE sync_tombstones (
+    change_seq BIGINT PRIMARY KEY,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id UUID NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- ============================================================================
+-- Create indexes
+-- ============================================================================
+
+-- Range scans for GET /v1/sync (change_seq > token AND change_seq <= watermark)
+CREATE INDEX idx_categories_change_seq ON categories(change_seq);
+CREATE INDEX idx_accounts_change_seq ON accounts(change_seq);
+CREATE INDEX idx_transactions_change_seq ON transactions(change_seq);
+CREATE INDEX idx_readings_change_seq ON readings(change_seq);
+
+-- Purge of tombstones older than the retention horizon
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at);
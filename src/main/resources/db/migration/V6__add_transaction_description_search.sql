@@ -0,0 +1,8 @@
+-- Migration: Full-text search over transaction descriptions
+-- Feature: transaction-search
+-- Description: GIN index for GET /v1/transactions/search
+
+-- Expression index: queries must use exactly to_tsvector('simple', description) to match it.
+-- The 'simple' configuration lowercases without stemming or stop words, since descriptions mix languages.
+CREATE INDEX idx_transactions_description_search ON transactions
+    USING GIN (to_tsvector('simple', description));
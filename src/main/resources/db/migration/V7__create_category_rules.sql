@@ -0,0 +1,22 @@
+-- Migration: Auto-categorization rules
+-- Feature: category-rules
+-- Description: User-defined rules that assign a category to transactions created without one
+
+CREATE TABLE category_rules (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    category_id UUID NOT NULL,
+    match_type VARCHAR(16) NOT NULL,
+    pattern VARCHAR(200),
+    min_amount DECIMAL(11, 2),
+    max_amount DECIMAL(11, 2),
+    currency VARCHAR(3),
+    priority INTEGER NOT NULL DEFAULT 100,
+    version INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    -- Rules are meaningless without their target, so they go with the category
+    CONSTRAINT fk_category_rule_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+-- Evaluation order used when compiling the rule set
+CREATE INDEX idx_category_rules_priority ON category_rules(priority, created_at, id);
@@ -0,0 +1,20 @@
+-- Migration: Merchant dictionary
+-- Feature: merchants
+-- Description: Merchants derived from transaction descriptions, referenced by transactions.merchant_id
+
+CREATE TABLE merchants (
+    id UUID PRIMARY KEY,
+    normalized_key VARCHAR(100) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_merchants_normalized_key UNIQUE (normalized_key)
+);
+
+-- Existing transactions keep a NULL merchant until their description is next written
+ALTER TABLE transactions ADD COLUMN merchant_id UUID;
+ALTER TABLE transactions ADD CONSTRAINT fk_transaction_merchant
+    FOREIGN KEY (merchant_id) REFERENCES merchants(id) ON DELETE RESTRICT;
+
+-- Per-merchant totals: groups come out of the index in order and the amount is read from it too
+CREATE INDEX idx_transactions_merchant ON transactions(merchant_id, currency, transaction_type, date)
+    INCLUDE (amount) WHERE merchant_id IS NOT NULL;
@@ -0,0 +1,10 @@
+-- Migration: Statement import fingerprints
+-- Feature: imports
+-- Description: Transactions created from bank statement lines keep a fingerprint of the line, so
+-- re-importing overlapping statements skips the lines already imported
+
+ALTER TABLE transactions ADD COLUMN import_fingerprint VARCHAR(64);
+
+-- Partial: transactions entered by hand have no fingerprint and stay out of the index
+CREATE UNIQUE INDEX uk_transactions_import_fingerprint ON transactions(import_fingerprint)
+    WHERE import_fingerprint IS NOT NULL;
@@ -0,0 +1,209 @@
+package dev.juanvaldivia.moneytrak;
+
+import com.jayway.jsonpath.JsonPath;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test data created through the API, for integration tests that cannot roll back because what they
+ * check only moves once a write commits (in-memory counters, indexes, chunked jobs).
+ *
+ * <p>Remembers what it created; call {@link #cleanUp()} from an {@code @AfterEach}. Deleting something
+ * a test already deleted is harmless.</p>
+ */
+public class ApiFixtures {
+
+    private final MockMvc mockMvc;
+    private final List<String> rules = new ArrayList<>();
+    private final List<String> budgets = new ArrayList<>();
+    private final List<String> transactions = new ArrayList<>();
+    private final List<String> categories = new ArrayList<>();
+
+    public ApiFixtures(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    /**
+     * @return id of a new top-level category
+     */
+    public String createCategory(String name) throws Exception {
+        return createCategory(name, null);
+    }
+
+    /**
+     * @param parentId parent category, or null for a top-level one
+     * @return id of the new category
+     */
+    public String createCategory(String name, String parentId) throws Exception {
+        String parent = parentId != null ? "\"" + parentId + "\"" : "null";
+        String id = idOf(mockMvc.perform(post("/v1/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"name": "%s", "parentId": %s}
+                    """.formatted(name, parent)))
+            .andExpect(status().isCreated()));
+        categories.add(id);
+        return id;
+    }
+
+    /**
+     * @param type EXPENSE or INCOME
+     * @param date ISO-8601 date-time
+     * @return id of the new transaction
+     */
+    public String createTransaction(String categoryId, String type, String amount, String currency, String date)
+        throws Exception {
+        return idOf(postTransaction("Fixture", categoryId, type, amount, currency, date, false)
+            .andExpect(status().isCreated()));
+    }
+
+    /**
+     * @return id of the new expense
+     */
+    public String createExpense(String categoryId, String amount, String currency, String date) throws Exception {
+        return createTransaction(categoryId, "EXPENSE", amount, currency, date);
+    }
+
+    /**
+     * @param categoryId category, or null to leave it to the rules and the default category
+     * @return id of the new expense
+     */
+    public String createExpense(String description, String categoryId, String amount, String currency, String date)
+        throws Exception {
+        return idOf(postTransaction(description, categoryId, "EXPENSE", amount, currency, date, false)
+            .andExpect(status().isCreated()));
+    }
+
+    /**
+     * Post a transaction without expecting it to be created; it is remembered if it was.
+     *
+     * @param categoryId category, or null to leave it to the rules and the default category
+     * @param rejectDuplicates whether to refuse a likely duplicate instead of creating it
+     * @return the response, for further expectations
+     */
+    public ResultActions postTransaction(String description, String categoryId, String type, String amount,
+                                         String currency, String date, boolean rejectDuplicates) throws Exception {
+        String category = categoryId != null ? "\"" + categoryId + "\"" : "null";
+        ResultActions result = mockMvc.perform(post("/v1/transactions")
+            .param("rejectDuplicates", String.valueOf(rejectDuplicates))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                    "description": "%s",
+                    "amount": %s,
+                    "currency": "%s",
+                    "date": "%s",
+                    "type": "%s",
+                    "categoryId": %s
+                }
+                """.formatted(description, amount, currency, date, type, category)));
+        if (result.andReturn().getResponse().getStatus() == HttpStatus.CREATED.value()) {
+            transactions.add(idOf(result));
+        }
+        return result;
+    }
+
+    /**
+     * @return id of a new budget
+     */
+    public String createBudget(String categoryId, String currency, String monthlyLimit) throws Exception {
+        String id = idOf(mockMvc.perform(post("/v1/budgets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"categoryId": "%s", "currency": "%s", "monthlyLimit": %s}
+                    """.formatted(categoryId, currency, monthlyLimit)))
+            .andExpect(status().isCreated()));
+        budgets.add(id);
+        return id;
+    }
+
+    /**
+     * @return id of a new rule classifying descriptions that contain {@code pattern}
+     */
+    public String createRule(String categoryId, String pattern) throws Exception {
+        return createRule("""
+            {"categoryId": "%s", "matchType": "CONTAINS", "pattern": "%s"}
+            """.formatted(categoryId, pattern));
+    }
+
+    /**
+     * @param body JSON request body, for rules with conditions or a priority
+     * @return id of the new rule
+     */
+    public String createRule(String body) throws Exception {
+        String id = idOf(mockMvc.perform(post("/v1/rules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated()));
+        rules.add(id);
+        return id;
+    }
+
+    /**
+     * Merge a category into another and wait for the merge to finish.
+     *
+     * @return the finished merge's status response
+     */
+    public ResultActions mergeCategory(String sourceId, String targetId) throws Exception {
+        String location = mockMvc.perform(post("/v1/categories/{id}/merge-into/{targetId}", sourceId, targetId))
+            .andExpect(status().isAccepted())
+            .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        await().atMost(Duration.ofSeconds(10)).until(() -> !"RUNNING".equals(JsonPath.read(
+            mockMvc.perform(get(location)).andReturn().getResponse().getContentAsString(), "$.status")));
+        return mockMvc.perform(get(location));
+    }
+
+    /**
+     * Delete everything created, dependents first.
+     */
+    public void cleanUp() throws Exception {
+        for (String id : rules) {
+            mockMvc.perform(delete("/v1/rules/{id}", id));
+        }
+        for (String id : budgets) {
+            mockMvc.perform(delete("/v1/budgets/{id}", id));
+        }
+        for (String id : transactions) {
+            mockMvc.perform(delete("/v1/transactions/{id}", id));
+        }
+        // Subcategories first; a test may have moved them, so retry those still holding others
+        List<String> remaining = new ArrayList<>(categories.reversed());
+        boolean deleted = true;
+        while (!remaining.isEmpty() && deleted) {
+            deleted = false;
+            for (Iterator<String> ids = remaining.iterator(); ids.hasNext(); ) {
+                int status = mockMvc.perform(delete("/v1/categories/{id}", ids.next()))
+                    .andReturn().getResponse().getStatus();
+                if (status != HttpStatus.CONFLICT.value()) {
+                    ids.remove();
+                    deleted = true;
+                }
+            }
+        }
+        rules.clear();
+        budgets.clear();
+        transactions.clear();
+        categories.clear();
+    }
+
+    /**
+     * @return the {@code id} of the created entity in the response body
+     */
+    public static String idOf(ResultActions result) throws Exception {
+        return JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.id");
+    }
+}
@@ -42,11 +42,11 @@ class FinalIntegrationTest {
     // US1: Category Management
     // ============================================================================
 
-    // Verify 14 predefined categories exist
+    // Verify the 19 predefined categories of the default tree exist
     mockMvc
         .perform(get("/v1/categories"))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.totalElements").value(15)); // 14 + "Others"
+        .andExpect(jsonPath("$.totalElements").value(19)); // 4 groups, 13 subcategories, "Office Renting" and "Others"
 
     // Create custom category
     String createCategoryResponse =
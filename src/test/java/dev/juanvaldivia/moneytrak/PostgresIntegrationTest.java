@@ -114,6 +114,27 @@ class PostgresIntegrationTest {
                 .andExpect(jsonPath("$.total").value(1200.00));
     }
 
+    @Test
+    void searchTransactions_onPostgres_matchesWordPrefixes() throws Exception {
+        mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "description": "Coffee beans from the market",
+                        "amount": 9.00,
+                        "currency": "EUR",
+                        "date": "2026-02-01T00:00:00Z",
+                        "type": "EXPENSE"
+                    }
+                    """))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/v1/transactions/search").param("q", "coff mark"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].description").value("Coffee beans from the market"));
+    }
+
     @Test
     void createCategory_onPostgres_returns201WithVersion() throws Exception {
         mockMvc.perform(post("/v1/categories")
@@ -102,6 +102,21 @@ class AccountControllerTest {
             .andExpect(jsonPath("$.version").value(1));
     }
 
+    // PATCH with merge patch: only the sent member changes
+    @Test
+    void patchAccount_WithNameOnly_ShouldKeepOtherFields() throws Exception {
+        Account account = accountRepository.save(Account.create("Old Name", AccountType.BROKER, "USD"));
+
+        mockMvc.perform(patch("/v1/accounts/{id}", account.id())
+                .contentType("application/merge-patch+json")
+                .content("{\"name\":\"Renamed\",\"version\":0}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Renamed"))
+            .andExpect(jsonPath("$.type").value("BROKER"))
+            .andExpect(jsonPath("$.currency").value("USD"))
+            .andExpect(jsonPath("$.version").value(1));
+    }
+
     // Test 5: Concurrent update → 409 Conflict (optimistic locking)
     @Test
     void updateAccount_WithStaleVersion_ShouldReturn409Conflict() throws Exception {
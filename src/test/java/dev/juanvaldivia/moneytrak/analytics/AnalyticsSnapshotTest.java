@@ -0,0 +1,84 @@
+package dev.juanvaldivia.moneytrak.analytics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the analytics snapshot file format.
+ */
+class AnalyticsSnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void write_thenRead_shouldRoundTripAllColumns() throws IOException {
+        UUID food = UUID.randomUUID();
+        UUID others = UUID.randomUUID();
+        ColumnarTransactionStore.Columns columns = new ColumnarTransactionStore.Columns(3,
+            new int[]{20_000, 20_001, 20_002}, new long[]{1250, 3000, 500}, new int[]{0, 0, 1},
+            new byte[]{0, 0, 1}, new byte[]{1, 0, 1}, new short[]{0, 1, 0}, new int[]{0, 4, 1},
+            new long[]{1, 2, 3}, new long[]{-1, -2, -3}, List.of(food, others), List.of("EUR", "USD"));
+        Instant createdAt = Instant.ofEpochMilli(1_768_000_000_000L);
+        Path path = directory.resolve("analytics.snapshot");
+
+        new AnalyticsSnapshot(42, createdAt, columns).write(path);
+        AnalyticsSnapshot read = AnalyticsSnapshot.read(path);
+
+        assertThat(read.marker()).isEqualTo(42);
+        assertThat(read.createdAt()).isEqualTo(createdAt);
+        assertThat(read.columns().size()).isEqualTo(3);
+        assertThat(read.columns().epochDays()).containsExactly(20_000, 20_001, 20_002);
+        assertThat(read.columns().amounts()).containsExactly(1250, 3000, 500);
+        assertThat(read.columns().categoryIndexes()).containsExactly(0, 0, 1);
+        assertThat(read.columns().types()).containsExactly(0, 0, 1);
+        assertThat(read.columns().stabilities()).containsExactly(1, 0, 1);
+        assertThat(read.columns().currencyIndexes()).containsExactly((short) 0, (short) 1, (short) 0);
+        assertThat(read.columns().versions()).containsExactly(0, 4, 1);
+        assertThat(read.columns().idsHigh()).containsExactly(1, 2, 3);
+        assertThat(read.columns().idsLow()).containsExactly(-1, -2, -3);
+        assertThat(read.columns().categories()).containsExactly(food, others);
+        assertThat(read.columns().currencies()).containsExactly("EUR", "USD");
+        assertThat(directory.resolve("analytics.snapshot.tmp")).doesNotExist();
+    }
+
+    @Test
+    void read_withFlippedByte_shouldFailChecksum() throws IOException {
+        Path path = directory.resolve("analytics.snapshot");
+        new AnalyticsSnapshot(1, Instant.now(), empty()).write(path);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(10);
+            file.write(file.read() ^ 0xFF);
+        }
+
+        assertThatThrownBy(() -> AnalyticsSnapshot.read(path))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void read_withOtherFile_shouldBeRejected() throws IOException {
+        Path path = directory.resolve("analytics.snapshot");
+        Files.writeString(path, "not a snapshot, just some text that is longer than the header");
+
+        assertThatThrownBy(() -> AnalyticsSnapshot.read(path))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Not an analytics snapshot");
+    }
+
+    private static ColumnarTransactionStore.Columns empty() {
+        return new ColumnarTransactionStore.Columns(0, new int[0], new long[0], new int[0], new byte[0],
+            new byte[0], new short[0], new int[0], new long[0], new long[0], List.of(), List.of());
+    }
+}
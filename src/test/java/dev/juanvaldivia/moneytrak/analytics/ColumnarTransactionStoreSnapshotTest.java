@@ -0,0 +1,105 @@
+package dev.juanvaldivia.moneytrak.analytics;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.juanvaldivia.moneytrak.transactions.TransactionRepository;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for warm starts of the columnar store from its snapshot.
+ * Not @Transactional: the snapshot marker only covers committed changes.
+ */
+@SpringBootTest(properties = {
+    "moneytrak.analytics.enabled=true",
+    "moneytrak.analytics.snapshot-path=" + ColumnarTransactionStoreSnapshotTest.SNAPSHOT
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ColumnarTransactionStoreSnapshotTest {
+
+    static final String SNAPSHOT = "target/test-analytics.snapshot";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ColumnarTransactionStore store;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        transactionRepository.deleteAll();
+        store.reload();
+        Files.deleteIfExists(Path.of(SNAPSHOT));
+    }
+
+    @Test
+    void warmStart_shouldRestoreSnapshotAndReplayLaterChanges() throws Exception {
+        String coffee = create("Coffee", "3.20");
+        create("Lunch", "12.50");
+        store.writeSnapshot();
+        assertThat(Path.of(SNAPSHOT)).exists();
+
+        // Written after the snapshot: must come from the replay, not the file
+        create("Dinner", "30.00");
+        mockMvc.perform(delete("/v1/transactions/{id}", coffee))
+            .andExpect(status().isNoContent());
+
+        assertThat(store.warmStart()).isTrue();
+
+        assertThat(store.rowCount()).isEqualTo(2);
+        assertThat(store.sumAmount(TransactionType.EXPENSE))
+            .isEqualByComparingTo(transactionRepository.sumAmountByType(TransactionType.EXPENSE))
+            .isEqualByComparingTo("42.50");
+    }
+
+    @Test
+    void warmStart_withCorruptSnapshot_shouldRequireFullLoad() throws Exception {
+        create("Coffee", "3.20");
+        store.writeSnapshot();
+        byte[] bytes = Files.readAllBytes(Path.of(SNAPSHOT));
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(Path.of(SNAPSHOT), bytes);
+
+        assertThat(store.warmStart()).isFalse();
+    }
+
+    @Test
+    void writeSnapshot_withoutChanges_shouldNotRewriteFile() throws Exception {
+        create("Coffee", "3.20");
+        store.writeSnapshot();
+        Files.delete(Path.of(SNAPSHOT));
+
+        store.writeSnapshot();
+
+        assertThat(Path.of(SNAPSHOT)).doesNotExist();
+    }
+
+    private String create(String description, String amount) throws Exception {
+        String body = mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"" + description + "\",\"amount\":" + amount +
+                    ",\"currency\":\"EUR\",\"date\":\"2026-01-10T08:00:00Z\",\"type\":\"EXPENSE\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+}
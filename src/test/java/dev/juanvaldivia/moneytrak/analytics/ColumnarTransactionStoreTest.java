@@ -0,0 +1,196 @@
+package dev.juanvaldivia.moneytrak.analytics;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.transactions.TransactionRepository;
+import dev.juanvaldivia.moneytrak.transactions.TransactionStability;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the columnar analytics store, enabled with every scan on the parallel path.
+ * Not @Transactional: the store only applies writes after they commit.
+ */
+@SpringBootTest(properties = {
+    "moneytrak.analytics.enabled=true",
+    "moneytrak.analytics.parallel-threshold=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ColumnarTransactionStoreTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ColumnarTransactionStore store;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @AfterEach
+    void cleanUp() {
+        transactionRepository.deleteAll();
+        store.reload();
+    }
+
+    @Test
+    void writes_areAppliedAfterCommit() throws Exception {
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        String lunch = create("Lunch", "12.50", "2026-01-10T12:00:00Z", "EXPENSE", "FIXED", food);
+        String dinner = create("Dinner", "30.00", "2026-01-31T21:00:00Z", "EXPENSE", "VARIABLE", food);
+        create("Parking", "5.00", "2026-01-15T08:00:00Z", "EXPENSE", "VARIABLE", null);
+        create("Salary", "3000.00", "2026-01-01T00:00:00Z", "INCOME", "FIXED", null);
+
+        assertThat(store.isReady()).isTrue();
+        assertThat(store.rowCount()).isEqualTo(4);
+        assertThat(store.sumAmount(TransactionType.EXPENSE)).isEqualByComparingTo("47.50");
+        assertThat(store.count(food.getId(), null)).isEqualTo(2);
+        assertThat(store.count(null, TransactionStability.FIXED)).isEqualTo(2);
+
+        mockMvc.perform(put("/v1/transactions/{id}", lunch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":20.00,\"version\":0}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/transactions/{id}", dinner))
+            .andExpect(status().isNoContent());
+
+        assertThat(store.rowCount()).isEqualTo(3);
+        assertThat(store.sumAmount(TransactionType.EXPENSE)).isEqualByComparingTo("25.00");
+        assertThat(store.count(food.getId(), null)).isEqualTo(1);
+
+        List<ColumnarTransactionStore.CategoryTotal> totals =
+            store.totalsByCategory(TransactionType.EXPENSE, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 12));
+        assertThat(totals).singleElement().satisfies(total -> {
+            assertThat(total.categoryId()).isEqualTo(food.getId());
+            assertThat(total.total()).isEqualByComparingTo("20.00");
+            assertThat(total.count()).isEqualTo(1);
+        });
+        assertThat(store.rangeTotals(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+            .extracting(ColumnarTransactionStore.CurrencyTotal::type, t -> t.total().toPlainString())
+            .containsExactly(tuple(TransactionType.EXPENSE, "25.00"), tuple(TransactionType.INCOME, "3000.00"));
+        assertThat(store.rangeTotals(LocalDate.of(2026, 1, 11), LocalDate.of(2026, 1, 31)))
+            .extracting(t -> t.total().toPlainString())
+            .containsExactly("5.00");
+    }
+
+    @Test
+    void endpoints_matchDatabaseAggregates() throws Exception {
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        create("Lunch", "12.50", "2026-01-10T12:00:00Z", "EXPENSE", "VARIABLE", food);
+        create("Parking", "5.00", "2026-01-15T08:00:00Z", "EXPENSE", "VARIABLE", null);
+        create("Bonus", "200.00", "2026-01-05T00:00:00Z", "INCOME", "VARIABLE", null);
+
+        assertThat(store.sumAmount(TransactionType.INCOME))
+            .isEqualByComparingTo(transactionRepository.sumAmountByType(TransactionType.INCOME));
+
+        mockMvc.perform(get("/v1/transactions/summary/expenses"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(17.50));
+        mockMvc.perform(get("/v1/transactions/summary/categories"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].categoryName").value("Food & Drinks"))
+            .andExpect(jsonPath("$[0].total").value(12.50))
+            .andExpect(jsonPath("$[1].categoryName").value("Others"));
+        mockMvc.perform(get("/v1/transactions").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.totalElements").value(3));
+        mockMvc.perform(get("/v1/transactions/totals").param("from", "2026-01-10").param("to", "2026-01-15"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totals.length()").value(1))
+            .andExpect(jsonPath("$.totals[0].currency").value("EUR"))
+            .andExpect(jsonPath("$.totals[0].total").value(17.50));
+    }
+
+    @Test
+    void upsert_withOlderVersion_isIgnored() throws Exception {
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        String lunch = create("Lunch", "12.50", "2026-01-10T12:00:00Z", "EXPENSE", "VARIABLE", food);
+        String dinner = create("Dinner", "30.00", "2026-01-11T21:00:00Z", "EXPENSE", "VARIABLE", food);
+        String snack = create("Snack", "4.00", "2026-01-12T16:00:00Z", "EXPENSE", "VARIABLE", food);
+        mockMvc.perform(put("/v1/transactions/{id}", lunch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":20.00,\"version\":0}"))
+            .andExpect(status().isOk());
+        // Removing the first row moves the last one into its slot
+        mockMvc.perform(delete("/v1/transactions/{id}", dinner))
+            .andExpect(status().isNoContent());
+
+        // A listener that read version 0 of the lunch before the update applies last
+        store.upsert(new ColumnarTransactionStore.Row(UUID.fromString(lunch), 20_463, 1250,
+            food.getId(), TransactionType.EXPENSE, TransactionStability.VARIABLE, "EUR", 0));
+        store.upsert(new ColumnarTransactionStore.Row(UUID.fromString(snack), 20_465, 600,
+            food.getId(), TransactionType.EXPENSE, TransactionStability.VARIABLE, "EUR", 0));
+
+        assertThat(store.rowCount()).isEqualTo(2);
+        assertThat(store.sumAmount(TransactionType.EXPENSE)).isEqualByComparingTo("26.00");
+    }
+
+    @Test
+    void categoryMerge_isAppliedFromOneEventPerChunk() throws Exception {
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        String body = mockMvc.perform(post("/v1/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Store takeaway\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        Category takeaway = categoryRepository.findById(UUID.fromString(JsonPath.read(body, "$.id"))).orElseThrow();
+        create("Pizza", "18.00", "2026-01-10T20:00:00Z", "EXPENSE", "VARIABLE", takeaway);
+        create("Sushi", "26.00", "2026-01-17T20:00:00Z", "EXPENSE", "VARIABLE", takeaway);
+        long foodRows = store.count(food.getId(), null);
+
+        new ApiFixtures(mockMvc).mergeCategory(takeaway.getId().toString(), food.getId().toString())
+            .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+        assertThat(store.count(takeaway.getId(), null)).isZero();
+        assertThat(store.count(food.getId(), null)).isEqualTo(foodRows + 2);
+    }
+
+    @Test
+    void reload_rebuildsFromDatabase() throws Exception {
+        create("Coffee", "3.20", "2026-01-10T08:00:00Z", "EXPENSE", "VARIABLE", null);
+
+        store.reload();
+
+        assertThat(store.rowCount()).isEqualTo(1);
+        assertThat(store.sumAmount(TransactionType.EXPENSE)).isEqualByComparingTo("3.20");
+        assertThat(store.estimatedBytes()).isEqualTo(1024L * ColumnarTransactionStore.BYTES_PER_ROW);
+    }
+
+    private String create(String description, String amount, String date, String type, String stability,
+                          Category category) throws Exception {
+        String categoryId = category != null ? ",\"categoryId\":\"" + category.getId() + "\"" : "";
+        String body = mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"" + description + "\",\"amount\":" + amount +
+                    ",\"currency\":\"EUR\",\"date\":\"" + date + "\",\"type\":\"" + type +
+                    "\",\"stability\":\"" + stability + "\"" + categoryId + "}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+}
@@ -0,0 +1,64 @@
+package dev.juanvaldivia.moneytrak.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FenwickTree against a brute-force per-day array.
+ */
+class FenwickTreeTest {
+
+    @Test
+    void sum_shouldMatchBruteForceAcrossGrowthInBothDirections() {
+        int base = 20_000;
+        int span = 3_000;
+        long[] expected = new long[span];
+        FenwickTree tree = new FenwickTree();
+        Random random = new Random(42);
+
+        // First day in the middle, later days before and after it force the tree to grow both ways
+        for (int i = 0; i < 5_000; i++) {
+            int offset = i == 0 ? span / 2 : random.nextInt(span);
+            long delta = random.nextInt(100_000) - 20_000;
+            tree.add(base + offset, delta);
+            expected[offset] += delta;
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            int a = random.nextInt(span);
+            int b = random.nextInt(span);
+            int from = Math.min(a, b);
+            int to = Math.max(a, b);
+            long brute = 0;
+            for (int day = from; day <= to; day++) {
+                brute += expected[day];
+            }
+            assertThat(tree.sum(base + from, base + to)).isEqualTo(brute);
+        }
+    }
+
+    @Test
+    void sum_outsideCoveredSpan_shouldClampOrBeZero() {
+        FenwickTree tree = new FenwickTree();
+        tree.add(20_000, 500);
+        tree.add(20_010, 250);
+
+        assertThat(tree.sum(Integer.MIN_VALUE, Integer.MAX_VALUE)).isEqualTo(750);
+        assertThat(tree.sum(0, 19_999)).isZero();
+        assertThat(tree.sum(20_011, 99_999)).isZero();
+        assertThat(tree.sum(20_010, 20_000)).isZero();
+        assertThat(new FenwickTree().sum(0, 100)).isZero();
+    }
+
+    @Test
+    void add_withNegatedDelta_shouldCancelOut() {
+        FenwickTree tree = new FenwickTree();
+        tree.add(20_000, 1_250);
+        tree.add(20_000, -1_250);
+
+        assertThat(tree.sum(19_000, 21_000)).isZero();
+    }
+}
@@ -0,0 +1,136 @@
+package dev.juanvaldivia.moneytrak.budgets;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static dev.juanvaldivia.moneytrak.ApiFixtures.idOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for budgets and their spend counters across transaction writes.
+ * Not @Transactional: in-memory counters only move once a write commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@RecordApplicationEvents
+class BudgetControllerTest {
+
+    private static final String CURRENCY = "SEK";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private ApiFixtures fixtures;
+    private String groceries;
+    private String dining;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fixtures = new ApiFixtures(mockMvc);
+        groceries = fixtures.createCategory("Budget groceries");
+        dining = fixtures.createCategory("Budget dining");
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void status_shouldFollowCreatesEditsMovesAndDeletesAndAnnounceThresholds() throws Exception {
+        String budget = idOf(mockMvc.perform(post("/v1/budgets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":\"" + groceries + "\",\"currency\":\"" + CURRENCY + "\",\"monthlyLimit\":100.00}"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.categoryName").value("Budget groceries")));
+
+        String first = createTransaction("EXPENSE", "50.00");
+        String second = createTransaction("EXPENSE", "35.00");
+        String income = createTransaction("INCOME", "500.00");
+        expectStatus(budget, 85.00, "WARNING");
+
+        update(first, "{\"amount\":75.00,\"version\":0}");
+        expectStatus(budget, 110.00, "EXCEEDED");
+        assertThat(events.stream(BudgetThresholdCrossedEvent.class))
+            .extracting(BudgetThresholdCrossedEvent::level)
+            .containsExactly(BudgetLevel.WARNING, BudgetLevel.EXCEEDED);
+
+        update(first, "{\"categoryId\":\"" + dining + "\",\"version\":1}");
+        expectStatus(budget, 35.00, "OK");
+
+        mockMvc.perform(delete("/v1/transactions/{id}", income))
+            .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/v1/transactions/{id}", second))
+            .andExpect(status().isNoContent());
+        expectStatus(budget, 0.00, "OK");
+        mockMvc.perform(get("/v1/budgets/status").param("month", YearMonth.now(ZoneOffset.UTC).minusMonths(1).toString()))
+            .andExpect(jsonPath("$[?(@.budgetId == '" + budget + "')].spent").value(0.0));
+    }
+
+    @Test
+    void createAndUpdateBudget_shouldRejectDuplicatesAndStaleVersions() throws Exception {
+        String body = "{\"categoryId\":\"" + groceries + "\",\"currency\":\"" + CURRENCY + "\",\"monthlyLimit\":100.00}";
+        String budget = idOf(mockMvc.perform(post("/v1/budgets").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated()));
+        mockMvc.perform(post("/v1/budgets").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isConflict());
+
+        mockMvc.perform(put("/v1/budgets/{id}", budget)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"monthlyLimit\":250.00,\"version\":0}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.monthlyLimit").value(250.00))
+            .andExpect(jsonPath("$.version").value(1));
+        mockMvc.perform(put("/v1/budgets/{id}", budget)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"monthlyLimit\":300.00,\"version\":0}"))
+            .andExpect(status().isConflict());
+
+        mockMvc.perform(delete("/v1/budgets/{id}", budget)).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/v1/budgets/{id}", budget)).andExpect(status().isNotFound());
+    }
+
+    private void expectStatus(String budget, double spent, String level) throws Exception {
+        String filter = "$[?(@.budgetId == '" + budget + "')]";
+        mockMvc.perform(get("/v1/budgets/status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(filter + ".month").value(YearMonth.now(ZoneOffset.UTC).toString()))
+            .andExpect(jsonPath(filter + ".spent").value(spent))
+            .andExpect(jsonPath(filter + ".remaining").value(100.00 - spent))
+            .andExpect(jsonPath(filter + ".level").value(level));
+    }
+
+    /**
+     * A groceries transaction at the start of the current month.
+     */
+    private String createTransaction(String type, String amount) throws Exception {
+        return fixtures.createTransaction(groceries, type, amount, CURRENCY,
+            YearMonth.now(ZoneOffset.UTC).atDay(1) + "T00:00:00Z");
+    }
+
+    private void update(String id, String body) throws Exception {
+        mockMvc.perform(put("/v1/transactions/{id}", id).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk());
+    }
+}
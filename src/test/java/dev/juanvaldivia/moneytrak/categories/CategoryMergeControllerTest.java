@@ -0,0 +1,109 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for merging categories. A small chunk size makes the merge take several chunks.
+ * Not @Transactional: each chunk commits on its own.
+ */
+@SpringBootTest(properties = "moneytrak.categories.merge-chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class CategoryMergeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void merge_shouldMoveTransactionsRulesAndBudgetsThenDeleteSource() throws Exception {
+        String source = fixtures.createCategory("Merge eating out");
+        String target = fixtures.createCategory("Merge restaurants");
+        List<String> moved = List.of(
+            createExpense(source, "12.00", "SEK"),
+            createExpense(source, "18.00", "SEK"),
+            createExpense(source, "7.50", "DKK"));
+        String kept = createExpense(target, "40.00", "SEK");
+        String rule = fixtures.createRule(source, "bistro merge");
+        fixtures.createBudget(source, "SEK", "100.00");
+        String movedBudget = fixtures.createBudget(source, "DKK", "50.00");
+        String targetBudget = fixtures.createBudget(target, "SEK", "200.00");
+
+        fixtures.mergeCategory(source, target)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.sourceId").value(source))
+            .andExpect(jsonPath("$.targetId").value(target))
+            .andExpect(jsonPath("$.movedTransactions").value(3));
+
+        mockMvc.perform(get("/v1/categories/{id}", source)).andExpect(status().isNotFound());
+        for (String id : moved) {
+            mockMvc.perform(get("/v1/transactions/{id}", id))
+                .andExpect(jsonPath("$.categoryId").value(target))
+                .andExpect(jsonPath("$.version").value(1));
+        }
+        mockMvc.perform(get("/v1/transactions/{id}", kept))
+            .andExpect(jsonPath("$.version").value(0));
+        mockMvc.perform(get("/v1/categories/{id}", target).param("includeUsage", "true"))
+            .andExpect(jsonPath("$.usage.transactionCount").value(4))
+            .andExpect(jsonPath("$.usage.totals[?(@.currency == 'SEK')].total").value(70.00));
+        mockMvc.perform(get("/v1/rules/{id}", rule))
+            .andExpect(jsonPath("$.categoryId").value(target));
+
+        // The target's own SEK budget wins; the DKK one moves over with its spend
+        mockMvc.perform(get("/v1/budgets/status").param("month", "2026-03"))
+            .andExpect(jsonPath("$[?(@.categoryId == '" + source + "')]", hasSize(0)))
+            .andExpect(jsonPath("$[?(@.categoryId == '" + target + "')]", hasSize(2)))
+            .andExpect(jsonPath("$[?(@.budgetId == '" + targetBudget + "')].spent").value(70.00))
+            .andExpect(jsonPath("$[?(@.budgetId == '" + movedBudget + "')].spent").value(7.50));
+    }
+
+    @Test
+    void merge_shouldRejectSelfOthersAndUnknownCategories() throws Exception {
+        String category = fixtures.createCategory("Merge lonely");
+        List<String> others = JsonPath.read(mockMvc.perform(get("/v1/categories").param("size", "200"))
+            .andReturn().getResponse().getContentAsString(), "$.content[?(@.name == 'Others')].id");
+
+        mockMvc.perform(post("/v1/categories/{id}/merge-into/{targetId}", category, category))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/v1/categories/{id}/merge-into/{targetId}", others.getFirst(), category))
+            .andExpect(status().isConflict());
+        mockMvc.perform(post("/v1/categories/{id}/merge-into/{targetId}", category,
+                "00000000-0000-0000-0000-000000000000"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/categories/{id}/merge", category))
+            .andExpect(status().isNotFound());
+    }
+
+    private String createExpense(String categoryId, String amount, String currency) throws Exception {
+        return fixtures.createExpense(categoryId, amount, currency, "2026-03-14T19:00:00Z");
+    }
+}
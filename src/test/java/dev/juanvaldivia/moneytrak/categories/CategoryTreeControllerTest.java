@@ -0,0 +1,123 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the category tree: subcategories, moves, subtree filters and totals.
+ * Not @Transactional: the analytics store only sees committed transactions.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class CategoryTreeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void tree_shouldFilterAndTotalSubtreesAndFollowMoves() throws Exception {
+        String travel = fixtures.createCategory("Tree travel");
+        String flights = fixtures.createCategory("Tree flights", travel);
+        String lounges = fixtures.createCategory("Tree lounges", flights);
+        createExpense(travel, "20.00");
+        createExpense(flights, "150.00");
+        createExpense(lounges, "30.00");
+
+        mockMvc.perform(get("/v1/categories/{id}", lounges))
+            .andExpect(jsonPath("$.parentId").value(flights));
+        mockMvc.perform(get("/v1/transactions").param("categoryId", travel))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(3));
+        mockMvc.perform(get("/v1/transactions").param("categoryId", flights))
+            .andExpect(jsonPath("$.totalElements").value(2));
+        mockMvc.perform(get("/v1/transactions/summary/categories")
+                .param("from", "2026-04-01").param("to", "2026-04-30").param("rollup", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[?(@.categoryId == '" + travel + "')].total").value(200.00))
+            .andExpect(jsonPath("$[?(@.categoryId == '" + flights + "')].total").value(180.00))
+            .andExpect(jsonPath("$[?(@.categoryId == '" + lounges + "')].total").value(30.00));
+        mockMvc.perform(get("/v1/transactions/summary/categories")
+                .param("from", "2026-04-01").param("to", "2026-04-30"))
+            .andExpect(jsonPath("$[?(@.categoryId == '" + travel + "')].total").value(20.00));
+
+        mockMvc.perform(delete("/v1/categories/{id}", travel))
+            .andExpect(status().isConflict());
+        mockMvc.perform(put("/v1/categories/{id}/parent", travel)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"parentId\":\"" + lounges + "\",\"version\":0}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/v1/categories/{id}/merge-into/{targetId}", travel, flights))
+            .andExpect(status().isBadRequest());
+
+        // Flights, with lounges under it, becomes top-level
+        mockMvc.perform(put("/v1/categories/{id}/parent", flights)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"parentId\":null,\"version\":0}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.parentId").doesNotExist())
+            .andExpect(jsonPath("$.version").value(1));
+        mockMvc.perform(get("/v1/transactions").param("categoryId", travel))
+            .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/v1/transactions").param("categoryId", flights))
+            .andExpect(jsonPath("$.totalElements").value(2));
+
+        // Travel moves under lounges, two levels down from flights
+        mockMvc.perform(put("/v1/categories/{id}/parent", travel)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"parentId\":\"" + lounges + "\",\"version\":0}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/transactions").param("categoryId", flights))
+            .andExpect(jsonPath("$.totalElements").value(3));
+        mockMvc.perform(put("/v1/categories/{id}/parent", travel)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"parentId\":null,\"version\":0}"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void seeder_shouldSeedDefaultTree() throws Exception {
+        String content = mockMvc.perform(get("/v1/categories").param("size", "200"))
+            .andReturn().getResponse().getContentAsString();
+        List<String> transport = JsonPath.read(content, "$.content[?(@.name == 'Transport')].id");
+
+        mockMvc.perform(get("/v1/categories").param("size", "200"))
+            .andExpect(jsonPath("$.content[?(@.name == 'Gas')].parentId").value(transport.getFirst()))
+            .andExpect(jsonPath("$.content[?(@.name == 'Tolls')].parentId").value(transport.getFirst()));
+        mockMvc.perform(get("/v1/categories/{id}", transport.getFirst()))
+            .andExpect(jsonPath("$.parentId").doesNotExist())
+            .andExpect(jsonPath("$.isPredefined").value(true));
+    }
+
+    private void createExpense(String categoryId, String amount) throws Exception {
+        fixtures.createExpense(categoryId, amount, "SEK", "2026-04-08T09:00:00Z");
+    }
+}
@@ -0,0 +1,100 @@
+package dev.juanvaldivia.moneytrak.categories;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for category usage counters across transaction writes.
+ * Not @Transactional: in-memory counters only move once a write commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class CategoryUsageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void usage_shouldFollowTransactionWritesAndGuardDelete() throws Exception {
+        String travel = fixtures.createCategory("Usage travel");
+        String hobbies = fixtures.createCategory("Usage hobbies");
+
+        String flight = createTransaction(travel, "EXPENSE", "120.50", "NOK");
+        List<String> transactions = List.of(
+            flight,
+            createTransaction(travel, "EXPENSE", "30.00", "NOK"),
+            createTransaction(travel, "INCOME", "10.00", "DKK"));
+
+        mockMvc.perform(get("/v1/categories/{id}", travel).param("includeUsage", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.usage.transactionCount").value(3))
+            .andExpect(jsonPath("$.usage.totals", hasSize(2)))
+            .andExpect(jsonPath("$.usage.totals[0].type").value("EXPENSE"))
+            .andExpect(jsonPath("$.usage.totals[0].currency").value("NOK"))
+            .andExpect(jsonPath("$.usage.totals[0].total").value(150.50))
+            .andExpect(jsonPath("$.usage.totals[1].type").value("INCOME"))
+            .andExpect(jsonPath("$.usage.totals[1].total").value(10.00));
+        mockMvc.perform(get("/v1/categories/{id}", travel))
+            .andExpect(jsonPath("$.usage").doesNotExist());
+
+        mockMvc.perform(delete("/v1/categories/{id}", travel))
+            .andExpect(status().isConflict());
+
+        mockMvc.perform(put("/v1/transactions/{id}", flight)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":\"" + hobbies + "\",\"amount\":100.00,\"version\":0}"))
+            .andExpect(status().isOk());
+
+        String filter = "$.content[?(@.id == '" + hobbies + "')]";
+        mockMvc.perform(get("/v1/categories").param("includeUsage", "true").param("size", "200"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(filter + ".usage.transactionCount").value(1))
+            .andExpect(jsonPath(filter + ".usage.totals[0].total").value(100.00));
+        mockMvc.perform(get("/v1/categories/{id}", travel).param("includeUsage", "true"))
+            .andExpect(jsonPath("$.usage.transactionCount").value(2))
+            .andExpect(jsonPath("$.usage.totals[0].total").value(30.00));
+
+        for (String id : transactions) {
+            mockMvc.perform(delete("/v1/transactions/{id}", id)).andExpect(status().isNoContent());
+        }
+
+        mockMvc.perform(get("/v1/categories/{id}", travel).param("includeUsage", "true"))
+            .andExpect(jsonPath("$.usage.transactionCount").value(0))
+            .andExpect(jsonPath("$.usage.totals", hasSize(0)));
+        mockMvc.perform(delete("/v1/categories/{id}", travel))
+            .andExpect(status().isNoContent());
+    }
+
+    private String createTransaction(String categoryId, String type, String amount, String currency) throws Exception {
+        return fixtures.createTransaction(categoryId, type, amount, currency, "2026-03-10T12:00:00Z");
+    }
+}
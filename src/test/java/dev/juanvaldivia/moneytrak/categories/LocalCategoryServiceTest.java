@@ -2,21 +2,28 @@ package dev.juanvaldivia.moneytrak.categories;
 
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryCreationDto;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryDto;
+import dev.juanvaldivia.moneytrak.categories.dto.CategoryParentUpdateDto;
 import dev.juanvaldivia.moneytrak.categories.dto.CategoryUpdateDto;
 import dev.juanvaldivia.moneytrak.categories.exception.CategoryInUseException;
 import dev.juanvaldivia.moneytrak.categories.mapper.CategoryMapper;
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
 import dev.juanvaldivia.moneytrak.exception.ConflictException;
 import dev.juanvaldivia.moneytrak.exception.NotFoundException;
-import dev.juanvaldivia.moneytrak.transactions.TransactionRepository;
+import dev.juanvaldivia.moneytrak.sync.ChangeSequence;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.sync.SyncService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -26,6 +33,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -41,7 +50,19 @@ class LocalCategoryServiceTest {
     private CategoryMapper categoryMapper;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private CategoryUsageCounters usageCounters;
+
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private CategoryTree categoryTree;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     @InjectMocks
     private LocalCategoryService service;
@@ -59,7 +80,7 @@ class LocalCategoryServiceTest {
 
     @Test
     void create_withDuplicateName_shouldThrowConflict() {
-        CategoryCreationDto dto = new CategoryCreationDto("Food & Drinks");
+        CategoryCreationDto dto = new CategoryCreationDto("Food & Drinks", null);
         when(categoryRepository.existsByNameIgnoreCase("Food & Drinks")).thenReturn(true);
 
         assertThatThrownBy(() -> service.create(dto))
@@ -69,13 +90,13 @@ class LocalCategoryServiceTest {
 
     @Test
     void create_withUniqueName_shouldSaveAndReturnDto() {
-        CategoryCreationDto dto = new CategoryCreationDto("Medical");
+        CategoryCreationDto dto = new CategoryCreationDto("Medical", null);
         Category newCategory = Category.createCustom("Medical");
-        CategoryDto expectedDto = new CategoryDto(UUID.randomUUID(), "Medical", false, 0,
-            ZonedDateTime.now(), ZonedDateTime.now());
+        CategoryDto expectedDto = new CategoryDto(UUID.randomUUID(), "Medical", null, false, 0,
+            ZonedDateTime.now(), ZonedDateTime.now(), null);
 
         when(categoryRepository.existsByNameIgnoreCase("Medical")).thenReturn(false);
-        when(categoryRepository.save(any(Category.class))).thenReturn(newCategory);
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(newCategory);
         when(categoryMapper.toDto(newCategory)).thenReturn(expectedDto);
 
         CategoryDto result = service.create(dto);
@@ -137,12 +158,43 @@ class LocalCategoryServiceTest {
             .hasMessageContaining(categoryId.toString());
     }
 
+    // ======================== moveCategory ========================
+
+    @Test
+    void moveCategory_underOwnSubcategory_shouldLockBothRowsBeforeCheckingAndThrowBadRequest() {
+        UUID parentId = UUID.randomUUID();
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(categoryId), eq(parentId)))
+            .thenReturn(List.of(categoryId, parentId));
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+        when(categoryTree.contains(categoryId, parentId)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.moveCategory(categoryId, new CategoryParentUpdateDto(parentId, 0)))
+            .isInstanceOf(BadRequestException.class);
+
+        InOrder inOrder = inOrder(jdbcTemplate, categoryTree);
+        inOrder.verify(jdbcTemplate).queryForList(anyString(), eq(UUID.class), eq(categoryId), eq(parentId));
+        inOrder.verify(categoryTree).contains(categoryId, parentId);
+        verify(categoryTree, never()).move(any(), any());
+    }
+
+    @Test
+    void moveCategory_withNonExistentParent_shouldThrowNotFound() {
+        UUID parentId = UUID.randomUUID();
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(categoryId), eq(parentId)))
+            .thenReturn(List.of(categoryId));
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+
+        assertThatThrownBy(() -> service.moveCategory(categoryId, new CategoryParentUpdateDto(parentId, 0)))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining(parentId.toString());
+    }
+
     // ======================== delete ========================
 
     @Test
     void delete_withLinkedTransactions_shouldThrowCategoryInUse() {
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
-        when(transactionRepository.countByCategoryId(categoryId)).thenReturn(3L);
+        when(usageCounters.transactionCount(categoryId)).thenReturn(3L);
 
         assertThatThrownBy(() -> service.delete(categoryId))
             .isInstanceOf(CategoryInUseException.class)
@@ -152,11 +204,11 @@ class LocalCategoryServiceTest {
     @Test
     void delete_withNoLinkedTransactions_shouldDelete() {
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
-        when(transactionRepository.countByCategoryId(categoryId)).thenReturn(0L);
 
         service.delete(categoryId);
 
         verify(categoryRepository).delete(existingCategory);
+        verify(syncService).recordDeletion(SyncEntityType.CATEGORY, categoryId);
     }
 
     @Test
@@ -175,10 +227,10 @@ class LocalCategoryServiceTest {
         PageRequest pageable = PageRequest.of(0, 20);
         Page<Category> categoryPage = new PageImpl<>(List.of(existingCategory));
 
-        when(categoryRepository.findAll(pageable)).thenReturn(categoryPage);
+        when(categoryRepository.findAll(PageRequest.of(0, 20, Sort.by("id")))).thenReturn(categoryPage);
         when(categoryMapper.toDto(any(Category.class)))
-            .thenReturn(new CategoryDto(UUID.randomUUID(), "Food & Drinks", true, 0,
-                ZonedDateTime.now(), ZonedDateTime.now()));
+            .thenReturn(new CategoryDto(UUID.randomUUID(), "Food & Drinks", null, true, 0,
+                ZonedDateTime.now(), ZonedDateTime.now(), null));
 
         Page<CategoryDto> result = service.findAll(pageable);
 
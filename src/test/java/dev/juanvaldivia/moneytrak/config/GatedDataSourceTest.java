@@ -0,0 +1,121 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GatedDataSource covering permit accounting, queueing, timeouts and metrics.
+ */
+@ExtendWith(MockitoExtension.class)
+class GatedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private GatedDataSource gate(int permits, Duration timeout) {
+        return new GatedDataSource(target, permits, timeout, meterRegistry);
+    }
+
+    private double available() {
+        return meterRegistry.get("moneytrak.db.gate.available").gauge().value();
+    }
+
+    @Test
+    void getConnection_shouldHoldPermitUntilConnectionClosed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        GatedDataSource gate = gate(2, Duration.ofSeconds(1));
+
+        Connection gated = gate.getConnection();
+        assertThat(available()).isEqualTo(1);
+
+        gated.close();
+        gated.close();
+
+        assertThat(available()).isEqualTo(2);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_whenPoolFails_shouldReturnPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+        GatedDataSource gate = gate(1, Duration.ofSeconds(1));
+
+        assertThatThrownBy(gate::getConnection).hasMessage("pool down");
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_whenNoPermitFreed_shouldTimeOut() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        GatedDataSource gate = gate(1, Duration.ofMillis(50));
+        gate.getConnection();
+
+        assertThatThrownBy(gate::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("moneytrak.db.gate.timeouts").counter().count()).isEqualTo(1);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_whenSaturated_shouldQueueUntilPermitReleased() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        GatedDataSource gate = gate(1, Duration.ofSeconds(5));
+        Connection held = gate.getConnection();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return gate.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+
+            await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get("moneytrak.db.gate.waiting").gauge().value() == 1);
+            assertThat(waiter).isNotDone();
+
+            held.close();
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+        }
+        assertThat(meterRegistry.get("moneytrak.db.gate.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void connectionProxy_shouldDelegateOtherCalls() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection gated = gate(1, Duration.ofSeconds(1)).getConnection();
+
+        assertThat(gated.getAutoCommit()).isFalse();
+        assertThat(gated).isEqualTo(gated);
+    }
+}
@@ -0,0 +1,126 @@
+package dev.juanvaldivia.moneytrak.config;
+
+import dev.juanvaldivia.moneytrak.accounts.AccountService;
+import dev.juanvaldivia.moneytrak.categories.CategoryService;
+import dev.juanvaldivia.moneytrak.readings.ReadingService;
+import dev.juanvaldivia.moneytrak.transactions.TransactionService;
+import dev.juanvaldivia.moneytrak.transactions.dto.SummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WarmupRunner covering step execution, failure isolation and reporting.
+ */
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private ReadingService readingService;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private WarmupRunner runner(boolean enabled) {
+        return new WarmupRunner(new WarmupProperties(enabled, 3, 20), transactionService, readingService,
+            accountService, categoryService, JsonMapper.builder().build(), meterRegistry);
+    }
+
+    @Test
+    void run_shouldExerciseEveryReadPathForConfiguredIterations() {
+        when(transactionService.listTransactions(any(), any(), any())).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+        when(transactionService.calculateExpenseTotal()).thenReturn(new SummaryDto(BigDecimal.ZERO));
+        when(transactionService.calculateIncomeTotal()).thenReturn(new SummaryDto(BigDecimal.ZERO));
+        when(readingService.getLatestReadings()).thenReturn(List.of());
+        when(accountService.listAccounts()).thenReturn(List.of());
+        when(categoryService.findAll(any())).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        WarmupRunner runner = runner(true);
+        runner.run(new DefaultApplicationArguments());
+
+        verify(transactionService, times(3)).listTransactions(any(), any(), any());
+        verify(readingService, times(3)).getLatestReadings();
+        verify(accountService, times(3)).listAccounts();
+        verify(categoryService, times(3)).findAll(any());
+        assertThat(runner.timings())
+            .extracting(WarmupRunner.StepTiming::step)
+            .containsExactly("transactions.list", "transactions.summary", "readings.latest",
+                "accounts.list", "categories.list");
+        assertThat(runner.timings()).allSatisfy(timing -> assertThat(timing.iterations()).isEqualTo(3));
+        assertThat(meterRegistry.get("moneytrak.warmup.step").tag("step", "readings.latest").timer().count())
+            .isEqualTo(3);
+    }
+
+    @Test
+    void run_whenStepFails_shouldRecordErrorAndContinue() {
+        when(transactionService.listTransactions(any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+        when(transactionService.calculateExpenseTotal()).thenReturn(new SummaryDto(BigDecimal.ZERO));
+        when(transactionService.calculateIncomeTotal()).thenReturn(new SummaryDto(BigDecimal.ZERO));
+        when(readingService.getLatestReadings()).thenReturn(List.of());
+        when(accountService.listAccounts()).thenReturn(List.of());
+        when(categoryService.findAll(any())).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        WarmupRunner runner = runner(true);
+        runner.run(new DefaultApplicationArguments());
+
+        assertThat(runner.timings().getFirst().error()).isEqualTo("boom");
+        assertThat(runner.timings().getFirst().iterations()).isZero();
+        verify(readingService, times(3)).getLatestReadings();
+    }
+
+    @Test
+    void run_whenDisabled_shouldNotTouchServices() {
+        runner(false).run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(transactionService, readingService, accountService, categoryService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void contribute_shouldExposeStepTimingsUnderWarmup() {
+        when(readingService.getLatestReadings()).thenReturn(List.of());
+        when(transactionService.listTransactions(any(), any(), any())).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+        when(transactionService.calculateExpenseTotal()).thenReturn(new SummaryDto(BigDecimal.ZERO));
+        when(transactionService.calculateIncomeTotal()).thenReturn(new SummaryDto(BigDecimal.ZERO));
+        when(accountService.listAccounts()).thenReturn(List.of());
+        when(categoryService.findAll(any())).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+        WarmupRunner runner = runner(true);
+        runner.run(new DefaultApplicationArguments());
+
+        Info.Builder builder = new Info.Builder();
+        runner.contribute(builder);
+
+        Map<String, Object> warmup = (Map<String, Object>) builder.build().getDetails().get("warmup");
+        assertThat(warmup).containsKey("durationMillis");
+        assertThat((Map<String, Object>) warmup.get("steps")).containsKeys("transactions.list", "readings.latest");
+    }
+}
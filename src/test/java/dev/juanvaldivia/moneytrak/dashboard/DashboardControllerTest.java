@@ -0,0 +1,41 @@
+package dev.juanvaldivia.moneytrak.dashboard;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for Dashboard Controller.
+ * Sections run on their own threads and transactions, so this test is not @Transactional
+ * and only checks the document shape.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "APP")
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getDashboard_ShouldReturn200WithAllSections() throws Exception {
+        mockMvc.perform(get("/v1/dashboard"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accounts").isArray())
+            .andExpect(jsonPath("$.expenses.total").isNumber())
+            .andExpect(jsonPath("$.income.total").isNumber())
+            .andExpect(jsonPath("$.latestReadings").isArray())
+            .andExpect(jsonPath("$.recentTransactions").isArray())
+            .andExpect(jsonPath("$.unavailableSections", empty()));
+    }
+}
@@ -0,0 +1,160 @@
+package dev.juanvaldivia.moneytrak.dashboard;
+
+import dev.juanvaldivia.moneytrak.accounts.AccountService;
+import dev.juanvaldivia.moneytrak.dashboard.dto.DashboardDto;
+import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import dev.juanvaldivia.moneytrak.exception.ServiceUnavailableException;
+import dev.juanvaldivia.moneytrak.readings.ReadingService;
+import dev.juanvaldivia.moneytrak.transactions.TransactionService;
+import dev.juanvaldivia.moneytrak.transactions.dto.SummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LocalDashboardService covering concurrent fan-out, deadlines,
+ * partial results and sibling cancellation.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LocalDashboardServiceTest {
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private ReadingService readingService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    private LocalDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LocalDashboardService(accountService, readingService, transactionService,
+            new DashboardProperties(Duration.ofMillis(500), 10));
+
+        when(accountService.listAccounts()).thenReturn(List.of());
+        when(transactionService.calculateExpenseTotal()).thenReturn(new SummaryDto(new BigDecimal("40.00")));
+        when(transactionService.calculateIncomeTotal()).thenReturn(new SummaryDto(new BigDecimal("100.00")));
+        when(readingService.getLatestReadings()).thenReturn(List.of());
+        when(transactionService.listTransactions(any(), any(), any())).thenReturn(new PageImpl<>(List.of()));
+    }
+
+    @Test
+    void getDashboard_whenAllSectionsComplete_shouldReturnFullDocument() {
+        DashboardDto dashboard = service.getDashboard();
+
+        assertThat(dashboard.accounts()).isEmpty();
+        assertThat(dashboard.expenses().total()).isEqualByComparingTo("40.00");
+        assertThat(dashboard.income().total()).isEqualByComparingTo("100.00");
+        assertThat(dashboard.latestReadings()).isEmpty();
+        assertThat(dashboard.recentTransactions()).isEmpty();
+        assertThat(dashboard.unavailableSections()).isEmpty();
+    }
+
+    @Test
+    void getDashboard_shouldRunSectionsConcurrently() {
+        // Every section waits for all five to have started; sequential execution would miss the deadline
+        CountDownLatch started = new CountDownLatch(5);
+        when(accountService.listAccounts()).thenAnswer(invocation -> awaitAll(started, List.of()));
+        when(transactionService.calculateExpenseTotal())
+            .thenAnswer(invocation -> awaitAll(started, new SummaryDto(BigDecimal.ZERO)));
+        when(transactionService.calculateIncomeTotal())
+            .thenAnswer(invocation -> awaitAll(started, new SummaryDto(BigDecimal.ZERO)));
+        when(readingService.getLatestReadings()).thenAnswer(invocation -> awaitAll(started, List.of()));
+        when(transactionService.listTransactions(any(), any(), any()))
+            .thenAnswer(invocation -> awaitAll(started, new PageImpl<>(List.of())));
+
+        assertThat(service.getDashboard().unavailableSections()).isEmpty();
+    }
+
+    @Test
+    void getDashboard_whenOptionalSectionTimesOut_shouldReturnPartialResult() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(readingService.getLatestReadings()).thenAnswer(invocation -> blockUntilInterrupted(interrupted));
+
+        DashboardDto dashboard = service.getDashboard();
+
+        assertThat(dashboard.latestReadings()).isNull();
+        assertThat(dashboard.unavailableSections()).containsExactly("latestReadings");
+        assertThat(dashboard.accounts()).isNotNull();
+        assertThat(interrupted.getCount()).isZero();
+    }
+
+    @Test
+    void getDashboard_whenOptionalSectionFails_shouldReturnPartialResult() {
+        when(transactionService.listTransactions(any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        DashboardDto dashboard = service.getDashboard();
+
+        assertThat(dashboard.recentTransactions()).isNull();
+        assertThat(dashboard.unavailableSections()).containsExactly("recentTransactions");
+    }
+
+    @Test
+    void getDashboard_whenRequiredSectionFails_shouldCancelSiblingsAndRethrow() {
+        CountDownLatch readingsStarted = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(readingService.getLatestReadings()).thenAnswer(invocation -> {
+            readingsStarted.countDown();
+            return blockUntilInterrupted(interrupted);
+        });
+        when(accountService.listAccounts()).thenAnswer(invocation -> {
+            readingsStarted.await(5, TimeUnit.SECONDS);
+            throw new NotFoundException("gone");
+        });
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.getDashboard())
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("gone");
+
+        assertThat(interrupted.getCount()).isZero();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    void getDashboard_whenRequiredSectionTimesOut_shouldThrowServiceUnavailable() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(transactionService.calculateIncomeTotal()).thenAnswer(invocation -> blockUntilInterrupted(interrupted));
+
+        assertThatThrownBy(() -> service.getDashboard())
+            .isInstanceOf(ServiceUnavailableException.class)
+            .hasMessageContaining("income");
+        assertThat(interrupted.getCount()).isZero();
+    }
+
+    private static <T> T awaitAll(CountDownLatch started, T result) throws InterruptedException {
+        started.countDown();
+        started.await(5, TimeUnit.SECONDS);
+        return result;
+    }
+
+    private static <T> T blockUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
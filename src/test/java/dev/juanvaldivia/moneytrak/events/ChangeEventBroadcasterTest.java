@@ -0,0 +1,144 @@
+package dev.juanvaldivia.moneytrak.events;
+
+import dev.juanvaldivia.moneytrak.exception.ServiceUnavailableException;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for ChangeEventBroadcaster fan-out and slow subscriber handling.
+ */
+class ChangeEventBroadcasterTest {
+
+    private MeterRegistry meterRegistry;
+    private ChangeEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ChangeEventBroadcaster(
+            new EventsProperties(2, 3, Duration.ofMinutes(1), Duration.ofSeconds(15)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.closeAll();
+    }
+
+    @Test
+    void onEntityChanged_fansOutToEverySubscriber() {
+        RecordingEmitter first = new RecordingEmitter(null);
+        RecordingEmitter second = new RecordingEmitter(null);
+        broadcaster.subscribe(first);
+        broadcaster.subscribe(second);
+
+        EntityChangedEvent event = EntityChangedEvent.updated(SyncEntityType.READING, UUID.randomUUID(), 2);
+        broadcaster.onEntityChanged(event);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(first.received).containsExactly(event);
+            assertThat(second.received).containsExactly(event);
+        });
+        assertThat(meterRegistry.get("moneytrak.events.published").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("moneytrak.events.subscribers").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void onEntitiesChanged_sendsOneMessagePerBulkWrite() {
+        RecordingEmitter subscriber = new RecordingEmitter(null);
+        broadcaster.subscribe(subscriber);
+
+        EntitiesChangedEvent event = EntitiesChangedEvent.updated(SyncEntityType.TRANSACTION,
+            List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+        broadcaster.onEntitiesChanged(event);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(subscriber.received).containsExactly(event));
+        assertThat(meterRegistry.get("moneytrak.events.published").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("moneytrak.events.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    void onEntityChanged_withFullBuffer_dropsOnlySlowSubscriber() {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        broadcaster.subscribe(slow);
+        broadcaster.subscribe(fast);
+
+        // The slow writer blocks on the first event, two more fill its buffer, the fourth overflows it
+        List<EntityChangedEvent> events = List.of(
+            EntityChangedEvent.created(SyncEntityType.TRANSACTION, UUID.randomUUID(), 0),
+            EntityChangedEvent.created(SyncEntityType.TRANSACTION, UUID.randomUUID(), 0),
+            EntityChangedEvent.created(SyncEntityType.TRANSACTION, UUID.randomUUID(), 0),
+            EntityChangedEvent.created(SyncEntityType.TRANSACTION, UUID.randomUUID(), 0)
+        );
+        for (EntityChangedEvent event : events) {
+            await().atMost(Duration.ofSeconds(5)).until(() -> fast.received.size() == events.indexOf(event));
+            if (event == events.get(1)) {
+                await().atMost(Duration.ofSeconds(5)).until(() -> slow.blocked);
+            }
+            broadcaster.onEntityChanged(event);
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(fast.received).containsExactlyElementsOf(events));
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("moneytrak.events.dropped").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void subscribe_overLimit_throwsServiceUnavailable() {
+        for (int i = 0; i < 3; i++) {
+            broadcaster.subscribe(new RecordingEmitter(null));
+        }
+
+        assertThatThrownBy(() -> broadcaster.subscribe(new RecordingEmitter(null)))
+            .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    /**
+     * Emitter that records the change events it is asked to send, optionally blocking on the first one.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Object> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean blocked;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                blocked = true;
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            builder.build().stream()
+                .map(data -> data.getData())
+                .filter(data -> data instanceof EntityChangedEvent || data instanceof EntitiesChangedEvent)
+                .forEach(received::add);
+        }
+    }
+}
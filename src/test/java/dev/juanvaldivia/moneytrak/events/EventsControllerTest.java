@@ -0,0 +1,77 @@
+package dev.juanvaldivia.moneytrak.events;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for Events Controller.
+ * Not @Transactional: notifications are only pushed after the writing transaction commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class EventsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeEventBroadcaster broadcaster;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        broadcaster.closeAll();
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void subscribe_receivesCommittedTransactionChanges() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/v1/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+
+        String id = fixtures.createExpense("Coffee", null, "3.20", "EUR", "2026-01-10T08:00:00Z");
+
+        mockMvc.perform(delete("/v1/transactions/{id}", id))
+            .andExpect(status().isNoContent());
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            String events = stream.getContentAsString();
+            assertThat(events).contains("event:change",
+                "{\"type\":\"TRANSACTION\",\"id\":\"" + id + "\",\"version\":0,\"kind\":\"CREATED\"}",
+                "{\"type\":\"TRANSACTION\",\"id\":\"" + id + "\",\"version\":null,\"kind\":\"DELETED\"}");
+        });
+    }
+
+    @Test
+    @WithMockUser(roles = "APP")
+    void subscribe_asAppRole_isAllowed() throws Exception {
+        mockMvc.perform(get("/v1/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+    }
+}
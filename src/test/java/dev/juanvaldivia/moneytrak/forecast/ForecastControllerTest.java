@@ -0,0 +1,89 @@
+package dev.juanvaldivia.moneytrak.forecast;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the cash-flow forecast following FIXED transaction writes.
+ * Not @Transactional: the series index only applies writes after they commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ForecastControllerTest {
+
+    private static final String CHF_EXPENSE = "$.months[%d].totals[?(@.currency == 'CHF')].expense";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void forecast_shouldFollowCreateEditAndDeleteOfFixedTransactions() throws Exception {
+        LocalDate lastMonth = LocalDate.now(ZoneOffset.UTC).minusMonths(1);
+        String rent = fixtures.createExpense("Rent", null, "1200.00", "CHF", lastMonth + "T08:00:00Z");
+
+        mockMvc.perform(get("/v1/forecast").param("months", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.months", hasSize(3)))
+            .andExpect(jsonPath("$.months[0].month").value(YearMonth.now(ZoneOffset.UTC).toString()))
+            .andExpect(jsonPath(CHF_EXPENSE.formatted(0), hasSize(0)));
+
+        update(rent, "{\"stability\":\"FIXED\",\"version\":0}");
+        mockMvc.perform(get("/v1/forecast").param("months", "3"))
+            .andExpect(jsonPath(CHF_EXPENSE.formatted(0)).value(1200.0))
+            .andExpect(jsonPath(CHF_EXPENSE.formatted(2)).value(1200.0));
+
+        update(rent, "{\"amount\":1250.00,\"version\":1}");
+        mockMvc.perform(get("/v1/forecast").param("months", "3"))
+            .andExpect(jsonPath(CHF_EXPENSE.formatted(1)).value(1250.0));
+
+        mockMvc.perform(delete("/v1/transactions/{id}", rent)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/v1/forecast").param("months", "3"))
+            .andExpect(jsonPath(CHF_EXPENSE.formatted(1), hasSize(0)));
+    }
+
+    @Test
+    void forecast_withMonthsOutOfRange_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/v1/forecast").param("months", "0"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/forecast").param("months", "25"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private void update(String id, String patch) throws Exception {
+        mockMvc.perform(put("/v1/transactions/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(patch))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,117 @@
+package dev.juanvaldivia.moneytrak.forecast;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import dev.juanvaldivia.moneytrak.forecast.FixedSeriesIndex.Occurrence;
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastDto;
+import dev.juanvaldivia.moneytrak.forecast.dto.ForecastMonthDto;
+import dev.juanvaldivia.moneytrak.recurring.RecurringDetectionProperties;
+import dev.juanvaldivia.moneytrak.recurring.RecurringSeriesDetector.SeriesKey;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for LocalForecastService over a FixedSeriesIndex fed directly, without a database.
+ */
+class LocalForecastServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 20);
+    private static final UUID HOUSING = UUID.randomUUID();
+    private static final UUID SALARY = UUID.randomUUID();
+    private static final SeriesKey RENT = new SeriesKey(HOUSING, "EUR", TransactionType.EXPENSE, "rent");
+    private static final SeriesKey PAYROLL = new SeriesKey(SALARY, "EUR", TransactionType.INCOME, "payroll");
+
+    private final FixedSeriesIndex index =
+        new FixedSeriesIndex(mock(JdbcTemplate.class), new RecurringDetectionProperties(3, 24, 0.8, 0.1, 1000));
+    private final LocalForecastService service = new LocalForecastService(index,
+        Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+
+    @Test
+    void forecast_shouldProjectEachSeriesFromItsCadenceAndLatestAmount() {
+        add(RENT, "2025-11-30", "900.00");
+        add(RENT, "2025-12-31", "950.00");
+        add(PAYROLL, "2025-12-26", "2400.00");
+        SeriesKey gym = new SeriesKey(HOUSING, "EUR", TransactionType.EXPENSE, "gym");
+        for (LocalDate date = LocalDate.of(2025, 12, 1); date.isBefore(TODAY); date = date.plusWeeks(1)) {
+            add(gym, date.toString(), "10.00");
+        }
+
+        ForecastDto forecast = service.forecast(3);
+
+        assertThat(forecast.asOf()).isEqualTo(TODAY);
+        assertThat(forecast.months()).extracting(ForecastMonthDto::month)
+            .containsExactly(YearMonth.of(2026, 1), YearMonth.of(2026, 2), YearMonth.of(2026, 3));
+        ForecastMonthDto january = forecast.months().getFirst();
+        // Rent on the 31st, payroll on the 26th, gym on the 26th
+        assertThat(january.totals()).singleElement().satisfies(total -> {
+            assertThat(total.income()).isEqualByComparingTo("2400.00");
+            assertThat(total.expense()).isEqualByComparingTo("960.00");
+            assertThat(total.net()).isEqualByComparingTo("1440.00");
+        });
+        assertThat(january.categories()).hasSize(2);
+        assertThat(january.categories().getFirst().categoryId()).isEqualTo(HOUSING);
+        assertThat(january.categories().getFirst().occurrences()).isEqualTo(2);
+        // Rent once a month, gym on four Mondays in February and five in March
+        ForecastMonthDto february = forecast.months().get(1);
+        assertThat(february.totals().getFirst().expense()).isEqualByComparingTo("990.00");
+        ForecastMonthDto march = forecast.months().get(2);
+        assertThat(march.totals().getFirst().expense()).isEqualByComparingTo("1000.00");
+        assertThat(march.categories()).filteredOn(category -> category.categoryId().equals(HOUSING))
+            .singleElement().satisfies(category -> assertThat(category.occurrences()).isEqualTo(6));
+    }
+
+    @Test
+    void forecast_shouldFollowEditsAndDeletesAndSkipStoppedOrIrregularSeries() {
+        UUID single = add(RENT, "2025-12-31", "950.00");
+        assertThat(service.forecast(1).months().getFirst().totals().getFirst().expense())
+            .isEqualByComparingTo("950.00");
+
+        // Moving the only transaction to another series leaves nothing under the old key
+        SeriesKey moved = new SeriesKey(SALARY, "EUR", TransactionType.EXPENSE, "rent");
+        index.apply(single, new Occurrence(single, moved, LocalDate.of(2025, 12, 31), new BigDecimal("980.00"),
+            true, 1));
+        assertThat(service.forecast(1).months().getFirst().categories()).singleElement()
+            .satisfies(category -> assertThat(category.categoryId()).isEqualTo(SALARY));
+
+        // A re-read from before the move arrives late and is dropped
+        index.apply(single, new Occurrence(single, RENT, LocalDate.of(2025, 12, 31), new BigDecimal("950.00"),
+            true, 0));
+        assertThat(service.forecast(1).months().getFirst().categories()).singleElement()
+            .satisfies(category -> assertThat(category.categoryId()).isEqualTo(SALARY));
+
+        index.apply(single, null);
+        assertThat(service.forecast(1).months().getFirst().totals()).isEmpty();
+
+        // Stopped: the next one was due in October, more than a month ago
+        add(RENT, "2025-08-01", "900.00");
+        add(RENT, "2025-09-01", "900.00");
+        // Irregular intervals fit no cadence
+        add(PAYROLL, "2025-10-01", "100.00");
+        add(PAYROLL, "2025-12-15", "100.00");
+        assertThat(service.forecast(6).months()).allSatisfy(month -> assertThat(month.totals()).isEmpty());
+    }
+
+    @Test
+    void forecast_withMonthsOutOfRange_shouldThrow() {
+        assertThatThrownBy(() -> service.forecast(0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.forecast(25)).isInstanceOf(BadRequestException.class);
+        assertThat(service.forecast(null).months()).hasSize(6);
+    }
+
+    private UUID add(SeriesKey key, String date, String amount) {
+        UUID id = UUID.randomUUID();
+        index.apply(id, new Occurrence(id, key, LocalDate.parse(date), new BigDecimal(amount), true, 0));
+        return id;
+    }
+}
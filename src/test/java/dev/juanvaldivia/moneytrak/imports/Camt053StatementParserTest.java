@@ -0,0 +1,79 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for Camt053StatementParser.
+ */
+class Camt053StatementParserTest {
+
+    private final Camt053StatementParser parser = new Camt053StatementParser();
+
+    @Test
+    void parse_shouldReadEntriesWithSignCounterpartyAndReference() {
+        RecordingSink sink = parse("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.08">
+              <BkToCstmrStmt><Stmt>
+                <Acct><Ownr><Nm>Account Owner</Nm></Ownr></Acct>
+                <Bal><Amt Ccy="EUR">1000.00</Amt></Bal>
+                <Ntry>
+                  <Amt Ccy="EUR">42.10</Amt><CdtDbtInd>DBIT</CdtDbtInd>
+                  <BookgDt><Dt>2026-01-05</Dt></BookgDt><ValDt><Dt>2026-01-06</Dt></ValDt>
+                  <AcctSvcrRef>REF-1</AcctSvcrRef>
+                  <NtryDtls><TxDtls>
+                    <RltdPties><Dbtr><Pty><Nm>Account Owner</Nm></Pty></Dbtr><Cdtr><Pty><Nm>Mercadona SA</Nm></Pty></Cdtr></RltdPties>
+                    <RmtInf><Ustrd>Ticket 123</Ustrd></RmtInf>
+                  </TxDtls></NtryDtls>
+                </Ntry>
+                <Ntry>
+                  <Amt Ccy="EUR">2500.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+                  <BookgDt><DtTm>2026-01-31T09:00:00+01:00</DtTm></BookgDt>
+                  <AddtlNtryInf>Payroll January</AddtlNtryInf>
+                </Ntry>
+                <Ntry><CdtDbtInd>DBIT</CdtDbtInd></Ntry>
+              </Stmt></BkToCstmrStmt>
+            </Document>
+            """);
+
+        assertThat(sink.lines).hasSize(2);
+        StatementLine debit = sink.lines.getFirst();
+        assertThat(debit.amount()).isEqualByComparingTo("-42.10");
+        assertThat(debit.currency()).isEqualTo("EUR");
+        assertThat(debit.date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(debit.description()).isEqualTo("Mercadona SA");
+        assertThat(debit.reference()).isEqualTo("REF-1");
+        StatementLine credit = sink.lines.get(1);
+        assertThat(credit.amount()).isEqualByComparingTo("2500.00");
+        assertThat(credit.date()).isEqualTo(LocalDate.of(2026, 1, 31));
+        assertThat(credit.description()).isEqualTo("Payroll January");
+        assertThat(sink.rejections).containsExactly("3: Ntry without Amt or booking date");
+    }
+
+    @Test
+    void parse_shouldRefuseDoctypesAndNonStatements() {
+        assertThatThrownBy(() -> parse("""
+            <?xml version="1.0"?>
+            <!DOCTYPE d [<!ENTITY x SYSTEM "file:///etc/passwd">]>
+            <Document><BkToCstmrStmt><Stmt><Ntry><AddtlNtryInf>&x;</AddtlNtryInf></Ntry></Stmt></BkToCstmrStmt></Document>
+            """)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> parse("<Document><Other/></Document>"))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> parse("not xml"))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private RecordingSink parse(String content) {
+        RecordingSink sink = new RecordingSink();
+        parser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), sink);
+        return sink;
+    }
+}
@@ -0,0 +1,65 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CsvStatementParser covering header detection, number formats and quoting.
+ */
+class CsvStatementParserTest {
+
+    private final CsvStatementParser parser = new CsvStatementParser();
+
+    @Test
+    void parse_shouldReadSpanishLayoutWithQuotedFieldsAndRejectBadLines() throws Exception {
+        RecordingSink sink = parse("""
+            \uFEFFFecha Operación;Concepto;Importe;Divisa
+            05/01/2026;"MERCADONA; VALENCIA";-1.234,56;EUR
+            06/01/2026;"Nómina ""enero""\";2.500,00;EUR
+            31/02/2026;Broken;-3,00;EUR
+            """);
+
+        assertThat(sink.lines).hasSize(2);
+        StatementLine first = sink.lines.getFirst();
+        assertThat(first.position()).isEqualTo(2);
+        assertThat(first.date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(first.description()).isEqualTo("MERCADONA; VALENCIA");
+        assertThat(first.amount()).isEqualByComparingTo("-1234.56");
+        assertThat(first.currency()).isEqualTo("EUR");
+        assertThat(sink.lines.get(1).description()).isEqualTo("Nómina \"enero\"");
+        assertThat(sink.lines.get(1).amount()).isEqualByComparingTo("2500.00");
+        assertThat(sink.rejections).containsExactly("4: Invalid date: 31/02/2026");
+    }
+
+    @Test
+    void parse_shouldSignDebitAndCreditColumnsAndRequireKnownHeaders() throws Exception {
+        RecordingSink sink = parse("""
+            Date,Description,Debit,Credit,Reference
+            2026-01-07,Coffee,3.20,,TX-1
+            2026-01-08,Refund,,"1,020.00",TX-2
+            """);
+
+        assertThat(sink.lines).extracting(StatementLine::amount)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("-3.20"), new BigDecimal("1020.00"));
+        assertThat(sink.lines).extracting(StatementLine::reference).containsExactly("TX-1", "TX-2");
+        assertThat(sink.lines.getFirst().currency()).isNull();
+
+        assertThatThrownBy(() -> parse("When,What\n2026-01-07,Coffee\n"))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private RecordingSink parse(String content) throws Exception {
+        RecordingSink sink = new RecordingSink();
+        parser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), sink);
+        return sink;
+    }
+}
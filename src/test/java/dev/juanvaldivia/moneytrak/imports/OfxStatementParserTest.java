@@ -0,0 +1,71 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import dev.juanvaldivia.moneytrak.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for OfxStatementParser covering SGML (1.x) and XML (2.x) statements.
+ */
+class OfxStatementParserTest {
+
+    private final OfxStatementParser parser = new OfxStatementParser();
+
+    @Test
+    void parse_shouldReadSgmlStatementWithoutClosingTags() throws Exception {
+        RecordingSink sink = parse("""
+            OFXHEADER:100
+            DATA:OFXSGML
+            CHARSET:1252
+
+            <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS>
+            <CURDEF>EUR
+            <BANKTRANLIST>
+            <STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20260105120000[-5:EST]<TRNAMT>-42.10<FITID>F-1<NAME>MERCADONA</STMTTRN>
+            <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20260106<TRNAMT>1500.00<FITID>F-2<MEMO>Salary &amp; bonus</STMTTRN>
+            <STMTTRN><TRNTYPE>DEBIT<FITID>F-3<NAME>No date</STMTTRN>
+            </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+            """);
+
+        assertThat(sink.lines).hasSize(2);
+        StatementLine first = sink.lines.getFirst();
+        assertThat(first.date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(first.amount()).isEqualByComparingTo("-42.10");
+        assertThat(first.currency()).isEqualTo("EUR");
+        assertThat(first.description()).isEqualTo("MERCADONA");
+        assertThat(first.reference()).isEqualTo("F-1");
+        assertThat(sink.lines.get(1).description()).isEqualTo("Salary & bonus");
+        assertThat(sink.rejections).containsExactly("3: STMTTRN without DTPOSTED or TRNAMT");
+    }
+
+    @Test
+    void parse_shouldReadXmlStatementAndRejectOtherContent() throws Exception {
+        RecordingSink sink = parse("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <?OFX OFXHEADER="200" VERSION="220"?>
+            <OFX><CREDITCARDMSGSRSV1><CCSTMTTRNRS><CCSTMTRS><CURDEF>USD</CURDEF><BANKTRANLIST>
+              <STMTTRN><DTPOSTED>20260110</DTPOSTED><TRNAMT>-9.99</TRNAMT><FITID>C-1</FITID><NAME>Spotify</NAME></STMTTRN>
+            </BANKTRANLIST></CCSTMTRS></CCSTMTTRNRS></CREDITCARDMSGSRSV1></OFX>
+            """);
+
+        assertThat(sink.lines).singleElement().satisfies(line -> {
+            assertThat(line.currency()).isEqualTo("USD");
+            assertThat(line.description()).isEqualTo("Spotify");
+            assertThat(line.amount()).isEqualByComparingTo("-9.99");
+        });
+        assertThatThrownBy(() -> parse("Date,Description,Amount\n"))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private RecordingSink parse(String content) throws Exception {
+        RecordingSink sink = new RecordingSink();
+        parser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), sink);
+        return sink;
+    }
+}
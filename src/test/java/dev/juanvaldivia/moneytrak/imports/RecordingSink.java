@@ -0,0 +1,23 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sink collecting what a parser produced, for the parser tests.
+ */
+class RecordingSink implements StatementParser.Sink {
+
+    final List<StatementLine> lines = new ArrayList<>();
+    final List<String> rejections = new ArrayList<>();
+
+    @Override
+    public void accept(StatementLine line) {
+        lines.add(line);
+    }
+
+    @Override
+    public void reject(int position, String reason) {
+        rejections.add(position + ": " + reason);
+    }
+}
@@ -0,0 +1,85 @@
+package dev.juanvaldivia.moneytrak.imports;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for statement imports: validation, category resolution and idempotent re-imports.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class StatementImportControllerTest {
+
+    private static final String JANUARY = """
+        Date;Description;Amount
+        2026-01-05;Coffee Lab;-3,20
+        2026-01-05;Coffee Lab;-3,20
+        2026-01-06;Salary;2500,00
+        2026-01-07;Zero;0,00
+        """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void importStatement_shouldCreateValidLinesAndSkipThemOnReimport() throws Exception {
+        importCsv(JANUARY)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lines").value(4))
+            .andExpect(jsonPath("$.created").value(3))
+            .andExpect(jsonPath("$.alreadyImported").value(0))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.errors[0].position").value(5))
+            .andExpect(jsonPath("$.errors[0].reason").value("Amount must be positive"));
+
+        // Overlapping statement: the January lines are skipped, including both identical coffees
+        importCsv(JANUARY + "2026-01-08;Coffee Lab;-3,20\n")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.alreadyImported").value(3));
+
+        mockMvc.perform(get("/v1/transactions").param("size", "100"))
+            .andExpect(jsonPath("$.content[?(@.description == 'Coffee Lab')].id", hasSize(3)))
+            .andExpect(jsonPath("$.content[?(@.description == 'Salary')].type").value("INCOME"))
+            .andExpect(jsonPath("$.content[?(@.description == 'Salary')].categoryName").value("Others"));
+    }
+
+    @Test
+    void importStatement_withUnreadableFileOrMissingCurrency_shouldReportIt() throws Exception {
+        mockMvc.perform(multipart("/v1/imports").file(file("Fecha;Importe\n"))
+                .param("format", "CSV").param("currency", "EUR"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(multipart("/v1/imports").file(file(JANUARY)).param("format", "CSV"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(0))
+            .andExpect(jsonPath("$.rejected").value(4));
+    }
+
+    private ResultActions importCsv(String content) throws Exception {
+        return mockMvc.perform(multipart("/v1/imports").file(file(content))
+            .param("format", "CSV")
+            .param("currency", "EUR"));
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "statement.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for merchant resolution on transaction writes and per-merchant totals.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class MerchantControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void createTransaction_shouldLinkVariantsToOneMerchantAndTotalThem() throws Exception {
+        String first = create("AMAZON MKTPL*1A2B3", "20.00", "EUR", "2025-03-01");
+        String second = create("Amazon.com*9Z8", "5.50", "EUR", "2025-03-20");
+        create("Amazon.com*XYZ", "7.00", "USD", "2025-03-21");
+        create("Netflix.com", "12.99", "EUR", "2025-02-05");
+
+        String merchantId = JsonPath.read(first, "$.merchantId");
+        assertThat(merchantId).isNotNull();
+        assertThat((String) JsonPath.read(second, "$.merchantId")).isEqualTo(merchantId);
+        assertThat((String) JsonPath.read(second, "$.merchantName")).isEqualTo("Amazon");
+
+        mockMvc.perform(get("/v1/merchants/totals").param("from", "2025-03-01").param("to", "2025-03-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].merchantId").value(merchantId))
+            .andExpect(jsonPath("$[0].currency").value("EUR"))
+            .andExpect(jsonPath("$[0].total").value(25.50))
+            .andExpect(jsonPath("$[0].count").value(2))
+            .andExpect(jsonPath("$[1].currency").value("USD"));
+
+        mockMvc.perform(get("/v1/merchants"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[?(@.name == 'Netflix')]").isNotEmpty());
+    }
+
+    @Test
+    void updateTransaction_shouldFollowDescriptionChanges() throws Exception {
+        String created = create("Spotify P2A4B", "9.99", "EUR", "2025-03-01");
+        String id = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(put("/v1/transactions/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"Uber *TRIP 42\",\"version\":0}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.merchantName").value("Uber"));
+
+        mockMvc.perform(put("/v1/transactions/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"4521 0042\",\"version\":1}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.merchantId").doesNotExist());
+
+        mockMvc.perform(get("/v1/merchants/totals").param("from", "2025-03-31").param("to", "2025-03-01"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private String create(String description, String amount, String currency, String date) throws Exception {
+        return mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"description":"%s","amount":%s,"currency":"%s","date":"%sT10:00:00Z","type":"EXPENSE"}
+                    """.formatted(description, amount, currency, date)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,37 @@
+package dev.juanvaldivia.moneytrak.merchants;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the description to merchant normalization pipeline.
+ */
+class MerchantNormalizerTest {
+
+    @Test
+    void normalize_shouldStripReferenceCodesAndNoise() {
+        assertThat(MerchantNormalizer.normalize("AMAZON MKTPL*1A2B3"))
+            .contains(new MerchantNormalizer.MerchantName("amazon", "Amazon"));
+        assertThat(MerchantNormalizer.normalize("Amazon.com*9Z8"))
+            .contains(new MerchantNormalizer.MerchantName("amazon", "Amazon"));
+        assertThat(MerchantNormalizer.normalize("COMPRA TARJ. 4512 MERCADONA VALENCIA 0042 SA"))
+            .contains(new MerchantNormalizer.MerchantName("tarj mercadona valencia", "Tarj Mercadona Valencia"));
+    }
+
+    @Test
+    void normalize_shouldFoldAccentsInKeyButKeepThemInName() {
+        assertThat(MerchantNormalizer.normalize("Café  Nómada #12"))
+            .contains(new MerchantNormalizer.MerchantName("cafe nomada", "Café Nómada"));
+        assertThat(MerchantNormalizer.normalize("CAFE NOMADA"))
+            .map(MerchantNormalizer.MerchantName::key)
+            .contains("cafe nomada");
+    }
+
+    @Test
+    void normalize_withoutSignificantTokens_shouldBeEmpty() {
+        assertThat(MerchantNormalizer.normalize("*12345")).isEmpty();
+        assertThat(MerchantNormalizer.normalize("POS 0042 x")).isEmpty();
+        assertThat(MerchantNormalizer.normalize(null)).isEmpty();
+    }
+}
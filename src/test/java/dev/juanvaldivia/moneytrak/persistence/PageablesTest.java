@@ -0,0 +1,41 @@
+package dev.juanvaldivia.moneytrak.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the id tiebreaker appended to paginated scans.
+ */
+class PageablesTest {
+
+    @Test
+    void withIdTiebreaker_appendsIdInDirectionOfLastOrder() {
+        Pageable pageable = PageRequest.of(2, 20, Sort.by(Sort.Order.asc("name"), Sort.Order.desc("date")));
+
+        Pageable result = Pageables.withIdTiebreaker(pageable);
+
+        assertThat(result.getPageNumber()).isEqualTo(2);
+        assertThat(result.getPageSize()).isEqualTo(20);
+        assertThat(result.getSort()).containsExactly(
+            Sort.Order.asc("name"), Sort.Order.desc("date"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    void withIdTiebreaker_unsorted_sortsByIdAscending() {
+        Pageable result = Pageables.withIdTiebreaker(PageRequest.of(0, 10));
+
+        assertThat(result.getSort()).containsExactly(Sort.Order.asc("id"));
+    }
+
+    @Test
+    void withIdTiebreaker_alreadySortedById_isUnchanged() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+
+        assertThat(Pageables.withIdTiebreaker(pageable)).isSameAs(pageable);
+        assertThat(Pageables.withIdTiebreaker(Pageable.unpaged())).isEqualTo(Pageable.unpaged());
+    }
+}
@@ -0,0 +1,87 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for recurring series detection and marking series as FIXED.
+ * Not @Transactional: detection streams the ledger with plain JDBC, which only sees flushed rows.
+ * Other test classes share the database, so series are looked up by description.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class RecurringControllerTest {
+
+    private static final String GYM = "$[?(@.description == 'Gym Membership')]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void listAndApply_shouldDetectMonthlySeriesAndMarkItFixed() throws Exception {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<String> gym = new ArrayList<>();
+        for (int month = 4; month >= 1; month--) {
+            gym.add(fixtures.createExpense("Gym Membership", null, "39.90", "EUR",
+                today.minusMonths(month) + "T10:00:00Z"));
+        }
+        fixtures.createExpense("Hardware store", null, "12.00", "EUR", today.minusDays(40) + "T10:00:00Z");
+        fixtures.createExpense("Hardware store", null, "85.00", "EUR", today.minusDays(10) + "T10:00:00Z");
+
+        mockMvc.perform(get("/v1/recurring"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(GYM, hasSize(1)))
+            .andExpect(jsonPath("$[?(@.description == 'Hardware store')]", hasSize(0)))
+            .andExpect(jsonPath(GYM + ".cadence").value("MONTHLY"))
+            .andExpect(jsonPath(GYM + ".occurrences").value(4))
+            .andExpect(jsonPath(GYM + ".variableCount").value(4))
+            .andExpect(jsonPath(GYM + ".expectedNextDate").value(today.minusMonths(1).plusMonths(1).toString()))
+            .andExpect(jsonPath(GYM + ".expectedAmount").value(39.90))
+            .andExpect(jsonPath(GYM + ".active").value(true));
+
+        mockMvc.perform(post("/v1/recurring/apply"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.series", greaterThanOrEqualTo(1)))
+            .andExpect(jsonPath("$.updated", greaterThanOrEqualTo(4)));
+
+        for (String id : gym) {
+            mockMvc.perform(get("/v1/transactions/{id}", id))
+                .andExpect(jsonPath("$.stability").value("FIXED"))
+                .andExpect(jsonPath("$.version").value(1));
+        }
+        mockMvc.perform(get("/v1/recurring"))
+            .andExpect(jsonPath(GYM + ".variableCount").value(0));
+    }
+}
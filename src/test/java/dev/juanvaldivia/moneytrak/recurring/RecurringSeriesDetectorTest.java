@@ -0,0 +1,101 @@
+package dev.juanvaldivia.moneytrak.recurring;
+
+import dev.juanvaldivia.moneytrak.recurring.RecurringSeriesDetector.Group;
+import dev.juanvaldivia.moneytrak.recurring.RecurringSeriesDetector.Series;
+import dev.juanvaldivia.moneytrak.recurring.RecurringSeriesDetector.SeriesKey;
+import dev.juanvaldivia.moneytrak.transactions.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the cadence and amount stability rules of RecurringSeriesDetector.
+ */
+class RecurringSeriesDetectorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+    private static final SeriesKey KEY = new SeriesKey(UUID.randomUUID(), "EUR", TransactionType.EXPENSE, "netflix");
+
+    private final RecurringSeriesDetector detector = new RecurringSeriesDetector(mock(JdbcTemplate.class),
+        mock(PlatformTransactionManager.class), new RecurringDetectionProperties(3, 6, 0.8, 0.1, 1000),
+        Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+
+    @Test
+    void evaluate_shouldDetectMonthlySeriesDespiteUnevenMonthsAndOnePriceChange() {
+        Group group = new Group(6);
+        add(group, "2026-01-31", "12.99");
+        add(group, "2026-02-28", "12.99");
+        add(group, "2026-03-31", "12.99");
+        add(group, "2026-04-30", "12.99");
+        add(group, "2026-06-01", "15.99");
+
+        Optional<Series> series = detector.evaluate(KEY, group, TODAY);
+
+        assertThat(series).hasValueSatisfying(detected -> {
+            assertThat(detected.cadence()).isEqualTo(Cadence.MONTHLY);
+            assertThat(detected.occurrences()).isEqualTo(5);
+            assertThat(detected.variableCount()).isEqualTo(5);
+            assertThat(detected.expectedNextDate()).isEqualTo(LocalDate.of(2026, 7, 1));
+            assertThat(detected.expectedAmount()).isEqualByComparingTo("15.99");
+            assertThat(detected.active()).isTrue();
+        });
+    }
+
+    @Test
+    void evaluate_shouldDetectWeeklyAndYearlyAndFlagStoppedSeries() {
+        Group weekly = new Group(6);
+        for (int week = 0; week < 10; week++) {
+            add(weekly, LocalDate.of(2026, 1, 5).plusWeeks(week).toString(), "30.00");
+        }
+        Group yearly = new Group(6);
+        add(yearly, "2023-03-01", "420.00");
+        add(yearly, "2024-03-04", "431.50");
+        add(yearly, "2025-02-27", "440.00");
+
+        assertThat(detector.evaluate(KEY, weekly, TODAY)).hasValueSatisfying(detected -> {
+            assertThat(detected.cadence()).isEqualTo(Cadence.WEEKLY);
+            assertThat(detected.occurrences()).isEqualTo(10);
+            assertThat(detected.active()).isFalse();
+        });
+        assertThat(detector.evaluate(KEY, yearly, TODAY)).hasValueSatisfying(detected -> {
+            assertThat(detected.cadence()).isEqualTo(Cadence.YEARLY);
+            assertThat(detected.expectedNextDate()).isEqualTo(LocalDate.of(2026, 2, 27));
+            assertThat(detected.active()).isTrue();
+        });
+    }
+
+    @Test
+    void evaluate_shouldRejectIrregularDatesVaryingAmountsAndShortGroups() {
+        Group irregular = new Group(6);
+        add(irregular, "2026-01-02", "10.00");
+        add(irregular, "2026-01-20", "10.00");
+        add(irregular, "2026-03-01", "10.00");
+        add(irregular, "2026-03-09", "10.00");
+        Group varying = new Group(6);
+        add(varying, "2026-01-10", "35.00");
+        add(varying, "2026-02-10", "80.00");
+        add(varying, "2026-03-10", "52.00");
+        add(varying, "2026-04-10", "20.00");
+        Group tooShort = new Group(6);
+        add(tooShort, "2026-04-10", "9.99");
+        add(tooShort, "2026-05-10", "9.99");
+
+        assertThat(detector.evaluate(KEY, irregular, TODAY)).isEmpty();
+        assertThat(detector.evaluate(KEY, varying, TODAY)).isEmpty();
+        assertThat(detector.evaluate(KEY, tooShort, TODAY)).isEmpty();
+    }
+
+    private static void add(Group group, String date, String amount) {
+        group.add(UUID.randomUUID(), "Netflix", LocalDate.parse(date), new BigDecimal(amount), true);
+    }
+}
@@ -0,0 +1,46 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the multi-pattern matcher behind CONTAINS rules.
+ */
+class AhoCorasickTest {
+
+    @Test
+    void match_shouldReportOverlappingAndNestedKeywords() {
+        AhoCorasick automaton = AhoCorasick.compile(List.of("he", "she", "his", "hers"));
+        List<Integer> hits = new ArrayList<>();
+
+        automaton.match("ushers", hits::add);
+
+        // "she" and "he" end at the same position, then "hers"
+        assertThat(hits).containsExactlyInAnyOrder(1, 0, 3);
+    }
+
+    @Test
+    void match_withoutOccurrences_shouldReportNothing() {
+        AhoCorasick automaton = AhoCorasick.compile(List.of("netflix", "", "spotify"));
+        List<Integer> hits = new ArrayList<>();
+
+        automaton.match("amazon prime video", hits::add);
+        automaton.match("", hits::add);
+
+        assertThat(hits).isEmpty();
+    }
+
+    @Test
+    void match_shouldFollowFailureLinksAcrossPartialMatches() {
+        AhoCorasick automaton = AhoCorasick.compile(List.of("abcd", "bce", "c"));
+        List<Integer> hits = new ArrayList<>();
+
+        automaton.match("xabcex", hits::add);
+
+        assertThat(hits).containsExactly(2, 1);
+    }
+}
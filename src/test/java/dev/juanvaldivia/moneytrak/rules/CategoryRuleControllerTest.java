@@ -0,0 +1,139 @@
+package dev.juanvaldivia.moneytrak.rules;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for auto-categorization rules.
+ * Not @Transactional: rule changes only reach the engine and the re-apply job once they commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class CategoryRuleControllerTest {
+
+    private static final String DATE = "2025-01-15T10:00:00Z";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void rules_shouldClassifyNewTransactionsAndReapplyToOthers() throws Exception {
+        Category gas = categoryRepository.findByNameIgnoreCase("Gas").orElseThrow();
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        String existing = fixtures.createExpense("REPSOL station 42", null, "60.00", "EUR", DATE);
+
+        mockMvc.perform(get("/v1/transactions/{id}", existing))
+            .andExpect(jsonPath("$.categoryName").value("Others"));
+
+        fixtures.createRule(gas.getId().toString(), "repsol");
+        // Ranked ahead of the substring rule, but limited to large amounts
+        fixtures.createRule("{\"categoryId\":\"" + food.getId() + "\",\"matchType\":\"REGEX\","
+            + "\"pattern\":\"^repsol\\\\b\",\"minAmount\":100,\"priority\":10}");
+
+        // Background job moves the transaction created before the rules.
+        // Polled on this thread, which holds the mock user.
+        await().atMost(Duration.ofSeconds(10)).pollInSameThread().untilAsserted(() ->
+            mockMvc.perform(get("/v1/transactions/{id}", existing))
+                .andExpect(jsonPath("$.categoryName").value("Gas"))
+                .andExpect(jsonPath("$.version").value(1)));
+
+        String small = fixtures.createExpense("Repsol Madrid", null, "30.00", "EUR", DATE);
+        String large = fixtures.createExpense("repsol Madrid", null, "150.00", "EUR", DATE);
+        String unmatched = fixtures.createExpense("Cinema tickets", null, "150.00", "EUR", DATE);
+
+        mockMvc.perform(get("/v1/transactions/{id}", small)).andExpect(jsonPath("$.categoryName").value("Gas"));
+        mockMvc.perform(get("/v1/transactions/{id}", large)).andExpect(jsonPath("$.categoryName").value("Food & Drinks"));
+        mockMvc.perform(get("/v1/transactions/{id}", unmatched)).andExpect(jsonPath("$.categoryName").value("Others"));
+    }
+
+    @Test
+    void crud_shouldListInEvaluationOrderAndEnforceVersion() throws Exception {
+        Category gas = categoryRepository.findByNameIgnoreCase("Gas").orElseThrow();
+        String late = fixtures.createRule(
+            "{\"categoryId\":\"" + gas.getId() + "\",\"pattern\":\"shell\",\"priority\":200}");
+        String early = fixtures.createRule(
+            "{\"categoryId\":\"" + gas.getId() + "\",\"currency\":\"USD\",\"priority\":5}");
+
+        mockMvc.perform(get("/v1/rules"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value(early))
+            .andExpect(jsonPath("$[0].matchType").value("CONTAINS"))
+            .andExpect(jsonPath("$[1].id").value(late))
+            .andExpect(jsonPath("$[1].categoryName").value("Gas"));
+
+        mockMvc.perform(put("/v1/rules/{id}", late)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priority\":1,\"version\":0}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.priority").value(1))
+            .andExpect(jsonPath("$.pattern").value("shell"))
+            .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(put("/v1/rules/{id}", late)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"priority\":2,\"version\":0}"))
+            .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/v1/rules/{id}", late))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.priority").value(1));
+    }
+
+    @Test
+    void createRule_withInvalidDefinition_shouldReturn400Or404() throws Exception {
+        Category gas = categoryRepository.findByNameIgnoreCase("Gas").orElseThrow();
+
+        mockMvc.perform(post("/v1/rules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":\"" + gas.getId() + "\"}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/v1/rules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":\"" + gas.getId() + "\",\"matchType\":\"REGEX\",\"pattern\":\"(unclosed\"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("regular expression")));
+        mockMvc.perform(post("/v1/rules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":\"" + gas.getId() + "\",\"minAmount\":50,\"maxAmount\":10}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/v1/rules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":\"00000000-0000-0000-0000-000000000001\",\"pattern\":\"x\"}"))
+            .andExpect(status().isNotFound());
+    }
+}
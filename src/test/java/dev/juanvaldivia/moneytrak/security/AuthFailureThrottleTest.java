@@ -0,0 +1,134 @@
+package dev.juanvaldivia.moneytrak.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AuthFailureThrottle sliding-window counting, expiry and memory bounds.
+ */
+class AuthFailureThrottleTest {
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthFailureThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-15T12:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new AuthFailureThrottle(
+            new SecurityProperties.Throttle(true, Duration.ofMinutes(5), 5, 3, 100, ""), meterRegistry, clock);
+    }
+
+    @Test
+    void check_belowLimits_shouldAllow() {
+        throttle.recordFailure("10.0.0.1", "alice");
+        throttle.recordFailure("10.0.0.1", "alice");
+
+        assertThat(throttle.check("10.0.0.1", "alice")).isEmpty();
+    }
+
+    @Test
+    void check_afterUsernameLimit_shouldRejectFromAnyIp() {
+        throttle.recordFailure("10.0.0.1", "alice");
+        throttle.recordFailure("10.0.0.2", "Alice");
+        throttle.recordFailure("10.0.0.3", "ALICE");
+
+        assertThat(throttle.check("10.0.0.4", "alice"))
+            .hasValueSatisfying(rejection -> assertThat(rejection.scope()).isEqualTo(AuthFailureThrottle.Scope.USERNAME));
+        assertThat(throttle.check("10.0.0.4", "bob")).isEmpty();
+    }
+
+    @Test
+    void check_afterIpLimit_shouldRejectAnyUsername() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("10.0.0.1", "user" + i);
+        }
+
+        assertThat(throttle.check("10.0.0.1", "someone-else"))
+            .hasValueSatisfying(rejection -> assertThat(rejection.scope()).isEqualTo(AuthFailureThrottle.Scope.IP));
+        assertThat(meterRegistry.get("moneytrak.auth.throttled").tag("scope", "ip").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void check_failuresSlideOutOfWindow_shouldAllowAgain() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("10.0.0.1", "alice");
+        }
+        assertThat(throttle.check("10.0.0.1", "alice")).isPresent();
+
+        // Half a window later the previous window still weighs 50%: 3 * 0.5 = 1.5 < 3
+        clock.advance(Duration.ofMinutes(7).plusSeconds(30));
+
+        assertThat(throttle.check("10.0.0.1", "alice")).isEmpty();
+    }
+
+    @Test
+    void closeWindow_shouldEvictIdleCounters() {
+        throttle.recordFailure("10.0.0.1", "alice");
+        clock.advance(Duration.ofMinutes(10));
+
+        throttle.closeWindow();
+
+        assertThat(meterRegistry.get("moneytrak.auth.throttle.tracked").tag("scope", "ip").gauge().value()).isZero();
+        assertThat(meterRegistry.get("moneytrak.auth.throttle.tracked").tag("scope", "username").gauge().value()).isZero();
+    }
+
+    @Test
+    void recordFailure_beyondMaxTrackedKeys_shouldNotGrowMemory() {
+        for (int i = 0; i < 250; i++) {
+            throttle.recordFailure("10.0.%d.%d".formatted(i / 256, i % 256), null);
+        }
+
+        assertThat(meterRegistry.get("moneytrak.auth.throttle.tracked").tag("scope", "ip").gauge().value())
+            .isEqualTo(100.0);
+        assertThat(meterRegistry.get("moneytrak.auth.failures").counter().count()).isEqualTo(250.0);
+    }
+
+    @Test
+    void check_whenDisabled_shouldAlwaysAllow() {
+        AuthFailureThrottle disabled = new AuthFailureThrottle(
+            new SecurityProperties.Throttle(false, Duration.ofMinutes(5), 1, 1, 100, ""), new SimpleMeterRegistry(), clock);
+
+        disabled.recordFailure("10.0.0.1", "alice");
+
+        assertThat(disabled.check("10.0.0.1", "alice")).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
@@ -327,6 +328,12 @@ class SecurityIntegrationTest {
                     .andExpect(status().isOk());
         }
 
+        @Test
+        void readinessProbe_noAuth_returns200() throws Exception {
+            mockMvc.perform(get("/actuator/health/readiness"))
+                    .andExpect(status().isOk());
+        }
+
         @Test
         void actuatorInfo_noAuth_returns401() throws Exception {
             mockMvc.perform(get("/actuator/info"))
@@ -360,6 +367,90 @@ class SecurityIntegrationTest {
         }
     }
 
+    // ========================================================================
+    // Brute-force throttling of failed authentication attempts
+    // ========================================================================
+
+    @Nested
+    class BruteForceThrottling {
+
+        @Test
+        void repeatedFailuresForUsername_thenRejectedWith429BeforeAuthentication() throws Exception {
+            for (int i = 0; i < 10; i++) {
+                mockMvc.perform(get("/v1/transactions")
+                                .with(httpBasic("throttled-user", "bad-password"))
+                                .with(remoteAddr("10.20.0." + i)))
+                        .andExpect(status().isUnauthorized());
+            }
+
+            mockMvc.perform(get("/v1/transactions")
+                            .with(httpBasic("throttled-user", "bad-password"))
+                            .with(remoteAddr("10.20.1.1")))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists("Retry-After"))
+                    .andExpect(jsonPath("$.status").value(429))
+                    .andExpect(jsonPath("$.error").value("TooManyRequests"));
+        }
+
+        @Test
+        void repeatedFailuresFromIp_thenValidCredentialsFromSameIpRejected() throws Exception {
+            for (int i = 0; i < 20; i++) {
+                mockMvc.perform(get("/v1/transactions")
+                                .with(httpBasic("spray-" + i, "bad-password"))
+                                .with(remoteAddr("10.30.0.1")))
+                        .andExpect(status().isUnauthorized());
+            }
+
+            mockMvc.perform(get("/v1/transactions")
+                            .with(httpBasic("admin", "admin"))
+                            .with(remoteAddr("10.30.0.1")))
+                    .andExpect(status().isTooManyRequests());
+
+            mockMvc.perform(get("/v1/transactions")
+                            .with(httpBasic("admin", "admin"))
+                            .with(remoteAddr("10.30.0.2")))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        void failuresBehindProxy_areCountedPerForwardedClientIp() throws Exception {
+            for (int i = 0; i < 20; i++) {
+                mockMvc.perform(get("/v1/transactions")
+                                .with(httpBasic("proxied-" + i, "bad-password"))
+                                .with(remoteAddr("172.16.0.1"))
+                                .header("Fly-Client-IP", "203.0.113.10"))
+                        .andExpect(status().isUnauthorized());
+            }
+
+            mockMvc.perform(get("/v1/transactions")
+                            .with(httpBasic("admin", "admin"))
+                            .with(remoteAddr("172.16.0.1"))
+                            .header("Fly-Client-IP", "203.0.113.10"))
+                    .andExpect(status().isTooManyRequests());
+
+            // Same proxy connection, another client
+            mockMvc.perform(get("/v1/transactions")
+                            .with(httpBasic("admin", "admin"))
+                            .with(remoteAddr("172.16.0.1"))
+                            .header("Fly-Client-IP", "203.0.113.20"))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        void requestsWithoutCredentials_areNeverThrottled() throws Exception {
+            mockMvc.perform(get("/actuator/health")
+                            .with(remoteAddr("10.30.0.1")))
+                    .andExpect(status().isOk());
+        }
+
+        private RequestPostProcessor remoteAddr(String ip) {
+            return request -> {
+                request.setRemoteAddr(ip);
+                return request;
+            };
+        }
+    }
+
     // ========================================================================
     // Portfolio Readings Security Tests
     // ========================================================================
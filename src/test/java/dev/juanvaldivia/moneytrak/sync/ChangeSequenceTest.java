@@ -0,0 +1,75 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChangeSequence covering seeding and the in-flight watermark.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeSequenceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChangeSequence changeSequence;
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        when(jdbcTemplate.queryForObject(contains("transactions"), eq(Long.class))).thenReturn(41L);
+        changeSequence = new ChangeSequence(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void next_shouldContinueFromHighestStoredSequence() {
+        assertThat(changeSequence.next()).isEqualTo(42);
+        assertThat(changeSequence.next()).isEqualTo(43);
+        assertThat(changeSequence.watermark()).isEqualTo(43);
+        verify(jdbcTemplate, times(5)).queryForObject(anyString(), eq(Long.class));
+    }
+
+    @Test
+    void watermark_shouldStayBelowSequencesOfUncommittedTransactions() {
+        TransactionSynchronizationManager.initSynchronization();
+        long first = changeSequence.next();
+        List<TransactionSynchronization> firstTransaction = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        changeSequence.next();
+        List<TransactionSynchronization> secondTransaction = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(changeSequence.watermark()).isEqualTo(first - 1);
+
+        // Later transaction commits first: the watermark must not pass the earlier one
+        secondTransaction.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(changeSequence.watermark()).isEqualTo(first - 1);
+
+        firstTransaction.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(changeSequence.watermark()).isEqualTo(first + 1);
+    }
+}
@@ -0,0 +1,184 @@
+package dev.juanvaldivia.moneytrak.sync;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import dev.juanvaldivia.moneytrak.accounts.AccountRepository;
+import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.readings.ReadingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for Sync Controller.
+ * Not @Transactional: change sequences only become visible to sync once their transaction commits,
+ * so every write here is committed and cleaned up afterwards.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class SyncControllerTest {
+
+    private static final String DATE = "2026-01-15T10:00:00Z";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadingRepository readingRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    private ApiFixtures fixtures;
+    private String others;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+        others = categoryRepository.findByNameIgnoreCase("Others").orElseThrow().getId().toString();
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        // Through the API, so the in-memory counters and indexes see the deletions too
+        fixtures.cleanUp();
+        readingRepository.deleteAll();
+        accountRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+    }
+
+    private String currentToken() throws Exception {
+        String body = mockMvc.perform(get("/v1/sync").param("limit", "1000"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        assertThat(JsonPath.<Boolean>read(body, "$.hasMore")).isFalse();
+        return JsonPath.read(body, "$.nextToken");
+    }
+
+    @Test
+    void sync_withoutToken_shouldReturnCurrentStateOfAllEntities() throws Exception {
+        String id = fixtures.createExpense("Coffee", others, "12.50", "EUR", DATE);
+
+        mockMvc.perform(get("/v1/sync").param("limit", "1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes[?(@.type == 'TRANSACTION')].id", hasItem(id)))
+            .andExpect(jsonPath("$.changes[?(@.type == 'CATEGORY')]", hasSize(greaterThanOrEqualTo(15))))
+            .andExpect(jsonPath("$.changes[?(@.deleted == true)]", empty()))
+            .andExpect(jsonPath("$.hasMore").value(false))
+            .andExpect(jsonPath("$.nextToken").isString());
+    }
+
+    @Test
+    void sync_withToken_shouldReturnOnlyLaterChangesInSequenceOrder() throws Exception {
+        fixtures.createExpense("Before token", others, "12.50", "EUR", DATE);
+        String token = currentToken();
+
+        String created = fixtures.createExpense("After token", others, "12.50", "EUR", DATE);
+        fixtures.createCategory("Sync Test");
+
+        String body = mockMvc.perform(get("/v1/sync").param("since", token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(2)))
+            .andExpect(jsonPath("$.changes[0].type").value("TRANSACTION"))
+            .andExpect(jsonPath("$.changes[0].id").value(created))
+            .andExpect(jsonPath("$.changes[0].data.description").value("After token"))
+            .andExpect(jsonPath("$.changes[1].type").value("CATEGORY"))
+            .andExpect(jsonPath("$.changes[1].data.name").value("Sync Test"))
+            .andReturn().getResponse().getContentAsString();
+
+        List<Integer> sequences = JsonPath.read(body, "$.changes[*].sequence");
+        assertThat(sequences).isSorted();
+
+        mockMvc.perform(get("/v1/sync").param("since", JsonPath.<String>read(body, "$.nextToken")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", empty()));
+    }
+
+    @Test
+    void sync_afterDelete_shouldReturnTombstone() throws Exception {
+        String id = fixtures.createExpense("To delete", others, "12.50", "EUR", DATE);
+        String token = currentToken();
+
+        mockMvc.perform(delete("/v1/transactions/{id}", id))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/v1/sync").param("since", token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(1)))
+            .andExpect(jsonPath("$.changes[0].type").value("TRANSACTION"))
+            .andExpect(jsonPath("$.changes[0].id").value(id))
+            .andExpect(jsonPath("$.changes[0].deleted").value(true))
+            .andExpect(jsonPath("$.changes[0].data").value(nullValue()));
+    }
+
+    @Test
+    void sync_withLimit_shouldPageThroughChanges() throws Exception {
+        String token = currentToken();
+        String first = fixtures.createExpense("One", others, "12.50", "EUR", DATE);
+        String second = fixtures.createExpense("Two", others, "12.50", "EUR", DATE);
+        String third = fixtures.createExpense("Three", others, "12.50", "EUR", DATE);
+
+        String page = mockMvc.perform(get("/v1/sync").param("since", token).param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes[*].id", contains(first, second)))
+            .andExpect(jsonPath("$.hasMore").value(true))
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/v1/sync").param("since", JsonPath.<String>read(page, "$.nextToken")).param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes[*].id", contains(third)))
+            .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void sync_withMalformedToken_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/v1/sync").param("since", "not-a-token"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("BadRequest"));
+    }
+
+    @Test
+    void sync_withInvalidLimit_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/v1/sync").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void sync_withTokenOlderThanHorizon_shouldReturn410() throws Exception {
+        String expired = new SyncToken(1, Instant.now().minus(Duration.ofDays(31))).encode();
+
+        mockMvc.perform(get("/v1/sync").param("since", expired))
+            .andExpect(status().isGone())
+            .andExpect(jsonPath("$.error").value("Gone"));
+    }
+
+    @Test
+    @WithMockUser(roles = "APP")
+    void sync_asAppClient_shouldBeAllowed() throws Exception {
+        mockMvc.perform(get("/v1/sync"))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,63 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import dev.juanvaldivia.moneytrak.transactions.DescriptionSuggestionIndex.Suggestion;
+import dev.juanvaldivia.moneytrak.transactions.DescriptionSuggestionIndex.Use;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for DescriptionSuggestionIndex covering lookup and incremental maintenance.
+ */
+class DescriptionSuggestionIndexTest {
+
+    private final DescriptionSuggestionIndex index = new DescriptionSuggestionIndex(mock(JdbcTemplate.class));
+
+    private final UUID food = UUID.randomUUID();
+    private final UUID others = UUID.randomUUID();
+
+    @Test
+    void suggest_shouldMergeNormalizedDescriptionsAndRankByFrequency() {
+        index.apply(UUID.randomUUID(), new Use("Coffee  Shop", food, new BigDecimal("3.20"), "EUR", 0));
+        index.apply(UUID.randomUUID(), new Use("coffee shop ", food, new BigDecimal("3.20"), "EUR", 0));
+        index.apply(UUID.randomUUID(), new Use("Coffee shop", others, new BigDecimal("4.00"), "EUR", 0));
+        index.apply(UUID.randomUUID(), new Use("Coffee beans", food, new BigDecimal("9.00"), "EUR", 0));
+        index.apply(UUID.randomUUID(), new Use("Cinema", others, new BigDecimal("12.00"), "EUR", 0));
+
+        List<Suggestion> suggestions = index.suggest("  COF", 10);
+
+        assertThat(suggestions).extracting(Suggestion::description).containsExactly("Coffee shop", "Coffee beans");
+        Suggestion top = suggestions.getFirst();
+        assertThat(top.frequency()).isEqualTo(3);
+        assertThat(top.categoryId()).isEqualTo(food);
+        assertThat(top.amount()).isEqualByComparingTo("3.20");
+        assertThat(index.suggest("coffee s", 10)).hasSize(1);
+        assertThat(index.suggest("c", 1)).extracting(Suggestion::description).containsExactly("Coffee shop");
+        assertThat(index.suggest("tea", 10)).isEmpty();
+    }
+
+    @Test
+    void apply_shouldMoveUpdatedTransactionsIgnoreStaleReadsAndDropUnusedDescriptions() {
+        UUID id = UUID.randomUUID();
+        index.apply(id, new Use("Gym", others, new BigDecimal("30.00"), "EUR", 0));
+        index.apply(id, new Use("Gym membership", food, new BigDecimal("35.00"), "EUR", 1));
+        index.apply(id, new Use("Gym", others, new BigDecimal("30.00"), "EUR", 0));
+
+        assertThat(index.suggest("gym", 10)).singleElement().satisfies(suggestion -> {
+            assertThat(suggestion.description()).isEqualTo("Gym membership");
+            assertThat(suggestion.frequency()).isEqualTo(1);
+            assertThat(suggestion.categoryId()).isEqualTo(food);
+        });
+
+        index.apply(id, null);
+
+        assertThat(index.suggest("gym", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
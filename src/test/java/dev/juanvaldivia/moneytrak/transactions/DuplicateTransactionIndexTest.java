@@ -0,0 +1,86 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import dev.juanvaldivia.moneytrak.transactions.DuplicateTransactionIndex.Entry;
+import dev.juanvaldivia.moneytrak.transactions.DuplicateTransactionIndex.Match;
+import dev.juanvaldivia.moneytrak.transactions.DuplicateTransactionIndex.Pair;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for DuplicateTransactionIndex covering blocking, similarity and incremental maintenance.
+ */
+class DuplicateTransactionIndexTest {
+
+    private static final ZonedDateTime DAY = ZonedDateTime.parse("2026-03-10T09:00:00Z");
+
+    private final DuplicateTransactionIndex index = new DuplicateTransactionIndex(mock(JdbcTemplate.class),
+        new DuplicateDetectionProperties(Duration.ofDays(3), 0.7));
+
+    @Test
+    void findDuplicates_shouldMatchNearIdenticalDescriptionsWithinBlockAndWindow() {
+        UUID original = add("Mercadona Valencia centro", "42.10", DAY, TransactionType.EXPENSE);
+        add("Mercadona Valencia centro", "42.11", DAY, TransactionType.EXPENSE);
+        add("Mercadona Valencia centro", "42.10", DAY.plusDays(5), TransactionType.EXPENSE);
+        add("Mercadona Valencia centro", "42.10", DAY, TransactionType.INCOME);
+        add("Petrol station", "42.10", DAY, TransactionType.EXPENSE);
+
+        assertThat(index.findDuplicates("MERCADONA  valencia centro.", new BigDecimal("42.1"), "EUR",
+            DAY.plusDays(1), TransactionType.EXPENSE))
+            .singleElement()
+            .satisfies(match -> {
+                assertThat(match.id()).isEqualTo(original);
+                assertThat(match.similarity()).isEqualTo(1.0);
+            });
+        assertThat(index.findDuplicates("Mercadona Valencia centro", new BigDecimal("42.10"), "USD",
+            DAY, TransactionType.EXPENSE)).isEmpty();
+        assertThat(index.findDuplicates("Cinema tickets", new BigDecimal("42.10"), "EUR",
+            DAY, TransactionType.EXPENSE)).isEmpty();
+    }
+
+    @Test
+    void findPairs_shouldReportEachPairOnceWithTheLaterTransactionFirst() {
+        UUID first = add("Netflix subscription", "12.99", DAY, TransactionType.EXPENSE);
+        UUID second = add("NETFLIX subscription", "12.99", DAY.plusDays(1), TransactionType.EXPENSE);
+        add("Netflix subscription", "12.99", DAY.plusMonths(1), TransactionType.EXPENSE);
+
+        assertThat(index.findPairs(10)).singleElement().satisfies(pair -> {
+            assertThat(pair.id()).isEqualTo(second);
+            assertThat(pair.duplicateOf()).isEqualTo(first);
+        });
+        assertThat(index.findPairs(10)).extracting(Pair::similarity).containsExactly(1.0);
+    }
+
+    @Test
+    void apply_shouldMoveUpdatedTransactionsIgnoreStaleReadsAndForgetDeletedOnes() {
+        UUID id = add("Gym membership", "30.00", DAY, TransactionType.EXPENSE);
+        index.apply(id, Entry.of(id, "Gym membership", new BigDecimal("35.00"), "EUR", DAY,
+            TransactionType.EXPENSE, 1));
+        index.apply(id, Entry.of(id, "Gym membership", new BigDecimal("30.00"), "EUR", DAY,
+            TransactionType.EXPENSE, 0));
+
+        assertThat(index.findDuplicates("Gym membership", new BigDecimal("30.00"), "EUR", DAY, TransactionType.EXPENSE))
+            .isEmpty();
+        assertThat(index.findDuplicates("Gym membership", new BigDecimal("35.00"), "EUR", DAY, TransactionType.EXPENSE))
+            .extracting(Match::id).containsExactly(id);
+
+        index.apply(id, null);
+
+        assertThat(index.findDuplicates("Gym membership", new BigDecimal("35.00"), "EUR", DAY, TransactionType.EXPENSE))
+            .isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    private UUID add(String description, String amount, ZonedDateTime date, TransactionType type) {
+        UUID id = UUID.randomUUID();
+        index.apply(id, Entry.of(id, description, new BigDecimal(amount), "EUR", date, type, 0));
+        return id;
+    }
+}
@@ -1,9 +1,17 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
+import dev.juanvaldivia.moneytrak.analytics.ColumnarTransactionStore;
 import dev.juanvaldivia.moneytrak.categories.Category;
 import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
+import dev.juanvaldivia.moneytrak.categories.CategoryTree;
+import dev.juanvaldivia.moneytrak.events.EntityChangedEvent;
 import dev.juanvaldivia.moneytrak.exception.ConflictException;
 import dev.juanvaldivia.moneytrak.exception.NotFoundException;
+import dev.juanvaldivia.moneytrak.merchants.MerchantDictionary;
+import dev.juanvaldivia.moneytrak.persistence.PartialUpdate;
+import dev.juanvaldivia.moneytrak.rules.CategoryRuleEngine;
+import dev.juanvaldivia.moneytrak.sync.SyncEntityType;
+import dev.juanvaldivia.moneytrak.sync.SyncService;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionCreationDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionUpdateDto;
@@ -14,10 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
@@ -29,6 +39,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,6 +57,39 @@ class LocalTransactionServiceTest {
     @Mock
     private TransactionMapper mapper;
 
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PartialUpdate partialUpdate;
+
+    @Mock
+    private ColumnarTransactionStore analyticsStore;
+
+    @Mock
+    private TransactionSearchRepository searchRepository;
+
+    @Mock
+    private DescriptionSuggestionIndex suggestionIndex;
+
+    @Mock
+    private CategoryRuleEngine ruleEngine;
+
+    @Mock
+    private MerchantDictionary merchants;
+
+    @Mock
+    private DuplicateTransactionIndex duplicateIndex;
+
+    @Mock
+    private TransactionFiguresRecorder figures;
+
+    @Mock
+    private CategoryTree categoryTree;
+
     @InjectMocks
     private LocalTransactionService service;
 
@@ -70,7 +114,7 @@ class LocalTransactionServiceTest {
             ZonedDateTime.now().minusDays(1), TransactionType.EXPENSE, TransactionStability.VARIABLE, othersCategory);
         TransactionDto expectedDto = new TransactionDto(UUID.randomUUID(), "Lunch", new BigDecimal("10.00"),
             "EUR", ZonedDateTime.now(), TransactionType.EXPENSE, TransactionStability.VARIABLE,
-            null, "Others", 0, ZonedDateTime.now(), ZonedDateTime.now());
+            null, "Others", null, null, 0, ZonedDateTime.now(), ZonedDateTime.now());
 
         when(categoryRepository.findByNameIgnoreCase("Others")).thenReturn(Optional.of(othersCategory));
         when(mapper.toEntity(dto, othersCategory)).thenReturn(entity);
@@ -83,6 +127,27 @@ class LocalTransactionServiceTest {
         verify(categoryRepository).findByNameIgnoreCase("Others");
     }
 
+    @Test
+    void createTransaction_withNoCategoryIdAndMatchingRule_shouldUseRuleCategory() {
+        UUID categoryId = UUID.randomUUID();
+        TransactionCreationDto dto = new TransactionCreationDto(
+            "MERCADONA 1234", new BigDecimal("42.10"), "EUR",
+            ZonedDateTime.now().minusDays(1), TransactionType.EXPENSE, null, null
+        );
+        Transaction entity = Transaction.create("MERCADONA 1234", new BigDecimal("42.10"), "EUR",
+            ZonedDateTime.now().minusDays(1), TransactionType.EXPENSE, TransactionStability.VARIABLE, foodCategory);
+
+        when(ruleEngine.classify("MERCADONA 1234", new BigDecimal("42.10"), "EUR")).thenReturn(Optional.of(categoryId));
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(foodCategory));
+        when(mapper.toEntity(dto, foodCategory)).thenReturn(entity);
+        when(transactionRepository.save(entity)).thenReturn(entity);
+
+        service.createTransaction(dto);
+
+        verify(mapper).toEntity(dto, foodCategory);
+        verify(categoryRepository, never()).findByNameIgnoreCase("Others");
+    }
+
     @Test
     void createTransaction_withValidCategoryId_shouldUseSpecifiedCategory() {
         UUID categoryId = UUID.randomUUID();
@@ -94,7 +159,7 @@ class LocalTransactionServiceTest {
             ZonedDateTime.now().minusDays(1), TransactionType.EXPENSE, TransactionStability.VARIABLE, foodCategory);
         TransactionDto expectedDto = new TransactionDto(UUID.randomUUID(), "Groceries", new BigDecimal("50.00"),
             "EUR", ZonedDateTime.now(), TransactionType.EXPENSE, TransactionStability.VARIABLE,
-            categoryId, "Food & Drinks", 0, ZonedDateTime.now(), ZonedDateTime.now());
+            categoryId, "Food & Drinks", null, null, 0, ZonedDateTime.now(), ZonedDateTime.now());
 
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(foodCategory));
         when(mapper.toEntity(dto, foodCategory)).thenReturn(entity);
@@ -142,7 +207,7 @@ class LocalTransactionServiceTest {
     @Test
     void listTransactions_withNoCategoryIdFilter_shouldNotValidateCategory() {
         Pageable pageable = PageRequest.of(0, 20);
-        when(transactionRepository.findByFilters(null, null, pageable))
+        when(transactionRepository.findByFilters(null, null, PageRequest.of(0, 20, Sort.by("id"))))
             .thenReturn(Page.empty());
 
         service.listTransactions(null, null, pageable);
@@ -165,17 +230,35 @@ class LocalTransactionServiceTest {
     @Test
     void listTransactions_withValidFilters_shouldDelegateToRepository() {
         UUID categoryId = UUID.randomUUID();
-        Pageable pageable = PageRequest.of(0, 20);
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "date"));
+        // The id (UUIDv7) is appended as a tiebreaker in the direction of the last order
+        Pageable tieBroken = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "date", "id"));
         Page<Transaction> emptyPage = new PageImpl<>(List.of());
 
         when(categoryRepository.existsById(categoryId)).thenReturn(true);
-        when(transactionRepository.findByFilters(categoryId, TransactionStability.FIXED, pageable))
+        when(transactionRepository.findByFilters(categoryId, TransactionStability.FIXED, tieBroken))
             .thenReturn(emptyPage);
 
         Page<TransactionDto> result = service.listTransactions(categoryId, TransactionStability.FIXED, pageable);
 
         assertThat(result.getTotalElements()).isZero();
-        verify(transactionRepository).findByFilters(categoryId, TransactionStability.FIXED, pageable);
+        verify(transactionRepository).findByFilters(categoryId, TransactionStability.FIXED, tieBroken);
+    }
+
+    @Test
+    void listTransactions_withAnalyticsStoreReady_shouldTakeTotalFromStore() {
+        Pageable pageable = PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "date"));
+        Pageable tieBroken = PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "date", "id"));
+
+        when(analyticsStore.isReady()).thenReturn(true);
+        when(analyticsStore.count(null, TransactionStability.VARIABLE)).thenReturn(45L);
+        when(transactionRepository.findPageByFilters(null, TransactionStability.VARIABLE, tieBroken))
+            .thenReturn(List.of());
+
+        Page<TransactionDto> result = service.listTransactions(null, TransactionStability.VARIABLE, pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(45);
+        verify(transactionRepository, never()).findByFilters(any(), any(), any());
     }
 
     // ======================== updateTransaction ========================
@@ -196,6 +279,73 @@ class LocalTransactionServiceTest {
             .hasMessageContaining("Version mismatch");
     }
 
+    @Test
+    void updateTransaction_withMatchingVersion_shouldUpdateInSingleStatement() {
+        UUID txId = UUID.randomUUID();
+        Transaction updated = Transaction.create("New", new BigDecimal("12.00"), "EUR",
+            ZonedDateTime.now().minusDays(1), TransactionType.EXPENSE, TransactionStability.VARIABLE, othersCategory);
+        TransactionUpdateDto dto = new TransactionUpdateDto(
+            "New", new BigDecimal("12.00"), null, null, null, null, null, 0
+        );
+        TransactionDto expectedDto = new TransactionDto(txId, "New", new BigDecimal("12.00"),
+            "EUR", ZonedDateTime.now(), TransactionType.EXPENSE, TransactionStability.VARIABLE,
+            null, "Others", null, null, 1, ZonedDateTime.now(), ZonedDateTime.now());
+
+        when(partialUpdate.update(eq(Transaction.class), eq(txId), eq(0), any(PartialUpdate.Changes.class), isNull()))
+            .thenAnswer(invocation -> {
+                PartialUpdate.Changes changes = invocation.getArgument(3);
+                // A new description also re-resolves the merchant
+                assertThat(changes.values()).containsOnlyKeys("description", "amount", "merchantId");
+                return 1;
+            });
+        when(transactionRepository.findWithCategoryById(txId)).thenReturn(Optional.of(updated));
+        when(mapper.toDto(updated)).thenReturn(expectedDto);
+
+        TransactionDto result = service.updateTransaction(txId, dto);
+
+        assertThat(result).isEqualTo(expectedDto);
+        verify(transactionRepository, never()).findById(any());
+        verify(transactionRepository, never()).save(any());
+        verify(figures).lock(txId);
+    }
+
+    @Test
+    void updateTransaction_withoutFigureChanges_shouldNotLockRow() {
+        UUID txId = UUID.randomUUID();
+        Transaction updated = Transaction.create("Old", new BigDecimal("10.00"), "EUR",
+            ZonedDateTime.now().minusDays(1), TransactionType.EXPENSE, TransactionStability.FIXED, othersCategory);
+        TransactionUpdateDto dto = new TransactionUpdateDto(
+            null, null, null, null, null, TransactionStability.FIXED, null, 0
+        );
+
+        when(partialUpdate.update(eq(Transaction.class), eq(txId), eq(0), any(PartialUpdate.Changes.class), isNull()))
+            .thenReturn(1);
+        when(transactionRepository.findWithCategoryById(txId)).thenReturn(Optional.of(updated));
+
+        service.updateTransaction(txId, dto);
+
+        verify(figures, never()).lock(any());
+        verify(figures, never()).record(any(), any());
+    }
+
+    @Test
+    void updateTransaction_withMissingCategory_shouldThrowNotFound() {
+        UUID txId = UUID.randomUUID();
+        UUID missingCategoryId = UUID.randomUUID();
+        Transaction existing = Transaction.create("Old", new BigDecimal("10.00"), "EUR",
+            ZonedDateTime.now().minusDays(1), TransactionType.EXPENSE, TransactionStability.VARIABLE, othersCategory);
+        TransactionUpdateDto dto = new TransactionUpdateDto(
+            null, null, null, null, null, null, missingCategoryId, 0
+        );
+
+        when(transactionRepository.findById(txId)).thenReturn(Optional.of(existing));
+        when(categoryRepository.existsById(missingCategoryId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.updateTransaction(txId, dto))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining(missingCategoryId.toString());
+    }
+
     @Test
     void updateTransaction_withNonExistentId_shouldThrowNotFound() {
         UUID nonExistentId = UUID.randomUUID();
@@ -216,7 +366,7 @@ class LocalTransactionServiceTest {
     void deleteTransaction_withNonExistentId_shouldThrowNotFound() {
         UUID nonExistentId = UUID.randomUUID();
 
-        when(transactionRepository.existsById(nonExistentId)).thenReturn(false);
+        when(figures.delete(nonExistentId)).thenReturn(null);
 
         assertThatThrownBy(() -> service.deleteTransaction(nonExistentId))
             .isInstanceOf(NotFoundException.class)
@@ -227,10 +377,35 @@ class LocalTransactionServiceTest {
     void deleteTransaction_withExistingId_shouldDelegate() {
         UUID txId = UUID.randomUUID();
 
-        when(transactionRepository.existsById(txId)).thenReturn(true);
+        TransactionFigures deleted = new TransactionFigures(UUID.randomUUID(), "EUR",
+            ZonedDateTime.now().minusDays(1), new BigDecimal("10.00"), TransactionType.EXPENSE);
+        when(figures.delete(txId)).thenReturn(deleted);
 
         service.deleteTransaction(txId);
 
-        verify(transactionRepository).deleteById(txId);
+        verify(transactionRepository, never()).existsById(any());
+        verify(figures, never()).lock(any());
+        verify(figures).record(deleted, null);
+        verify(syncService).recordDeletion(SyncEntityType.TRANSACTION, txId);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(SyncEntityType.TRANSACTION, txId));
+    }
+
+    // ======================== summaries ========================
+
+    @Test
+    void calculateExpenseTotal_withAnalyticsStoreReady_shouldNotQueryDatabase() {
+        when(analyticsStore.isReady()).thenReturn(true);
+        when(analyticsStore.sumAmount(TransactionType.EXPENSE)).thenReturn(new BigDecimal("12.34"));
+
+        assertThat(service.calculateExpenseTotal().total()).isEqualByComparingTo("12.34");
+        verify(transactionRepository, never()).sumAmountByType(any());
+    }
+
+    @Test
+    void calculateExpenseTotal_withAnalyticsStoreNotReady_shouldQueryDatabase() {
+        when(transactionRepository.sumAmountByType(TransactionType.EXPENSE)).thenReturn(new BigDecimal("7.00"));
+
+        assertThat(service.calculateExpenseTotal().total()).isEqualByComparingTo("7.00");
+        verify(analyticsStore, never()).sumAmount(any());
     }
 }
@@ -1,5 +1,6 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
+import com.jayway.jsonpath.JsonPath;
 import dev.juanvaldivia.moneytrak.categories.Category;
 import dev.juanvaldivia.moneytrak.categories.CategoryRepository;
 import org.junit.jupiter.api.Test;
@@ -12,8 +13,12 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -325,6 +330,141 @@ class TransactionControllerTest {
             .andExpect(jsonPath("$.total").value(200.00));
     }
 
+    @Test
+    void categorySummary_shouldTotalPerCategoryWithinDateRange() throws Exception {
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        for (String body : List.of(
+            "{\"description\":\"Lunch\",\"amount\":12.50,\"currency\":\"EUR\",\"date\":\"2026-01-10T12:00:00Z\",\"type\":\"EXPENSE\",\"categoryId\":\"" + food.getId() + "\"}",
+            "{\"description\":\"Dinner\",\"amount\":30.00,\"currency\":\"EUR\",\"date\":\"2026-01-31T21:00:00Z\",\"type\":\"EXPENSE\",\"categoryId\":\"" + food.getId() + "\"}",
+            "{\"description\":\"Parking\",\"amount\":5.00,\"currency\":\"EUR\",\"date\":\"2026-01-15T08:00:00Z\",\"type\":\"EXPENSE\"}",
+            "{\"description\":\"Brunch\",\"amount\":99.00,\"currency\":\"EUR\",\"date\":\"2026-02-01T10:00:00Z\",\"type\":\"EXPENSE\",\"categoryId\":\"" + food.getId() + "\"}",
+            "{\"description\":\"Salary\",\"amount\":3000.00,\"currency\":\"EUR\",\"date\":\"2026-01-01T00:00:00Z\",\"type\":\"INCOME\"}")) {
+            mockMvc.perform(post("/v1/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/transactions/summary/categories")
+                .param("type", "EXPENSE")
+                .param("from", "2026-01-01")
+                .param("to", "2026-01-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].categoryName").value("Food & Drinks"))
+            .andExpect(jsonPath("$[0].total").value(42.50))
+            .andExpect(jsonPath("$[0].count").value(2))
+            .andExpect(jsonPath("$[1].categoryName").value("Others"))
+            .andExpect(jsonPath("$[1].total").value(5.00));
+    }
+
+    @Test
+    void search_shouldMatchEveryTermAndRankPrefixMatchesFirst() throws Exception {
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        for (String body : List.of(
+            "{\"description\":\"Iced coffee beans\",\"amount\":9.00,\"currency\":\"EUR\",\"date\":\"2026-01-12T00:00:00Z\",\"type\":\"EXPENSE\"}",
+            "{\"description\":\"Coffee at the station\",\"amount\":3.20,\"currency\":\"EUR\",\"date\":\"2026-01-10T00:00:00Z\",\"type\":\"EXPENSE\",\"categoryId\":\"" + food.getId() + "\"}",
+            "{\"description\":\"Tea\",\"amount\":2.00,\"currency\":\"EUR\",\"date\":\"2026-01-11T00:00:00Z\",\"type\":\"EXPENSE\"}")) {
+            mockMvc.perform(post("/v1/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/transactions/search").param("q", "COFFEE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].description").value("Coffee at the station"))
+            .andExpect(jsonPath("$.content[0].categoryName").value("Food & Drinks"))
+            .andExpect(jsonPath("$.content[1].description").value("Iced coffee beans"));
+
+        mockMvc.perform(get("/v1/transactions/search").param("q", "coffee, beans"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].description").value("Iced coffee beans"));
+
+        mockMvc.perform(get("/v1/transactions/search").param("q", "coffee").param("size", "1").param("page", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].description").value("Iced coffee beans"));
+    }
+
+    @Test
+    void search_shouldCombineWithCategoryAndStabilityFilters() throws Exception {
+        Category food = categoryRepository.findByNameIgnoreCase("Food & Drinks").orElseThrow();
+        for (String body : List.of(
+            "{\"description\":\"Coffee beans\",\"amount\":9.00,\"currency\":\"EUR\",\"date\":\"2026-01-12T00:00:00Z\",\"type\":\"EXPENSE\"}",
+            "{\"description\":\"Coffee subscription\",\"amount\":15.00,\"currency\":\"EUR\",\"date\":\"2026-01-10T00:00:00Z\",\"type\":\"EXPENSE\",\"stability\":\"FIXED\",\"categoryId\":\"" + food.getId() + "\"}",
+            "{\"description\":\"Coffee with friends\",\"amount\":6.00,\"currency\":\"EUR\",\"date\":\"2026-01-11T00:00:00Z\",\"type\":\"EXPENSE\",\"categoryId\":\"" + food.getId() + "\"}")) {
+            mockMvc.perform(post("/v1/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/transactions/search")
+                .param("q", "coffee")
+                .param("categoryId", food.getId().toString())
+                .param("stability", "FIXED"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].description").value("Coffee subscription"));
+    }
+
+    @Test
+    void search_withoutLettersOrDigits_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/v1/transactions/search").param("q", " %_' "))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rangeTotals_shouldSumPerTypeAndCurrencyWithInclusiveBounds() throws Exception {
+        for (String body : List.of(
+            "{\"description\":\"Lunch\",\"amount\":12.50,\"currency\":\"EUR\",\"date\":\"2026-01-10T00:00:00Z\",\"type\":\"EXPENSE\"}",
+            "{\"description\":\"Dinner\",\"amount\":30.00,\"currency\":\"EUR\",\"date\":\"2026-01-20T23:59:59Z\",\"type\":\"EXPENSE\"}",
+            "{\"description\":\"Book\",\"amount\":20.00,\"currency\":\"USD\",\"date\":\"2026-01-15T10:00:00Z\",\"type\":\"EXPENSE\"}",
+            "{\"description\":\"Late\",\"amount\":99.00,\"currency\":\"EUR\",\"date\":\"2026-01-21T00:00:00Z\",\"type\":\"EXPENSE\"}",
+            "{\"description\":\"Refund\",\"amount\":8.00,\"currency\":\"EUR\",\"date\":\"2026-01-12T00:00:00Z\",\"type\":\"INCOME\"}")) {
+            mockMvc.perform(post("/v1/transactions").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/transactions/totals")
+                .param("from", "2026-01-10")
+                .param("to", "2026-01-20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.from").value("2026-01-10"))
+            .andExpect(jsonPath("$.totals.length()").value(3))
+            .andExpect(jsonPath("$.totals[0].type").value("EXPENSE"))
+            .andExpect(jsonPath("$.totals[0].currency").value("EUR"))
+            .andExpect(jsonPath("$.totals[0].total").value(42.50))
+            .andExpect(jsonPath("$.totals[1].currency").value("USD"))
+            .andExpect(jsonPath("$.totals[2].type").value("INCOME"))
+            .andExpect(jsonPath("$.totals[2].total").value(8.00));
+    }
+
+    @Test
+    void rangeTotals_withFromAfterTo_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/v1/transactions/totals")
+                .param("from", "2026-02-01")
+                .param("to", "2026-01-01"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rollingTotals_shouldCoverWindowEndingToday() throws Exception {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        for (String date : List.of(now.minusHours(1).toString(), now.minusDays(40).toString())) {
+            mockMvc.perform(post("/v1/transactions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"description\":\"Coffee\",\"amount\":3.20,\"currency\":\"EUR\"," +
+                        "\"date\":\"" + date + "\",\"type\":\"EXPENSE\"}"))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/transactions/rolling").param("window", "30d"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.to").value(now.toLocalDate().toString()))
+            .andExpect(jsonPath("$.totals[0].total").value(3.20));
+        mockMvc.perform(get("/v1/transactions/rolling").param("window", "30 days"))
+            .andExpect(status().isBadRequest());
+    }
+
     // T052: Updating transaction type from EXPENSE to INCOME
     @Test
     void updateTransaction_changeTypeToIncome_shouldPreserveAmount() throws Exception {
@@ -567,6 +707,111 @@ class TransactionControllerTest {
             .andExpect(jsonPath("$.stability").value("VARIABLE"));
     }
 
+    @Test
+    void createTransaction_shouldAssignTimeOrderedUuidV7Ids() throws Exception {
+        String body = """
+            {
+                "description": "Bus ticket",
+                "amount": 1.50,
+                "currency": "EUR",
+                "date": "2026-01-12T08:00:00Z",
+                "type": "EXPENSE"
+            }
+            """;
+        UUID first = UUID.fromString(extractId(mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString()));
+        UUID second = UUID.fromString(extractId(mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString()));
+
+        assertThat(first.version()).isEqualTo(7);
+        assertThat(second.version()).isEqualTo(7);
+        assertThat(second).isGreaterThan(first);
+
+        // Same date: the id breaks the tie, newest first like the date ordering
+        String page = mockMvc.perform(get("/v1/transactions").param("size", "100"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        List<String> ids = JsonPath.read(page, "$.content[*].id");
+        assertThat(ids.indexOf(second.toString())).isLessThan(ids.indexOf(first.toString()));
+    }
+
+    // ========================================================================
+    // PATCH (JSON Merge Patch)
+    // ========================================================================
+
+    @Test
+    void patchTransaction_withDescriptionOnly_shouldKeepOtherFieldsAndBumpVersion() throws Exception {
+        String response = mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "description": "Cofee",
+                        "amount": 3.20,
+                        "currency": "EUR",
+                        "date": "2026-01-12T08:00:00Z",
+                        "type": "EXPENSE",
+                        "stability": "VARIABLE"
+                    }
+                    """))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        String txId = extractId(response);
+
+        mockMvc.perform(patch("/v1/transactions/{id}", txId)
+                .contentType("application/merge-patch+json")
+                .content("""
+                    {
+                        "description": "Coffee",
+                        "version": 0
+                    }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("Coffee"))
+            .andExpect(jsonPath("$.amount").value(3.20))
+            .andExpect(jsonPath("$.currency").value("EUR"))
+            .andExpect(jsonPath("$.categoryName").value("Others"))
+            .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void patchTransaction_withStaleVersion_shouldReturn409() throws Exception {
+        String response = mockMvc.perform(post("/v1/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "description": "Lunch",
+                        "amount": 11.00,
+                        "currency": "EUR",
+                        "date": "2026-01-12T13:00:00Z",
+                        "type": "EXPENSE"
+                    }
+                    """))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(patch("/v1/transactions/{id}", extractId(response))
+                .contentType("application/merge-patch+json")
+                .content("""
+                    { "amount": 12.00, "version": 5 }
+                    """))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void patchTransaction_withPlainJson_shouldReturn415() throws Exception {
+        mockMvc.perform(patch("/v1/transactions/{id}", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "description": "x", "version": 0 }
+                    """))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
     // ========================================================================
     // Helper
     // ========================================================================
@@ -0,0 +1,74 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static dev.juanvaldivia.moneytrak.ApiFixtures.idOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for near-duplicate detection on create and the duplicates review endpoint.
+ * Not @Transactional: the duplicate index only applies writes after they commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class TransactionDuplicatesControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        // Through the API, so the index sees the deletions too
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void create_shouldFlagOrRejectLikelyDuplicatesAndListThemForReview() throws Exception {
+        String original = idOf(fixtures.postTransaction("Ferreteria Lopez", null, "EXPENSE", "64.35", "EUR",
+                "2026-02-03T10:00:00Z", false)
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(TransactionController.POSSIBLE_DUPLICATES_HEADER)));
+
+        String duplicate = idOf(fixtures.postTransaction("FERRETERIA  LOPEZ", null, "EXPENSE", "64.35", "EUR",
+                "2026-02-04T18:30:00Z", false)
+            .andExpect(status().isCreated())
+            .andExpect(header().string(TransactionController.POSSIBLE_DUPLICATES_HEADER, original)));
+
+        fixtures.postTransaction("Ferreteria Lopez.", null, "EXPENSE", "64.35", "EUR", "2026-02-04T19:00:00Z", true)
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message", containsString(original)));
+
+        mockMvc.perform(get("/v1/transactions/duplicates"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[?(@.transaction.id == '" + duplicate + "')].duplicateOf.id").value(original))
+            .andExpect(jsonPath("$[?(@.transaction.id == '" + duplicate + "')].similarity").value(1.0));
+    }
+
+    @Test
+    void listDuplicates_withBadLimit_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/v1/transactions/duplicates").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/transactions/duplicates").param("limit", "201"))
+            .andExpect(status().isBadRequest());
+    }
+}
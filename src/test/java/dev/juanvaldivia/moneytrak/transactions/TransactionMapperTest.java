@@ -1,6 +1,7 @@
 package dev.juanvaldivia.moneytrak.transactions;
 
 import dev.juanvaldivia.moneytrak.categories.Category;
+import dev.juanvaldivia.moneytrak.merchants.MerchantDictionary;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionCreationDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionDto;
 import dev.juanvaldivia.moneytrak.transactions.dto.TransactionUpdateDto;
@@ -13,6 +14,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 /**
  * Unit tests for TransactionMapper covering entity/DTO conversion logic.
@@ -24,7 +26,7 @@ class TransactionMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new TransactionMapper();
+        mapper = new TransactionMapper(mock(MerchantDictionary.class));
         category = new Category("Food & Drinks", true, ZonedDateTime.now(), ZonedDateTime.now());
     }
 
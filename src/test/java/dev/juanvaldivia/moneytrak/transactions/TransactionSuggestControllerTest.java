@@ -0,0 +1,80 @@
+package dev.juanvaldivia.moneytrak.transactions;
+
+import dev.juanvaldivia.moneytrak.ApiFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the description typeahead endpoint.
+ * Not @Transactional: the suggestion index only applies writes after they commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class TransactionSuggestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String DATE = "2026-01-10T08:00:00Z";
+
+    private ApiFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ApiFixtures(mockMvc);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        // Through the API, so the index sees the deletions too
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void suggest_shouldReflectCommittedCreatesAndUpdates() throws Exception {
+        fixtures.createExpense("Zumba class", null, "15.00", "EUR", DATE);
+        fixtures.createExpense("zumba  class", null, "15.00", "EUR", DATE);
+        String other = fixtures.createExpense("Zucchini", null, "2.10", "EUR", DATE);
+
+        mockMvc.perform(get("/v1/transactions/suggest").param("prefix", "zu"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].description").value("zumba class"))
+            .andExpect(jsonPath("$[0].frequency").value(2))
+            .andExpect(jsonPath("$[0].amount").value(15.00))
+            .andExpect(jsonPath("$[0].categoryId").isNotEmpty())
+            .andExpect(jsonPath("$[1].description").value("Zucchini"));
+
+        mockMvc.perform(put("/v1/transactions/{id}", other)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"Zumba class\",\"version\":0}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/transactions/suggest").param("prefix", "ZU").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].description").value("Zumba class"))
+            .andExpect(jsonPath("$[0].frequency").value(3));
+    }
+
+    @Test
+    void suggest_withBlankPrefixOrBadLimit_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/v1/transactions/suggest").param("prefix", "  "))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/transactions/suggest").param("prefix", "zu").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+}